@@ -287,6 +287,7 @@ public class CommunityAlgorithmsMutateBusinessFacade {
                 return LabelPropagationSpecificFields.from(
                     result.ranIterations(),
                     result.didConverge(),
+                    result.activeNodeCounts(),
                     componentCount,
                     communitySummary
                 );
@@ -110,6 +110,7 @@ public class CommunityAlgorithmsStatsBusinessFacade {
                 return LabelPropagationSpecificFields.from(
                     result.ranIterations(),
                     result.didConverge(),
+                    result.activeNodeCounts(),
                     componentCount,
                     communitySummary
                 );
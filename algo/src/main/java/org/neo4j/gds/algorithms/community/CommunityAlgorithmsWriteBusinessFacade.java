@@ -303,6 +303,7 @@ public class CommunityAlgorithmsWriteBusinessFacade {
                 return LabelPropagationSpecificFields.from(
                     result.ranIterations(),
                     result.didConverge(),
+                    result.activeNodeCounts(),
                     componentCount,
                     communitySummary
                 );
@@ -19,23 +19,28 @@
  */
 package org.neo4j.gds.algorithms.community.specificfields;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyMap;
 
 public final class LabelPropagationSpecificFields implements CommunityStatisticsSpecificFields {
 
     public static final LabelPropagationSpecificFields EMPTY =
-        new LabelPropagationSpecificFields(0L, false, 0L, emptyMap());
+        new LabelPropagationSpecificFields(0L, false, List.of(), 0L, emptyMap());
 
     private final long ranIterations;
     private final boolean didConverge;
+    private final List<Long> activeNodeCounts;
     private final long communityCount;
     private final Map<String, Object> communityDistribution;
 
     public static LabelPropagationSpecificFields from(
         long ranIterations,
         boolean didConverge,
+        long[] activeNodeCounts,
         long componentCount,
         Map<String, Object> componentDistribution
     ) {
@@ -43,6 +48,7 @@ public final class LabelPropagationSpecificFields implements CommunityStatistics
         return new LabelPropagationSpecificFields(
             ranIterations,
             didConverge,
+            Arrays.stream(activeNodeCounts).boxed().collect(Collectors.toList()),
             componentCount,
             componentDistribution
         );
@@ -50,10 +56,13 @@ public final class LabelPropagationSpecificFields implements CommunityStatistics
 
     private LabelPropagationSpecificFields(
         long ranIterations,
-        boolean didConverge, long communityCount,
+        boolean didConverge,
+        List<Long> activeNodeCounts,
+        long communityCount,
         Map<String, Object> communityDistribution
     ) {
         this.didConverge = didConverge;
+        this.activeNodeCounts = activeNodeCounts;
         this.communityCount = communityCount;
         this.communityDistribution = communityDistribution;
         this.ranIterations = ranIterations;
@@ -67,6 +76,10 @@ public final class LabelPropagationSpecificFields implements CommunityStatistics
         return didConverge;
     }
 
+    public List<Long> activeNodeCounts() {
+        return activeNodeCounts;
+    }
+
     @Override
     public long communityCount() {
         return communityCount;
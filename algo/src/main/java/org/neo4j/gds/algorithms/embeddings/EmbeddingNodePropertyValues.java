@@ -20,25 +20,31 @@
 package org.neo4j.gds.algorithms.embeddings;
 
 import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
-import org.neo4j.gds.ml.core.tensor.FloatVector;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
+
+import java.util.Optional;
 
 public class EmbeddingNodePropertyValues implements FloatArrayNodePropertyValues {
-    private final HugeObjectArray<FloatVector> embeddings;
+    private final HugeFloatMatrix embeddings;
     private final long nodeCount;
 
-    public EmbeddingNodePropertyValues(HugeObjectArray<FloatVector> embeddings) {
+    public EmbeddingNodePropertyValues(HugeFloatMatrix embeddings) {
         this.embeddings = embeddings;
-        nodeCount = embeddings.size();
+        nodeCount = embeddings.rows();
     }
 
     @Override
     public float[] floatArrayValue(long nodeId) {
-        return embeddings.get(nodeId).data();
+        return embeddings.get(nodeId);
     }
 
     @Override
     public long nodeCount() {
         return nodeCount;
     }
+
+    @Override
+    public Optional<Integer> dimension() {
+        return Optional.of(embeddings.dimension());
+    }
 }
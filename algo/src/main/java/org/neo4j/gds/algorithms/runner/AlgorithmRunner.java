@@ -26,6 +26,7 @@ import org.neo4j.gds.algorithms.AlgorithmComputationResult;
 import org.neo4j.gds.algorithms.AlgorithmMemoryEstimation;
 import org.neo4j.gds.algorithms.AlgorithmMemoryValidationService;
 import org.neo4j.gds.algorithms.RequestScopedDependencies;
+import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.GraphName;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.core.GraphDimensions;
@@ -124,6 +125,14 @@ public final class AlgorithmRunner {
         return AlgorithmComputationResult.of(algorithmResult, graph, graphStore);
     }
 
+    public String username() {
+        return requestScopedDependencies.getUser().getUsername();
+    }
+
+    public DatabaseId databaseId() {
+        return requestScopedDependencies.getDatabaseId();
+    }
+
     <R> R runAlgorithm(Algorithm<R> algorithm, String algorithmName) {
         var algorithmMetric = algorithmMetricsService.create(algorithmName);
         try(algorithmMetric) {
@@ -26,6 +26,7 @@ import org.neo4j.gds.similarity.filteredknn.FilteredKnnFactory;
 import org.neo4j.gds.similarity.filteredknn.FilteredKnnResult;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityBaseConfig;
 import org.neo4j.gds.similarity.filterednodesim.FilteredNodeSimilarityFactory;
+import org.neo4j.gds.similarity.knn.HnswIndexCatalog;
 import org.neo4j.gds.similarity.knn.KnnBaseConfig;
 import org.neo4j.gds.similarity.knn.KnnFactory;
 import org.neo4j.gds.similarity.knn.KnnResult;
@@ -71,11 +72,17 @@ public class SimilarityAlgorithmsFacade {
         String graphName,
         KnnBaseConfig config
     ) {
+        // HNSW indexes are kept in the graph catalog, so that repeated queries on the same graph reuse them
+        var hnswIndexProvider = HnswIndexCatalog.provider(
+            algorithmRunner.username(),
+            algorithmRunner.databaseId(),
+            graphName
+        );
         return algorithmRunner.run(
             graphName,
             config,
             Optional.empty(),
-            new KnnFactory<>()
+            new KnnFactory<>(hnswIndexProvider)
         );
     }
 
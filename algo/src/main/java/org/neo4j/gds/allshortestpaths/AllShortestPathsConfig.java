@@ -23,12 +23,14 @@ import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
+import org.neo4j.gds.config.SourceNodesConfig;
+import org.neo4j.gds.config.TargetNodesConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface AllShortestPathsConfig extends AlgoBaseConfig, RelationshipWeightConfig {
+public interface AllShortestPathsConfig extends AlgoBaseConfig, RelationshipWeightConfig, SourceNodesConfig, TargetNodesConfig {
 
     static AllShortestPathsConfig of(CypherMapWrapper userInput) {
         return new AllShortestPathsConfigImpl(userInput);
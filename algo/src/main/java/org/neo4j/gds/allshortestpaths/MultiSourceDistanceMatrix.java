@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.allshortestpaths;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipIterator;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.msbfs.MSBFSConstants.OMEGA;
+
+/**
+ * MultiSourceDistanceMatrix:
+ * <p>
+ * many-to-many shortest path distances between a set of source nodes and a set of target nodes.
+ * <p>
+ * Like {@link org.neo4j.gds.msbfs.MultiSourceBFSAccessMethods}, the sources are processed in
+ * batches of {@link org.neo4j.gds.msbfs.MSBFSConstants#OMEGA} that share a single traversal.
+ * Every node has a bit set of the sources whose distance to it has improved since the node
+ * was last expanded. Expanding a node scans its relationships once and relaxes the distances
+ * of all those sources together.
+ * <p>
+ * For unweighted graphs each round expands the nodes that were improved in the previous round
+ * until no distance improves anymore, which is exactly a MS-BFS.
+ * For weighted graphs the nodes are expanded in the order of their smallest improved distance, as in Dijkstra.
+ * Sources share the expansion of a node if their distances fall into the same bucket of the width of the
+ * average relationship weight, like in Delta-Stepping. The distances of the other sources stay improved and
+ * the node is expanded again for them once their bucket is reached. Ordering the expansions avoids the
+ * {@code O(n * m)} relaxations that a label-correcting search in FIFO order takes in the worst case.
+ * <p>
+ * The workers take one batch at a time and emit the rows of the distance matrix for that batch,
+ * so that the matrix is streamed in blocks of {@code OMEGA} sources times all targets.
+ * Unreachable pairs are not emitted. If the stream gets closed prematurely the workers stop.
+ * <p>
+ * Every worker keeps the distances of all nodes to the {@code OMEGA} sources of its batch,
+ * see {@link #memoryEstimation(long, long)}.
+ */
+public class MultiSourceDistanceMatrix extends MSBFSASPAlgorithm {
+    private final BlockingQueue<AllShortestPathsStreamResult> resultQueue = new LinkedBlockingQueue<>();
+
+    private final Graph graph;
+    private final long[] sourceNodes;
+    private final long[] targetNodes;
+    private final int lanes;
+    private final int batchCount;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final AtomicInteger batchCounter;
+    private final AtomicInteger runningTasks;
+
+    private volatile boolean outputStreamOpen;
+    private double bucketWidth;
+
+    /**
+     * @param sourceNodes mapped ids of the source nodes
+     * @param targetNodes mapped ids of the target nodes
+     */
+    public MultiSourceDistanceMatrix(
+        Graph graph,
+        long[] sourceNodes,
+        long[] targetNodes,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        super(ProgressTracker.NULL_TRACKER);
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be >0");
+        }
+        this.graph = graph;
+        this.sourceNodes = sourceNodes;
+        this.targetNodes = targetNodes;
+        this.lanes = Math.min(OMEGA, sourceNodes.length);
+        this.batchCount = (sourceNodes.length + OMEGA - 1) / OMEGA;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.batchCounter = new AtomicInteger();
+        this.runningTasks = new AtomicInteger();
+    }
+
+    /**
+     * @param sourceNodeCount the number of source nodes, or {@code 0} if every node is a source
+     * @param targetNodeCount the number of target nodes, or {@code 0} if every node is a target
+     */
+    public static MemoryEstimation memoryEstimation(long sourceNodeCount, long targetNodeCount) {
+        return MemoryEstimations.setup("", (dimensions, concurrency) -> {
+            long nodeCount = dimensions.nodeCount();
+            long sources = sourceNodeCount == 0 ? nodeCount : sourceNodeCount;
+            long targets = targetNodeCount == 0 ? nodeCount : targetNodeCount;
+            long lanes = Math.min(OMEGA, sources);
+            long tasks = Math.min(concurrency, (sources + OMEGA - 1) / OMEGA);
+
+            // the improved sources and either two frontiers or a priority queue of three arrays
+            long taskMemory = HugeDoubleArray.memoryEstimation(nodeCount * lanes)
+                              + 4 * HugeLongArray.memoryEstimation(nodeCount)
+                              + sizeOfDoubleArray(lanes);
+
+            return MemoryEstimations.builder(MultiSourceDistanceMatrix.class)
+                .fixed("source nodes", sizeOfLongArray(sources))
+                .fixed("target nodes", sizeOfLongArray(targets))
+                .fixed("distances, frontiers and improved sources (per task)", tasks * taskMemory)
+                .build();
+        });
+    }
+
+    /**
+     * the compute(..) method starts the computation and
+     * returns a Stream of SP-Tuples (source, target, minDist)
+     *
+     * @return the result stream
+     */
+    @Override
+    public Stream<AllShortestPathsStreamResult> compute() {
+        progressTracker.beginSubTask();
+
+        batchCounter.set(0);
+        outputStreamOpen = true;
+        bucketWidth = graph.hasRelationshipProperty() ? averageWeight() : 1D;
+
+        int tasks = Math.min(concurrency, batchCount);
+        if (tasks == 0) {
+            resultQueue.add(AllShortestPathsStreamResult.DONE);
+        }
+        runningTasks.set(tasks);
+        for (int i = 0; i < tasks; i++) {
+            executorService.submit(new DistanceMatrixTask());
+        }
+
+        return AllShortestPathsStream.stream(resultQueue, () -> {
+            outputStreamOpen = false;
+            progressTracker.endSubTask();
+        });
+    }
+
+    private double averageWeight() {
+        if (graph.relationshipCount() == 0) {
+            return 1D;
+        }
+        var weightSum = new double[1];
+        graph.forEachNode(node -> {
+            graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                weightSum[0] += weight;
+                return true;
+            });
+            return true;
+        });
+        return weightSum[0] / graph.relationshipCount();
+    }
+
+    /**
+     * Takes one batch of sources at a time, computes the distances
+     * from all of them and emits the distances to the target nodes.
+     */
+    private final class DistanceMatrixTask implements Runnable {
+
+        private final RelationshipIterator relationships;
+        // distance of each node from each source of the batch, indexed by node * lanes + lane
+        private final HugeDoubleArray distances;
+        // the sources whose distance to a node improved since the node was last expanded
+        private final HugeLongArray improvedLanes;
+        // the frontiers of the rounds on unweighted graphs
+        private HugeLongArray frontier;
+        private HugeLongArray nextFrontier;
+        private long nextFrontierSize;
+        // the nodes with improved sources by their smallest improved distance on weighted graphs
+        private final @Nullable HugeLongPriorityQueue queue;
+        private final double[] laneDistances;
+
+        private DistanceMatrixTask() {
+            long nodeCount = graph.nodeCount();
+            this.relationships = graph.concurrentCopy();
+            this.distances = HugeDoubleArray.newArray(nodeCount * lanes);
+            this.improvedLanes = HugeLongArray.newArray(nodeCount);
+            if (graph.hasRelationshipProperty()) {
+                this.queue = HugeLongPriorityQueue.min(nodeCount);
+            } else {
+                this.queue = null;
+                this.frontier = HugeLongArray.newArray(nodeCount);
+                this.nextFrontier = HugeLongArray.newArray(nodeCount);
+            }
+            this.laneDistances = new double[lanes];
+        }
+
+        @Override
+        public void run() {
+            try {
+                int batch;
+                while (outputStreamOpen && terminationFlag.running() && (batch = batchCounter.getAndIncrement()) < batchCount) {
+                    int offset = batch * OMEGA;
+                    int batchSize = Math.min(OMEGA, sourceNodes.length - offset);
+                    compute(offset, batchSize);
+                    emit(offset, batchSize);
+                    progressTracker.logProgress(batchSize);
+                }
+            } finally {
+                if (runningTasks.decrementAndGet() == 0) {
+                    resultQueue.add(AllShortestPathsStreamResult.DONE);
+                }
+            }
+        }
+
+        private void compute(int offset, int batchSize) {
+            distances.fill(Double.POSITIVE_INFINITY);
+
+            long frontierSize = 0;
+            for (int lane = 0; lane < batchSize; lane++) {
+                long sourceNode = sourceNodes[offset + lane];
+                distances.set(sourceNode * lanes + lane, 0D);
+                if (improvedLanes.get(sourceNode) == 0L) {
+                    if (queue == null) {
+                        frontier.set(frontierSize++, sourceNode);
+                    } else {
+                        queue.add(sourceNode, 0D);
+                    }
+                }
+                improvedLanes.or(sourceNode, 1L << lane);
+            }
+
+            if (queue != null) {
+                while (!queue.isEmpty() && outputStreamOpen) {
+                    expandClosest();
+                }
+                return;
+            }
+
+            while (frontierSize > 0 && outputStreamOpen) {
+                nextFrontierSize = 0;
+                for (long i = 0; i < frontierSize; i++) {
+                    long node = frontier.get(i);
+                    long lanesToRelax = improvedLanes.get(node);
+                    improvedLanes.set(node, 0L);
+                    relax(node, lanesToRelax);
+                }
+
+                var swap = frontier;
+                frontier = nextFrontier;
+                nextFrontier = swap;
+                frontierSize = nextFrontierSize;
+            }
+        }
+
+        /**
+         * Expands the node with the smallest improved distance for the sources whose distance
+         * falls into the same bucket, the node is queued again for the remaining improved sources.
+         */
+        private void expandClosest() {
+            long node = queue.top();
+            double bucketEnd = bucketEnd(queue.cost(node));
+            queue.pop();
+
+            long nodeOffset = node * lanes;
+            long lanesToRelax = 0L;
+            long remainingLanes = 0L;
+            double closestRemaining = Double.POSITIVE_INFINITY;
+            for (long remaining = improvedLanes.get(node); remaining != 0L; remaining &= remaining - 1) {
+                int lane = Long.numberOfTrailingZeros(remaining);
+                double distance = distances.get(nodeOffset + lane);
+                if (distance < bucketEnd) {
+                    lanesToRelax |= 1L << lane;
+                } else {
+                    remainingLanes |= 1L << lane;
+                    closestRemaining = Math.min(closestRemaining, distance);
+                }
+            }
+
+            // queue the node before relaxing, so that every node with improved sources is queued exactly once
+            improvedLanes.set(node, remainingLanes);
+            if (remainingLanes != 0L) {
+                queue.add(node, closestRemaining);
+            }
+            relax(node, lanesToRelax);
+        }
+
+        private double bucketEnd(double distance) {
+            double end = (Math.floor(distance / bucketWidth) + 1) * bucketWidth;
+            // the closest source must always be relaxed, also if rounding does not move the end past it
+            return end > distance ? end : Math.nextUp(distance);
+        }
+
+        private void relax(long node, long lanesToRelax) {
+            // read the distances of the node once for all of its relationships
+            long nodeOffset = node * lanes;
+            for (long remaining = lanesToRelax; remaining != 0L; remaining &= remaining - 1) {
+                int lane = Long.numberOfTrailingZeros(remaining);
+                laneDistances[lane] = distances.get(nodeOffset + lane);
+            }
+
+            relationships.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                long targetOffset = target * lanes;
+                long improved = 0L;
+                double closest = Double.POSITIVE_INFINITY;
+                for (long remaining = lanesToRelax; remaining != 0L; remaining &= remaining - 1) {
+                    int lane = Long.numberOfTrailingZeros(remaining);
+                    double distance = laneDistances[lane] + weight;
+                    if (distance < distances.get(targetOffset + lane)) {
+                        distances.set(targetOffset + lane, distance);
+                        improved |= 1L << lane;
+                        closest = Math.min(closest, distance);
+                    }
+                }
+                if (improved != 0L) {
+                    long previous = improvedLanes.get(target);
+                    improvedLanes.set(target, previous | improved);
+                    // nodes that still have improved lanes are already in one of the frontiers or in the queue
+                    if (queue == null) {
+                        if (previous == 0L) {
+                            nextFrontier.set(nextFrontierSize++, target);
+                        }
+                    } else if (previous == 0L) {
+                        queue.add(target, closest);
+                    } else if (closest < queue.cost(target)) {
+                        queue.set(target, closest);
+                    }
+                }
+                return true;
+            });
+        }
+
+        private void emit(int offset, int batchSize) {
+            for (int lane = 0; lane < batchSize && outputStreamOpen; lane++) {
+                long originalSourceNode = graph.toOriginalNodeId(sourceNodes[offset + lane]);
+                for (long targetNode : targetNodes) {
+                    double distance = distances.get(targetNode * lanes + lane);
+                    if (distance == Double.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    try {
+                        resultQueue.put(AllShortestPathsStreamResult.result(
+                            originalSourceNode,
+                            graph.toOriginalNodeId(targetNode),
+                            distance
+                        ));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    }
+                }
+            }
+        }
+    }
+}
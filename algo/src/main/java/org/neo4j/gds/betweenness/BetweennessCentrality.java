@@ -19,14 +19,10 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
-import com.carrotsearch.hppc.cursors.LongCursor;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
@@ -34,7 +30,6 @@ import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.concurrent.ExecutorService;
-import java.util.function.Consumer;
 
 public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult> {
 
@@ -81,15 +76,11 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
     }
 
     final class BCTask implements Runnable {
-        private final HugeObjectArray<LongArrayList> predecessors;
-        private final HugeCursor<LongArrayList[]> predecessorsCursor;
         private final HugeLongArrayStack backwardNodes;
         private final HugeDoubleArray delta;
         private final HugeLongArray sigma;
 
         private BCTask() {
-            this.predecessors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
-            this.predecessorsCursor = predecessors.newCursor();
             this.backwardNodes = HugeLongArrayStack.newStack(nodeCount);
             this.sigma = HugeLongArray.newArray(nodeCount);
             this.delta = HugeDoubleArray.newArray(nodeCount);
@@ -99,7 +90,6 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
         public void run() {
             var forwardTraversor = traverserFactory.create(
                 graph.concurrentCopy(),
-                predecessors,
                 backwardNodes,
                 sigma,
                 terminationFlag
@@ -122,21 +112,21 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
 
                 forwardTraversor.traverse(startNodeId);
 
+                // Successors are popped before their predecessors, so their dependencies are
+                // final by the time a node pulls its own dependency from them.
                 while (!backwardNodes.isEmpty()) {
                     long node = backwardNodes.pop();
-                    LongArrayList predecessors = this.predecessors.get(node);
 
-                    double dependencyNode = delta.get(node);
                     double sigmaNode = sigma.get(node);
 
-                    if (null != predecessors) {
-                        predecessors.forEach((Consumer<? super LongCursor>) predecessor -> {
-                            double sigmaPredecessor = sigma.get(predecessor.value);
-                            double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
-                            delta.addTo(predecessor.value, dependency);
-                        });
-                    }
+                    forwardTraversor.forEachSuccessor(node, successor -> {
+                        double sigmaSuccessor = sigma.get(successor);
+                        double dependency = sigmaNode / sigmaSuccessor * (delta.get(successor) + 1.0);
+                        delta.addTo(node, dependency);
+                    });
+
                     if (node != startNodeId) {
+                        double dependencyNode = delta.get(node);
                         double current;
                         do {
                             current = centrality.get(node);
@@ -149,19 +139,6 @@ public class BetweennessCentrality extends Algorithm<BetwennessCentralityResult>
         private void clear() {
             sigma.fill(0);
             delta.fill(0);
-
-            predecessors.initCursor(predecessorsCursor);
-
-            while (predecessorsCursor.next()) {
-                for (int i = predecessorsCursor.offset; i < predecessorsCursor.limit; i++) {
-                    if (predecessorsCursor.array[i] != null) {
-                        // We avoid using LongArrayList#clear since it would
-                        // fill the inner array with zeros. We don't need that
-                        // so we just reset the index which is cheaper
-                        predecessorsCursor.array[i].elementsCount = 0;
-                    }
-                }
-            }
         }
     }
 }
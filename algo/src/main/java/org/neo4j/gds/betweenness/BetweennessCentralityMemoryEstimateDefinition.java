@@ -24,15 +24,12 @@ import org.neo4j.gds.AlgorithmMemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
 
-import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
-
 public class BetweennessCentralityMemoryEstimateDefinition implements AlgorithmMemoryEstimateDefinition<BetweennessCentralityBaseConfig> {
 
     @Override
@@ -49,13 +46,6 @@ public class BetweennessCentralityMemoryEstimateDefinition implements AlgorithmM
     @NotNull
     private static MemoryEstimations.Builder bcTaskMemoryEstimationBuilder(boolean weighted) {
         var builder = MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
-            .add("predecessors", MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                // Predecessors are represented by LongArrayList which wrap a long[]
-                long averagePredecessorSize = sizeOfLongArray(dimensions.averageDegree());
-                return MemoryEstimations.builder(HugeObjectArray.class)
-                    .perNode("array", nodeCount -> nodeCount * averagePredecessorSize)
-                    .build();
-            }))
             .perNode("backwardNodes", HugeLongArray::memoryEstimation)
             .perNode("deltas", HugeDoubleArray::memoryEstimation)
             .perNode("sigmas", HugeLongArray::memoryEstimation);
@@ -66,6 +56,7 @@ public class BetweennessCentralityMemoryEstimateDefinition implements AlgorithmM
                     (dimensions, concurrency) -> MemoryEstimations.builder(ForwardTraverser.class)
                         .add("nodeQueue", HugeLongPriorityQueue.memoryEstimation())
                         .perNode("visited", MemoryUsage::sizeOfBitset)
+                        .perNode("distances", HugeDoubleArray::memoryEstimation)
                         .build()
                 )
             );
@@ -19,23 +19,31 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+
+import java.util.function.LongConsumer;
 
 public interface ForwardTraverser {
 
     void traverse(long startNodeId);
 
+    /**
+     * Calls the consumer for every successor of the given node, i.e. for every
+     * relationship of the node that lies on a shortest path from the start node.
+     * The predecessors are not stored during the traversal but recomputed from
+     * the distances, so this must be called for the nodes in the order in which
+     * they are popped from the backward nodes stack.
+     */
+    void forEachSuccessor(long node, LongConsumer consumer);
+
     void clear();
 
     interface Factory {
         ForwardTraverser create(
             Graph graph,
-            HugeObjectArray<LongArrayList> predecessors,
             HugeLongArrayStack backwardNodes,
             HugeLongArray sigma,
             TerminationFlag terminationFlag
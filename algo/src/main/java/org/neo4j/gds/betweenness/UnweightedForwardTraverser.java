@@ -19,20 +19,19 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayQueue;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+
+import java.util.function.LongConsumer;
 
 class UnweightedForwardTraverser implements ForwardTraverser {
 
     static UnweightedForwardTraverser create(
         Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
         HugeLongArrayStack backwardNodes,
         HugeLongArray sigma,
         TerminationFlag terminationFlag
@@ -43,7 +42,6 @@ class UnweightedForwardTraverser implements ForwardTraverser {
         var nodeQueue = HugeLongArrayQueue.newQueue(nodeCount);
         return new UnweightedForwardTraverser(
             graph,
-            predecessors,
             backwardNodes,
             sigma,
             nodeQueue,
@@ -53,7 +51,6 @@ class UnweightedForwardTraverser implements ForwardTraverser {
     }
 
     private final Graph graph;
-    private final HugeObjectArray<LongArrayList> predecessors;
     private final HugeLongArrayStack backwardNodes;
     private final HugeLongArray sigma;
     private final HugeLongArrayQueue nodeQueue;
@@ -62,7 +59,6 @@ class UnweightedForwardTraverser implements ForwardTraverser {
 
     UnweightedForwardTraverser(
         Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
         HugeLongArrayStack backwardNodes,
         HugeLongArray sigma,
         HugeLongArrayQueue nodeQueue,
@@ -70,7 +66,6 @@ class UnweightedForwardTraverser implements ForwardTraverser {
         TerminationFlag terminationFlag
     ) {
         this.graph = graph;
-        this.predecessors = predecessors;
         this.backwardNodes = backwardNodes;
         this.sigma = sigma;
         this.nodeQueue = nodeQueue;
@@ -98,7 +93,6 @@ class UnweightedForwardTraverser implements ForwardTraverser {
 
                 if (distances.get(target) == targetDistance) {
                     sigma.addTo(target, sigma.get(source));
-                    appendPredecessor(target, source);
                 }
                 return true;
             });
@@ -106,18 +100,19 @@ class UnweightedForwardTraverser implements ForwardTraverser {
     }
 
     @Override
-    public void clear() {
-        distances.fill(-1);
-    }
+    public void forEachSuccessor(long node, LongConsumer consumer) {
+        int successorDistance = distances.get(node) + 1;
 
-    // append node to the path at target
-    private void appendPredecessor(long target, long node) {
-        LongArrayList targetPredecessors = predecessors.get(target);
-        if (null == targetPredecessors) {
-            targetPredecessors = new LongArrayList();
-            predecessors.set(target, targetPredecessors);
-        }
-        targetPredecessors.add(node);
+        graph.forEachRelationship(node, (source, target) -> {
+            if (distances.get(target) == successorDistance) {
+                consumer.accept(target);
+            }
+            return true;
+        });
     }
 
+    @Override
+    public void clear() {
+        distances.fill(-1);
+    }
 }
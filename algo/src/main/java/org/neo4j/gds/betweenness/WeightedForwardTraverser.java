@@ -20,19 +20,19 @@
 package org.neo4j.gds.betweenness;
 
 import com.carrotsearch.hppc.BitSet;
-import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 
+import java.util.function.LongConsumer;
+
 final class WeightedForwardTraverser implements ForwardTraverser {
 
     static WeightedForwardTraverser create(
         Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
         HugeLongArrayStack backwardNodes,
         HugeLongArray sigma,
         TerminationFlag terminationFlag
@@ -40,13 +40,14 @@ final class WeightedForwardTraverser implements ForwardTraverser {
         var nodeCount = graph.nodeCount();
         var nodeQueue = HugeLongPriorityQueue.min(nodeCount);
         var visited = new BitSet(nodeCount);
+        var distances = HugeDoubleArray.newArray(nodeCount);
         return new WeightedForwardTraverser(
             graph,
-            predecessors,
             backwardNodes,
             sigma,
             nodeQueue,
             visited,
+            distances,
             terminationFlag
         );
     }
@@ -56,24 +57,24 @@ final class WeightedForwardTraverser implements ForwardTraverser {
     private final HugeLongArrayStack backwardNodes;
     private final HugeLongArray sigma;
     private final HugeLongPriorityQueue nodeQueue;
-    private final HugeObjectArray<LongArrayList> predecessors;
     private final BitSet visited;
+    private final HugeDoubleArray distances;
 
     private WeightedForwardTraverser(
         Graph graph,
-        HugeObjectArray<LongArrayList> predecessors,
         HugeLongArrayStack backwardNodes,
         HugeLongArray sigma,
         HugeLongPriorityQueue nodeQueue,
         BitSet visited,
+        HugeDoubleArray distances,
         TerminationFlag terminationFlag
     ) {
         this.graph = graph;
-        this.predecessors = predecessors;
         this.backwardNodes = backwardNodes;
         this.sigma = sigma;
         this.nodeQueue = nodeQueue;
         this.visited = visited;
+        this.distances = distances;
         this.terminationFlag = terminationFlag;
     }
 
@@ -87,6 +88,7 @@ final class WeightedForwardTraverser implements ForwardTraverser {
             var nodeCost = nodeQueue.cost(node);
             nodeQueue.pop();
             visited.set(node);
+            distances.set(node, nodeCost);
 
             graph.forEachRelationship(
                 node,
@@ -104,13 +106,9 @@ final class WeightedForwardTraverser implements ForwardTraverser {
                     var storedTargetCost = nodeQueue.cost(target);
                     if (Double.compare(targetCost, storedTargetCost) == 0) {
                         sigma.addTo(target, sigma.get(source));
-                        appendPredecessor(target, node);
                     } else if (Double.compare(targetCost, storedTargetCost) < 0) {
                         nodeQueue.set(target, targetCost);
                         sigma.set(target, sigma.get(source));
-                        var targetPredecessors = predecessors.get(target);
-                        targetPredecessors.clear();
-                        targetPredecessors.add(source);
                     }
                     return true;
                 }
@@ -119,17 +117,29 @@ final class WeightedForwardTraverser implements ForwardTraverser {
     }
 
     @Override
-    public void clear() {
-        visited.clear();
+    public void forEachSuccessor(long node, LongConsumer consumer) {
+        var nodeCost = distances.get(node);
+
+        // A successor must have been visited after the node, which matters for
+        // relationships with a weight of zero. Nodes are unmarked once their successors
+        // have been visited, so the nodes that are still marked are the ones visited before.
+        // Nodes that have not been reached at all have a NaN distance.
+        graph.forEachRelationship(
+            node,
+            1.0D,
+            (source, target, weight) -> {
+                if (!visited.get(target) && Double.compare(nodeCost + weight, distances.get(target)) == 0) {
+                    consumer.accept(target);
+                }
+                return true;
+            }
+        );
+        visited.clear(node);
     }
 
-    // append node to the path at target
-    private void appendPredecessor(long target, long node) {
-        LongArrayList targetPredecessors = predecessors.get(target);
-        if (null == targetPredecessors) {
-            targetPredecessors = new LongArrayList();
-            predecessors.set(target, targetPredecessors);
-        }
-        targetPredecessors.add(node);
+    @Override
+    public void clear() {
+        visited.clear();
+        distances.fill(Double.NaN);
     }
 }
@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.coarsening;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
+import org.neo4j.gds.PropertyMapping;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.collections.hsa.HugeSparseLongArray;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.AdjacencyListBehavior;
+import org.neo4j.gds.core.loading.ArrayIdMap;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Builds the community graph of a graph: every community becomes a node, and the relationships
+ * between the members of two communities are summed up into a single weighted relationship.
+ *
+ * Louvain and Leiden coarsen their working graph after every level. The generic relationships builder
+ * buffers, sorts and aggregates every single input relationship and creates an id map from scratch.
+ * Since the communities are known upfront, the coarse graph is instead written directly into its adjacency list:
+ *
+ * 1. Communities are mapped to consecutive node ids, in the order of their smallest member.
+ * 2. The members of each community are grouped together by a parallel counting sort.
+ * 3. Each task sums up the relationships of all members of a community in a local hash map
+ *    and hands the already aggregated relationships to the adjacency compressor.
+ */
+public final class GraphCoarsening {
+
+    private static final String PROPERTY_KEY = "property";
+
+    private final Graph graph;
+    private final LongUnaryOperator communities;
+    private final long maxCommunityId;
+    private final Direction direction;
+    private final boolean keepSelfLoops;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final TerminationFlag terminationFlag;
+    private final ProgressTracker progressTracker;
+
+    /**
+     * @param communities    the community of each node of the graph, must not exceed `maxCommunityId`
+     * @param keepSelfLoops  whether relationships within a community become a self-loop of the community
+     */
+    public GraphCoarsening(
+        Graph graph,
+        LongUnaryOperator communities,
+        long maxCommunityId,
+        Direction direction,
+        boolean keepSelfLoops,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        this.graph = graph;
+        this.communities = communities;
+        this.maxCommunityId = maxCommunityId;
+        this.direction = direction;
+        this.keepSelfLoops = keepSelfLoops;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.terminationFlag = terminationFlag;
+        this.progressTracker = progressTracker;
+    }
+
+    public Graph coarsen() {
+        var nodePartitions = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            Function.identity(),
+            Optional.empty()
+        );
+
+        // first holds the smallest member of every community, then the offsets of the members of every coarse node
+        var communityOffsets = HugeAtomicLongArray.of(
+            maxCommunityId + 2,
+            ParalleLongPageCreator.of(concurrency, __ -> Long.MAX_VALUE)
+        );
+        var idMap = buildIdMap(nodePartitions, communityOffsets);
+
+        terminationFlag.assertRunning();
+
+        var sortedMembers = sortByCommunity(nodePartitions, idMap, communityOffsets);
+
+        terminationFlag.assertRunning();
+
+        var compressorFactory = AdjacencyListBehavior.asConfigured(
+            idMap::nodeCount,
+            PropertyMappings.of(PropertyMapping.of(PROPERTY_KEY, Aggregation.SUM)),
+            new Aggregation[]{Aggregation.SUM}
+        );
+        compressorFactory.init();
+
+        var tasks = PartitionUtils.customDegreePartitionWithBatchSize(
+            graph,
+            concurrency,
+            index -> graph.degree(sortedMembers.get(index)),
+            partition -> new AggregationTask(
+                graph.concurrentCopy(),
+                idMap,
+                communityOffsets,
+                sortedMembers,
+                partition,
+                compressorFactory
+            ),
+            Optional.empty(),
+            Optional.of(graph.relationshipCount())
+        );
+        RunWithConcurrency.builder()
+            .tasks(tasks)
+            .concurrency(concurrency)
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        var adjacencyLists = compressorFactory.build(true);
+        var relationshipCount = adjacencyLists.relationshipCount();
+        var topology = ImmutableTopology.builder()
+            .adjacencyList(adjacencyLists.adjacency())
+            .elementCount(relationshipCount)
+            .isMultiGraph(false)
+            .build();
+        var properties = ImmutableProperties.builder()
+            .propertiesList(adjacencyLists.properties().get(0))
+            .defaultPropertyValue(DefaultValue.DOUBLE_DEFAULT_FALLBACK)
+            .elementCount(relationshipCount)
+            .build();
+
+        var relationships = SingleTypeRelationships.of(
+            RelationshipType.of("_IGNORED_"),
+            topology,
+            direction,
+            Optional.of(properties),
+            Optional.of(RelationshipPropertySchema.of(PROPERTY_KEY, ValueType.DOUBLE, Aggregation.SUM))
+        );
+
+        return GraphFactory.create(idMap, relationships);
+    }
+
+    /**
+     * Numbers the communities consecutively in the order of their smallest member,
+     * which is the order in which a sequential scan over the nodes encounters them.
+     */
+    private IdMap buildIdMap(List<Partition> nodePartitions, HugeAtomicLongArray smallestMembers) {
+        runPerPartition(nodePartitions, (index, partition) -> partition.consume(nodeId -> {
+            long community = communities.applyAsLong(nodeId);
+            long smallestMember = smallestMembers.get(community);
+            while (nodeId < smallestMember) {
+                long witness = smallestMembers.compareAndExchange(community, smallestMember, nodeId);
+                if (witness == smallestMember) {
+                    break;
+                }
+                smallestMember = witness;
+            }
+        }));
+
+        var partitionOffsets = new long[nodePartitions.size() + 1];
+        runPerPartition(nodePartitions, (index, partition) -> {
+            var count = new long[1];
+            partition.consume(nodeId -> {
+                if (smallestMembers.get(communities.applyAsLong(nodeId)) == nodeId) {
+                    count[0]++;
+                }
+            });
+            partitionOffsets[index + 1] = count[0];
+        });
+        for (int i = 1; i < partitionOffsets.length; i++) {
+            partitionOffsets[i] += partitionOffsets[i - 1];
+        }
+
+        long communityCount = partitionOffsets[nodePartitions.size()];
+        var internalToOriginalIds = HugeLongArray.newArray(communityCount);
+        var originalToInternalIdsBuilder = HugeSparseLongArray.builder(IdMap.NOT_FOUND, maxCommunityId + 1);
+        runPerPartition(nodePartitions, (index, partition) -> {
+            var nextInternalId = new long[]{partitionOffsets[index]};
+            partition.consume(nodeId -> {
+                long community = communities.applyAsLong(nodeId);
+                if (smallestMembers.get(community) == nodeId) {
+                    long internalId = nextInternalId[0]++;
+                    internalToOriginalIds.set(internalId, community);
+                    originalToInternalIdsBuilder.set(community, internalId);
+                }
+            });
+        });
+
+        var originalToInternalIds = originalToInternalIdsBuilder.build();
+        return new ArrayIdMap(
+            internalToOriginalIds,
+            originalToInternalIds,
+            LabelInformationBuilders.allNodes().build(communityCount, originalToInternalIds::get),
+            communityCount,
+            maxCommunityId
+        );
+    }
+
+    /**
+     * Counting sort of the nodes by their coarse node.
+     * Afterwards, the members of coarse node `c` are stored in the range `[offsets[c], offsets[c + 1])`.
+     */
+    private HugeLongArray sortByCommunity(
+        List<Partition> nodePartitions,
+        IdMap idMap,
+        HugeAtomicLongArray offsets
+    ) {
+        long nodeCount = graph.nodeCount();
+        long coarseNodeCount = idMap.nodeCount();
+
+        offsets.setAll(0L);
+        runPerPartition(nodePartitions, (index, partition) -> partition.consume(nodeId ->
+            offsets.getAndAdd(idMap.toMappedNodeId(communities.applyAsLong(nodeId)), 1L)
+        ));
+
+        long sum = 0L;
+        for (long coarseNode = 0; coarseNode < coarseNodeCount; coarseNode++) {
+            sum += offsets.get(coarseNode);
+            offsets.set(coarseNode, sum);
+        }
+        offsets.set(coarseNodeCount, nodeCount);
+
+        var sortedMembers = HugeLongArray.newArray(nodeCount);
+        runPerPartition(nodePartitions, (index, partition) -> {
+            // walking backwards while the offsets move backwards keeps the members of a partition ascending
+            for (long nodeId = partition.startNode() + partition.nodeCount() - 1; nodeId >= partition.startNode(); nodeId--) {
+                long coarseNode = idMap.toMappedNodeId(communities.applyAsLong(nodeId));
+                sortedMembers.set(offsets.getAndAdd(coarseNode, -1L) - 1, nodeId);
+            }
+        });
+
+        return sortedMembers;
+    }
+
+    private void runPerPartition(List<Partition> partitions, PartitionConsumer consumer) {
+        RunWithConcurrency.builder()
+            .tasks(IntStream.range(0, partitions.size()).mapToObj(index -> (Runnable) () -> consumer.accept(
+                index,
+                partitions.get(index)
+            )))
+            .concurrency(concurrency)
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    @FunctionalInterface
+    private interface PartitionConsumer {
+        void accept(int index, Partition partition);
+    }
+
+    private final class AggregationTask implements Runnable {
+
+        private final Graph localGraph;
+        private final IdMap idMap;
+        private final HugeAtomicLongArray offsets;
+        private final HugeLongArray sortedMembers;
+        private final Partition partition;
+        private final AdjacencyCompressorFactory compressorFactory;
+        private final LongDoubleHashMap weights;
+
+        private long[] targets;
+        private long[][] properties;
+
+        private AggregationTask(
+            Graph localGraph,
+            IdMap idMap,
+            HugeAtomicLongArray offsets,
+            HugeLongArray sortedMembers,
+            Partition partition,
+            AdjacencyCompressorFactory compressorFactory
+        ) {
+            this.localGraph = localGraph;
+            this.idMap = idMap;
+            this.offsets = offsets;
+            this.sortedMembers = sortedMembers;
+            this.partition = partition;
+            this.compressorFactory = compressorFactory;
+            this.weights = new LongDoubleHashMap();
+            this.targets = new long[0];
+            this.properties = new long[1][0];
+        }
+
+        @Override
+        public void run() {
+            // the partition splits the sorted members, every task takes the coarse nodes starting within its range
+            long startNode = firstCoarseNodeFrom(partition.startNode());
+            long endNode = firstCoarseNodeFrom(partition.startNode() + partition.nodeCount());
+
+            long relationshipCount = 0L;
+            try (var compressor = compressorFactory.createCompressor()) {
+                for (long coarseNode = startNode; coarseNode < endNode; coarseNode++) {
+                    long membersStart = offsets.get(coarseNode);
+                    long membersEnd = offsets.get(coarseNode + 1);
+                    for (long index = membersStart; index < membersEnd; index++) {
+                        aggregate(coarseNode, sortedMembers.get(index));
+                    }
+
+                    int degree = weights.size();
+                    if (degree > 0) {
+                        copyWeights(degree);
+                        relationshipCount += compressor.compress(coarseNode, targets, properties, degree);
+                        weights.clear();
+                    }
+                    progressTracker.logProgress(membersEnd - membersStart);
+                }
+            }
+            compressorFactory.relationshipCounter().add(relationshipCount);
+        }
+
+        private void aggregate(long coarseNode, long nodeId) {
+            localGraph.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                long targetCoarseNode = idMap.toMappedNodeId(communities.applyAsLong(target));
+                if (keepSelfLoops || targetCoarseNode != coarseNode) {
+                    weights.addTo(targetCoarseNode, weight);
+                }
+                return true;
+            });
+        }
+
+        private void copyWeights(int degree) {
+            if (targets.length < degree) {
+                targets = new long[degree];
+                properties[0] = new long[degree];
+            }
+            int index = 0;
+            for (LongDoubleCursor cursor : weights) {
+                targets[index] = cursor.key;
+                properties[0][index] = Double.doubleToLongBits(cursor.value);
+                index++;
+            }
+        }
+
+        /**
+         * Returns the first coarse node whose members start at or after `index` into the sorted members.
+         */
+        private long firstCoarseNodeFrom(long index) {
+            long low = 0;
+            long high = idMap.nodeCount();
+            while (low < high) {
+                long mid = (low + high) >>> 1;
+                if (offsets.get(mid) < index) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
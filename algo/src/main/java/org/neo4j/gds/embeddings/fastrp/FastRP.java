@@ -22,7 +22,7 @@ package org.neo4j.gds.embeddings.fastrp;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
@@ -42,9 +42,6 @@ import java.util.Random;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addInPlace;
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addWeightedInPlace;
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.l2Norm;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.l2Normalize;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.scale;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -63,9 +60,9 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     private final double relationshipWeightFallback;
     private final int inputDimension;
     private final float[][] propertyVectors;
-    private final HugeObjectArray<float[]> embeddings;
-    private final HugeObjectArray<float[]> embeddingA;
-    private final HugeObjectArray<float[]> embeddingB;
+    private final HugeFloatMatrix embeddings;
+    private final HugeFloatMatrix embeddingA;
+    private final HugeFloatMatrix embeddingB;
     private final EmbeddingCombiner embeddingCombiner;
     private final long randomSeed;
 
@@ -102,9 +99,9 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         this.minBatchSize = config.minBatchSize();
 
         this.propertyVectors = new float[inputDimension][config.propertyDimension()];
-        this.embeddings = HugeObjectArray.newArray(float[].class, graph.nodeCount());
-        this.embeddingA = HugeObjectArray.newArray(float[].class, graph.nodeCount());
-        this.embeddingB = HugeObjectArray.newArray(float[].class, graph.nodeCount());
+        this.embeddings = HugeFloatMatrix.newMatrix(graph.nodeCount(), config.embeddingDimension());
+        this.embeddingA = HugeFloatMatrix.newMatrix(graph.nodeCount(), config.embeddingDimension());
+        this.embeddingB = HugeFloatMatrix.newMatrix(graph.nodeCount(), config.embeddingDimension());
 
         this.embeddingDimension = config.embeddingDimension();
         this.baseEmbeddingDimension = config.embeddingDimension() - config.propertyDimension();
@@ -114,8 +111,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         this.concurrency = config.concurrency();
         this.embeddingCombiner = graph.hasRelationshipProperty()
             ? this::addArrayValuesWeighted
-            : (lhs, rhs, ignoreWeight) -> addInPlace(lhs, rhs);
-        this.embeddings.setAll((i) -> new float[embeddingDimension]);
+            : FastRP::addArrayValues;
     }
 
     @Override
@@ -192,8 +188,8 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         for (int i = 0; i < iterationWeights.size(); i++) {
             progressTracker.beginSubTask();
 
-            HugeObjectArray<float[]> currentEmbeddings = i % 2 == 0 ? embeddingA : embeddingB;
-            HugeObjectArray<float[]> previousEmbeddings = i % 2 == 0 ? embeddingB : embeddingA;
+            HugeFloatMatrix currentEmbeddings = i % 2 == 0 ? embeddingA : embeddingB;
+            HugeFloatMatrix previousEmbeddings = i % 2 == 0 ? embeddingB : embeddingA;
             var iterationWeight = iterationWeights.get(i).floatValue();
             boolean firstIteration = i == 0;
 
@@ -216,7 +212,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     @TestOnly
-    HugeObjectArray<float[]> currentEmbedding(int iteration) {
+    HugeFloatMatrix currentEmbedding(int iteration) {
         return iteration % 2 == 0
             ? this.embeddingA
             : this.embeddingB;
@@ -228,13 +224,25 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     @TestOnly
-    HugeObjectArray<float[]> embeddings() {
+    HugeFloatMatrix embeddings() {
         return embeddings;
     }
 
-    private void addArrayValuesWeighted(float[] lhs, float[] rhs, double weight) {
+    private void addArrayValuesWeighted(float[] lhs, float[] rhsPage, int rhsOffset, double weight) {
         for (int i = 0; i < lhs.length; i++) {
-            lhs[i] = (float) Math.fma(rhs[i], weight, lhs[i]);
+            lhs[i] = (float) Math.fma(rhsPage[rhsOffset + i], weight, lhs[i]);
+        }
+    }
+
+    private static void addArrayValues(float[] lhs, float[] rhsPage, int rhsOffset, double ignoredWeight) {
+        for (int i = 0; i < lhs.length; i++) {
+            lhs[i] += rhsPage[rhsOffset + i];
+        }
+    }
+
+    private static void addWeightedToRow(float[] lhsPage, int lhsOffset, float[] rhs, float weight) {
+        for (int i = 0; i < rhs.length; i++) {
+            lhsPage[lhsOffset + i] += weight * rhs[i];
         }
     }
 
@@ -294,7 +302,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     private interface EmbeddingCombiner {
-        void combine(float[] into, float[] add, double weight);
+        void combine(float[] into, float[] addPage, int addOffset, double weight);
     }
 
     private final class InitRandomVectorTask implements Runnable {
@@ -304,6 +312,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         private final Partition partition;
         private final float sqrtEmbeddingDimension;
         private final PropertyVectorAdder propertyVectorAdder;
+        private final float[] randomVector;
 
         private InitRandomVectorTask(
             Partition partition,
@@ -312,6 +321,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
             this.partition = partition;
             this.sqrtEmbeddingDimension = sqrtEmbeddingDimension;
             this.propertyVectorAdder = new PropertyVectorAdder();
+            this.randomVector = new float[embeddingDimension];
         }
 
         @Override
@@ -326,23 +336,20 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
 
                 float entryValue = scaling * sqrtSparsity / sqrtEmbeddingDimension;
                 random.reseed(randomSeed ^ graph.toOriginalNodeId(nodeId));
-                var randomVector = computeRandomVector(nodeId, random, entryValue);
-                embeddingB.set(nodeId, randomVector);
-                embeddingA.set(nodeId, new float[embeddingDimension]);
+                computeRandomVector(nodeId, random, entryValue);
+                embeddingB.setRow(nodeId, randomVector);
             });
             progressTracker.logProgress(partition.nodeCount());
         }
 
-        private float[] computeRandomVector(long nodeId, Random random, float entryValue) {
-            var randomVector = new float[embeddingDimension];
+        private void computeRandomVector(long nodeId, Random random, float entryValue) {
             for (int i = 0; i < baseEmbeddingDimension; i++) {
                 randomVector[i] = computeRandomEntry(random, entryValue);
             }
+            Arrays.fill(randomVector, baseEmbeddingDimension, embeddingDimension, 0.0f);
 
             propertyVectorAdder.setRandomVector(randomVector);
             FeatureExtraction.extract(nodeId, -1, featureExtractors, propertyVectorAdder);
-
-            return randomVector;
         }
 
         private class PropertyVectorAdder implements FeatureConsumer {
@@ -374,25 +381,38 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     private void addInitialStateToEmbedding(long nodeId) {
-        var initialVector = embeddingB.get(nodeId);
-        var l2Norm = l2Norm(initialVector);
+        var initialPage = embeddingB.rowPage(nodeId);
+        int initialOffset = embeddingB.rowOffset(nodeId);
+
+        float squaredSum = 0;
+        for (int i = 0; i < embeddingDimension; i++) {
+            squaredSum += initialPage[initialOffset + i] * initialPage[initialOffset + i];
+        }
+        var l2Norm = (float) Math.sqrt(squaredSum);
         float adjustedL2Norm = l2Norm < EPSILON ? 1f : l2Norm;
-        addWeightedInPlace(embeddings.get(nodeId), initialVector, nodeSelfInfluence.floatValue() / adjustedL2Norm);
+        float weight = nodeSelfInfluence.floatValue() / adjustedL2Norm;
+
+        var embeddingPage = embeddings.rowPage(nodeId);
+        int embeddingOffset = embeddings.rowOffset(nodeId);
+        for (int i = 0; i < embeddingDimension; i++) {
+            embeddingPage[embeddingOffset + i] += weight * initialPage[initialOffset + i];
+        }
 
         progressTracker.logProgress(1);
     }
 
     private final class PropagateEmbeddingsTask implements PartitionConsumer<DegreePartition> {
 
-        private final HugeObjectArray<float[]> currentEmbeddings;
-        private final HugeObjectArray<float[]> previousEmbeddings;
+        private final HugeFloatMatrix currentEmbeddings;
+        private final HugeFloatMatrix previousEmbeddings;
         private final float iterationWeight;
         private final Graph localGraph;
         private final boolean firstIteration;
+        private final float[] currentEmbedding;
 
         private PropagateEmbeddingsTask(
-            HugeObjectArray<float[]> currentEmbeddings,
-            HugeObjectArray<float[]> previousEmbeddings,
+            HugeFloatMatrix currentEmbeddings,
+            HugeFloatMatrix previousEmbeddings,
             float iterationWeight,
             boolean firstIteration
         ) {
@@ -401,12 +421,11 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
             this.iterationWeight = iterationWeight;
             this.localGraph = graph.concurrentCopy();
             this.firstIteration = firstIteration;
+            this.currentEmbedding = new float[embeddingDimension];
         }
 
         public void consume(DegreePartition partition) {
             partition.consume(nodeId -> {
-                var embedding = embeddings.get(nodeId);
-                var currentEmbedding = currentEmbeddings.get(nodeId);
                 Arrays.fill(currentEmbedding, 0.0f);
 
                 // Collect and combine the neighbour embeddings
@@ -418,7 +437,12 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
                             graph.toOriginalNodeId(source), graph.toOriginalNodeId(target)
                         ));
                     }
-                    embeddingCombiner.combine(currentEmbedding, previousEmbeddings.get(target), weight);
+                    embeddingCombiner.combine(
+                        currentEmbedding,
+                        previousEmbeddings.rowPage(target),
+                        previousEmbeddings.rowOffset(target),
+                        weight
+                    );
                     return true;
                 });
 
@@ -429,21 +453,28 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
                 scale(currentEmbedding, degreeScale);
                 l2Normalize(currentEmbedding);
 
+                currentEmbeddings.setRow(nodeId, currentEmbedding);
+
                 // Update the result embedding
-                addWeightedInPlace(embedding, currentEmbedding, iterationWeight);
+                addWeightedToRow(
+                    embeddings.rowPage(nodeId),
+                    embeddings.rowOffset(nodeId),
+                    currentEmbedding,
+                    iterationWeight
+                );
             });
             progressTracker.logProgress(partition.relationshipCount());
         }
     }
 
     public static class FastRPResult {
-        private final HugeObjectArray<float[]> embeddings;
+        private final HugeFloatMatrix embeddings;
 
-        public FastRPResult(HugeObjectArray<float[]> embeddings) {
+        public FastRPResult(HugeFloatMatrix embeddings) {
             this.embeddings = embeddings;
         }
 
-        public HugeObjectArray<float[]> embeddings() {
+        public HugeFloatMatrix embeddings() {
             return embeddings;
         }
     }
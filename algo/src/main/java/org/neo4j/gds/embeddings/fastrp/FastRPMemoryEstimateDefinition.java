@@ -20,7 +20,7 @@
 package org.neo4j.gds.embeddings.fastrp;
 
 import org.neo4j.gds.AlgorithmMemoryEstimateDefinition;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.mem.MemoryUsage;
@@ -29,16 +29,16 @@ public final class FastRPMemoryEstimateDefinition implements AlgorithmMemoryEsti
 
     @Override
     public MemoryEstimation memoryEstimation(FastRPBaseConfig configuration) {
-        var sizeOfEmbeddingArray = MemoryUsage.sizeOfFloatArray(configuration.embeddingDimension());
+        var embeddingDimension = configuration.embeddingDimension();
         return MemoryEstimations
             .builder(FastRP.class.getSimpleName())
             .fixed(
                 "propertyVectors",
                 MemoryUsage.sizeOfFloatArray((long) configuration.featureProperties().size() * configuration.propertyDimension())
             )
-            .perNode("embeddings", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, sizeOfEmbeddingArray))
-            .perNode("embeddingsA", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, sizeOfEmbeddingArray))
-            .perNode("embeddingsB", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, sizeOfEmbeddingArray))
+            .perNode("embeddings", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, embeddingDimension))
+            .perNode("embeddingsA", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, embeddingDimension))
+            .perNode("embeddingsB", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, embeddingDimension))
             .build();
     }
 
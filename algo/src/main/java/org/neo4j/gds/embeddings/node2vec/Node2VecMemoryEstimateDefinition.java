@@ -21,6 +21,7 @@ package org.neo4j.gds.embeddings.node2vec;
 
 import org.neo4j.gds.AlgorithmMemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -54,16 +55,14 @@ public final class Node2VecMemoryEstimateDefinition implements AlgorithmMemoryEs
 
 
     private MemoryEstimation modelMemoryEstimation(int embeddingDimension) {
-        var vectorMemoryEstimation = MemoryUsage.sizeOfFloatArray(embeddingDimension);
-
         return MemoryEstimations.builder(Node2VecModel.class)
             .perNode(
                 "center embeddings",
-                (nodeCount) -> HugeObjectArray.memoryEstimation(nodeCount, vectorMemoryEstimation)
+                (nodeCount) -> HugeFloatMatrix.memoryEstimation(nodeCount, embeddingDimension)
             )
             .perNode(
                 "context embeddings",
-                (nodeCount) -> HugeObjectArray.memoryEstimation(nodeCount, vectorMemoryEstimation)
+                (nodeCount) -> HugeFloatMatrix.memoryEstimation(nodeCount, embeddingDimension)
             )
             .build();
     }
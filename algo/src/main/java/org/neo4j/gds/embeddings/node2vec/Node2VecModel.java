@@ -19,13 +19,12 @@
  */
 package org.neo4j.gds.embeddings.node2vec;
 
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.ml.core.functions.Sigmoid;
-import org.neo4j.gds.ml.core.tensor.FloatVector;
 
 import java.util.ArrayList;
 import java.util.Optional;
@@ -33,16 +32,14 @@ import java.util.Random;
 import java.util.SplittableRandom;
 import java.util.function.LongUnaryOperator;
 
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addInPlace;
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.scale;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class Node2VecModel {
 
     private final NegativeSampleProducer negativeSamples;
 
-    private final HugeObjectArray<FloatVector> centerEmbeddings;
-    private final HugeObjectArray<FloatVector> contextEmbeddings;
+    private final HugeFloatMatrix centerEmbeddings;
+    private final HugeFloatMatrix contextEmbeddings;
     private final double initialLearningRate;
     private final double minLearningRate;
     private final int iterations;
@@ -176,11 +173,8 @@ public class Node2VecModel {
         return ImmutableNode2VecResult.of(centerEmbeddings, lossPerIteration);
     }
 
-    private HugeObjectArray<FloatVector> initializeEmbeddings(LongUnaryOperator toOriginalNodeId, long nodeCount, int embeddingDimensions, Random random) {
-        HugeObjectArray<FloatVector> embeddings = HugeObjectArray.newArray(
-            FloatVector.class,
-            nodeCount
-        );
+    private HugeFloatMatrix initializeEmbeddings(LongUnaryOperator toOriginalNodeId, long nodeCount, int embeddingDimensions, Random random) {
+        HugeFloatMatrix embeddings = HugeFloatMatrix.newMatrix(nodeCount, embeddingDimensions);
         double bound;
         switch (embeddingInitializer) {
             case UNIFORM:
@@ -201,19 +195,19 @@ public class Node2VecModel {
                     FloatConsumer::add,
                     FloatConsumer::addAll
                 ).values;
-            embeddings.set(i, new FloatVector(data));
+            embeddings.setRow(i, data);
         }
         return embeddings;
     }
 
     private static final class TrainingTask implements Runnable {
-        private final HugeObjectArray<FloatVector> centerEmbeddings;
-        private final HugeObjectArray<FloatVector> contextEmbeddings;
+        private final HugeFloatMatrix centerEmbeddings;
+        private final HugeFloatMatrix contextEmbeddings;
 
         private final PositiveSampleProducer positiveSampleProducer;
         private final NegativeSampleProducer negativeSampleProducer;
-        private final FloatVector centerGradientBuffer;
-        private final FloatVector contextGradientBuffer;
+        private final float[] centerGradientBuffer;
+        private final float[] contextGradientBuffer;
         private final int negativeSamplingRate;
         private final float learningRate;
 
@@ -222,8 +216,8 @@ public class Node2VecModel {
         private double lossSum;
 
         private TrainingTask(
-            HugeObjectArray<FloatVector> centerEmbeddings,
-            HugeObjectArray<FloatVector> contextEmbeddings,
+            HugeFloatMatrix centerEmbeddings,
+            HugeFloatMatrix contextEmbeddings,
             PositiveSampleProducer positiveSampleProducer,
             NegativeSampleProducer negativeSampleProducer,
             float learningRate,
@@ -238,8 +232,8 @@ public class Node2VecModel {
             this.learningRate = learningRate;
             this.negativeSamplingRate = negativeSamplingRate;
 
-            this.centerGradientBuffer = new FloatVector(embeddingDimensions);
-            this.contextGradientBuffer = new FloatVector(embeddingDimensions);
+            this.centerGradientBuffer = new float[embeddingDimensions];
+            this.contextGradientBuffer = new float[embeddingDimensions];
             this.progressTracker = progressTracker;
         }
 
@@ -259,12 +253,18 @@ public class Node2VecModel {
         }
 
         private void trainSample(long center, long context, boolean positive) {
-            var centerEmbedding = centerEmbeddings.get(center);
-            var contextEmbedding = contextEmbeddings.get(context);
+            var centerPage = centerEmbeddings.rowPage(center);
+            int centerOffset = centerEmbeddings.rowOffset(center);
+            var contextPage = contextEmbeddings.rowPage(context);
+            int contextOffset = contextEmbeddings.rowOffset(context);
+            int dimension = centerGradientBuffer.length;
 
             // L_pos = -log sigmoid(center * context)  ; gradient: -sigmoid (-center * context)
             // L_neg = -log sigmoid(-center * context) ; gradient: sigmoid (center * context)
-            float affinity = centerEmbedding.innerProduct(contextEmbedding);
+            float affinity = 0;
+            for (int i = 0; i < dimension; i++) {
+                affinity += centerPage[centerOffset + i] * contextPage[contextOffset + i];
+            }
 
             //When |affinity| > 40, positiveSigmoid = 1. Double precision is not enough.
             //Make sure negativeSigmoid can never be 0 to avoid infinity loss.
@@ -277,11 +277,15 @@ public class Node2VecModel {
             // we are doing gradient descent, so we go in the negative direction of the gradient here
             float scaledGradient = -gradient * learningRate;
 
-            scale(contextEmbedding.data(), scaledGradient, centerGradientBuffer.data());
-            scale(centerEmbedding.data(), scaledGradient, contextGradientBuffer.data());
+            for (int i = 0; i < dimension; i++) {
+                centerGradientBuffer[i] = contextPage[contextOffset + i] * scaledGradient;
+                contextGradientBuffer[i] = centerPage[centerOffset + i] * scaledGradient;
+            }
 
-            addInPlace(centerEmbedding.data(), centerGradientBuffer.data());
-            addInPlace(contextEmbedding.data(), contextGradientBuffer.data());
+            for (int i = 0; i < dimension; i++) {
+                centerPage[centerOffset + i] += centerGradientBuffer[i];
+                contextPage[contextOffset + i] += contextGradientBuffer[i];
+            }
         }
 
         double lossSum() {
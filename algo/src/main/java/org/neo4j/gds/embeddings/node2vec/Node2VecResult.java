@@ -20,14 +20,13 @@
 package org.neo4j.gds.embeddings.node2vec;
 
 import org.neo4j.gds.annotation.ValueClass;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
-import org.neo4j.gds.ml.core.tensor.FloatVector;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 
 import java.util.List;
 
 @ValueClass
 public interface Node2VecResult {
-    HugeObjectArray<FloatVector> embeddings();
+    HugeFloatMatrix embeddings();
 
     List<Double> lossPerIteration();
 }
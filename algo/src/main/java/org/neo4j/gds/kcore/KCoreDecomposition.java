@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.kcore;
 
+import com.carrotsearch.hppc.LongArrayList;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
@@ -100,9 +101,9 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
 
         AtomicLong nodeIndex = new AtomicLong(0);
 
-        int scanningDegree = 1;
+        int windowStart = 1;
 
-        var tasks = createTasks(currentDegrees, core, nodeIndex, remainingNodes);
+        var tasks = createTasks(currentDegrees, core, nodeIndex);
         boolean hasRebuild = false;
 
         while (remainingNodes.get() > 0) {
@@ -115,48 +116,88 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
             nodeIndex.set(0L);
 
             for (var task : tasks) {
-                task.setScanningDegree(scanningDegree);
-                task.setPhase(KCoreDecompositionTask.KCoreDecompositionPhase.SCAN);
+                task.scan(windowStart);
             }
 
             RunWithConcurrency.builder().tasks(tasks).concurrency(concurrency).run();
 
-            int nextScanningDegree = tasks
+            int smallestActiveDegree = tasks
                 .stream()
                 .mapToInt(KCoreDecompositionTask::getSmallestActiveDegree)
                 .filter(v -> v > -1)
                 .min()
                 .orElseThrow();
 
-            if (nextScanningDegree == scanningDegree) {
-                degeneracy = scanningDegree;
+            int windowEnd = windowStart + KCoreDecompositionTask.OPEN_BUCKETS;
+            if (smallestActiveDegree >= windowEnd) {
+                //this is a minor optimization not in paper:
+                // if no remaining node falls into the open buckets, move the window directly to the smallest
+                // active degree remaining instead of reaching there eventually window by window.
+                windowStart = smallestActiveDegree;
+                continue;
+            }
 
-                for (var task : tasks) {
-                    task.setPhase(KCoreDecompositionTask.KCoreDecompositionPhase.ACT);
+            for (int level = smallestActiveDegree; level < windowEnd && remainingNodes.get() > 0; level++) {
+                long peeledNodes = peelLevel(tasks, nodeIndex, level);
+                if (peeledNodes > 0) {
+                    degeneracy = level;
+                    remainingNodes.addAndGet(-peeledNodes);
+                    progressTracker.logProgress(peeledNodes);
                 }
-
-                RunWithConcurrency.builder().tasks(tasks).concurrency(concurrency).run();
-                scanningDegree++;
-                
-            } else {
-                //this is a minor optimization not in paper:
-                // if we do not do any updates this round, let's skip directly to the smallest active degree remaining
-                //instead of reaching there eventually by doing scanningDegree+1, then +2, etc.
-                // Generally degeneracy is usually small though it shouldn't be super effective.
-                scanningDegree = nextScanningDegree;
             }
 
+            windowStart = windowEnd;
         }
         progressTracker.endSubTask("KCoreDecomposition");
 
         return ImmutableKCoreDecompositionResult.of(core, degeneracy);
     }
 
+    /**
+     * Peels all nodes with a core value of `level` in synchronous rounds.
+     * The first frontier is the open bucket for `level`, every following frontier
+     * consists of the nodes whose degree dropped to `level` in the previous round.
+     */
+    private long peelLevel(List<KCoreDecompositionTask> tasks, AtomicLong nodeIndex, int level) {
+        var frontier = new LongArrayList[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            frontier[i] = tasks.get(i).bucket(level);
+        }
+
+        long peeledNodes = 0;
+        var frontierOffsets = new long[tasks.size() + 1];
+        while (computeOffsets(frontier, frontierOffsets) > 0) {
+            nodeIndex.set(0L);
+            for (var task : tasks) {
+                task.peel(level, frontier, frontierOffsets);
+            }
+
+            RunWithConcurrency.builder().tasks(tasks).concurrency(concurrency).run();
+
+            for (int i = 0; i < tasks.size(); i++) {
+                peeledNodes += tasks.get(i).peeledNodes();
+                frontier[i] = tasks.get(i).swapFrontier();
+            }
+        }
+
+        for (var task : tasks) {
+            task.bucket(level).elementsCount = 0;
+        }
+        return peeledNodes;
+    }
+
+    private static long computeOffsets(LongArrayList[] frontier, long[] offsets) {
+        offsets[0] = 0;
+        for (int i = 0; i < frontier.length; i++) {
+            offsets[i + 1] = offsets[i] + frontier[i].size();
+        }
+        return offsets[frontier.length];
+    }
+
     private List<KCoreDecompositionTask> createTasks(
         HugeAtomicIntArray currentDegrees,
         HugeIntArray core,
-        AtomicLong nodeIndex,
-        AtomicLong remainingNodes
+        AtomicLong nodeIndex
     ) {
         List<KCoreDecompositionTask> tasks = new ArrayList<>();
         var nodeProvider = new FullNodeProvider(graph.nodeCount());
@@ -166,10 +207,8 @@ public class KCoreDecomposition extends Algorithm<KCoreDecompositionResult> {
                 currentDegrees,
                 core,
                 nodeIndex,
-                remainingNodes,
                 chunkSize,
-                nodeProvider,
-                progressTracker
+                nodeProvider
             ));
         }
         return tasks;
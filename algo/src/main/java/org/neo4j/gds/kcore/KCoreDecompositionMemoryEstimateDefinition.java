@@ -34,7 +34,13 @@ public class KCoreDecompositionMemoryEstimateDefinition implements AlgorithmMemo
         builder
             .perNode("currentDegrees", HugeAtomicIntArray::memoryEstimation)
             .perNode("cores", HugeIntArray::memoryEstimation)
-            .perThread("KCoreDecompositionTask", KCoreDecompositionTask.memoryEstimation());
+            .perThread("KCoreDecompositionTask", KCoreDecompositionTask.memoryEstimation())
+            // the open buckets hold the remaining nodes of a window and the nodes moved between them,
+            // at most one entry per node and per relationship
+            .rangePerGraphDimension("buckets", (graphDimensions, concurrency) -> MemoryRange.of(
+                Long.BYTES * graphDimensions.nodeCount(),
+                Long.BYTES * (2 * graphDimensions.nodeCount() + graphDimensions.relCountUpperBound())
+            ));
 
         builder.perGraphDimension("RebuildTask", ((graphDimensions, concurrency) -> {
             var resizedNodeCount = Math.max(
@@ -19,56 +19,79 @@
  */
 package org.neo4j.gds.kcore;
 
+import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.haa.HugeAtomicIntArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
-import org.neo4j.gds.collections.ha.HugeIntArray;
-import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.MemoryUsage;
 
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * A task of the bucketed peeling in {@link KCoreDecomposition}.
+ *
+ * In the SCAN phase, the task distributes the remaining nodes of the chunks it claims into
+ * its open buckets, one per degree in [windowStart, windowStart + OPEN_BUCKETS).
+ *
+ * In the PEEL phase, the task claims chunks of the current frontier, which is the concatenation
+ * of the lists given in {@link #peel(int, LongArrayList[], long[])}, and assigns the current level to
+ * its nodes. Neighbours whose degree drops to the current level are collected for the next round,
+ * neighbours whose degree drops into a later open bucket are moved to that bucket. Stale entries
+ * of nodes that have been peeled in the meantime are skipped.
+ */
 class KCoreDecompositionTask implements Runnable {
 
+    // number of consecutive degrees that are bucketed by a single scan
+    static final int OPEN_BUCKETS = 16;
+
     private final Graph localGraph;
     private final HugeAtomicIntArray currentDegrees;
     private final HugeIntArray core;
-    private final HugeLongArrayStack examinationStack;
     private final AtomicLong nodeIndex;
-    private int smallestActiveDegree;
-    private int scanningDegree;
-    private final AtomicLong remainingNodes;
-    private final ProgressTracker progressTracker;
-    private KCoreDecompositionPhase phase;
-    private NodeProvider nodeProvider;
     private final int chunkSize;
+    private NodeProvider nodeProvider;
+    private KCoreDecompositionPhase phase;
+
+    private final LongArrayList[] buckets;
+    private LongArrayList nextFrontier;
+    private LongArrayList spareFrontier;
+
+    private int windowStart;
+    private int smallestActiveDegree;
+
+    private int level;
+    private LongArrayList[] frontier;
+    private long[] frontierOffsets;
+    private long peeledNodes;
 
     KCoreDecompositionTask(
         Graph localGraph,
         HugeAtomicIntArray currentDegrees,
         HugeIntArray core,
         AtomicLong nodeIndex,
-        AtomicLong remainingNodes,
         int chunkSize,
-        NodeProvider nodeProvider,
-        ProgressTracker progressTracker
+        NodeProvider nodeProvider
     ) {
-        this.progressTracker = progressTracker;
         this.nodeProvider = nodeProvider;
         this.localGraph = localGraph;
         this.currentDegrees = currentDegrees;
         this.core = core;
-        this.examinationStack = HugeLongArrayStack.newStack(localGraph.nodeCount());
         this.nodeIndex = nodeIndex;
-        this.remainingNodes = remainingNodes;
         this.phase = KCoreDecompositionPhase.SCAN;
         this.chunkSize = chunkSize;
+        this.buckets = new LongArrayList[OPEN_BUCKETS];
+        for (int i = 0; i < OPEN_BUCKETS; i++) {
+            buckets[i] = new LongArrayList();
+        }
+        this.nextFrontier = new LongArrayList();
+        this.spareFrontier = new LongArrayList();
     }
 
     static MemoryEstimation memoryEstimation() {
         return MemoryEstimations.builder(KCoreDecompositionTask.class)
-            .add("examinationStack", HugeLongArrayStack.memoryEstimation())
+            .fixed("buckets", (OPEN_BUCKETS + 2) * MemoryUsage.sizeOfLongArrayList(0))
             .build();
     }
 
@@ -81,17 +104,52 @@ class KCoreDecompositionTask implements Runnable {
         if (phase == KCoreDecompositionPhase.SCAN) {
             scan();
         } else {
-            act();
+            peel();
         }
     }
 
-    void setPhase(KCoreDecompositionPhase phase) {
-        this.phase = phase;
+    void scan(int windowStart) {
+        this.windowStart = windowStart;
+        for (var bucket : buckets) {
+            bucket.elementsCount = 0;
+        }
+        this.phase = KCoreDecompositionPhase.SCAN;
     }
 
-    private void scan() {
+    void peel(int level, LongArrayList[] frontier, long[] frontierOffsets) {
+        this.level = level;
+        this.frontier = frontier;
+        this.frontierOffsets = frontierOffsets;
+        this.phase = KCoreDecompositionPhase.PEEL;
+    }
 
+    int getSmallestActiveDegree() {
+        return smallestActiveDegree;
+    }
+
+    long peeledNodes() {
+        return peeledNodes;
+    }
+
+    LongArrayList bucket(int degree) {
+        return buckets[degree - windowStart];
+    }
+
+    /**
+     * Hands out the nodes collected for the next round and starts collecting into an empty list.
+     * The returned list stays valid until the next call.
+     */
+    LongArrayList swapFrontier() {
+        var collected = nextFrontier;
+        nextFrontier = spareFrontier;
+        nextFrontier.elementsCount = 0;
+        spareFrontier = collected;
+        return collected;
+    }
+
+    private void scan() {
         long upperBound = nodeProvider.size();
+        int windowEnd = windowStart + OPEN_BUCKETS;
         smallestActiveDegree = -1;
         long offset;
         while ((offset = nodeIndex.getAndAdd(chunkSize)) < upperBound) {
@@ -99,11 +157,12 @@ class KCoreDecompositionTask implements Runnable {
             for (long indexId = offset; indexId < currentChunk; indexId++) {
                 long nodeId = nodeProvider.node(indexId);
                 int nodeDegree = currentDegrees.get(nodeId);
-                if (nodeDegree >= scanningDegree) {
-                    if (nodeDegree == scanningDegree) {
-                        smallestActiveDegree = nodeDegree;
-                        examinationStack.push(nodeId);
-                    } else if (smallestActiveDegree == -1 || smallestActiveDegree > nodeDegree) {
+                // peeled nodes have a degree below the window
+                if (nodeDegree >= windowStart) {
+                    if (nodeDegree < windowEnd) {
+                        buckets[nodeDegree - windowStart].add(nodeId);
+                    }
+                    if (smallestActiveDegree == -1 || smallestActiveDegree > nodeDegree) {
                         smallestActiveDegree = nodeDegree;
                     }
                 }
@@ -111,45 +170,43 @@ class KCoreDecompositionTask implements Runnable {
         }
     }
 
-    void setScanningDegree(int scanningDegree) {
-        this.scanningDegree = scanningDegree;
-    }
-
-    int getSmallestActiveDegree() {
-        return smallestActiveDegree;
-    }
-
-    private void act() {
-
-        long nodesExamined = 0;
-        while (!examinationStack.isEmpty()) {
-
-            long nodeId = examinationStack.pop();
-            core.set(nodeId, scanningDegree);
-            nodesExamined++;
-            
-            relax(nodeId);
-
+    private void peel() {
+        peeledNodes = 0;
+        long upperBound = frontierOffsets[frontier.length];
+        long offset;
+        while ((offset = nodeIndex.getAndAdd(chunkSize)) < upperBound) {
+            var currentChunk = Math.min(offset + chunkSize, upperBound);
+            int list = 0;
+            for (long indexId = offset; indexId < currentChunk; indexId++) {
+                while (indexId >= frontierOffsets[list + 1]) {
+                    list++;
+                }
+                long nodeId = frontier[list].get((int) (indexId - frontierOffsets[list]));
+                if (core.get(nodeId) == KCoreDecomposition.UNASSIGNED) {
+                    core.set(nodeId, level);
+                    peeledNodes++;
+                    relax(nodeId);
+                }
+            }
         }
-        remainingNodes.addAndGet(-nodesExamined);
-        progressTracker.logProgress(nodesExamined);
     }
 
     private void relax(long nodeId) {
-
+        int windowEnd = windowStart + OPEN_BUCKETS;
         localGraph.forEachRelationship(nodeId, (s, t) -> {
-
-            boolean shouldPushToStack = (core.get(t) == KCoreDecomposition.UNASSIGNED)
-                                        && (currentDegrees.getAndAdd(t, -1) == scanningDegree + 1);
-            if (shouldPushToStack) {
-                examinationStack.push(t);
+            if (core.get(t) == KCoreDecomposition.UNASSIGNED) {
+                int degree = currentDegrees.getAndAdd(t, -1) - 1;
+                if (degree == level) {
+                    nextFrontier.add(t);
+                } else if (degree > level && degree < windowEnd) {
+                    buckets[degree - windowStart].add(t);
+                }
             }
-
             return true;
         });
     }
 
     enum KCoreDecompositionPhase {
-        SCAN, ACT
+        SCAN, PEEL
     }
 }
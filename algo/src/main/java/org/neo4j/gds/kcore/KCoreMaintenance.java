@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.kcore;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Keeps the core values of an undirected graph up to date while single relationships are
+ * inserted or deleted, without recomputing the decomposition.
+ *
+ * An update changes the core value of a node by at most one, and only nodes within the
+ * subcore of the updated relationship can change: the nodes that are connected to its end
+ * node with the lower core value K through nodes that also have core value K.
+ * The subcore is collected and peeled locally (Sarıyüce et al., "Streaming Algorithms for
+ * k-core Decomposition", VLDB 2013). Every update returns the nodes whose core value changed.
+ * This is an algorithm level API, there is no procedure that applies relationship updates through it.
+ *
+ * The relationships of the graph are copied into growable adjacency lists on creation, see
+ * {@link #memoryEstimation()} for their size. The given core values are updated in place.
+ * Parallel relationships are counted like in {@link KCoreDecomposition}; self-loops can not be inserted or deleted.
+ * Instances are not thread-safe.
+ */
+public final class KCoreMaintenance {
+
+    private static final long[] NO_CHANGES = new long[0];
+
+    private final HugeObjectArray<LongArrayList> adjacency;
+    private final HugeIntArray core;
+
+    // candidate degrees of the nodes in the current subcore
+    private final LongIntHashMap candidateDegrees;
+    private final LongArrayList stack;
+
+    /**
+     * Estimates the copy of the adjacency lists taken on creation.
+     * Inserted relationships grow the lists beyond this estimate.
+     */
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(KCoreMaintenance.class)
+            .perGraphDimension("adjacency", (graphDimensions, concurrency) -> {
+                long nodeCount = graphDimensions.nodeCount();
+                long emptyListSize = MemoryUsage.sizeOfInstance(LongArrayList.class) + MemoryUsage.sizeOfLongArray(0);
+                return MemoryRange.of(
+                    HugeObjectArray.memoryEstimation(nodeCount, emptyListSize)
+                    + Long.BYTES * graphDimensions.relCountUpperBound()
+                );
+            })
+            .build();
+    }
+
+    public static KCoreMaintenance of(Graph graph, HugeIntArray coreValues, int concurrency) {
+        var adjacency = HugeObjectArray.newArray(LongArrayList.class, graph.nodeCount());
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(node -> {
+                    var neighbours = new LongArrayList(localGraph.degree(node));
+                    localGraph.forEachRelationship(node, (source, target) -> {
+                        neighbours.add(target);
+                        return true;
+                    });
+                    adjacency.set(node, neighbours);
+                });
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder().tasks(tasks).concurrency(concurrency).run();
+
+        return new KCoreMaintenance(adjacency, coreValues);
+    }
+
+    private KCoreMaintenance(HugeObjectArray<LongArrayList> adjacency, HugeIntArray core) {
+        this.adjacency = adjacency;
+        this.core = core;
+        this.candidateDegrees = new LongIntHashMap();
+        this.stack = new LongArrayList();
+    }
+
+    public HugeIntArray coreValues() {
+        return core;
+    }
+
+    /**
+     * Inserts an undirected relationship between the given nodes.
+     *
+     * @return the nodes whose core value increased by one
+     */
+    public long[] insertRelationship(long source, long target) {
+        validateNotSelfLoop(source, target);
+        adjacency.get(source).add(target);
+        adjacency.get(target).add(source);
+
+        int k = Math.min(core.get(source), core.get(target));
+        long root = core.get(source) == k ? source : target;
+
+        candidateDegrees.clear();
+        collectSubcore(root, k);
+
+        // evict the nodes that can not be part of the (k + 1)-core
+        stack.elementsCount = 0;
+        for (var cursor : candidateDegrees) {
+            if (cursor.value <= k) {
+                stack.add(cursor.key);
+            }
+        }
+        while (!stack.isEmpty()) {
+            long node = stack.removeLast();
+            if (candidateDegrees.get(node) == Integer.MIN_VALUE) {
+                continue;
+            }
+            candidateDegrees.put(node, Integer.MIN_VALUE);
+            forEachNeighbour(node, neighbour -> {
+                if (candidateDegrees.containsKey(neighbour)) {
+                    int degree = candidateDegrees.get(neighbour);
+                    if (degree != Integer.MIN_VALUE) {
+                        candidateDegrees.put(neighbour, degree - 1);
+                        if (degree - 1 == k) {
+                            stack.add(neighbour);
+                        }
+                    }
+                }
+            });
+        }
+
+        var changed = new LongArrayList();
+        for (var cursor : candidateDegrees) {
+            if (cursor.value != Integer.MIN_VALUE) {
+                core.set(cursor.key, k + 1);
+                changed.add(cursor.key);
+            }
+        }
+        return changed.toArray();
+    }
+
+    /**
+     * Deletes one undirected relationship between the given nodes.
+     *
+     * @return the nodes whose core value decreased by one
+     * @throws IllegalArgumentException if there is no relationship between the nodes
+     */
+    public long[] deleteRelationship(long source, long target) {
+        validateNotSelfLoop(source, target);
+        if (!remove(adjacency.get(source), target) || !remove(adjacency.get(target), source)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "There is no relationship between the nodes %d and %d.",
+                source,
+                target
+            ));
+        }
+
+        int k = Math.min(core.get(source), core.get(target));
+
+        candidateDegrees.clear();
+        if (core.get(source) == k) {
+            collectSubcore(source, k);
+        }
+        if (core.get(target) == k && !candidateDegrees.containsKey(target)) {
+            collectSubcore(target, k);
+        }
+
+        // demote the nodes that lost their support for the k-core
+        var changed = new LongArrayList();
+        stack.elementsCount = 0;
+        for (var cursor : candidateDegrees) {
+            if (cursor.value < k) {
+                stack.add(cursor.key);
+            }
+        }
+        while (!stack.isEmpty()) {
+            long node = stack.removeLast();
+            if (core.get(node) != k) {
+                continue;
+            }
+            core.set(node, k - 1);
+            changed.add(node);
+            forEachNeighbour(node, neighbour -> {
+                if (core.get(neighbour) == k && candidateDegrees.containsKey(neighbour)) {
+                    int degree = candidateDegrees.get(neighbour) - 1;
+                    candidateDegrees.put(neighbour, degree);
+                    if (degree == k - 1) {
+                        stack.add(neighbour);
+                    }
+                }
+            });
+        }
+        return changed.isEmpty() ? NO_CHANGES : changed.toArray();
+    }
+
+    /**
+     * Collects the nodes with core value `k` that are reachable from `root` through nodes with
+     * core value `k`, together with the number of their neighbours with a core value of at least `k`.
+     */
+    private void collectSubcore(long root, int k) {
+        candidateDegrees.put(root, 0);
+        stack.elementsCount = 0;
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            long node = stack.removeLast();
+            int candidateDegree = 0;
+            var neighbours = adjacency.get(node);
+            for (int i = 0; i < neighbours.size(); i++) {
+                long neighbour = neighbours.get(i);
+                int neighbourCore = core.get(neighbour);
+                if (neighbourCore >= k) {
+                    candidateDegree++;
+                }
+                if (neighbourCore == k && !candidateDegrees.containsKey(neighbour)) {
+                    candidateDegrees.put(neighbour, 0);
+                    stack.add(neighbour);
+                }
+            }
+            candidateDegrees.put(node, candidateDegree);
+        }
+    }
+
+    private void forEachNeighbour(long node, LongConsumer consumer) {
+        var neighbours = adjacency.get(node);
+        for (int i = 0; i < neighbours.size(); i++) {
+            consumer.accept(neighbours.get(i));
+        }
+    }
+
+    private static boolean remove(LongArrayList neighbours, long node) {
+        int index = neighbours.indexOf(node);
+        if (index == -1) {
+            return false;
+        }
+        // the order of the neighbours does not matter
+        neighbours.set(index, neighbours.get(neighbours.size() - 1));
+        neighbours.removeLast();
+        return true;
+    }
+
+    private static void validateNotSelfLoop(long source, long target) {
+        if (source == target) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Self-loops are not supported, got a relationship from node %d to itself.",
+                source
+            ));
+        }
+    }
+}
@@ -19,13 +19,17 @@
  */
 package org.neo4j.gds.labelpropagation;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.primitive.PrimitiveLongIterable;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.LongAdder;
 
 final class ComputeStep implements Step {
 
@@ -36,20 +40,37 @@ final class ComputeStep implements Step {
     private final ProgressTracker progressTracker;
     private final ComputeStepConsumer consumer;
     private final Graph graph;
+    private final @Nullable HugeAtomicBitSet activeNodes;
+    private final RelationshipConsumer activateNeighbour;
+    private final boolean isUndirected;
+    private final LongAdder activeNodeCount;
 
     private boolean didChange = true;
 
+    /**
+     * @param activeNodes the nodes to compute a label for; a node is activated again when one of the neighbours
+     *     it takes votes from changes its label. {@code null} to compute a label for every node.
+     */
     ComputeStep(
             Graph graph,
             NodePropertyValues nodeWeights,
             ProgressTracker progressTracker,
             HugeLongArray existingLabels,
-            PrimitiveLongIterable nodes) {
+            PrimitiveLongIterable nodes,
+            @Nullable HugeAtomicBitSet activeNodes,
+            LongAdder activeNodeCount) {
         this.existingLabels = existingLabels;
         this.progressTracker = progressTracker;
         this.graph = graph.concurrentCopy();
         this.nodes = nodes;
         this.consumer = new ComputeStepConsumer(nodeWeights, existingLabels);
+        this.activeNodes = activeNodes;
+        this.activateNeighbour = (sourceNodeId, targetNodeId) -> {
+            activeNodes.set(targetNodeId);
+            return true;
+        };
+        this.isUndirected = graph.characteristics().isUndirected();
+        this.activeNodeCount = activeNodeCount;
     }
 
     @Override
@@ -69,14 +90,31 @@ final class ComputeStep implements Step {
 
     private boolean iterateAll(PrimitiveIterator.OfLong nodeIds) {
         boolean didChange = false;
+        long computedNodes = 0L;
         while (nodeIds.hasNext()) {
             long nodeId = nodeIds.nextLong();
-            didChange = compute(nodeId, didChange);
+            if (isActive(nodeId)) {
+                didChange = compute(nodeId, didChange);
+                computedNodes++;
+            }
             progressTracker.logProgress(graph.degree(nodeId));
         }
+        activeNodeCount.add(computedNodes);
         return didChange;
     }
 
+    private boolean isActive(long nodeId) {
+        if (activeNodes == null) {
+            return true;
+        }
+        if (!activeNodes.get(nodeId)) {
+            return false;
+        }
+        // clear before computing, so that a neighbour changing its label concurrently activates the node again
+        activeNodes.clear(nodeId);
+        return true;
+    }
+
     private boolean compute(long nodeId, boolean didChange) {
         consumer.clearVotes();
         long label = existingLabels.get(nodeId);
@@ -84,11 +122,24 @@ final class ComputeStep implements Step {
         long newLabel = consumer.tallyVotes(label);
         if (newLabel != label) {
             existingLabels.set(nodeId, newLabel);
+            activateNeighbours(nodeId);
             return true;
         }
         return didChange;
     }
 
+    private void activateNeighbours(long nodeId) {
+        if (activeNodes == null) {
+            return;
+        }
+        // the nodes that take votes from this node are the sources of its incoming relationships
+        if (isUndirected) {
+            graph.forEachRelationship(nodeId, activateNeighbour);
+        } else {
+            graph.forEachInverseRelationship(nodeId, activateNeighbour);
+        }
+    }
+
     @Override
     public void release() {
         consumer.release();
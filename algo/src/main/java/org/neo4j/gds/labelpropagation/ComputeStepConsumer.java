@@ -19,8 +19,6 @@
  */
 package org.neo4j.gds.labelpropagation;
 
-import com.carrotsearch.hppc.LongDoubleScatterMap;
-import com.carrotsearch.hppc.cursors.LongDoubleCursor;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.ha.HugeLongArray;
@@ -29,15 +27,14 @@ final class ComputeStepConsumer implements RelationshipWithPropertyConsumer {
 
     private final NodePropertyValues nodeWeights;
     private final HugeLongArray existingLabels;
-    private final LongDoubleScatterMap votes;
+    private final LabelVotes votes;
 
     ComputeStepConsumer(
             NodePropertyValues nodeWeights,
             HugeLongArray existingLabels) {
         this.existingLabels = existingLabels;
         this.nodeWeights = nodeWeights;
-        // use scatter map to get consistent (deterministic) hash order
-        this.votes = new LongDoubleScatterMap();
+        this.votes = new LabelVotes();
     }
 
     @Override
@@ -49,7 +46,7 @@ final class ComputeStepConsumer implements RelationshipWithPropertyConsumer {
     private void castVote(long candidate, double weight) {
         weight = weightOf(candidate, weight);
         long label = existingLabels.get(candidate);
-        votes.addTo(label, weight);
+        votes.add(label, weight);
     }
 
     private double weightOf(final long candidate, final double relationshipWeight) {
@@ -62,32 +59,10 @@ final class ComputeStepConsumer implements RelationshipWithPropertyConsumer {
     }
 
     long tallyVotes(long label) {
-        double weight = Double.NEGATIVE_INFINITY;
-        for (LongDoubleCursor vote : votes) {
-            if (weight < vote.value) {
-                weight = vote.value;
-                label = vote.key;
-            } else if (weight == vote.value) {
-                if (vote.key < label) {
-                    label = vote.key;
-                }
-            }
-        }
-        return label;
+        return votes.tally(label);
     }
 
-    private static final long[] EMPTY_LONGS = new long[0];
-
     void release() {
-        // the HPPC release() method allocates new arrays
-        // the clear() method overwrite the existing keys with the default value
-        // we want to throw away all data to allow for GC collection instead.
-
-        if (votes.keys != null) {
-            votes.keys = EMPTY_LONGS;
-            votes.clear();
-            votes.keys = null;
-            votes.values = null;
-        }
+        votes.release();
     }
 }
@@ -19,13 +19,17 @@
  */
 package org.neo4j.gds.labelpropagation;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.primitive.PrimitiveLongIterable;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.concurrent.atomic.LongAdder;
+
 final class InitStep implements Step {
 
     private final NodePropertyValues nodePropertyValues;
@@ -35,6 +39,8 @@ final class InitStep implements Step {
     private final NodePropertyValues nodeWeights;
     private final ProgressTracker progressTracker;
     private final long maxLabelId;
+    private final @Nullable HugeAtomicBitSet activeNodes;
+    private final LongAdder activeNodeCount;
 
     InitStep(
             Graph graph,
@@ -43,7 +49,9 @@ final class InitStep implements Step {
             PrimitiveLongIterable nodes,
             HugeLongArray existingLabels,
             ProgressTracker progressTracker,
-            long maxLabelId) {
+            long maxLabelId,
+            @Nullable HugeAtomicBitSet activeNodes,
+            LongAdder activeNodeCount) {
         this.nodePropertyValues = nodePropertyValues;
         this.existingLabels = existingLabels;
         this.nodes = nodes;
@@ -51,6 +59,8 @@ final class InitStep implements Step {
         this.nodeWeights = nodeWeights;
         this.progressTracker = progressTracker;
         this.maxLabelId = maxLabelId;
+        this.activeNodes = activeNodes;
+        this.activeNodeCount = activeNodeCount;
     }
 
     @Override
@@ -89,7 +99,9 @@ final class InitStep implements Step {
                 nodeWeights,
                 progressTracker,
                 existingLabels,
-                nodes
+                nodes,
+                activeNodes,
+                activeNodeCount
         );
     }
 }
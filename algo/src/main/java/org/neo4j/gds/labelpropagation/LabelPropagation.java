@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.labelpropagation;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.Graph;
@@ -31,12 +32,15 @@ import org.neo4j.gds.core.loading.NullPropertyMap.DoubleNullPropertyMap;
 import org.neo4j.gds.core.loading.NullPropertyMap.LongNullPropertyMap;
 import org.neo4j.gds.core.utils.LazyBatchCollection;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_LABEL;
@@ -105,7 +109,11 @@ public class LabelPropagation extends Algorithm<LabelPropagationResult> {
         long ranIterations = 0L;
         boolean didConverge = false;
 
-        List<StepRunner> stepRunners = stepRunners();
+        var activeNodes = activeNodes();
+        var activeNodeCount = new LongAdder();
+        var activeNodeCounts = new long[config.maxIterations()];
+
+        List<StepRunner> stepRunners = stepRunners(activeNodes, activeNodeCount);
 
         progressTracker.beginSubTask();
         while (ranIterations < config.maxIterations()) {
@@ -117,6 +125,7 @@ public class LabelPropagation extends Algorithm<LabelPropagationResult> {
                 .terminationFlag(terminationFlag)
                 .executor(executor)
                 .run();
+            activeNodeCounts[(int) ranIterations] = activeNodeCount.sumThenReset();
             ++ranIterations;
             didConverge = stepRunners.stream().allMatch(StepRunner::didConverge);
             progressTracker.endSubTask();
@@ -129,10 +138,33 @@ public class LabelPropagation extends Algorithm<LabelPropagationResult> {
         stepRunners.forEach(StepRunner::release);
         progressTracker.endSubTask();
 
-        return new LabelPropagationResult(labels, didConverge, ranIterations);
+        return new LabelPropagationResult(
+            labels,
+            didConverge,
+            ranIterations,
+            Arrays.copyOf(activeNodeCounts, (int) ranIterations)
+        );
+    }
+
+    /**
+     * A node only needs a new label if one of the neighbours it takes votes from changed its label,
+     * which most nodes stop doing after a few iterations.
+     * Finding the nodes that take votes from a node requires the incoming relationships,
+     * so without an inverse index on a directed graph, every node gets a new label in every iteration.
+     */
+    private @Nullable HugeAtomicBitSet activeNodes() {
+        var characteristics = graph.characteristics();
+        if (!characteristics.isUndirected() && !characteristics.isInverseIndexed()) {
+            return null;
+        }
+        var activeNodes = HugeAtomicBitSet.create(nodeCount);
+        if (nodeCount > 0) {
+            activeNodes.set(0, nodeCount);
+        }
+        return activeNodes;
     }
 
-    private List<StepRunner> stepRunners() {
+    private List<StepRunner> stepRunners(@Nullable HugeAtomicBitSet activeNodes, LongAdder activeNodeCount) {
         long nodeCount = graph.nodeCount();
         long batchSize = ParallelUtil.adjustedBatchSize(nodeCount, this.batchSize);
 
@@ -152,7 +184,9 @@ public class LabelPropagation extends Algorithm<LabelPropagationResult> {
                 iter,
                 labels,
                 progressTracker,
-                maxLabelId
+                maxLabelId,
+                activeNodes,
+                activeNodeCount
             );
             StepRunner task = new StepRunner(initStep);
             tasks.add(task);
@@ -19,40 +19,48 @@
  */
 package org.neo4j.gds.labelpropagation;
 
-import com.carrotsearch.hppc.LongDoubleScatterMap;
 import org.neo4j.gds.AlgorithmMemoryEstimateDefinition;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
-import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.mem.BitUtil;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
 
 public class LabelPropagationMemoryEstimateDefinition implements AlgorithmMemoryEstimateDefinition<LabelPropagationBaseConfig> {
 
+    private static final long MAX_VOTES_CAPACITY = 1L << 30;
+
     @Override
     public MemoryEstimation memoryEstimation(LabelPropagationBaseConfig configuration) {
         return MemoryEstimations.builder(LabelPropagation.class)
             .perNode("labels", HugeLongArray::memoryEstimation)
+            .perNode("active nodes", HugeAtomicBitSet::memoryEstimation)
             .perThread("votes", MemoryEstimations.builder()
                 .field("init step", InitStep.class)
                 .field("compute step", ComputeStep.class)
                 .field("step runner", StepRunner.class)
                 .field("compute step consumer", ComputeStepConsumer.class)
-                .field("votes container", LongDoubleScatterMap.class)
+                .field("votes container", LabelVotes.class)
                 .rangePerNode("votes", nodeCount -> {
-                    long minBufferSize = MemoryUsage.sizeOfEmptyOpenHashContainer();
-                    long maxBufferSize = MemoryUsage.sizeOfOpenHashContainer(nodeCount);
-                    if (maxBufferSize < minBufferSize) {
-                        maxBufferSize = minBufferSize;
-                    }
-                    long min = sizeOfLongArray(minBufferSize) + sizeOfDoubleArray(minBufferSize);
-                    long max = sizeOfLongArray(maxBufferSize) + sizeOfDoubleArray(maxBufferSize);
-                    return MemoryRange.of(min, max);
+                    // the table keeps at most half of its slots taken, for at most one label per node
+                    long maxCapacity = Math.min(
+                        MAX_VOTES_CAPACITY,
+                        BitUtil.nextHighestPowerOfTwo(Math.max(LabelVotes.MIN_CAPACITY, 2 * nodeCount))
+                    );
+                    return MemoryRange.of(
+                        sizeOfVotes(LabelVotes.MIN_CAPACITY),
+                        sizeOfVotes(maxCapacity)
+                    );
                 }).build())
             .build();
     }
 
+    private static long sizeOfVotes(long capacity) {
+        return sizeOfLongArray(capacity) + sizeOfDoubleArray(capacity) + 2 * sizeOfIntArray(capacity);
+    }
 }
@@ -26,11 +26,13 @@ public class LabelPropagationResult {
     private final HugeLongArray labels;
     private final boolean didConverge;
     private final long ranIterations;
+    private final long[] activeNodeCounts;
 
-    public LabelPropagationResult(HugeLongArray labels, boolean didConverge, long ranIterations) {
+    public LabelPropagationResult(HugeLongArray labels, boolean didConverge, long ranIterations, long[] activeNodeCounts) {
         this.labels = labels;
         this.didConverge = didConverge;
         this.ranIterations = ranIterations;
+        this.activeNodeCounts = activeNodeCounts;
     }
 
     public HugeLongArray labels() {
@@ -44,4 +46,11 @@ public class LabelPropagationResult {
     public long ranIterations() {
         return ranIterations;
     }
+
+    /**
+     * @return the number of nodes a label was computed for, per iteration
+     */
+    public long[] activeNodeCounts() {
+        return activeNodeCounts;
+    }
 }
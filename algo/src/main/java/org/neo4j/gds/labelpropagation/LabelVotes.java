@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.labelpropagation;
+
+import com.carrotsearch.hppc.BitMixer;
+
+import java.util.Arrays;
+
+/**
+ * Scratch table that sums up the votes for the labels of the neighbours of a single node.
+ * <p>
+ * The table is an open-addressing hash table over primitive arrays that is reused for every node of a step.
+ * Instead of overwriting all slots, clearing only starts a new generation,
+ * and tallying only visits the slots taken in the current generation,
+ * so the cost of both is bound by the degree of the node and not by the largest degree seen so far.
+ */
+final class LabelVotes {
+
+    static final int MIN_CAPACITY = 16;
+
+    private long[] labels;
+    private double[] weights;
+    // a slot is taken iff its generation is the current generation
+    private int[] generations;
+    // the slots taken in the current generation, in the order they were taken
+    private int[] takenSlots;
+    private int size;
+    private int generation;
+    private int mask;
+
+    LabelVotes() {
+        allocate(MIN_CAPACITY);
+        this.generation = 1;
+    }
+
+    void add(long label, double weight) {
+        int slot = (int) BitMixer.mix64(label) & mask;
+        while (generations[slot] == generation) {
+            if (labels[slot] == label) {
+                weights[slot] += weight;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        generations[slot] = generation;
+        labels[slot] = label;
+        weights[slot] = weight;
+        takenSlots[size++] = slot;
+
+        if (size * 2 > labels.length) {
+            grow();
+        }
+    }
+
+    void clear() {
+        size = 0;
+        if (++generation == 0) {
+            // after an overflow, stale generations could be mistaken for the current one
+            Arrays.fill(generations, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * @return the label with the highest sum of votes, preferring the smaller label on ties,
+     *     or the given label if there are no votes
+     */
+    long tally(long label) {
+        double weight = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            int slot = takenSlots[i];
+            double voteWeight = weights[slot];
+            long voteLabel = labels[slot];
+            if (weight < voteWeight) {
+                weight = voteWeight;
+                label = voteLabel;
+            } else if (weight == voteWeight && voteLabel < label) {
+                label = voteLabel;
+            }
+        }
+        return label;
+    }
+
+    void release() {
+        labels = null;
+        weights = null;
+        generations = null;
+        takenSlots = null;
+        size = 0;
+    }
+
+    private void grow() {
+        var oldLabels = labels;
+        var oldWeights = weights;
+        var oldTakenSlots = takenSlots;
+        int oldSize = size;
+
+        allocate(labels.length * 2);
+        for (int i = 0; i < oldSize; i++) {
+            int oldSlot = oldTakenSlots[i];
+            long label = oldLabels[oldSlot];
+            int slot = (int) BitMixer.mix64(label) & mask;
+            while (generations[slot] == generation) {
+                slot = (slot + 1) & mask;
+            }
+            generations[slot] = generation;
+            labels[slot] = label;
+            weights[slot] = oldWeights[oldSlot];
+            takenSlots[size++] = slot;
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.labels = new long[capacity];
+        this.weights = new double[capacity];
+        this.generations = new int[capacity];
+        this.takenSlots = new int[capacity];
+        this.mask = capacity - 1;
+        this.size = 0;
+    }
+}
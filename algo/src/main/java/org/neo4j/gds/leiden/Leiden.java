@@ -31,6 +31,7 @@ import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.modularityoptimization.DeltaScreening;
 
 import java.util.List;
 import java.util.Optional;
@@ -50,6 +51,7 @@ public class Leiden extends Algorithm<LeidenResult> {
     private double modularity;
     private final LeidenDendrogramManager dendrogramManager;
     private final Optional<NodePropertyValues> seedValues;
+    private final Optional<NodePropertyValues> changedNodes;
     private final ExecutorService executorService;
     private final int concurrency;
     private final long randomSeed;
@@ -67,6 +69,39 @@ public class Leiden extends Algorithm<LeidenResult> {
         double tolerance,
         int concurrency,
         ProgressTracker progressTracker
+    ) {
+        this(
+            graph,
+            maxIterations,
+            initialGamma,
+            theta,
+            includeIntermediateCommunities,
+            randomSeed,
+            seedValues,
+            null,
+            tolerance,
+            concurrency,
+            progressTracker
+        );
+    }
+
+    /**
+     * @param changedNodes marks the nodes affected by changes since the seed values were computed.
+     *                     The first local move phase starts from these nodes and their neighbours only,
+     *                     see {@link DeltaScreening}.
+     */
+    public Leiden(
+        Graph graph,
+        int maxIterations,
+        double initialGamma,
+        double theta,
+        boolean includeIntermediateCommunities,
+        long randomSeed,
+        @Nullable NodePropertyValues seedValues,
+        @Nullable NodePropertyValues changedNodes,
+        double tolerance,
+        int concurrency,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.rootGraph = graph;
@@ -86,6 +121,7 @@ public class Leiden extends Algorithm<LeidenResult> {
             terminationFlag
         );
         this.seedValues = Optional.ofNullable(seedValues);
+        this.changedNodes = Optional.ofNullable(changedNodes);
         this.modularities = new double[maxIterations];
         this.modularity = 0d;
         this.tolerance = tolerance;
@@ -128,11 +164,23 @@ public class Leiden extends Algorithm<LeidenResult> {
         for (iteration = 0; iteration < maxIterations; iteration++) {
             // 1. LOCAL MOVE PHASE - over the singleton localMoveCommunities
             progressTracker.beginSubTask("Local Move");
+            // only the first local move runs on the changed graph, the aggregated graphs are evaluated completely
+            var initialFrontier = iteration == 0
+                ? changedNodes.map(changed -> DeltaScreening.affectedNodes(
+                    rootGraph,
+                    changed,
+                    seedValues.orElse(null),
+                    concurrency,
+                    executorService,
+                    terminationFlag
+                )).orElse(null)
+                : null;
             var localMovePhase = LocalMovePhase.create(
                 workingGraph,
                 localMoveCommunities,
                 localMoveNodeVolumes,
                 localMoveCommunityVolumes,
+                initialFrontier,
                 gamma,
                 concurrency
             );
@@ -40,6 +40,8 @@ public class LeidenAlgorithmFactory<CONFIG extends LeidenBaseConfig> extends Gra
         }
         var seedValues = Optional
             .ofNullable(configuration.seedProperty()).map(graph::nodeProperties).orElse(null);
+        var changedNodes = Optional
+            .ofNullable(configuration.changedNodesProperty()).map(graph::nodeProperties).orElse(null);
 
         return new Leiden(
             graph,
@@ -49,6 +51,7 @@ public class LeidenAlgorithmFactory<CONFIG extends LeidenBaseConfig> extends Gra
             configuration.includeIntermediateCommunities(),
             configuration.randomSeed().orElse(0L),
             seedValues,
+            changedNodes,
             configuration.tolerance(),
             configuration.concurrency(),
             progressTracker
@@ -22,10 +22,10 @@ package org.neo4j.gds.leiden;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.ChangedNodesConfig;
 import org.neo4j.gds.config.ConsecutiveIdsConfig;
 import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
-import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.config.ToleranceConfig;
 
 public interface LeidenBaseConfig extends
@@ -33,7 +33,7 @@ public interface LeidenBaseConfig extends
     ConsecutiveIdsConfig,
     RelationshipWeightConfig,
     RandomSeedConfig,
-    SeedConfig,
+    ChangedNodesConfig,
     ToleranceConfig {
 
     @Value.Default
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.leiden;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
@@ -58,6 +59,8 @@ final class LocalMovePhase {
 
     // Note: the values also count relationships to nodes outside the community.
     private final HugeDoubleArray communityVolumes;
+    // the nodes to visit first, all nodes if `null`
+    private final @Nullable HugeAtomicBitSet initialFrontier;
     private final double gamma;
 
     private final int concurrency;
@@ -72,12 +75,33 @@ final class LocalMovePhase {
         double gamma,
         int concurrency
     ) {
-        
+        return create(
+            graph,
+            seedCommunities,
+            nodeVolumes,
+            communityVolumes,
+            null,
+            gamma,
+            concurrency
+        );
+    }
+
+    static LocalMovePhase create(
+        Graph graph,
+        HugeLongArray seedCommunities,
+        HugeDoubleArray nodeVolumes,
+        HugeDoubleArray communityVolumes,
+        @Nullable HugeAtomicBitSet initialFrontier,
+        double gamma,
+        int concurrency
+    ) {
+
         return new LocalMovePhase(
             graph,
             seedCommunities,
             nodeVolumes,
             communityVolumes,
+            initialFrontier,
             gamma,
             concurrency
         );
@@ -88,6 +112,7 @@ final class LocalMovePhase {
         HugeLongArray seedCommunities,
         HugeDoubleArray nodeVolumes,
         HugeDoubleArray communityVolumes,
+        @Nullable HugeAtomicBitSet initialFrontier,
         double gamma,
         int concurrency
     ) {
@@ -96,6 +121,7 @@ final class LocalMovePhase {
         this.gamma = gamma;
         this.nodeVolumes = nodeVolumes;
         this.communityVolumes = communityVolumes;
+        this.initialFrontier = initialFrontier;
         this.swaps = 0;
         this.concurrency = concurrency;
     }
@@ -111,14 +137,21 @@ final class LocalMovePhase {
         });
         HugeLongArray globalQueue = HugeLongArray.newArray(graph.nodeCount());
         AtomicLong globalQueueIndex = new AtomicLong();
-        AtomicLong globalQueueSize = new AtomicLong(graph.nodeCount());
-
-        HugeAtomicBitSet nodeInQueue = HugeAtomicBitSet.create(graph.nodeCount());
-        nodeInQueue.set(0, graph.nodeCount());
-        graph.forEachNode(v -> {
-            globalQueue.set(v, v);
-            return true;
-        });
+        AtomicLong globalQueueSize = new AtomicLong();
+
+        HugeAtomicBitSet nodeInQueue;
+        if (initialFrontier == null) {
+            nodeInQueue = HugeAtomicBitSet.create(graph.nodeCount());
+            nodeInQueue.set(0, graph.nodeCount());
+            graph.forEachNode(v -> {
+                globalQueue.set(v, v);
+                return true;
+            });
+            globalQueueSize.set(graph.nodeCount());
+        } else {
+            nodeInQueue = initialFrontier;
+            nodeInQueue.forEachSetBit(v -> globalQueue.set(globalQueueSize.getAndIncrement(), v));
+        }
         var tasks = new ArrayList<LocalMoveTask>();
         for (int i = 0; i < concurrency; ++i) {
             tasks.add(new LocalMoveTask(
@@ -19,20 +19,16 @@
  */
 package org.neo4j.gds.louvain;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
-import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.api.IdMap;
-import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
-import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.coarsening.GraphCoarsening;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
-import org.neo4j.gds.core.loading.construction.GraphFactory;
-import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.core.utils.OriginalIdNodePropertyValues;
-import org.neo4j.gds.core.utils.partition.Partition;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.modularityoptimization.DeltaScreening;
 import org.neo4j.gds.modularityoptimization.ImmutableModularityOptimizationStreamConfig;
 import org.neo4j.gds.modularityoptimization.ModularityOptimization;
 import org.neo4j.gds.modularityoptimization.ModularityOptimizationFactory;
@@ -50,6 +46,7 @@ public final class Louvain extends Algorithm<LouvainResult> {
 
     private final Graph rootGraph;
     private final NodePropertyValues seedingValues;
+    private final @Nullable NodePropertyValues changedNodes;
     private final ExecutorService executorService;
     // results
     private final LouvainDendrogramManager dendrogramManager;
@@ -82,6 +79,7 @@ public final class Louvain extends Algorithm<LouvainResult> {
         this.maxIterations = maxIterations;
         this.concurrency = concurrency;
         this.seedingValues = Optional.ofNullable(config.seedProperty()).map(graph::nodeProperties).orElse(null);
+        this.changedNodes = Optional.ofNullable(config.changedNodesProperty()).map(graph::nodeProperties).orElse(null);
         this.executorService = executorService;
         this.dendrogramManager = new LouvainDendrogramManager(
             graph.nodeCount(),
@@ -108,9 +106,22 @@ public final class Louvain extends Algorithm<LouvainResult> {
 
             terminationFlag.assertRunning();
 
+            // only the first level runs on the changed graph, the aggregated levels are small enough to be evaluated completely
+            var activeNodes = ranLevels == 0 && changedNodes != null
+                ? DeltaScreening.affectedNodes(
+                    rootGraph,
+                    changedNodes,
+                    seedingValues,
+                    concurrency,
+                    executorService,
+                    terminationFlag
+                )
+                : null;
+
             var modularityOptimizationResult = runModularityOptimization(
                 workingGraph,
-                nextSeedingValues
+                nextSeedingValues,
+                activeNodes
             );
 
             modularities[ranLevels] = modularityOptimizationResult.modularity();
@@ -194,7 +205,11 @@ public final class Louvain extends Algorithm<LouvainResult> {
         return maxCommunityId.get();
     }
 
-    private ModularityOptimizationResult runModularityOptimization(Graph louvainGraph, NodePropertyValues seed) {
+    private ModularityOptimizationResult runModularityOptimization(
+        Graph louvainGraph,
+        NodePropertyValues seed,
+        @Nullable HugeAtomicBitSet activeNodes
+    ) {
         ModularityOptimizationStreamConfig modularityOptimizationConfig = ImmutableModularityOptimizationStreamConfig
             .builder()
             .maxIterations(maxIterations)
@@ -208,6 +223,7 @@ public final class Louvain extends Algorithm<LouvainResult> {
                 louvainGraph,
                 modularityOptimizationConfig,
                 seed,
+                activeNodes,
                 progressTracker
             );
         modularityOptimization.setTerminationFlag(terminationFlag);
@@ -221,49 +237,19 @@ public final class Louvain extends Algorithm<LouvainResult> {
         ModularityOptimizationResult modularityOptimizationResult,
         long maxCommunityId
     ) {
-        var nodesBuilder = GraphFactory.initNodesBuilder()
-            .maxOriginalId(maxCommunityId)
-            .concurrency(concurrency)
-            .build();
-
-        terminationFlag.assertRunning();
-
-        workingGraph.forEachNode((nodeId) -> {
-            nodesBuilder.addNode(modularityOptimizationResult.communityId(nodeId));
-            return true;
-        });
-
         terminationFlag.assertRunning();
 
-        IdMap idMap = nodesBuilder.build().idMap();
-        RelationshipsBuilder relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
-            .nodes(idMap)
-            .relationshipType(RelationshipType.of("IGNORED"))
-            .orientation(rootGraph.schema().direction().toOrientation())
-            .addPropertyConfig(GraphFactory.PropertyConfig.builder()
-                .propertyKey("property")
-                .aggregation(Aggregation.SUM)
-                .build())
-            .executorService(executorService)
-            .build();
-
-        // using degreePartitioning did not show an improvement -- assuming as tasks are too small
-        var relationshipCreators = PartitionUtils.rangePartition(
+        return new GraphCoarsening(
+            workingGraph,
+            modularityOptimizationResult::communityId,
+            maxCommunityId,
+            rootGraph.schema().direction(),
+            true,
             concurrency,
-            workingGraph.nodeCount(),
-            partition ->
-                new RelationshipCreator(
-                    relationshipsBuilder,
-                    modularityOptimizationResult,
-                    workingGraph.concurrentCopy(),
-                    partition
-                ),
-            Optional.empty()
-        );
-
-        ParallelUtil.run(relationshipCreators, executorService);
-
-        return GraphFactory.create(idMap, relationshipsBuilder.build());
+            executorService,
+            terminationFlag,
+            ProgressTracker.NULL_TRACKER
+        ).coarsen();
     }
 
     private boolean hasConverged() {
@@ -279,45 +265,4 @@ public final class Louvain extends Algorithm<LouvainResult> {
     private int levels() {
         return this.ranLevels == 0 ? 1 : this.ranLevels;
     }
-
-    static final class RelationshipCreator implements Runnable {
-
-        private final RelationshipsBuilder relationshipsBuilder;
-
-        private final ModularityOptimizationResult modularityOptimizationResult;
-
-        private final RelationshipIterator relationshipIterator;
-
-        private final Partition partition;
-
-        private RelationshipCreator(
-            RelationshipsBuilder relationshipsBuilder,
-            ModularityOptimizationResult modularityOptimizationResult,
-            RelationshipIterator relationshipIterator,
-            Partition partition
-        ) {
-            this.relationshipsBuilder = relationshipsBuilder;
-            this.modularityOptimizationResult = modularityOptimizationResult;
-            this.relationshipIterator = relationshipIterator;
-            this.partition = partition;
-        }
-
-        @Override
-        public void run() {
-            partition.consume(nodeId -> {
-                long communityId = modularityOptimizationResult.communityId(nodeId);
-                relationshipIterator.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
-                    //ignore scaling alltogether
-                        relationshipsBuilder.add(
-                            communityId,
-                            modularityOptimizationResult.communityId(target),
-                            property
-                        );
-
-
-                    return true;
-                });
-            });
-        }
-    }
 }
@@ -22,15 +22,15 @@ package org.neo4j.gds.louvain;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.ChangedNodesConfig;
 import org.neo4j.gds.config.ConsecutiveIdsConfig;
 import org.neo4j.gds.config.IterationsConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
-import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.config.ToleranceConfig;
 
 public interface LouvainBaseConfig extends
     AlgoBaseConfig,
-    SeedConfig,
+    ChangedNodesConfig,
     ConsecutiveIdsConfig,
     RelationshipWeightConfig,
     ToleranceConfig,
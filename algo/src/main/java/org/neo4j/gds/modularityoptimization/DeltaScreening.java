@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.modularityoptimization;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongPredicate;
+
+/**
+ * Selects the nodes that have to be re-evaluated when communities are recomputed from a previous result
+ * after a small change to the graph, based on:
+ *
+ * Zarayeneh, Neda, and Ananth Kalyanaraman.
+ * "Delta-Screening: A Fast and Efficient Technique to Update Communities in Dynamic Graphs."
+ * IEEE Transactions on Network Science and Engineering 8.2 (2021): 1614-1629.
+ *
+ * Only the changed nodes are known, not the kind of change, so every changed node and its whole
+ * neighbourhood is screened in. Nodes without a seed community are new and treated as changed.
+ * The local move phases extend this initial frontier to the neighbours of every node that changes its community.
+ */
+public final class DeltaScreening {
+
+    private DeltaScreening() {}
+
+    /**
+     * @param changedNodes marks changed nodes with a non-zero value
+     */
+    public static HugeAtomicBitSet affectedNodes(
+        Graph graph,
+        NodePropertyValues changedNodes,
+        @Nullable NodePropertyValues seedValues,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        var isChanged = isChanged(changedNodes, seedValues);
+        boolean hasInverseIndex = !graph.characteristics().isUndirected() && graph.characteristics().isInverseIndexed();
+        var affectedNodes = HugeAtomicBitSet.create(graph.nodeCount());
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                partition.consume(nodeId -> {
+                    if (!isChanged.test(nodeId)) {
+                        return;
+                    }
+                    affectedNodes.set(nodeId);
+                    localGraph.forEachRelationship(nodeId, (source, target) -> {
+                        affectedNodes.set(target);
+                        return true;
+                    });
+                    if (hasInverseIndex) {
+                        localGraph.forEachInverseRelationship(nodeId, (source, target) -> {
+                            affectedNodes.set(target);
+                            return true;
+                        });
+                    }
+                });
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .tasks(tasks)
+            .concurrency(concurrency)
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        return affectedNodes;
+    }
+
+    private static LongPredicate isChanged(NodePropertyValues changedNodes, @Nullable NodePropertyValues seedValues) {
+        LongPredicate isMarked = changedNodes.valueType() == ValueType.DOUBLE
+            ? nodeId -> {
+                double value = changedNodes.doubleValue(nodeId);
+                return value != 0D && !Double.isNaN(value);
+            }
+            : nodeId -> {
+                long value = changedNodes.longValue(nodeId);
+                return value != 0L && value != DefaultValue.LONG_DEFAULT_FALLBACK;
+            };
+        if (seedValues == null) {
+            return isMarked;
+        }
+        return nodeId -> isMarked.test(nodeId) || seedValues.longValue(nodeId) == DefaultValue.LONG_DEFAULT_FALLBACK;
+    }
+}
@@ -33,6 +33,7 @@ import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 import org.neo4j.gds.core.utils.partition.Partition;
@@ -69,6 +70,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
     private final double tolerance;
     private final Graph graph;
     private final NodePropertyValues seedProperty;
+    private final @Nullable HugeAtomicBitSet activeNodes;
     private final ExecutorService executor;
 
     private final ModularityManager modularityManager;
@@ -95,6 +97,35 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         int minBatchSize,
         ExecutorService executor,
         ProgressTracker progressTracker
+    ) {
+        this(
+            graph,
+            maxIterations,
+            tolerance,
+            seedProperty,
+            null,
+            concurrency,
+            minBatchSize,
+            executor,
+            progressTracker
+        );
+    }
+
+    /**
+     * @param activeNodes the nodes to evaluate in the first iteration, or `null` to evaluate all nodes in every iteration.
+     *                    Afterwards, only the neighbours of nodes that changed their community are evaluated again.
+     *                    See {@link DeltaScreening}.
+     */
+    public ModularityOptimization(
+        final Graph graph,
+        int maxIterations,
+        double tolerance,
+        @Nullable NodePropertyValues seedProperty,
+        @Nullable HugeAtomicBitSet activeNodes,
+        int concurrency,
+        int minBatchSize,
+        ExecutorService executor,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -102,6 +133,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         this.maxIterations = maxIterations;
         this.tolerance = tolerance;
         this.seedProperty = seedProperty;
+        this.activeNodes = activeNodes;
         this.executor = executor;
         this.concurrency = concurrency;
         this.minBatchSize = minBatchSize;
@@ -142,7 +174,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
                 currentStartingPosition = optimizeColor(currentStartingPosition);
             }
 
-            hasConverged = !updateModularity();
+            hasConverged = !updateModularity() || (activeNodes != null && activeNodes.isEmpty());
 
             progressTracker.endSubTask();
 
@@ -377,6 +409,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
                 communityWeightUpdates,
                 modularityManager,
                 modularityColorArray,
+                activeNodes,
                 progressTracker
             ),
             Optional.of((int) minBatchSize)
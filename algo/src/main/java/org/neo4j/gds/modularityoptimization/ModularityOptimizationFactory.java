@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.modularityoptimization;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
@@ -26,6 +27,7 @@ import org.neo4j.gds.config.BaseConfig;
 import org.neo4j.gds.config.IterationsConfig;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
@@ -69,12 +71,23 @@ public class ModularityOptimizationFactory<CONFIG extends ModularityOptimization
         CONFIG configuration,
         NodePropertyValues seedProperty,
         ProgressTracker progressTracker
+    ) {
+        return build(graph, configuration, seedProperty, null, progressTracker);
+    }
+
+    public ModularityOptimization build(
+        Graph graph,
+        CONFIG configuration,
+        NodePropertyValues seedProperty,
+        @Nullable HugeAtomicBitSet activeNodes,
+        ProgressTracker progressTracker
     ) {
         return new ModularityOptimization(
             graph,
             configuration.maxIterations(),
             configuration.tolerance(),
             seedProperty,
+            activeNodes,
             configuration.concurrency(),
             configuration.batchSize(),
             DefaultPool.INSTANCE,
@@ -24,10 +24,12 @@ import com.carrotsearch.hppc.LongDoubleMap;
 import com.carrotsearch.hppc.cursors.LongDoubleCursor;
 import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableLong;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
@@ -45,6 +47,7 @@ final class ModularityOptimizationTask implements Runnable {
     private final HugeAtomicDoubleArray communityWeightUpdates;
 
     private final ModularityColorArray modularityColorArray;
+    private final @Nullable HugeAtomicBitSet activeNodes;
 
     ModularityOptimizationTask(
         Graph graph,
@@ -57,9 +60,11 @@ final class ModularityOptimizationTask implements Runnable {
         HugeAtomicDoubleArray communityWeightUpdates,
         ModularityManager modularityManager,
         ModularityColorArray modularityColorArray,
+        @Nullable HugeAtomicBitSet activeNodes,
         ProgressTracker progressTracker
     ) {
         this.modularityColorArray = modularityColorArray;
+        this.activeNodes = activeNodes;
         this.partition = partition;
         this.currentStartingPosition = currentStartingPosition;
         this.localGraph = graph.concurrentCopy();
@@ -80,6 +85,12 @@ final class ModularityOptimizationTask implements Runnable {
         partition.consume(indexId -> {
             long actualIndexId = currentStartingPosition + indexId;
             long nodeId = modularityColorArray.nodeAtPosition(actualIndexId);
+            if (activeNodes != null) {
+                if (!activeNodes.get(nodeId)) {
+                    return;
+                }
+                activeNodes.clear(nodeId);
+            }
             long currentCommunity = currentCommunities.get(nodeId);
             final int degree = localGraph.degree(nodeId);
 
@@ -134,6 +145,12 @@ final class ModularityOptimizationTask implements Runnable {
 
 
             nextCommunities.set(nodeId, nextCommunity);
+            if (activeNodes != null && nextCommunity != currentCommunity) {
+                localGraph.forEachRelationship(nodeId, (s, t) -> {
+                    activeNodes.set(t);
+                    return true;
+                });
+            }
             communityWeightUpdates.update(currentCommunity, agg -> agg - cumulativeNodeWeight);
             communityWeightUpdates.update(nextCommunity, agg -> agg + cumulativeNodeWeight);
 
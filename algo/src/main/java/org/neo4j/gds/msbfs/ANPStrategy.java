@@ -20,6 +20,7 @@
 package org.neo4j.gds.msbfs;
 
 import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.collections.ha.HugeLongArray;
@@ -41,13 +42,34 @@ import org.neo4j.gds.collections.ha.HugeLongArray;
  * but then always for different sources.
  * </li>
  * </ul>
+ * <p>
+ * If the incoming relationships of a node can be accessed (undirected or inverse indexed graphs),
+ * the strategy is direction-optimizing: once the frontier becomes larger than the set of nodes
+ * that have not been seen by all sources, it switches from pushing the frontier along the outgoing
+ * relationships (top-down) to pulling the visit bits from the incoming relationships of the
+ * unsettled nodes (bottom-up). A bottom-up step stops scanning a node as soon as all sources
+ * have arrived at it, which skips most of the relationships in the dense middle levels.
+ * Both steps compute the same visit sets, so the traversal result does not depend on the direction.
  */
 public class ANPStrategy implements ExecutionStrategy {
 
     private final BfsConsumer perNodeAction;
+    private final boolean bottomUp;
+    private final boolean useInverseIndex;
 
     public ANPStrategy(BfsConsumer perNodeAction) {
+        this(perNodeAction, false, false);
+    }
+
+    /**
+     * @param bottomUp        whether bottom-up steps may be used, requires access to the incoming relationships
+     * @param useInverseIndex whether incoming relationships are read from the inverse index,
+     *                        otherwise the graph must be undirected
+     */
+    ANPStrategy(BfsConsumer perNodeAction, boolean bottomUp, boolean useInverseIndex) {
         this.perNodeAction = perNodeAction;
+        this.bottomUp = bottomUp;
+        this.useInverseIndex = useInverseIndex;
     }
 
     @Override
@@ -64,17 +86,26 @@ public class ANPStrategy implements ExecutionStrategy {
         HugeCursor<long[]> nextCursor = visitNextSet.newCursor();
 
         var depth = 0;
+        long allSources = sourceNodes.allSourcesMask();
+        // the sources themselves are not counted, which only delays the first bottom-up step
+        long settledNodes = 0L;
+        long frontierSize = Long.bitCount(allSources);
+        var incomingVisits = bottomUp ? new IncomingVisits(visitSet, allSources) : null;
 
         while (true) {
-            visitSet.initCursor(visitCursor);
-            while (visitCursor.next()) {
-                long[] array = visitCursor.array;
-                int offset = visitCursor.offset;
-                int limit = visitCursor.limit;
-                long base = visitCursor.base;
-                for (int i = offset; i < limit; ++i) {
-                    if (array[i] != 0L) {
-                        prepareNextVisit(relationships, array[i], base + i, visitNextSet, depth);
+            if (bottomUp && frontierSize > totalNodeCount - settledNodes) {
+                pullNextVisit(relationships, totalNodeCount, incomingVisits, visitNextSet, seenSet);
+            } else {
+                visitSet.initCursor(visitCursor);
+                while (visitCursor.next()) {
+                    long[] array = visitCursor.array;
+                    int offset = visitCursor.offset;
+                    int limit = visitCursor.limit;
+                    long base = visitCursor.base;
+                    for (int i = offset; i < limit; ++i) {
+                        if (array[i] != 0L) {
+                            prepareNextVisit(relationships, array[i], base + i, visitNextSet, depth);
+                        }
                     }
                 }
             }
@@ -83,6 +114,7 @@ public class ANPStrategy implements ExecutionStrategy {
 
             boolean hasNext = false;
             long next;
+            frontierSize = 0L;
 
             visitNextSet.initCursor(nextCursor);
             while (nextCursor.next()) {
@@ -94,6 +126,10 @@ public class ANPStrategy implements ExecutionStrategy {
                     if (array[i] != 0L) {
                         next = visitNext(base + i, seenSet, visitNextSet);
                         if (next != 0L) {
+                            frontierSize++;
+                            if (seenSet.get(base + i) == allSources) {
+                                settledNodes++;
+                            }
                             sourceNodes.reset(next);
                             perNodeAction.accept(base + i, depth, sourceNodes);
                             hasNext = true;
@@ -131,10 +167,60 @@ public class ANPStrategy implements ExecutionStrategy {
         );
     }
 
+    // Computes the same next visit set as the top-down step, but from the
+    // perspective of the receiving node: the visit bits of all incoming
+    // neighbours are combined until every source has been seen at the node.
+    private void pullNextVisit(
+        RelationshipIterator relationships,
+        long totalNodeCount,
+        IncomingVisits incomingVisits,
+        HugeLongArray nextSet,
+        HugeLongArray seenSet
+    ) {
+        for (long nodeId = 0; nodeId < totalNodeCount; nodeId++) {
+            long seen = seenSet.get(nodeId);
+            if (seen == incomingVisits.allSources) {
+                continue;
+            }
+            incomingVisits.reset(seen);
+            if (useInverseIndex) {
+                relationships.forEachInverseRelationship(nodeId, incomingVisits);
+            } else {
+                relationships.forEachRelationship(nodeId, incomingVisits);
+            }
+            if (incomingVisits.visits != 0L) {
+                nextSet.set(nodeId, incomingVisits.visits);
+            }
+        }
+    }
+
     private long visitNext(long nodeId, HugeLongArray seenSet, HugeLongArray nextSet) {
         long seen = seenSet.get(nodeId);
         long next = nextSet.and(nodeId, ~seen);
         seenSet.or(nodeId, next);
         return next;
     }
+
+    private static final class IncomingVisits implements RelationshipConsumer {
+        private final HugeLongArray visitSet;
+        private final long allSources;
+        private long seen;
+        private long visits;
+
+        private IncomingVisits(HugeLongArray visitSet, long allSources) {
+            this.visitSet = visitSet;
+            this.allSources = allSources;
+        }
+
+        void reset(long seen) {
+            this.seen = seen;
+            this.visits = 0L;
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            visits |= visitSet.get(targetNodeId);
+            return (visits | seen) != allSources;
+        }
+    }
 }
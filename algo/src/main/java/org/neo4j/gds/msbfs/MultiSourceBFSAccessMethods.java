@@ -60,6 +60,9 @@ import java.util.concurrent.TimeUnit;
  * If the MS-BFS runs in parallel, the callback may be executed from multiple threads
  * at the same time. The implementation should therefore be thread-safe.
  * <p>
+ * The aggregated neighbor processing traversals are direction-optimizing if the given
+ * relationships are an undirected or inverse indexed {@link Graph}, see {@link ANPStrategy}.
+ * <p>
  * [1]: <a href="http://www.vldb.org/pvldb/vol8/p449-then.pdf">The More the Merrier: Efficient Multi-Source Graph Traversal</a>
  */
 public final class MultiSourceBFSAccessMethods {
@@ -87,7 +90,7 @@ public final class MultiSourceBFSAccessMethods {
         return createWithoutSeensNextOrSourceNodesOrStartNodeTraversal(
             nodeCount,
             relationships,
-            new ANPStrategy(perNodeAction)
+            anpStrategy(relationships, perNodeAction)
         );
     }
 
@@ -100,11 +103,25 @@ public final class MultiSourceBFSAccessMethods {
         return createWithoutSeensNextOrStartNodeTraversal(
             nodeCount,
             relationships,
-            new ANPStrategy(perNodeAction),
+            anpStrategy(relationships, perNodeAction),
             sourceNodes
         );
     }
 
+    private static ANPStrategy anpStrategy(RelationshipIterator relationships, BfsConsumer perNodeAction) {
+        // bottom-up steps need the incoming relationships of a node
+        if (relationships instanceof Graph) {
+            var characteristics = ((Graph) relationships).characteristics();
+            if (characteristics.isUndirected()) {
+                return new ANPStrategy(perNodeAction, true, false);
+            }
+            if (characteristics.isInverseIndexed()) {
+                return new ANPStrategy(perNodeAction, true, true);
+            }
+        }
+        return new ANPStrategy(perNodeAction);
+    }
+
     // only used from tests
     public static MultiSourceBFSAccessMethods predecessorProcessingWithoutSourceNodes(
         Graph graph,
@@ -41,6 +41,10 @@ final class SourceNodes implements BfsSources {
         this.startPos = -1;
     }
 
+    long allSourcesMask() {
+        return maxPos == MSBFSConstants.OMEGA ? -1L : (1L << maxPos) - 1L;
+    }
+
     void reset() {
         this.pos = startPos;
         fetchNext();
@@ -27,6 +27,7 @@ import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Pregel;
 import org.neo4j.gds.beta.pregel.PregelComputation;
 import org.neo4j.gds.beta.pregel.PregelSchema;
+import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.termination.TerminationFlag;
@@ -41,6 +42,7 @@ import java.util.function.LongToDoubleFunction;
 
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.ARTICLE_RANK;
 import static org.neo4j.gds.pagerank.PageRankAlgorithmFactory.Mode.EIGENVECTOR;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends GraphAlgorithmFactory<PageRankAlgorithm, CONFIG> {
 
@@ -95,6 +97,14 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
     ) {
         PregelComputation<PageRankConfig> computation;
 
+        if (mode != Mode.PAGE_RANK && configuration.isIncremental()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `%s` parameter is only supported by PageRank, not by %s.",
+                SeedConfig.SEED_PROPERTY_KEY,
+                mode.taskName()
+            ));
+        }
+
         var degreeFunction = degreeFunction(
             graph,
             configuration
@@ -27,6 +27,7 @@ import org.neo4j.gds.beta.pregel.PregelSchema;
 import org.neo4j.gds.beta.pregel.Reducer;
 import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
+import org.neo4j.gds.beta.pregel.context.NodeCentricContext;
 
 import java.util.Optional;
 import java.util.function.LongToDoubleFunction;
@@ -42,6 +43,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
     private final double dampingFactor;
     private final double tolerance;
     private final double alpha;
+    private final String seedProperty;
 
     PageRankComputation(
         PageRankConfig config,
@@ -54,6 +56,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
         this.sourceNodes = sourceNodes;
         this.hasSourceNodes = !sourceNodes.isEmpty();
         this.degreeFunction = degreeFunction;
+        this.seedProperty = config.seedProperty();
     }
 
     @Override
@@ -63,10 +66,15 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
 
     @Override
     public void init(InitContext<PageRankConfig> context) {
-        context.setNodeValue(PAGE_RANK, initialValue(context));
+        if (seedProperty != null) {
+            var seed = context.nodeProperties(seedProperty).doubleValue(context.nodeId());
+            context.setNodeValue(PAGE_RANK, Double.isNaN(seed) ? initialValue(context) : seed);
+        } else {
+            context.setNodeValue(PAGE_RANK, initialValue(context));
+        }
     }
 
-    private double initialValue(InitContext<PageRankConfig> context) {
+    private double initialValue(NodeCentricContext<PageRankConfig> context) {
         if (!hasSourceNodes || sourceNodes.contains(context.nodeId())) {
             return alpha;
         }
@@ -75,6 +83,11 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
 
     @Override
     public void compute(ComputeContext<PageRankConfig> context, Messages messages) {
+        if (seedProperty != null) {
+            computeWarmStarted(context, messages);
+            return;
+        }
+
         double rank = context.doubleNodeValue(PAGE_RANK);
         double delta = rank;
 
@@ -97,6 +110,42 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
         }
     }
 
+    /**
+     * Continues from the seeded ranks instead of the initial {@code alpha}.
+     * <p>
+     * In the initial superstep every node sends its seeded rank to its neighbors.
+     * In the second superstep every node computes the residual between the seeded rank
+     * and the rank implied by its neighbors' seeded ranks. From there on, only residuals
+     * are propagated, which are non-zero only around nodes whose neighborhood changed
+     * since the seed was computed. Residuals can be negative, e.g. for removed relationships.
+     */
+    private void computeWarmStarted(ComputeContext<PageRankConfig> context, Messages messages) {
+        double rank = context.doubleNodeValue(PAGE_RANK);
+        double delta;
+
+        if (context.isInitialSuperstep()) {
+            delta = rank;
+        } else {
+            double sum = 0;
+            for (var message : messages) {
+                sum += message;
+            }
+            delta = context.superstep() == 1
+                ? initialValue(context) + dampingFactor * sum - rank
+                : dampingFactor * sum;
+            context.setNodeValue(PAGE_RANK, rank + delta);
+        }
+
+        if (Math.abs(delta) > tolerance || context.isInitialSuperstep()) {
+            var degree = degreeFunction.applyAsDouble(context.nodeId());
+            if (degree > 0) {
+                context.sendToNeighbors(delta / degree);
+            }
+        } else {
+            context.voteToHalt();
+        }
+    }
+
     @Override
     public Optional<Reducer> reducer() {
         return Optional.of(new Reducer.Sum());
@@ -0,0 +1,464 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import com.carrotsearch.hppc.DoubleArrayDeque;
+import com.carrotsearch.hppc.LongArrayDeque;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.SparseMinHeap;
+
+/**
+ * A contraction hierarchy over a weighted graph, answering point-to-point
+ * shortest path queries with two small upward searches.
+ * <p>
+ * Every node has a rank, the position in which it was contracted by the
+ * {@link ContractionHierarchyBuilder}. The hierarchy stores the relationships
+ * and shortcuts of each node that lead to nodes of higher rank, once in
+ * relationship direction (upward out) and once against it (upward in).
+ * A shortest path always goes up and then down in rank, so a query runs
+ * Dijkstra upwards from the source and upwards against relationship
+ * direction from the target, and combines both searches at the best
+ * meeting node.
+ * <p>
+ * Each stored relationship remembers what it stands for, either an original
+ * relationship or a shortcut over a lower ranked node, which is used to
+ * unpack the shortcuts of a path into original relationships.
+ * <p>
+ * The hierarchy is immutable and can be queried concurrently.
+ * All node ids are mapped node ids.
+ */
+public final class ContractionHierarchy {
+
+    // Queries that touched more nodes than this release their
+    // buffers instead of keeping them around for the next query.
+    private static final int RETAINED_CAPACITY = 1 << 16;
+
+    private static final long NO_NODE = -1;
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private static final ThreadLocal<SearchState[]> STATE_POOL = ThreadLocal.withInitial(
+        () -> new SearchState[]{new SearchState(), new SearchState()}
+    );
+
+    private final long nodeCount;
+    private final HugeLongArray ranks;
+    private final UpwardRelationships upwardOut;
+    private final UpwardRelationships upwardIn;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ContractionHierarchy.class)
+            .perNode("ranks", HugeLongArray::memoryEstimation)
+            .perNode("offsets", nodeCount -> 2 * HugeLongArray.memoryEstimation(nodeCount + 1))
+            .rangePerGraphDimension("upward relationships", (dimensions, concurrency) -> {
+                // Each relationship is stored at the endpoint with the lower rank.
+                // Road networks typically need at most as many shortcuts as relationships.
+                long relationshipCount = dimensions.relCountUpperBound();
+                return MemoryRange
+                    .of(relationshipCount, 2 * relationshipCount)
+                    .apply(count -> 2 * HugeLongArray.memoryEstimation(count) + HugeDoubleArray.memoryEstimation(count));
+            })
+            .build();
+    }
+
+    ContractionHierarchy(
+        long nodeCount,
+        HugeLongArray ranks,
+        UpwardRelationships upwardOut,
+        UpwardRelationships upwardIn
+    ) {
+        this.nodeCount = nodeCount;
+        this.ranks = ranks;
+        this.upwardOut = upwardOut;
+        this.upwardIn = upwardIn;
+    }
+
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * The number of relationships in the hierarchy, including shortcuts.
+     */
+    public long relationshipCount() {
+        return upwardOut.relationshipCount() + upwardIn.relationshipCount();
+    }
+
+    public long shortcutCount() {
+        return upwardOut.shortcutCount() + upwardIn.shortcutCount();
+    }
+
+    long rank(long node) {
+        return ranks.get(node);
+    }
+
+    /**
+     * Returns the cost of the shortest path between the two nodes,
+     * or {@link Double#POSITIVE_INFINITY} if the target is not reachable.
+     */
+    public double distance(long sourceNode, long targetNode) {
+        var states = STATE_POOL.get();
+        var forward = states[0];
+        var backward = states[1];
+        try {
+            var bestCost = new MutableDouble();
+            search(sourceNode, targetNode, forward, backward, bestCost);
+            return bestCost.doubleValue();
+        } finally {
+            forward.reset();
+            backward.reset();
+        }
+    }
+
+    /**
+     * Returns the shortest path between the two nodes with shortcuts unpacked
+     * into original relationships, or {@link PathResult#EMPTY} if the target is not reachable.
+     * Relationship ids are the positions of the relationships in the adjacency list of their source node.
+     */
+    public PathResult shortestPath(long sourceNode, long targetNode, boolean trackRelationships) {
+        var states = STATE_POOL.get();
+        var forward = states[0];
+        var backward = states[1];
+        try {
+            long meetingNode = search(sourceNode, targetNode, forward, backward, new MutableDouble());
+            if (meetingNode == NO_NODE) {
+                return PathResult.EMPTY;
+            }
+            return pathResult(sourceNode, targetNode, meetingNode, forward, backward, trackRelationships);
+        } finally {
+            forward.reset();
+            backward.reset();
+        }
+    }
+
+    private long search(
+        long sourceNode,
+        long targetNode,
+        SearchState forward,
+        SearchState backward,
+        MutableDouble bestCost
+    ) {
+        forward.init(sourceNode);
+        backward.init(targetNode);
+
+        bestCost.setValue(Double.POSITIVE_INFINITY);
+        long meetingNode = NO_NODE;
+
+        boolean forwardDone = false;
+        boolean backwardDone = false;
+        boolean expandForward = true;
+        while (!forwardDone || !backwardDone) {
+            if (expandForward ? forwardDone : backwardDone) {
+                expandForward = !expandForward;
+                continue;
+            }
+
+            var current = expandForward ? forward : backward;
+            var other = expandForward ? backward : forward;
+            var relationships = expandForward ? upwardOut : upwardIn;
+
+            current.skipSettled();
+            // The searches go upwards only, so each one can stop as soon as
+            // its closest unsettled node is not closer than the best path.
+            if (current.heap.isEmpty() || current.heap.minCost() >= bestCost.doubleValue()) {
+                if (expandForward) {
+                    forwardDone = true;
+                } else {
+                    backwardDone = true;
+                }
+                expandForward = !expandForward;
+                continue;
+            }
+
+            var node = current.heap.pop();
+            var cost = current.distances.get(node);
+            current.settled.add(node);
+
+            var otherIndex = other.distances.indexOf(node);
+            if (other.distances.indexExists(otherIndex)) {
+                var pathCost = cost + other.distances.indexGet(otherIndex);
+                if (pathCost < bestCost.doubleValue()) {
+                    bestCost.setValue(pathCost);
+                    meetingNode = node;
+                }
+            }
+
+            // A node that is reached more cheaply from a higher ranked node is not on
+            // a shortest path, so it does not need to be expanded (stall-on-demand).
+            if (!isStalled(node, cost, current, expandForward ? upwardIn : upwardOut)) {
+                var end = relationships.offsets.get(node + 1);
+                for (long position = relationships.offsets.get(node); position < end; position++) {
+                    current.relax(
+                        node,
+                        relationships.targets.get(position),
+                        position,
+                        cost + relationships.weights.get(position)
+                    );
+                }
+            }
+
+            expandForward = !expandForward;
+        }
+
+        return meetingNode;
+    }
+
+    /**
+     * Checks whether a relationship from a higher ranked node, against the direction of the search,
+     * leads to the given node with a lower cost than the one it was settled with.
+     */
+    private static boolean isStalled(long node, double cost, SearchState state, UpwardRelationships opposite) {
+        var end = opposite.offsets.get(node + 1);
+        for (long position = opposite.offsets.get(node); position < end; position++) {
+            var index = state.distances.indexOf(opposite.targets.get(position));
+            if (state.distances.indexExists(index) && state.distances.indexGet(index) + opposite.weights.get(position) < cost) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PathResult pathResult(
+        long sourceNode,
+        long targetNode,
+        long meetingNode,
+        SearchState forward,
+        SearchState backward,
+        boolean trackRelationships
+    ) {
+        var unpacker = new PathUnpacker(sourceNode, trackRelationships);
+
+        // Collect the upward relationships from the meeting node back to the source node ...
+        var forwardPositions = new LongArrayDeque();
+        var node = meetingNode;
+        while (node != sourceNode) {
+            forwardPositions.addFirst(forward.positions.get(node));
+            node = forward.predecessors.get(node);
+        }
+
+        // ... and unpack them in path order.
+        node = sourceNode;
+        for (var cursor : forwardPositions) {
+            long position = cursor.value;
+            long next = upwardOut.targets.get(position);
+            unpacker.unpack(node, next, upwardOut.weights.get(position), upwardOut.via.get(position));
+            node = next;
+        }
+
+        // The backward tree already points from the meeting node towards the target node.
+        node = meetingNode;
+        while (node != targetNode) {
+            long position = backward.positions.get(node);
+            long next = backward.predecessors.get(node);
+            unpacker.unpack(node, next, upwardIn.weights.get(position), upwardIn.via.get(position));
+            node = next;
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0L)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(unpacker.nodeIds.toArray())
+            .relationshipIds(trackRelationships ? unpacker.relationshipIds.toArray() : EMPTY_ARRAY)
+            .costs(unpacker.costs.toArray())
+            .build();
+    }
+
+    /**
+     * Replaces shortcuts by the two relationships they were created from,
+     * until only original relationships remain.
+     */
+    private final class PathUnpacker {
+        private final boolean trackRelationships;
+        private final LongArrayDeque nodeIds = new LongArrayDeque();
+        private final LongArrayDeque relationshipIds = new LongArrayDeque();
+        private final DoubleArrayDeque costs = new DoubleArrayDeque();
+        // Pending relationships as (source, target, via) and weight, the next one on top.
+        private final LongArrayDeque pending = new LongArrayDeque();
+        private final DoubleArrayDeque pendingWeights = new DoubleArrayDeque();
+        private double cost = 0.0;
+
+        PathUnpacker(long sourceNode, boolean trackRelationships) {
+            this.trackRelationships = trackRelationships;
+            nodeIds.addLast(sourceNode);
+            costs.addLast(0.0);
+        }
+
+        void unpack(long source, long target, double weight, long via) {
+            push(source, target, weight, via);
+            while (!pending.isEmpty()) {
+                long currentVia = pending.removeLast();
+                long currentTarget = pending.removeLast();
+                long currentSource = pending.removeLast();
+                double currentWeight = pendingWeights.removeLast();
+
+                if (UpwardRelationships.isOriginal(currentVia)) {
+                    cost += currentWeight;
+                    nodeIds.addLast(currentTarget);
+                    costs.addLast(cost);
+                    if (trackRelationships) {
+                        relationshipIds.addLast(UpwardRelationships.relationshipIndex(currentVia));
+                    }
+                    continue;
+                }
+
+                // The middle node has a lower rank than both endpoints, so both halves
+                // of the shortcut are stored at the middle node.
+                long middle = currentVia;
+                long second = upwardOut.find(middle, currentTarget);
+                long first = upwardIn.find(middle, currentSource);
+                push(middle, currentTarget, upwardOut.weights.get(second), upwardOut.via.get(second));
+                push(currentSource, middle, upwardIn.weights.get(first), upwardIn.via.get(first));
+            }
+        }
+
+        private void push(long source, long target, double weight, long via) {
+            pending.addLast(source);
+            pending.addLast(target);
+            pending.addLast(via);
+            pendingWeights.addLast(weight);
+        }
+    }
+
+    /**
+     * The relationships from each node to nodes of higher rank in compressed sparse row format.
+     * <p>
+     * For original relationships, {@code via} holds {@code -(index + 1)}, where index is the
+     * position of the relationship in the adjacency list of its source node in the graph.
+     * For shortcuts, it holds the node that was contracted when the shortcut was added.
+     */
+    static final class UpwardRelationships {
+        final HugeLongArray offsets;
+        final HugeLongArray targets;
+        final HugeDoubleArray weights;
+        final HugeLongArray via;
+
+        UpwardRelationships(HugeLongArray offsets, HugeLongArray targets, HugeDoubleArray weights, HugeLongArray via) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+            this.via = via;
+        }
+
+        static long original(long relationshipIndex) {
+            return -relationshipIndex - 1;
+        }
+
+        static boolean isOriginal(long via) {
+            return via < 0;
+        }
+
+        static long relationshipIndex(long via) {
+            return -via - 1;
+        }
+
+        long relationshipCount() {
+            return targets.size();
+        }
+
+        long shortcutCount() {
+            long count = 0;
+            for (long position = 0; position < via.size(); position++) {
+                if (!isOriginal(via.get(position))) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        // There is at most one relationship per pair of nodes.
+        long find(long node, long target) {
+            var end = offsets.get(node + 1);
+            for (long position = offsets.get(node); position < end; position++) {
+                if (targets.get(position) == target) {
+                    return position;
+                }
+            }
+            throw new IllegalStateException("Missing relationship in contraction hierarchy.");
+        }
+    }
+
+    /**
+     * The state of one search direction, sized by the number of touched nodes.
+     */
+    private static final class SearchState {
+        final LongDoubleHashMap distances = new LongDoubleHashMap();
+        final LongLongHashMap predecessors = new LongLongHashMap();
+        // Position of the upward relationship to the predecessor
+        final LongLongHashMap positions = new LongLongHashMap();
+        final LongHashSet settled = new LongHashSet();
+        final SparseMinHeap heap = new SparseMinHeap();
+
+        void init(long startNode) {
+            distances.put(startNode, 0.0);
+            heap.add(startNode, 0.0);
+        }
+
+        void relax(long source, long target, long position, double newCost) {
+            if (settled.contains(target)) {
+                return;
+            }
+            var index = distances.indexOf(target);
+            if (distances.indexExists(index)) {
+                if (distances.indexGet(index) <= newCost) {
+                    return;
+                }
+                distances.indexReplace(index, newCost);
+            } else {
+                distances.indexInsert(index, target, newCost);
+            }
+            predecessors.put(target, source);
+            positions.put(target, position);
+            // Outdated heap entries are skipped when they reach the top.
+            heap.add(target, newCost);
+        }
+
+        void skipSettled() {
+            while (!heap.isEmpty() && settled.contains(heap.peek())) {
+                heap.pop();
+            }
+        }
+
+        void reset() {
+            if (distances.size() > RETAINED_CAPACITY) {
+                distances.release();
+                predecessors.release();
+                positions.release();
+                settled.release();
+                heap.release();
+            } else {
+                distances.clear();
+                predecessors.clear();
+                positions.clear();
+                settled.clear();
+                heap.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongHashSet;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.paths.dijkstra.SparseMinHeap;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+
+/**
+ * Builds a {@link ContractionHierarchy} by contracting the nodes of the graph one by one.
+ * <p>
+ * Contracting a node removes it from the remaining graph. For every pair of remaining
+ * neighbours {@code u -> v -> w}, a shortcut {@code u -> w} is added unless a local
+ * witness search finds a path from {@code u} to {@code w} that avoids {@code v} and
+ * is not more expensive. Witness searches are bounded, so some unnecessary shortcuts
+ * may be added, which never affects the correctness of queries.
+ * <p>
+ * Nodes are contracted in the order of their edge difference, the number of shortcuts
+ * their contraction adds minus the number of relationships it removes, plus the number
+ * of already contracted neighbours to spread contractions over the graph.
+ * Priorities are updated lazily when a node reaches the top of the queue.
+ * <p>
+ * Parallel relationships are reduced to the cheapest one, self-loops are ignored.
+ * <p>
+ * The {@link ContractionHierarchyProvider} decides whether the graph is contracted
+ * or a previously built hierarchy is reused.
+ */
+public final class ContractionHierarchyBuilder extends Algorithm<ContractionHierarchy> {
+
+    // Witness searches give up after settling this many nodes and the shortcut is added.
+    static final int WITNESS_SEARCH_LIMIT = 128;
+
+    private static final long NOT_CONTRACTED = -1;
+
+    private final Graph graph;
+    private final ContractionHierarchyBaseConfig config;
+    private final ContractionHierarchyProvider provider;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ContractionHierarchyBuilder.class)
+            .perNode("ranks", HugeLongArray::memoryEstimation)
+            .perNode("contracted neighbours", HugeIntArray::memoryEstimation)
+            .add("priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .perNode(
+                "neighbour lists",
+                nodeCount -> 2 * HugeObjectArray.memoryEstimation(nodeCount, Neighbours.MEMORY_USAGE)
+            )
+            .rangePerGraphDimension("neighbours", (dimensions, concurrency) -> {
+                // Every relationship is kept in both directions until one of its endpoints is contracted.
+                long relationshipCount = dimensions.relCountUpperBound();
+                return MemoryRange
+                    .of(relationshipCount, 2 * relationshipCount)
+                    .apply(count -> 2 * count * Neighbours.MEMORY_USAGE_PER_NEIGHBOUR);
+            })
+            .add("hierarchy", ContractionHierarchy.memoryEstimation())
+            .build();
+    }
+
+    public ContractionHierarchyBuilder(
+        Graph graph,
+        ContractionHierarchyBaseConfig config,
+        ContractionHierarchyProvider provider,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.config = config;
+        this.provider = provider;
+    }
+
+    @Override
+    public ContractionHierarchy compute() {
+        progressTracker.beginSubTask();
+        // A previously built hierarchy is returned without logging any progress.
+        var hierarchy = provider.contractionHierarchy(
+            graph,
+            config,
+            () -> new Contraction(graph, progressTracker, terminationFlag).run()
+        );
+        progressTracker.endSubTask();
+        return hierarchy;
+    }
+
+    /**
+     * The remaining graph and the node order while contracting.
+     */
+    private static final class Contraction {
+        private final Graph graph;
+        private final ProgressTracker progressTracker;
+        private final TerminationFlag terminationFlag;
+        private final long nodeCount;
+        private final HugeObjectArray<Neighbours> outgoing;
+        private final HugeObjectArray<Neighbours> incoming;
+        private final HugeLongArray ranks;
+        private final HugeIntArray contractedNeighbours;
+
+        private final LongDoubleHashMap witnessDistances = new LongDoubleHashMap();
+        private final LongHashSet witnessSettled = new LongHashSet();
+        private final SparseMinHeap witnessHeap = new SparseMinHeap();
+
+        Contraction(Graph graph, ProgressTracker progressTracker, TerminationFlag terminationFlag) {
+            this.graph = graph;
+            this.progressTracker = progressTracker;
+            this.terminationFlag = terminationFlag;
+            this.nodeCount = graph.nodeCount();
+            this.outgoing = HugeObjectArray.newArray(Neighbours.class, nodeCount);
+            this.incoming = HugeObjectArray.newArray(Neighbours.class, nodeCount);
+            this.ranks = HugeLongArray.newArray(nodeCount);
+            this.contractedNeighbours = HugeIntArray.newArray(nodeCount);
+        }
+
+        ContractionHierarchy run() {
+            loadRelationships();
+
+            var queue = HugeLongPriorityQueue.min(nodeCount);
+            for (long node = 0; node < nodeCount; node++) {
+                terminationFlag.assertRunning();
+                queue.add(node, priority(node));
+            }
+
+            long rank = 0;
+            while (!queue.isEmpty()) {
+                terminationFlag.assertRunning();
+                var node = queue.pop();
+                // The neighbourhood may have changed since the node was queued.
+                var priority = priority(node);
+                if (!queue.isEmpty() && priority > queue.cost(queue.top())) {
+                    queue.add(node, priority);
+                    continue;
+                }
+                contract(node);
+                ranks.set(node, rank++);
+                progressTracker.logProgress();
+            }
+
+            return new ContractionHierarchy(
+                nodeCount,
+                ranks,
+                upwardRelationships(outgoing),
+                upwardRelationships(incoming)
+            );
+        }
+
+        private void loadRelationships() {
+            for (long node = 0; node < nodeCount; node++) {
+                outgoing.set(node, new Neighbours());
+                incoming.set(node, new Neighbours());
+            }
+            ranks.fill(NOT_CONTRACTED);
+
+            var relationshipIndex = new MutableLong();
+            for (long node = 0; node < nodeCount; node++) {
+                terminationFlag.assertRunning();
+                relationshipIndex.setValue(0);
+                graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+                    if (source != target) {
+                        var via = ContractionHierarchy.UpwardRelationships.original(relationshipIndex.longValue());
+                        outgoing.get(source).upsert(target, weight, via);
+                        incoming.get(target).upsert(source, weight, via);
+                    }
+                    relationshipIndex.increment();
+                    return true;
+                });
+            }
+        }
+
+        private double priority(long node) {
+            var shortcuts = shortcuts(node, false);
+            var removed = outgoing.get(node).size + incoming.get(node).size;
+            return shortcuts - removed + contractedNeighbours.get(node);
+        }
+
+        private void contract(long node) {
+            shortcuts(node, true);
+
+            var out = outgoing.get(node);
+            for (int i = 0; i < out.size; i++) {
+                contractedNeighbours.addTo(out.nodes[i], 1);
+            }
+            var in = incoming.get(node);
+            for (int i = 0; i < in.size; i++) {
+                contractedNeighbours.addTo(in.nodes[i], 1);
+            }
+
+            // The remaining neighbours are contracted later, so these are the upward relationships of the node.
+            out.trim();
+            in.trim();
+        }
+
+        /**
+         * Counts the shortcuts needed to contract the given node, and adds them if requested.
+         */
+        private int shortcuts(long node, boolean add) {
+            var in = incoming.get(node);
+            var out = outgoing.get(node);
+            in.removeContracted(ranks);
+            out.removeContracted(ranks);
+
+            int shortcuts = 0;
+            for (int i = 0; i < in.size; i++) {
+                var source = in.nodes[i];
+                var inWeight = in.weights[i];
+
+                double maxCost = Double.NEGATIVE_INFINITY;
+                for (int j = 0; j < out.size; j++) {
+                    if (out.nodes[j] != source) {
+                        maxCost = Math.max(maxCost, inWeight + out.weights[j]);
+                    }
+                }
+                if (maxCost == Double.NEGATIVE_INFINITY) {
+                    continue;
+                }
+
+                witnessSearch(source, node, maxCost);
+
+                for (int j = 0; j < out.size; j++) {
+                    var target = out.nodes[j];
+                    if (target == source) {
+                        continue;
+                    }
+                    var cost = inWeight + out.weights[j];
+                    if (witnessDistances.getOrDefault(target, Double.POSITIVE_INFINITY) <= cost) {
+                        continue;
+                    }
+                    shortcuts++;
+                    if (add) {
+                        outgoing.get(source).upsert(target, cost, node);
+                        incoming.get(target).upsert(source, cost, node);
+                    }
+                }
+            }
+            return shortcuts;
+        }
+
+        /**
+         * Runs Dijkstra from the start node in the remaining graph without the contracted node,
+         * up to the given cost and the {@link ContractionHierarchyBuilder#WITNESS_SEARCH_LIMIT}.
+         */
+        private void witnessSearch(long startNode, long skippedNode, double maxCost) {
+            witnessDistances.clear();
+            witnessSettled.clear();
+            witnessHeap.clear();
+
+            witnessDistances.put(startNode, 0.0);
+            witnessHeap.add(startNode, 0.0);
+
+            while (!witnessHeap.isEmpty() && witnessSettled.size() < WITNESS_SEARCH_LIMIT) {
+                var node = witnessHeap.pop();
+                if (!witnessSettled.add(node)) {
+                    continue;
+                }
+                var cost = witnessDistances.get(node);
+                if (cost > maxCost) {
+                    break;
+                }
+
+                var neighbours = outgoing.get(node);
+                for (int i = 0; i < neighbours.size; i++) {
+                    var target = neighbours.nodes[i];
+                    if (target == skippedNode || ranks.get(target) != NOT_CONTRACTED || witnessSettled.contains(target)) {
+                        continue;
+                    }
+                    var newCost = cost + neighbours.weights[i];
+                    var index = witnessDistances.indexOf(target);
+                    if (witnessDistances.indexExists(index)) {
+                        if (witnessDistances.indexGet(index) <= newCost) {
+                            continue;
+                        }
+                        witnessDistances.indexReplace(index, newCost);
+                    } else {
+                        witnessDistances.indexInsert(index, target, newCost);
+                    }
+                    witnessHeap.add(target, newCost);
+                }
+            }
+        }
+
+        private ContractionHierarchy.UpwardRelationships upwardRelationships(HugeObjectArray<Neighbours> neighbours) {
+            var offsets = HugeLongArray.newArray(nodeCount + 1);
+            long relationshipCount = 0;
+            for (long node = 0; node < nodeCount; node++) {
+                offsets.set(node, relationshipCount);
+                relationshipCount += neighbours.get(node).size;
+            }
+            offsets.set(nodeCount, relationshipCount);
+
+            var targets = HugeLongArray.newArray(relationshipCount);
+            var weights = HugeDoubleArray.newArray(relationshipCount);
+            var via = HugeLongArray.newArray(relationshipCount);
+            for (long node = 0; node < nodeCount; node++) {
+                var nodeNeighbours = neighbours.get(node);
+                var offset = offsets.get(node);
+                for (int i = 0; i < nodeNeighbours.size; i++) {
+                    targets.set(offset + i, nodeNeighbours.nodes[i]);
+                    weights.set(offset + i, nodeNeighbours.weights[i]);
+                    via.set(offset + i, nodeNeighbours.via[i]);
+                }
+                // Release the neighbours as we go, to keep the peak memory down.
+                neighbours.set(node, null);
+            }
+
+            return new ContractionHierarchy.UpwardRelationships(offsets, targets, weights, via);
+        }
+    }
+
+    /**
+     * The neighbours of a node in the remaining graph, with at most one relationship per neighbour.
+     */
+    static final class Neighbours {
+        private static final int INITIAL_CAPACITY = 4;
+        static final long MEMORY_USAGE = MemoryUsage.sizeOfInstance(Neighbours.class)
+                                         + 2 * MemoryUsage.sizeOfLongArray(0)
+                                         + MemoryUsage.sizeOfDoubleArray(0);
+        static final long MEMORY_USAGE_PER_NEIGHBOUR = 2 * Long.BYTES + Double.BYTES;
+
+        long[] nodes = new long[INITIAL_CAPACITY];
+        double[] weights = new double[INITIAL_CAPACITY];
+        long[] via = new long[INITIAL_CAPACITY];
+        int size;
+
+        void upsert(long node, double weight, long viaNode) {
+            for (int i = 0; i < size; i++) {
+                if (nodes[i] == node) {
+                    if (weight < weights[i]) {
+                        weights[i] = weight;
+                        via[i] = viaNode;
+                    }
+                    return;
+                }
+            }
+            if (size == nodes.length) {
+                int capacity = size << 1;
+                nodes = Arrays.copyOf(nodes, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+                via = Arrays.copyOf(via, capacity);
+            }
+            nodes[size] = node;
+            weights[size] = weight;
+            via[size] = viaNode;
+            size++;
+        }
+
+        void removeContracted(HugeLongArray ranks) {
+            int remaining = 0;
+            for (int i = 0; i < size; i++) {
+                if (ranks.get(nodes[i]) == NOT_CONTRACTED) {
+                    nodes[remaining] = nodes[i];
+                    weights[remaining] = weights[i];
+                    via[remaining] = via[i];
+                    remaining++;
+                }
+            }
+            size = remaining;
+        }
+
+        void trim() {
+            nodes = Arrays.copyOf(nodes, size);
+            weights = Arrays.copyOf(weights, size);
+            via = Arrays.copyOf(via, size);
+        }
+    }
+}
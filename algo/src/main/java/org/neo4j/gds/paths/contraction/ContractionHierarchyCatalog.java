@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.loading.GraphExtensionKey;
+import org.neo4j.gds.core.loading.GraphExtensionScope;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import java.util.Map;
+
+/**
+ * Keeps {@link ContractionHierarchy}s next to their graphs in the {@link GraphStoreCatalog},
+ * so that the graph is contracted once and then serves any number of point-to-point queries.
+ * <p>
+ * A hierarchy is built on first use for each graph view.
+ * It is discarded as soon as the nodes or relationships of its graph change or the graph is removed.
+ */
+public final class ContractionHierarchyCatalog {
+
+    private ContractionHierarchyCatalog() {}
+
+    public static ContractionHierarchyProvider provider(String username, DatabaseId databaseId, String graphName) {
+        return (graph, config, builder) -> GraphStoreCatalog.computeExtensionIfAbsent(
+            username,
+            databaseId,
+            graphName,
+            extensionKey(graph, config),
+            GraphExtensionScope.TOPOLOGY,
+            ContractionHierarchy.class,
+            graphStore -> builder.get()
+        );
+    }
+
+    static String extensionKey(Graph graph, ContractionHierarchyBaseConfig config) {
+        return GraphExtensionKey.of("contractionHierarchy", graph, config.relationshipWeightProperty(), Map.of());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+
+import java.util.stream.Stream;
+
+/**
+ * Answers a point-to-point shortest path query with the {@link ContractionHierarchy} of the graph.
+ * The hierarchy is built first, unless the {@link ContractionHierarchyProvider} already has one.
+ */
+public final class ContractionHierarchyShortestPath extends Algorithm<PathFindingResult> {
+
+    private final ContractionHierarchyBuilder builder;
+    private final long sourceNode;
+    private final long targetNode;
+    private final boolean trackRelationships;
+
+    public ContractionHierarchyShortestPath(
+        Graph graph,
+        ContractionHierarchyStreamConfig config,
+        ContractionHierarchyProvider provider,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.builder = new ContractionHierarchyBuilder(graph, config, provider, progressTracker);
+        this.sourceNode = graph.toMappedNodeId(config.sourceNode());
+        this.targetNode = graph.toMappedNodeId(config.targetNode());
+        this.trackRelationships = config.trackRelationships();
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        builder.setTerminationFlag(terminationFlag);
+        var hierarchy = builder.compute();
+
+        var pathResult = hierarchy.shortestPath(sourceNode, targetNode, trackRelationships);
+        var paths = pathResult == PathResult.EMPTY
+            ? Stream.<PathResult>empty()
+            : Stream.of(pathResult);
+
+        return new PathFindingResult(paths);
+    }
+}
@@ -24,6 +24,7 @@ import com.carrotsearch.hppc.LongArrayList;
 import com.carrotsearch.hppc.cursors.LongCursor;
 import com.carrotsearch.hppc.procedures.LongProcedure;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
@@ -36,6 +37,7 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.paths.PathResult;
 import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaBaseConfig;
 import org.neo4j.gds.paths.dijkstra.PathFindingResult;
+import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.Arrays;
 import java.util.Optional;
@@ -55,12 +57,17 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
     private static final int NO_BIN = Integer.MAX_VALUE;
     private static final int BIN_SIZE_THRESHOLD = 1000;
     private static final int BATCH_SIZE = 64;
+    // The number of nodes whose relationships are sampled to derive an adaptive delta.
+    private static final int DELTA_SAMPLE_SIZE = 10_000;
+    private static final double DEFAULT_DELTA = 2.0;
 
 
     private final Graph graph;
     private final long startNode;
     private final double delta;
+    private final boolean fuseBins;
     private final int concurrency;
+    private final LongArrayList phaseFrontierSizes;
 
     private final HugeLongArray frontier;
     private final TentativeDistances distances;
@@ -76,7 +83,8 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         return new DeltaStepping(
             graph,
             graph.toMappedNodeId(config.sourceNode()),
-            config.delta(),
+            config.adaptiveDelta() ? adaptiveDelta(graph) : config.delta(),
+            config.adaptiveDelta(),
             config.concurrency(),
             true,
             executorService,
@@ -85,10 +93,81 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
     }
 
 
+    /**
+     * Computes the distances from the given (mapped) start node to all other nodes
+     * without storing predecessors, using an {@link #adaptiveDelta(Graph) adaptive delta}.
+     * Unreachable nodes have a distance of {@link TentativeDistances#DIST_INF}.
+     */
+    public static HugeAtomicDoubleArray distances(
+        Graph graph,
+        long startNode,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        var deltaStepping = new DeltaStepping(
+            graph,
+            startNode,
+            adaptiveDelta(graph),
+            true,
+            concurrency,
+            false,
+            executorService,
+            ProgressTracker.NULL_TRACKER
+        );
+        deltaStepping.setTerminationFlag(terminationFlag);
+        deltaStepping.progressTracker.beginSubTask();
+        deltaStepping.relaxAll();
+        deltaStepping.progressTracker.endSubTask();
+        return deltaStepping.distances.distances();
+    }
+
+    /**
+     * Derives the bucket width from the relationship weights and the average degree.
+     * For random weights, a width of about the average weight divided by the degree
+     * lets a phase relax most relationships only once while still exposing parallelism.
+     * The width is never smaller than the lightest sampled weight, as a narrower bucket
+     * can only hold nodes of a single distance anyway. When running adaptively, the
+     * algorithm additionally fuses consecutive buckets into a single phase as long as
+     * the resulting frontier is too small to keep all threads busy.
+     */
+    static double adaptiveDelta(Graph graph) {
+        long nodeCount = graph.nodeCount();
+        if (nodeCount == 0 || graph.relationshipCount() == 0) {
+            return DEFAULT_DELTA;
+        }
+
+        var weightSum = new MutableDouble();
+        var minWeight = new MutableDouble(Double.POSITIVE_INFINITY);
+        var weightCount = new MutableLong();
+
+        long step = Math.max(1, nodeCount / DELTA_SAMPLE_SIZE);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId += step) {
+            graph.forEachRelationship(nodeId, 1.0, (sourceNodeId, targetNodeId, weight) -> {
+                weightSum.add(weight);
+                weightCount.increment();
+                if (weight > 0 && weight < minWeight.doubleValue()) {
+                    minWeight.setValue(weight);
+                }
+                return true;
+            });
+        }
+
+        if (weightCount.longValue() == 0 || minWeight.doubleValue() == Double.POSITIVE_INFINITY) {
+            return DEFAULT_DELTA;
+        }
+
+        double averageWeight = weightSum.doubleValue() / weightCount.longValue();
+        double averageDegree = Math.max(1.0, (double) graph.relationshipCount() / nodeCount);
+
+        return Math.max(minWeight.doubleValue(), averageWeight / averageDegree);
+    }
+
     private DeltaStepping(
         Graph graph,
         long startNode,
         double delta,
+        boolean fuseBins,
         int concurrency,
         boolean storePredecessors,
         ExecutorService executorService,
@@ -98,8 +177,10 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         this.graph = graph;
         this.startNode = startNode;
         this.delta = delta;
+        this.fuseBins = fuseBins;
         this.concurrency = concurrency;
         this.executorService = executorService;
+        this.phaseFrontierSizes = new LongArrayList();
 
         this.frontier = HugeLongArray.newArray(graph.relationshipCount());
         if (storePredecessors) {
@@ -118,6 +199,25 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
     @Override
     public PathFindingResult compute() {
         progressTracker.beginSubTask();
+        relaxAll();
+        return new PathFindingResult(pathResults(distances, startNode, concurrency), progressTracker::endSubTask);
+    }
+
+    /**
+     * The bucket width that was used, which is derived from the graph when running adaptively.
+     */
+    public double delta() {
+        return delta;
+    }
+
+    /**
+     * The number of nodes in the frontier of each phase, in the order in which the phases ran.
+     */
+    public long[] phaseFrontierSizes() {
+        return phaseFrontierSizes.toArray();
+    }
+
+    private void relaxAll() {
         int currentBin = 0;
 
         var frontierIndex = new AtomicLong(0);
@@ -131,12 +231,20 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             .mapToObj(i -> new DeltaSteppingTask(graph, frontier, distances, delta, frontierIndex))
             .collect(Collectors.toList());
 
+        int lastBin = currentBin;
+        // Fusing bins stops once the frontier would exceed this size.
+        long fusedFrontierSize = Math.min((long) concurrency * BIN_SIZE_THRESHOLD, frontier.size());
+
         while (currentBin != NO_BIN) {
+            terminationFlag.assertRunning();
+            phaseFrontierSizes.add(frontierSize.longValue());
+
             // Phase 1
             progressTracker.beginSubTask();
             for (var task : relaxTasks) {
                 task.setPhase(Phase.RELAX);
                 task.setBinIndex(currentBin);
+                task.setLastBinIndex(lastBin);
                 task.setFrontierLength(frontierSize.longValue());
             }
             ParallelUtil.run(relaxTasks, executorService);
@@ -145,15 +253,30 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             // Sync barrier
             // Find smallest non-empty bin across all tasks
             currentBin = relaxTasks.stream().mapToInt(DeltaSteppingTask::minNonEmptyBin).min().orElseThrow();
+            lastBin = currentBin;
+
+            if (fuseBins && currentBin != NO_BIN) {
+                // Fuse the following bins into the next phase while the frontier is small.
+                int binCount = relaxTasks.stream().mapToInt(DeltaSteppingTask::binCount).max().orElseThrow();
+                long fusedSize = binSize(relaxTasks, currentBin);
+                while (lastBin + 1 < binCount) {
+                    long nextBinSize = binSize(relaxTasks, lastBin + 1);
+                    if (fusedSize + nextBinSize > fusedFrontierSize) {
+                        break;
+                    }
+                    fusedSize += nextBinSize;
+                    lastBin++;
+                }
+            }
 
             // Phase 2
             progressTracker.beginSubTask();
             frontierIndex.set(0);
-            relaxTasks.forEach(task -> task.setPhase(Phase.SYNC));
 
             for (var task : relaxTasks) {
                 task.setPhase(Phase.SYNC);
                 task.setBinIndex(currentBin);
+                task.setLastBinIndex(lastBin);
             }
             ParallelUtil.run(relaxTasks, executorService);
             progressTracker.endSubTask();
@@ -161,8 +284,14 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             frontierSize.set(frontierIndex.longValue());
             frontierIndex.set(0);
         }
+    }
 
-        return new PathFindingResult(pathResults(distances, startNode, concurrency), progressTracker::endSubTask);
+    private static long binSize(Iterable<DeltaSteppingTask> tasks, int binIndex) {
+        long size = 0;
+        for (var task : tasks) {
+            size += task.binSize(binIndex);
+        }
+        return size;
     }
 
     enum Phase {
@@ -176,6 +305,8 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         private final TentativeDistances distances;
         private final double delta;
         private int binIndex;
+        // the last bin processed in the current phase, larger than binIndex when bins are fused
+        private int lastBinIndex;
         private final AtomicLong frontierIndex;
         private long frontierLength;
 
@@ -222,10 +353,25 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
             this.binIndex = binIndex;
         }
 
+        void setLastBinIndex(int lastBinIndex) {
+            this.lastBinIndex = lastBinIndex;
+        }
+
         void setFrontierLength(long frontierLength) {
             this.frontierLength = frontierLength;
         }
 
+        int binCount() {
+            return localBins.length;
+        }
+
+        int binSize(int binIndex) {
+            if (binIndex < localBins.length && localBins[binIndex] != null) {
+                return localBins[binIndex].size();
+            }
+            return 0;
+        }
+
         int minNonEmptyBin() {
             for (int i = binIndex; i < localBins.length; i++) {
                 if (localBins[i] != null && !localBins[i].isEmpty()) {
@@ -250,13 +396,20 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         }
 
         private void relaxLocalBin() {
-            while (binIndex < localBins.length
-                   && localBins[binIndex] != null
-                   && !localBins[binIndex].isEmpty()
-                   && localBins[binIndex].size() < BIN_SIZE_THRESHOLD) {
-                var binCopy = localBins[binIndex].clone();
-                localBins[binIndex].elementsCount = 0;
-                binCopy.forEach((LongProcedure) this::relaxNode);
+            // Relaxing a node never adds to a preceding bin, so the fused bins can be processed in order.
+            // It may grow the local bins though, which is why the bound is reevaluated.
+            for (int bin = binIndex; bin <= Math.min(lastBinIndex, localBins.length - 1); bin++) {
+                while (localBins[bin] != null
+                       && !localBins[bin].isEmpty()
+                       && localBins[bin].size() < BIN_SIZE_THRESHOLD) {
+                    var binCopy = localBins[bin].clone();
+                    localBins[bin].elementsCount = 0;
+                    binCopy.forEach((LongProcedure) this::relaxNode);
+                }
+                if (binSize(bin) > 0) {
+                    // the bin is too large, it is processed globally in the next phase
+                    return;
+                }
             }
         }
 
@@ -291,16 +444,20 @@ public final class DeltaStepping extends Algorithm<PathFindingResult> {
         }
 
         private void updateFrontier() {
-            if (binIndex < localBins.length && localBins[binIndex] != null && !localBins[binIndex].isEmpty()) {
-                var size = localBins[binIndex].size();
-                var offset = frontierIndex.getAndAdd(size);
+            // bounding by the local bins also keeps us from overflowing when the bin index is NO_BIN
+            int lastBin = Math.min(lastBinIndex, localBins.length - 1);
+            for (int bin = binIndex; bin <= lastBin; bin++) {
+                if (localBins[bin] != null && !localBins[bin].isEmpty()) {
+                    var size = localBins[bin].size();
+                    var offset = frontierIndex.getAndAdd(size);
+
+                    for (LongCursor longCursor : localBins[bin]) {
+                        long index = offset + longCursor.index;
+                        frontier.set(index, longCursor.value);
+                    }
 
-                for (LongCursor longCursor : localBins[binIndex]) {
-                    long index = offset + longCursor.index;
-                    frontier.set(index, longCursor.value);
+                    localBins[bin].elementsCount = 0;
                 }
-
-                localBins[binIndex].elementsCount = 0;
             }
         }
     }
@@ -33,4 +33,11 @@ public interface AllShortestPathsDeltaBaseConfig extends AllShortestPathsBaseCon
     default double delta() {
         return 2.0;
     }
+
+    // Derive the bucket width from the graph instead of using delta,
+    // and fuse consecutive buckets while the frontier is small.
+    @Value.Default
+    default boolean adaptiveDelta() {
+        return false;
+    }
 }
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import com.carrotsearch.hppc.DoubleArrayDeque;
+import com.carrotsearch.hppc.LongArrayDeque;
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.apache.commons.lang3.mutable.MutableLong;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraBaseConfig;
+
+import java.util.stream.Stream;
+
+/**
+ * Point-to-point Dijkstra that grows one search tree from the source
+ * and one from the target until the two trees cannot improve the best
+ * path through the nodes where they met.
+ * <p>
+ * In contrast to {@link Dijkstra}, all per-query state is kept in hash
+ * tables and a small binary heap that only hold the nodes touched by the
+ * search. The state is recycled across queries on the same thread, so
+ * the cost of a query depends on the explored region and not on the
+ * number of nodes in the graph.
+ */
+public final class BidirectionalDijkstra extends Algorithm<PathFindingResult> {
+
+    // Searches that touched more nodes than this release their
+    // buffers instead of keeping them around for the next query.
+    static final int RETAINED_CAPACITY = 1 << 16;
+
+    private static final long NO_NODE = -1;
+    private static final long NO_RELATIONSHIP = -1;
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    private static final ThreadLocal<SearchState[]> STATE_POOL = ThreadLocal.withInitial(
+        () -> new SearchState[]{new SearchState(), new SearchState()}
+    );
+
+    private final Graph graph;
+    private final long sourceNode;
+    private final long targetNode;
+    private final boolean trackRelationships;
+    // The backward search uses the inverse index unless relationships are undirected.
+    private final boolean undirected;
+
+    public static BidirectionalDijkstra sourceTarget(
+        Graph graph,
+        ShortestPathDijkstraBaseConfig config,
+        ProgressTracker progressTracker
+    ) {
+        var characteristics = graph.characteristics();
+        if (!characteristics.isUndirected() && !characteristics.isInverseIndexed()) {
+            throw new IllegalArgumentException(
+                "Bidirectional Dijkstra requires the relationships to be undirected or inverse indexed."
+            );
+        }
+
+        return new BidirectionalDijkstra(
+            graph,
+            graph.toMappedNodeId(config.sourceNode()),
+            graph.toMappedNodeId(config.targetNode()),
+            config.trackRelationships(),
+            progressTracker
+        );
+    }
+
+    private BidirectionalDijkstra(
+        Graph graph,
+        long sourceNode,
+        long targetNode,
+        boolean trackRelationships,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.sourceNode = sourceNode;
+        this.targetNode = targetNode;
+        this.trackRelationships = trackRelationships;
+        this.undirected = graph.characteristics().isUndirected();
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        progressTracker.beginSubTask();
+
+        var states = STATE_POOL.get();
+        var forward = states[0];
+        var backward = states[1];
+
+        PathResult pathResult;
+        try {
+            pathResult = search(forward, backward);
+        } finally {
+            forward.reset();
+            backward.reset();
+        }
+
+        var paths = pathResult == PathResult.EMPTY
+            ? Stream.<PathResult>empty()
+            : Stream.of(pathResult);
+
+        return new PathFindingResult(paths, progressTracker::endSubTask);
+    }
+
+    private PathResult search(SearchState forward, SearchState backward) {
+        forward.init(sourceNode);
+        backward.init(targetNode);
+
+        var bestCost = new MutableDouble(sourceNode == targetNode ? 0.0 : Double.POSITIVE_INFINITY);
+        var meetingNode = new MutableLong(sourceNode == targetNode ? sourceNode : NO_NODE);
+        var relationshipIndex = new MutableLong();
+
+        while (terminationFlag.running()) {
+            forward.skipSettled();
+            backward.skipSettled();
+            if (forward.heap.isEmpty() || backward.heap.isEmpty()) {
+                break;
+            }
+            // No path through an unsettled node can be cheaper than the best one found so far.
+            if (forward.heap.minCost() + backward.heap.minCost() >= bestCost.doubleValue()) {
+                break;
+            }
+
+            // Expand the side with the smaller frontier to keep both trees balanced.
+            boolean expandForward = forward.heap.size() <= backward.heap.size();
+            var current = expandForward ? forward : backward;
+            var other = expandForward ? backward : forward;
+            // Relationship ids are only meaningful in the adjacency lists of the forward search.
+            boolean trackIndex = expandForward && trackRelationships;
+            // On directed graphs, the backward search follows the inverse relationships.
+            boolean expandInverse = !expandForward && !undirected;
+
+            var node = current.heap.pop();
+            var cost = current.distances.get(node);
+            current.settled.add(node);
+
+            // For disconnected graphs, this will not reach 100%.
+            progressTracker.logProgress(expandInverse ? graph.degreeInverse(node) : graph.degree(node));
+
+            relationshipIndex.setValue(0);
+            RelationshipWithPropertyConsumer relax = (source, target, weight) -> {
+                current.relax(source, target, trackIndex ? relationshipIndex.longValue() : NO_RELATIONSHIP, cost + weight);
+                var otherIndex = other.distances.indexOf(target);
+                if (other.distances.indexExists(otherIndex)) {
+                    var pathCost = current.distances.get(target) + other.distances.indexGet(otherIndex);
+                    if (pathCost < bestCost.doubleValue()) {
+                        bestCost.setValue(pathCost);
+                        meetingNode.setValue(target);
+                    }
+                }
+                relationshipIndex.increment();
+                return true;
+            };
+
+            if (expandInverse) {
+                graph.forEachInverseRelationship(node, 1.0D, relax);
+            } else {
+                graph.forEachRelationship(node, 1.0D, relax);
+            }
+        }
+
+        if (meetingNode.longValue() == NO_NODE) {
+            return PathResult.EMPTY;
+        }
+
+        return pathResult(forward, backward, meetingNode.longValue());
+    }
+
+    private PathResult pathResult(SearchState forward, SearchState backward, long meetingNode) {
+        var pathNodeIds = new LongArrayDeque();
+        var relationshipIds = trackRelationships ? new LongArrayDeque() : null;
+        var costs = new DoubleArrayDeque();
+
+        // Backtrack through the forward tree from the meeting node to the source node.
+        var node = meetingNode;
+        while (true) {
+            pathNodeIds.addFirst(node);
+            costs.addFirst(forward.distances.get(node));
+            if (node == sourceNode) {
+                break;
+            }
+            if (trackRelationships) {
+                relationshipIds.addFirst(forward.relationships.getOrDefault(node, NO_RELATIONSHIP));
+            }
+            node = forward.predecessors.get(node);
+        }
+
+        // Follow the backward tree from the meeting node to the target node.
+        // The backward search only knows the predecessor, so we look up the
+        // cheapest relationship to it to get its weight and relationship id.
+        var cost = forward.distances.get(meetingNode);
+        var weight = new MutableDouble();
+        node = meetingNode;
+        while (node != targetNode) {
+            var next = backward.predecessors.get(node);
+            var relationshipId = cheapestRelationship(node, next, weight);
+            cost += weight.doubleValue();
+            pathNodeIds.addLast(next);
+            costs.addLast(cost);
+            if (trackRelationships) {
+                relationshipIds.addLast(relationshipId);
+            }
+            node = next;
+        }
+
+        return ImmutablePathResult.builder()
+            .index(0L)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .nodeIds(pathNodeIds.toArray())
+            .relationshipIds(trackRelationships ? relationshipIds.toArray() : EMPTY_ARRAY)
+            .costs(costs.toArray())
+            .build();
+    }
+
+    private long cheapestRelationship(long source, long target, MutableDouble weight) {
+        var index = new MutableLong();
+        var bestIndex = new MutableLong(NO_RELATIONSHIP);
+        weight.setValue(Double.POSITIVE_INFINITY);
+        graph.forEachRelationship(source, 1.0D, (s, t, w) -> {
+            if (t == target && w < weight.doubleValue()) {
+                bestIndex.setValue(index.longValue());
+                weight.setValue(w);
+            }
+            index.increment();
+            return true;
+        });
+        return bestIndex.longValue();
+    }
+
+    /**
+     * The state of one search direction, sized by the number of touched nodes.
+     */
+    static final class SearchState {
+        final LongDoubleHashMap distances = new LongDoubleHashMap();
+        final LongLongHashMap predecessors = new LongLongHashMap();
+        final LongLongHashMap relationships = new LongLongHashMap();
+        final LongHashSet settled = new LongHashSet();
+        final SparseMinHeap heap = new SparseMinHeap();
+
+        void init(long startNode) {
+            distances.put(startNode, 0.0);
+            heap.add(startNode, 0.0);
+        }
+
+        void relax(long source, long target, long relationshipIndex, double newCost) {
+            if (settled.contains(target)) {
+                return;
+            }
+            var index = distances.indexOf(target);
+            if (distances.indexExists(index) && distances.indexGet(index) <= newCost) {
+                return;
+            }
+            if (distances.indexExists(index)) {
+                distances.indexReplace(index, newCost);
+            } else {
+                distances.indexInsert(index, target, newCost);
+            }
+            predecessors.put(target, source);
+            if (relationshipIndex != NO_RELATIONSHIP) {
+                relationships.put(target, relationshipIndex);
+            }
+            // Outdated heap entries are skipped when they reach the top.
+            heap.add(target, newCost);
+        }
+
+        void skipSettled() {
+            while (!heap.isEmpty() && settled.contains(heap.peek())) {
+                heap.pop();
+            }
+        }
+
+        void reset() {
+            if (distances.size() > RETAINED_CAPACITY) {
+                distances.release();
+                predecessors.release();
+                relationships.release();
+                settled.release();
+                heap.release();
+            } else {
+                distances.clear();
+                predecessors.clear();
+                relationships.clear();
+                settled.clear();
+                heap.clear();
+            }
+        }
+    }
+}
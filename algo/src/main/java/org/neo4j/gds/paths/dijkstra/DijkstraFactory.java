@@ -20,19 +20,23 @@
 package org.neo4j.gds.paths.dijkstra;
 
 import org.jetbrains.annotations.NotNull;
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.paths.AllShortestPathsBaseConfig;
 import org.neo4j.gds.paths.ShortestPathBaseConfig;
-import org.neo4j.gds.paths.SourceTargetShortestPathBaseConfig;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraBaseConfig;
+import org.neo4j.gds.paths.landmarks.LandmarkIndex;
+import org.neo4j.gds.paths.landmarks.LandmarkIndexProvider;
 
 import java.util.Optional;
 
-public abstract class DijkstraFactory<CONFIG extends ShortestPathBaseConfig> extends GraphAlgorithmFactory<Dijkstra, CONFIG> {
+public abstract class DijkstraFactory<ALGO extends Algorithm<PathFindingResult>, CONFIG extends ShortestPathBaseConfig> extends GraphAlgorithmFactory<ALGO, CONFIG> {
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
@@ -55,14 +59,54 @@ public abstract class DijkstraFactory<CONFIG extends ShortestPathBaseConfig> ext
         return Tasks.leaf(taskName, graph.relationshipCount());
     }
 
-    public static class SourceTargetDijkstraFactory<T extends SourceTargetShortestPathBaseConfig> extends
-        DijkstraFactory<T> {
+    public static class SourceTargetDijkstraFactory<T extends ShortestPathDijkstraBaseConfig> extends
+        DijkstraFactory<Algorithm<PathFindingResult>, T> {
+
+        private final LandmarkIndexProvider landmarkIndexProvider;
+
+        public SourceTargetDijkstraFactory() {
+            this(LandmarkIndexProvider.BUILD);
+        }
+
+        public SourceTargetDijkstraFactory(LandmarkIndexProvider landmarkIndexProvider) {
+            this.landmarkIndexProvider = landmarkIndexProvider;
+        }
+
         @Override
-        public Dijkstra build(
+        public MemoryEstimation memoryEstimation(T configuration) {
+            if (configuration.landmarks() == 0) {
+                return super.memoryEstimation(configuration);
+            }
+            return MemoryEstimations.builder(Dijkstra.class)
+                .add(super.memoryEstimation(configuration))
+                .add("landmarks", LandmarkIndex.memoryEstimation(configuration.landmarks(), true))
+                .build();
+        }
+
+        @Override
+        public Task progressTask(Graph graph, T config) {
+            if (config.landmarks() == 0) {
+                return super.progressTask(graph, config);
+            }
+            return Tasks.task(
+                taskName(),
+                Tasks.leaf("Build landmarks", config.landmarks()),
+                dijkstraProgressTask(taskName(), graph)
+            );
+        }
+
+        @Override
+        public Algorithm<PathFindingResult> build(
             Graph graph,
             T configuration,
             ProgressTracker progressTracker
         ) {
+            if (configuration.bidirectional()) {
+                return BidirectionalDijkstra.sourceTarget(graph, configuration, progressTracker);
+            }
+            if (configuration.landmarks() > 0) {
+                return new LandmarkDijkstra(graph, configuration, landmarkIndexProvider, progressTracker);
+            }
             return Dijkstra.sourceTarget(
                 graph,
                 configuration,
@@ -72,7 +116,7 @@ public abstract class DijkstraFactory<CONFIG extends ShortestPathBaseConfig> ext
         }
     }
 
-    public static class AllShortestPathsDijkstraFactory<T extends AllShortestPathsBaseConfig> extends DijkstraFactory<T> {
+    public static class AllShortestPathsDijkstraFactory<T extends AllShortestPathsBaseConfig> extends DijkstraFactory<Dijkstra, T> {
         @Override
         public Dijkstra build(
             Graph graph,
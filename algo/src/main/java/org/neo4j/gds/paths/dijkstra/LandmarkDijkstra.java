@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraBaseConfig;
+import org.neo4j.gds.paths.landmarks.LandmarkIndexProvider;
+
+import java.util.Optional;
+
+/**
+ * Source-target Dijkstra guided by a landmark heuristic.
+ * The landmark index is obtained in {@link #compute()} rather than when the algorithm is built,
+ * so that building it observes the termination flag and reports its progress.
+ */
+final class LandmarkDijkstra extends Algorithm<PathFindingResult> {
+
+    private final Graph graph;
+    private final ShortestPathDijkstraBaseConfig config;
+    private final LandmarkIndexProvider landmarkIndexProvider;
+
+    LandmarkDijkstra(
+        Graph graph,
+        ShortestPathDijkstraBaseConfig config,
+        LandmarkIndexProvider landmarkIndexProvider,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.config = config;
+        this.landmarkIndexProvider = landmarkIndexProvider;
+    }
+
+    @Override
+    public PathFindingResult compute() {
+        progressTracker.beginSubTask();
+
+        progressTracker.beginSubTask();
+        var landmarkIndex = landmarkIndexProvider.landmarkIndex(graph, config, terminationFlag, progressTracker);
+        progressTracker.endSubTask();
+
+        var dijkstra = Dijkstra.sourceTarget(
+            graph,
+            config,
+            Optional.of(landmarkIndex.heuristic(graph.toMappedNodeId(config.targetNode()))),
+            progressTracker
+        );
+        dijkstra.setTerminationFlag(terminationFlag);
+
+        return dijkstra.compute().andThen(progressTracker::endSubTask);
+    }
+}
@@ -67,6 +67,16 @@ public class PathFindingResult {
         return resultSet;
     }
 
+    /**
+     * Returns a result over the same paths that additionally runs the given action once they have been consumed.
+     */
+    PathFindingResult andThen(Runnable action) {
+        return new PathFindingResult(paths, () -> {
+            closeStreamAction.run();
+            action.run();
+        });
+    }
+
     private void runConsumptionAction() {
         if (consumptionTriggered.compareAndSet(false, true)) {
             closeStreamAction.run();
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import java.util.Arrays;
+
+/**
+ * A growable binary min-heap of (node, cost) entries that
+ * allows duplicate nodes instead of supporting decrease-key.
+ */
+public final class SparseMinHeap {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] nodes = new long[INITIAL_CAPACITY];
+    private double[] costs = new double[INITIAL_CAPACITY];
+    private int size;
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long peek() {
+        return nodes[0];
+    }
+
+    public double minCost() {
+        return costs[0];
+    }
+
+    public void add(long node, double cost) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size << 1);
+            costs = Arrays.copyOf(costs, size << 1);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (costs[parent] <= cost) {
+                break;
+            }
+            nodes[i] = nodes[parent];
+            costs[i] = costs[parent];
+            i = parent;
+        }
+        nodes[i] = node;
+        costs[i] = cost;
+    }
+
+    public long pop() {
+        long top = nodes[0];
+        int last = --size;
+        long node = nodes[last];
+        double cost = costs[last];
+        int i = 0;
+        int half = last >>> 1;
+        while (i < half) {
+            int child = (i << 1) + 1;
+            int right = child + 1;
+            if (right < last && costs[right] < costs[child]) {
+                child = right;
+            }
+            if (cost <= costs[child]) {
+                break;
+            }
+            nodes[i] = nodes[child];
+            costs[i] = costs[child];
+            i = child;
+        }
+        nodes[i] = node;
+        costs[i] = cost;
+        return top;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void release() {
+        nodes = new long[INITIAL_CAPACITY];
+        costs = new double[INITIAL_CAPACITY];
+        size = 0;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra.config;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.paths.SourceTargetShortestPathBaseConfig;
+import org.neo4j.gds.paths.landmarks.LandmarksConfig;
+
+public interface ShortestPathDijkstraBaseConfig extends SourceTargetShortestPathBaseConfig, LandmarksConfig {
+
+    // Search from source and target simultaneously,
+    // using state proportional to the explored region.
+    @Value.Default
+    default boolean bidirectional() {
+        return false;
+    }
+
+    @Value.Check
+    default void validateBidirectionalSearch() {
+        if (bidirectional() && landmarks() > 0) {
+            throw new IllegalArgumentException("The `bidirectional` and the `landmarks` option cannot be used at the same time.");
+        }
+    }
+}
@@ -22,12 +22,11 @@ package org.neo4j.gds.paths.dijkstra.config;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.core.CypherMapWrapper;
-import org.neo4j.gds.paths.SourceTargetShortestPathBaseConfig;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface ShortestPathDijkstraStreamConfig extends SourceTargetShortestPathBaseConfig {
+public interface ShortestPathDijkstraStreamConfig extends ShortestPathDijkstraBaseConfig {
 
     static ShortestPathDijkstraStreamConfig of(CypherMapWrapper userInput) {
         return new ShortestPathDijkstraStreamConfigImpl(userInput);
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.paths.delta.DeltaStepping;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.paths.delta.TentativeDistances.DIST_INF;
+
+/**
+ * Shortest path distances between a small set of landmark nodes and all other nodes,
+ * used to derive lower bounds for point-to-point queries (ALT: A*, landmarks, triangle inequality).
+ * <p>
+ * For a landmark {@code L} and nodes {@code v, t}, the triangle inequality gives
+ * {@code d(v, t) >= d(L, t) - d(L, v)} and {@code d(v, t) >= d(v, L) - d(t, L)}.
+ * The maximum over all landmarks is an admissible and consistent heuristic for
+ * {@link Dijkstra} on any graph with non-negative relationship weights.
+ * <p>
+ * Landmarks are selected one at a time, each one being the node that is farthest
+ * from all previously selected landmarks. Distances are computed with {@link DeltaStepping}.
+ * Distances to the landmarks are only available for undirected or inverse indexed graphs.
+ */
+public final class LandmarkIndex {
+
+    private final long[] landmarks;
+    private final HugeDoubleArray[] fromLandmarks;
+    private final HugeDoubleArray @Nullable [] toLandmarks;
+
+    public static MemoryEstimation memoryEstimation(int landmarkCount, boolean distancesToLandmarks) {
+        int directions = distancesToLandmarks ? 2 : 1;
+        return MemoryEstimations.builder(LandmarkIndex.class)
+            .perNode(
+                "landmark distances",
+                nodeCount -> landmarkCount * directions * HugeDoubleArray.memoryEstimation(nodeCount)
+            )
+            .perNode("closest landmark distance", HugeDoubleArray::memoryEstimation)
+            .build();
+    }
+
+    public static LandmarkIndex build(
+        Graph graph,
+        int landmarkCount,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker
+    ) {
+        var characteristics = graph.characteristics();
+        boolean undirected = characteristics.isUndirected();
+        boolean distancesToLandmarks = undirected || characteristics.isInverseIndexed();
+        var inverseGraph = distancesToLandmarks && !undirected ? new InverseGraph(graph) : null;
+
+        long nodeCount = graph.nodeCount();
+        // The distance of each node to the closest landmark selected so far, in either direction.
+        var closestLandmark = HugeDoubleArray.newArray(nodeCount);
+        closestLandmark.fill(DIST_INF);
+
+        var landmarks = new long[landmarkCount];
+        var fromLandmarks = new HugeDoubleArray[landmarkCount];
+        var toLandmarks = distancesToLandmarks ? new HugeDoubleArray[landmarkCount] : null;
+
+        int selected = 0;
+        long candidate = highestDegreeNode(graph);
+        while (selected < landmarkCount && candidate != -1) {
+            terminationFlag.assertRunning();
+
+            var from = copyOf(DeltaStepping.distances(graph, candidate, concurrency, executorService, terminationFlag));
+            HugeDoubleArray to = null;
+            if (undirected) {
+                to = from;
+            } else if (inverseGraph != null) {
+                to = copyOf(DeltaStepping.distances(
+                    inverseGraph,
+                    candidate,
+                    concurrency,
+                    executorService,
+                    terminationFlag
+                ));
+            }
+
+            landmarks[selected] = candidate;
+            fromLandmarks[selected] = from;
+            if (toLandmarks != null) {
+                toLandmarks[selected] = to;
+            }
+            selected++;
+            progressTracker.logProgress();
+
+            candidate = nextLandmark(graph, closestLandmark, from, to);
+        }
+
+        if (selected < landmarkCount) {
+            landmarks = Arrays.copyOf(landmarks, selected);
+            fromLandmarks = Arrays.copyOf(fromLandmarks, selected);
+            if (toLandmarks != null) {
+                toLandmarks = Arrays.copyOf(toLandmarks, selected);
+            }
+        }
+
+        return new LandmarkIndex(landmarks, fromLandmarks, toLandmarks);
+    }
+
+    private LandmarkIndex(
+        long[] landmarks,
+        HugeDoubleArray[] fromLandmarks,
+        HugeDoubleArray @Nullable [] toLandmarks
+    ) {
+        this.landmarks = landmarks;
+        this.fromLandmarks = fromLandmarks;
+        this.toLandmarks = toLandmarks;
+    }
+
+    /**
+     * The selected landmarks as mapped node ids.
+     * There may be fewer landmarks than requested if the graph has too few connected nodes.
+     */
+    public long[] landmarks() {
+        return landmarks.clone();
+    }
+
+    /**
+     * Returns a lower bound for the distance from any node to the given (mapped) target node.
+     */
+    public Dijkstra.HeuristicFunction heuristic(long targetNode) {
+        int landmarkCount = landmarks.length;
+        var fromLandmarkToTarget = new double[landmarkCount];
+        var fromTargetToLandmark = new double[landmarkCount];
+        for (int i = 0; i < landmarkCount; i++) {
+            fromLandmarkToTarget[i] = fromLandmarks[i].get(targetNode);
+            fromTargetToLandmark[i] = toLandmarks == null ? DIST_INF : toLandmarks[i].get(targetNode);
+        }
+
+        return node -> {
+            double bound = 0.0;
+            for (int i = 0; i < landmarkCount; i++) {
+                // Bounds are only valid if both distances are known.
+                double toTarget = fromLandmarkToTarget[i];
+                double toNode = fromLandmarks[i].get(node);
+                if (toTarget != DIST_INF && toNode != DIST_INF) {
+                    bound = Math.max(bound, toTarget - toNode);
+                }
+                if (toLandmarks != null) {
+                    double fromTarget = fromTargetToLandmark[i];
+                    double fromNode = toLandmarks[i].get(node);
+                    if (fromTarget != DIST_INF && fromNode != DIST_INF) {
+                        bound = Math.max(bound, fromNode - fromTarget);
+                    }
+                }
+            }
+            return bound;
+        };
+    }
+
+    private static long highestDegreeNode(Graph graph) {
+        long bestNode = -1;
+        int bestDegree = 0;
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            int degree = graph.degree(node);
+            if (degree > bestDegree) {
+                bestDegree = degree;
+                bestNode = node;
+            }
+        }
+        return bestNode;
+    }
+
+    /**
+     * Updates the distances to the closest landmark and returns the node that is farthest away
+     * from all landmarks. Nodes that no landmark reaches are preferred, so that landmarks spread
+     * across components. Nodes without relationships never become landmarks.
+     */
+    private static long nextLandmark(
+        Graph graph,
+        HugeDoubleArray closestLandmark,
+        HugeDoubleArray from,
+        @Nullable HugeDoubleArray to
+    ) {
+        long bestNode = -1;
+        double bestDistance = -1;
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            double distance = Math.min(closestLandmark.get(node), from.get(node));
+            if (to != null) {
+                distance = Math.min(distance, to.get(node));
+            }
+            closestLandmark.set(node, distance);
+            if (distance > bestDistance && distance > 0 && graph.degree(node) > 0) {
+                bestDistance = distance;
+                bestNode = node;
+            }
+        }
+        return bestNode;
+    }
+
+    private static HugeDoubleArray copyOf(HugeAtomicDoubleArray distances) {
+        var copy = HugeDoubleArray.newArray(distances.size());
+        copy.setAll(distances::get);
+        return copy;
+    }
+}
@@ -20,6 +20,7 @@
 package org.neo4j.gds.paths.traverse;
 
 
+import com.carrotsearch.hppc.cursors.LongCursor;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
@@ -29,11 +30,13 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -56,6 +59,14 @@ import java.util.concurrent.atomic.AtomicLong;
  * to create the next bucket, such that a correct BFS ordering is returned where all
  * descendants from the nodes of a chunk, appear together before those from a later
  * chunk.
+ *
+ * The traversal is direction-optimizing if the incoming relationships of a node are accessible,
+ * i.e. for undirected or inverse indexed graphs. Whenever the relationships leaving the current
+ * bucket outnumber the relationships entering the unvisited nodes, the next bucket is computed
+ * bottom-up: the unvisited nodes are scanned in parallel and look for a predecessor in the current
+ * bucket (see `BFSBottomUpTask`). The discovered nodes are then ordered by the position of their
+ * earliest predecessor and by node id, which is the order the top-down step produces for sorted
+ * adjacency lists.
  */
 public final class BFS extends Algorithm<HugeLongArray> {
 
@@ -85,6 +96,10 @@ public final class BFS extends Algorithm<HugeLongArray> {
 
     private final int concurrency;
 
+    // Whether the next bucket may be computed bottom-up and which relationships lead into a node.
+    private final boolean bottomUpAllowed;
+    private final boolean useInverseIndex;
+
     public static BFS create(
         Graph graph,
         long startNodeId,
@@ -162,6 +177,8 @@ public final class BFS extends Algorithm<HugeLongArray> {
         this.traversedNodes = traversedNodes;
         this.weights = weights;
         this.visited = visited;
+        this.useInverseIndex = !graph.characteristics().isUndirected() && graph.characteristics().isInverseIndexed();
+        this.bottomUpAllowed = graph.characteristics().isUndirected() || useInverseIndex;
     }
 
     @Override
@@ -193,47 +210,64 @@ public final class BFS extends Algorithm<HugeLongArray> {
             minimumChunk,
             delta
         );
-        int bfsTaskListSize = bfsTaskList.size();
+        List<BFSBottomUpTask> bottomUpTasks = null;
+
+        // The number of relationships leaving the current bucket and entering the unvisited nodes,
+        // used to decide whether the next bucket is computed top-down or bottom-up.
+        long frontierDegrees = 0;
+        long unvisitedDegrees = 0;
+        if (bottomUpAllowed) {
+            frontierDegrees = graph.degree(sourceNodeId);
+            unvisitedDegrees = graph.relationshipCount() - incomingDegree(sourceNodeId);
+        }
+
         long currentDepth = 0;
         while (terminationFlag.running()) {
             if (currentDepth == maximumDepth) {
                 break;
             }
-            ParallelUtil.run(bfsTaskList, DefaultPool.INSTANCE);
+            var previousTraversedNodesLength = traversedNodesLength.get();
 
-            if (targetFoundIndex.get() != Long.MAX_VALUE) {
-                break;
-            }
+            if (bottomUpAllowed && frontierDegrees > unvisitedDegrees) {
+                relaxFrontier(traversedNodesIndex.get(), previousTraversedNodesLength, targetFoundIndex, minimumChunk);
 
-            // Synchronize the results sequentially
-            var previousTraversedNodesLength = traversedNodesLength.get();
-            int numberOfFinishedTasks = 0;
-            int numberOfTasksWithChunks = countTasksWithChunks(bfsTaskList);
-            while (numberOfFinishedTasks != numberOfTasksWithChunks && terminationFlag.running()) {
-                int minimumTaskIndex = -1;
-                for (int bfsTaskIndex = 0; bfsTaskIndex < bfsTaskListSize; ++bfsTaskIndex) {
-                    var currentBfsTask = bfsTaskList.get(bfsTaskIndex);
-                    if (currentBfsTask.hasMoreChunks()) {
-                        if (minimumTaskIndex == -1) {
-                            minimumTaskIndex = bfsTaskIndex;
-                        } else {
-                            if (bfsTaskList.get(minimumTaskIndex).currentChunkId() > currentBfsTask.currentChunkId()) {
-                                minimumTaskIndex = bfsTaskIndex;
-                            }
-                        }
-                    }
+                if (targetFoundIndex.get() != Long.MAX_VALUE) {
+                    break;
+                }
+
+                if (bottomUpTasks == null) {
+                    bottomUpTasks = initializeBottomUpTasks(minimumChunk);
                 }
-                var minimumIndexBfsTask = bfsTaskList.get(minimumTaskIndex);
-                minimumIndexBfsTask.syncNextChunk();
-                if (!minimumIndexBfsTask.hasMoreChunks()) {
-                    numberOfFinishedTasks++;
+                for (BFSBottomUpTask bottomUpTask : bottomUpTasks) {
+                    bottomUpTask.prepare(traversedNodesIndex.get());
                 }
+                ParallelUtil.run(bottomUpTasks, DefaultPool.INSTANCE);
+
+                syncBottomUp(bottomUpTasks, traversedNodesIndex.get(), traversedNodesLength, minimumChunk);
+            } else {
+                ParallelUtil.run(bfsTaskList, DefaultPool.INSTANCE);
+
+                if (targetFoundIndex.get() != Long.MAX_VALUE) {
+                    break;
+                }
+
+                // Synchronize the results sequentially
+                syncTopDown(bfsTaskList);
             }
 
             if (traversedNodesLength.get() == previousTraversedNodesLength) {
                 break;
             }
 
+            if (bottomUpAllowed) {
+                frontierDegrees = 0;
+                for (long idx = previousTraversedNodesLength; idx < traversedNodesLength.get(); idx++) {
+                    var nodeId = traversedNodes.get(idx);
+                    frontierDegrees += graph.degree(nodeId);
+                    unvisitedDegrees -= incomingDegree(nodeId);
+                }
+            }
+
             traversedNodesIndex.set(previousTraversedNodesLength);
             currentDepth++;
         }
@@ -279,6 +313,118 @@ public final class BFS extends Algorithm<HugeLongArray> {
         return bfsTaskList;
     }
 
+    private void syncTopDown(List<BFSTask> bfsTaskList) {
+        int bfsTaskListSize = bfsTaskList.size();
+        int numberOfFinishedTasks = 0;
+        int numberOfTasksWithChunks = countTasksWithChunks(bfsTaskList);
+        while (numberOfFinishedTasks != numberOfTasksWithChunks && terminationFlag.running()) {
+            int minimumTaskIndex = -1;
+            for (int bfsTaskIndex = 0; bfsTaskIndex < bfsTaskListSize; ++bfsTaskIndex) {
+                var currentBfsTask = bfsTaskList.get(bfsTaskIndex);
+                if (currentBfsTask.hasMoreChunks()) {
+                    if (minimumTaskIndex == -1) {
+                        minimumTaskIndex = bfsTaskIndex;
+                    } else {
+                        if (bfsTaskList.get(minimumTaskIndex).currentChunkId() > currentBfsTask.currentChunkId()) {
+                            minimumTaskIndex = bfsTaskIndex;
+                        }
+                    }
+                }
+            }
+            var minimumIndexBfsTask = bfsTaskList.get(minimumTaskIndex);
+            minimumIndexBfsTask.syncNextChunk();
+            if (!minimumIndexBfsTask.hasMoreChunks()) {
+                numberOfFinishedTasks++;
+            }
+        }
+    }
+
+    private List<BFSBottomUpTask> initializeBottomUpTasks(HugeAtomicLongArray minimumChunk) {
+        return PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> new BFSBottomUpTask(
+                graph,
+                visited,
+                minimumChunk,
+                useInverseIndex,
+                terminationFlag,
+                partition
+            ),
+            Optional.empty()
+        );
+    }
+
+    /**
+     * Computes the weights of the current bucket and evaluates the exit predicate, like `BFSTask` does
+     * before relaxing a node. Afterwards, `minimumChunk` points every node of the bucket to its own
+     * position, which identifies the bucket to the following bottom-up step.
+     */
+    private void relaxFrontier(
+        long frontierStart,
+        long frontierEnd,
+        AtomicLong targetFoundIndex,
+        HugeAtomicLongArray minimumChunk
+    ) {
+        ParallelUtil.parallelForEachNode(frontierEnd - frontierStart, concurrency, terminationFlag, offset -> {
+            long idx = frontierStart + offset;
+            var nodeId = traversedNodes.get(idx);
+            long sourceId = sourceNodeId;
+            double weight = 0;
+            if (nodeId != sourceNodeId) {
+                long minimumChunkIndex = minimumChunk.get(nodeId);
+                sourceId = traversedNodes.get(minimumChunkIndex);
+                weight = aggregatorFunction.apply(sourceId, nodeId, weights.get(minimumChunkIndex));
+                weights.set(idx, weight);
+            }
+            if (exitPredicate.test(sourceId, nodeId, weight) == ExitPredicate.Result.BREAK) {
+                targetFoundIndex.getAndAccumulate(idx, Math::min);
+            }
+            minimumChunk.set(nodeId, idx);
+        });
+
+        progressTracker.logProgress(frontierEnd - frontierStart);
+    }
+
+    /**
+     * Appends the nodes discovered by the bottom-up tasks to `traversedNodes`.
+     * The tasks report their nodes in ascending order, a stable counting sort
+     * by the position of the predecessor yields the top-down order.
+     */
+    private void syncBottomUp(
+        Iterable<BFSBottomUpTask> bottomUpTasks,
+        long frontierStart,
+        AtomicLong traversedNodesLength,
+        HugeAtomicLongArray minimumChunk
+    ) {
+        long frontierEnd = traversedNodesLength.get();
+        var offsets = HugeLongArray.newArray(frontierEnd - frontierStart + 1);
+        long discoveredNodes = 0;
+        for (BFSBottomUpTask bottomUpTask : bottomUpTasks) {
+            for (LongCursor cursor : bottomUpTask.localNodes()) {
+                offsets.addTo(minimumChunk.get(cursor.value) - frontierStart + 1, 1);
+                discoveredNodes++;
+            }
+        }
+        for (long idx = 1; idx < offsets.size(); idx++) {
+            offsets.addTo(idx, offsets.get(idx - 1));
+        }
+        for (BFSBottomUpTask bottomUpTask : bottomUpTasks) {
+            for (LongCursor cursor : bottomUpTask.localNodes()) {
+                long offsetIndex = minimumChunk.get(cursor.value) - frontierStart;
+                long offset = offsets.get(offsetIndex);
+                offsets.set(offsetIndex, offset + 1);
+                traversedNodes.set(frontierEnd + offset, cursor.value);
+                visited.set(cursor.value);
+            }
+        }
+        traversedNodesLength.addAndGet(discoveredNodes);
+    }
+
+    private long incomingDegree(long nodeId) {
+        return useInverseIndex ? graph.degreeInverse(nodeId) : graph.degree(nodeId);
+    }
+
     private int countTasksWithChunks(Collection<BFSTask> bfsTaskList) {
         return (int) bfsTaskList.stream().filter(BFSTask::hasMoreChunks).count();
     }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.traverse;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.termination.TerminationFlag;
+
+/**
+ * A task that computes a bottom-up BFS step for a range of nodes.
+ *
+ * Instead of expanding the frontier along its outgoing relationships, every unvisited node
+ * of the range scans its incoming relationships for frontier nodes. The frontier is not
+ * materialized separately: a node belongs to it if it is visited and its entry in `minimumChunk`
+ * is a position within the frontier segment of `traversedNodes` (see `BFS.relaxFrontier`).
+ *
+ * A discovered node stores the minimum position of its frontier predecessors in `minimumChunk`,
+ * which is the same predecessor the top-down step would have assigned to it.
+ */
+class BFSBottomUpTask implements Runnable, RelationshipConsumer {
+
+    // shared variables; see comments in `BFS`.
+    private final Graph graph;
+    private final HugeAtomicBitSet visited;
+    private final HugeAtomicLongArray minimumChunk;
+    private final boolean useInverseIndex;
+    private final TerminationFlag terminationFlag;
+
+    private final Partition partition;
+
+    // Nodes of the partition that have been discovered in the current step, in ascending order.
+    private final LongArrayList localNodes;
+
+    private long frontierStart;
+    private long minimumFrontierPosition;
+
+    BFSBottomUpTask(
+        Graph graph,
+        HugeAtomicBitSet visited,
+        HugeAtomicLongArray minimumChunk,
+        boolean useInverseIndex,
+        TerminationFlag terminationFlag,
+        Partition partition
+    ) {
+        this.graph = graph.concurrentCopy();
+        this.visited = visited;
+        this.minimumChunk = minimumChunk;
+        this.useInverseIndex = useInverseIndex;
+        this.terminationFlag = terminationFlag;
+        this.partition = partition;
+
+        this.localNodes = new LongArrayList();
+    }
+
+    void prepare(long frontierStart) {
+        this.frontierStart = frontierStart;
+        localNodes.elementsCount = 0;
+    }
+
+    LongArrayList localNodes() {
+        return localNodes;
+    }
+
+    @Override
+    public void run() {
+        long endNode = partition.startNode() + partition.nodeCount();
+        for (long nodeId = partition.startNode(); nodeId < endNode && terminationFlag.running(); nodeId++) {
+            if (visited.get(nodeId)) {
+                continue;
+            }
+            minimumFrontierPosition = Long.MAX_VALUE;
+            if (useInverseIndex) {
+                graph.forEachInverseRelationship(nodeId, this);
+            } else {
+                graph.forEachRelationship(nodeId, this);
+            }
+            if (minimumFrontierPosition != Long.MAX_VALUE) {
+                minimumChunk.set(nodeId, minimumFrontierPosition);
+                localNodes.add(nodeId);
+            }
+        }
+    }
+
+    @Override
+    public boolean accept(long sourceNodeId, long targetNodeId) {
+        if (visited.get(targetNodeId)) {
+            long position = minimumChunk.get(targetNodeId);
+            if (position >= frontierStart && position < minimumFrontierPosition) {
+                minimumFrontierPosition = position;
+                // the first frontier position cannot be undercut
+                return position != frontierStart;
+            }
+        }
+        return true;
+    }
+}
@@ -63,6 +63,13 @@ public class BfsMemoryEstimateDefinition implements AlgorithmMemoryEstimateDefin
             MemoryRange.of(dimensions.nodeCount() / 64)
         );
 
+        // bottom-up steps are only taken for undirected or inverse indexed graphs,
+        // at most all nodes are discovered by a bottom-up step from a frontier of all nodes
+        builder.rangePerNode("bottomUp", nodeCount -> MemoryRange.of(
+            0,
+            HugeLongArray.memoryEstimation(nodeCount) + MemoryUsage.sizeOfLongArrayList(nodeCount)
+        ));
+
         builder.perNode("resultNodes", HugeLongArray::memoryEstimation);
 
 
@@ -22,29 +22,36 @@ package org.neo4j.gds.paths.yens;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 
  class CandidatePathsPriorityQueue {
 
     private final ReentrantLock candidateLock;
     private final PriorityQueue<MutablePathResult> candidates;
+    // mirrors the queue content, so that duplicates are detected without scanning the queue
+    private final Set<MutablePathResult> candidateSet;
 
     CandidatePathsPriorityQueue(){
         this.candidateLock = new ReentrantLock();
         this.candidates = initCandidatesQueue();
+        this.candidateSet = new HashSet<>();
      }
 
     void addPath(MutablePathResult rootPath){
         candidateLock.lock();
-        if (!candidates.contains(rootPath)) {
+        if (candidateSet.add(rootPath)) {
             candidates.add(rootPath);
         }
         candidateLock.unlock();
     }
 
     MutablePathResult pop(){
-        return candidates.poll();
+        var path = candidates.poll();
+        candidateSet.remove(path);
+        return path;
     }
 
     boolean isEmpty(){
@@ -57,6 +57,15 @@ class RelationshipFilterer {
     void prepare(){
         Arrays.sort(neighbors,0,allNeighbors);
     }
+    // Unlike validRelationship, this check does not assume that the relationships
+    // of the spur node are tested in order and can be used independently of it.
+    boolean isBlocked(long target, long relationshipId) {
+        long forbidden = trackRelationships
+            ? relationshipId
+            : target;
+        return Arrays.binarySearch(neighbors, 0, allNeighbors, forbidden) >= 0;
+    }
+
      boolean validRelationship(long source, long target, long relationshipId) {
         if (source == filteringSpurNode) {
 
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.yens;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.paths.ImmutablePathResult;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+
+/**
+ * The shortest paths from every node to a single target node.
+ * <p>
+ * The tree is computed once by a Dijkstra traversal that starts at the target
+ * and follows the relationships backwards, which requires an undirected or
+ * an inverse indexed graph. Yen's algorithm uses it in two ways:
+ * <ul>
+ * <li>
+ * A spur path can often be completed without a traversal: if the tree path from
+ * the best admissible neighbor of the spur node avoids the root path, it is a
+ * shortest spur path (Feng's observation).
+ * </li>
+ * <li>
+ * Otherwise, the distances are an exact lower bound of the remaining cost
+ * and guide the spur traversal as an A* heuristic. Nodes without a path to the
+ * target are never expanded.
+ * </li>
+ * </ul>
+ */
+final class ReverseShortestPathTree {
+
+    static final long NO_SUCCESSOR = -1L;
+
+    private final long targetNode;
+    // distance from a node to the target, infinite if the target is unreachable
+    private final HugeDoubleArray distances;
+    // next node on a shortest path from a node to the target
+    private final HugeLongArray successors;
+
+    static boolean isSupported(Graph graph) {
+        return graph.characteristics().isUndirected() || graph.characteristics().isInverseIndexed();
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(ReverseShortestPathTree.class)
+            .perNode("distances", HugeDoubleArray::memoryEstimation)
+            .perNode("successors", HugeLongArray::memoryEstimation)
+            .add("queue", HugeLongPriorityQueue.memoryEstimation())
+            .build();
+    }
+
+    static ReverseShortestPathTree compute(
+        Graph graph,
+        long targetNode,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        assert isSupported(graph);
+
+        var nodeCount = graph.nodeCount();
+        var distances = HugeDoubleArray.newArray(nodeCount);
+        distances.fill(Double.POSITIVE_INFINITY);
+        var successors = HugeLongArray.newArray(nodeCount);
+        successors.fill(NO_SUCCESSOR);
+
+        var useInverseIndex = !graph.characteristics().isUndirected();
+        var queue = HugeLongPriorityQueue.min(nodeCount);
+        queue.add(targetNode, 0.0);
+
+        progressTracker.beginSubTask();
+        while (!queue.isEmpty() && terminationFlag.running()) {
+            var node = queue.pop();
+            var cost = queue.cost(node);
+            distances.set(node, cost);
+
+            RelationshipWithPropertyConsumer relaxPredecessor = (source, predecessor, weight) -> {
+                if (distances.get(predecessor) != Double.POSITIVE_INFINITY) {
+                    return true;
+                }
+                // same operand order as the forward traversal, so that the costs can be compared exactly
+                var newCost = weight + cost;
+                if (!queue.containsElement(predecessor)) {
+                    queue.add(predecessor, newCost);
+                    successors.set(predecessor, node);
+                } else if (newCost < queue.cost(predecessor)) {
+                    queue.set(predecessor, newCost);
+                    successors.set(predecessor, node);
+                }
+                return true;
+            };
+
+            if (useInverseIndex) {
+                progressTracker.logProgress(graph.degreeInverse(node));
+                graph.forEachInverseRelationship(node, 1.0D, relaxPredecessor);
+            } else {
+                progressTracker.logProgress(graph.degree(node));
+                graph.forEachRelationship(node, 1.0D, relaxPredecessor);
+            }
+        }
+        progressTracker.endSubTask();
+
+        return new ReverseShortestPathTree(targetNode, distances, successors);
+    }
+
+    private ReverseShortestPathTree(long targetNode, HugeDoubleArray distances, HugeLongArray successors) {
+        this.targetNode = targetNode;
+        this.distances = distances;
+        this.successors = successors;
+    }
+
+    long targetNode() {
+        return targetNode;
+    }
+
+    double distance(long node) {
+        return distances.get(node);
+    }
+
+    boolean reachesTarget(long node) {
+        return distances.get(node) != Double.POSITIVE_INFINITY;
+    }
+
+    long successor(long node) {
+        return successors.get(node);
+    }
+
+    /**
+     * The shortest path from the given node to the target, if there is one.
+     */
+    Optional<PathResult> shortestPath(Graph graph, long sourceNode, boolean trackRelationships) {
+        if (!reachesTarget(sourceNode)) {
+            return Optional.empty();
+        }
+        var path = new PathBuilder(sourceNode, trackRelationships);
+        return Optional.of(path.followTree(graph));
+    }
+
+    /**
+     * The path that starts with the given relationship of the spur node and then follows the tree.
+     */
+    PathResult spurPath(
+        Graph graph,
+        long spurNode,
+        long firstNode,
+        long firstRelationshipId,
+        double firstWeight,
+        boolean trackRelationships
+    ) {
+        var path = new PathBuilder(spurNode, trackRelationships);
+        path.append(firstNode, firstRelationshipId, firstWeight);
+        return path.followTree(graph);
+    }
+
+    private final class PathBuilder implements RelationshipWithPropertyConsumer {
+        private final long sourceNode;
+        private final boolean trackRelationships;
+        private final LongArrayList nodeIds;
+        private final LongArrayList relationshipIds;
+        private final DoubleArrayList costs;
+
+        private long successor;
+        private long relationshipId;
+        private long successorRelationshipId;
+        private double successorWeight;
+
+        PathBuilder(long sourceNode, boolean trackRelationships) {
+            this.sourceNode = sourceNode;
+            this.trackRelationships = trackRelationships;
+            this.nodeIds = new LongArrayList();
+            this.relationshipIds = new LongArrayList();
+            this.costs = new DoubleArrayList();
+
+            nodeIds.add(sourceNode);
+            costs.add(0.0D);
+        }
+
+        void append(long node, long relationshipId, double weight) {
+            nodeIds.add(node);
+            if (trackRelationships) {
+                relationshipIds.add(relationshipId);
+            }
+            // same operand order as Dijkstra, so that the costs are identical
+            costs.add(weight + costs.get(costs.size() - 1));
+        }
+
+        PathResult followTree(Graph graph) {
+            var node = nodeIds.get(nodeIds.size() - 1);
+            while (node != targetNode) {
+                successor = successors.get(node);
+                relationshipId = 0;
+                successorRelationshipId = -1;
+                successorWeight = Double.POSITIVE_INFINITY;
+                // parallel relationships may have different weights, the tree uses the lightest one
+                graph.forEachRelationship(node, 1.0D, this);
+                append(successor, successorRelationshipId, successorWeight);
+                node = successor;
+            }
+
+            return ImmutablePathResult.builder()
+                .index(0)
+                .sourceNode(sourceNode)
+                .targetNode(targetNode)
+                .nodeIds(nodeIds.toArray())
+                .relationshipIds(relationshipIds.toArray())
+                .costs(costs.toArray())
+                .build();
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double weight) {
+            if (targetNodeId == successor && weight < successorWeight) {
+                successorWeight = weight;
+                successorRelationshipId = relationshipId;
+            }
+            relationshipId++;
+            // without parallel relationships, the first match is the only one
+            return trackRelationships || successorRelationshipId == -1;
+        }
+    }
+}
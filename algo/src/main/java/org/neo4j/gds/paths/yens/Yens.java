@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.paths.yens;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.DefaultPool;
@@ -78,9 +79,26 @@ public final class Yens extends Algorithm<PathFindingResult> {
     public PathFindingResult compute() {
         progressTracker.beginSubTask("Yens");
         var kShortestPaths = new ArrayList<MutablePathResult>();
-        // compute top 1 shortest path
 
-        var shortestPath = findFirstPath();
+        // If the graph can be traversed backwards, the distances to the target
+        // are computed once and reused to complete or guide all spur paths.
+        var reverseShortestPathTree = ReverseShortestPathTree.isSupported(graph)
+            ? ReverseShortestPathTree.compute(
+                graph,
+                graph.toMappedNodeId(config.targetNode()),
+                progressTracker,
+                terminationFlag
+            )
+            : null;
+
+        // compute top 1 shortest path
+        var shortestPath = reverseShortestPathTree == null
+            ? findFirstPath()
+            : reverseShortestPathTree.shortestPath(
+                graph,
+                graph.toMappedNodeId(config.sourceNode()),
+                config.trackRelationships()
+            );
 
         // no shortest path has been found
         if (shortestPath.isEmpty()) {
@@ -93,7 +111,7 @@ public final class Yens extends Algorithm<PathFindingResult> {
 
         AtomicInteger currentSpurIndexId = new AtomicInteger(0);
 
-        var tasks = createTasks(kShortestPaths, candidatePathsQueue, currentSpurIndexId);
+        var tasks = createTasks(kShortestPaths, candidatePathsQueue, currentSpurIndexId, reverseShortestPathTree);
 
         progressTracker.beginSubTask("Path growing");
 
@@ -141,7 +159,8 @@ public final class Yens extends Algorithm<PathFindingResult> {
     private ArrayList<YensTask> createTasks(
         ArrayList<MutablePathResult> kShortestPaths,
         CandidatePathsPriorityQueue candidatePathsQueue,
-        AtomicInteger currentSpurIndexId
+        AtomicInteger currentSpurIndexId,
+        @Nullable ReverseShortestPathTree reverseShortestPathTree
     ) {
         var tasks = new ArrayList<YensTask>();
         for (int concurrentId = 0; concurrentId < config.concurrency(); ++concurrentId) {
@@ -152,7 +171,8 @@ public final class Yens extends Algorithm<PathFindingResult> {
                 candidatePathsQueue,
                 currentSpurIndexId,
                 config.trackRelationships(),
-                config.k()
+                config.k(),
+                reverseShortestPathTree
             ));
         }
         return tasks;
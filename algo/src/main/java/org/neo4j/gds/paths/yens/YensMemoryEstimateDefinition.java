@@ -29,6 +29,7 @@ public class YensMemoryEstimateDefinition implements AlgorithmMemoryEstimateDefi
     @Override
     public MemoryEstimation memoryEstimation(ShortestPathYensBaseConfig configuration) {
         return MemoryEstimations.builder(Yens.class)
+            .add("Reverse shortest path tree", ReverseShortestPathTree.memoryEstimation())
             .perThread("Yens Task", YensTask.memoryEstimation(configuration.k(), true))
             .build();
     }
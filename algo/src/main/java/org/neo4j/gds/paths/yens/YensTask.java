@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.paths.yens;
 
+import com.carrotsearch.hppc.LongHashSet;
+import org.apache.commons.lang3.mutable.MutableLong;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -51,6 +53,16 @@ public class YensTask implements Runnable {
     private final CandidatePathsPriorityQueue candidatePathsQueue;
     private final BiConsumer<MutablePathResult, PathResult> pathAppender;
 
+    // Distances to the target, if the graph can be traversed backwards (see ReverseShortestPathTree).
+    private final @Nullable ReverseShortestPathTree reverseShortestPathTree;
+    // Nodes of the root path, excluding the spur node.
+    private final LongHashSet rootNodes;
+    // The cheapest admissible first relationship of the current spur node.
+    private long firstNode;
+    private long firstRelationshipId;
+    private double firstWeight;
+    private double firstCost;
+
     public static MemoryEstimation memoryEstimation(int k, boolean trackRelationships) {
         return MemoryEstimations.builder(YensTask.class)
             .fixed("neighbors", MemoryUsage.sizeOfLongArray(k))
@@ -64,7 +76,8 @@ public class YensTask implements Runnable {
         CandidatePathsPriorityQueue candidatePathsQueue,
         AtomicInteger currentSpurIndexId,
         boolean trackRelationships,
-        int k
+        int k,
+        @Nullable ReverseShortestPathTree reverseShortestPathTree
     ) {
         this.currentSpurIndexId = currentSpurIndexId;
         this.localGraph = graph;
@@ -76,6 +89,8 @@ public class YensTask implements Runnable {
         this.candidatePathsQueue = candidatePathsQueue;
 
         this.relationshipFilterer = new RelationshipFilterer(k, trackRelationships);
+        this.reverseShortestPathTree = reverseShortestPathTree;
+        this.rootNodes = new LongHashSet();
         if (trackRelationships) {
             pathAppender = (rootPath, spurPath) -> rootPath.append(MutablePathResult.of(spurPath));
         } else {
@@ -92,9 +107,6 @@ public class YensTask implements Runnable {
         int indexId = currentSpurIndexId.getAndIncrement();
         int maxLength = previousPath.nodeCount() - 1; //-1 is because in source-a1-a2-t path we ignore t
         while (indexId < maxLength) {
-            if (localDijkstra == null) {
-                setupDijkstra();
-            }
             process(indexId);
             indexId = currentSpurIndexId.getAndIncrement();
         }
@@ -107,7 +119,9 @@ public class YensTask implements Runnable {
         createFilters(rootPath, spurNode, indexId);
 
         // Calculate the spur path from the spur node to the sink.
-        var spurPath = computeDijkstra(spurNode);
+        var spurPath = reverseShortestPathTree == null
+            ? computeDijkstra(rootPath, spurNode, indexId)
+            : computeSpurPath(rootPath, spurNode, indexId);
 
         // No new candidate from this spur node, continue with next node.
         if (!spurPath.isEmpty()) {
@@ -117,8 +131,6 @@ public class YensTask implements Runnable {
     }
 
     private void createFilters(MutablePathResult rootPath, long spurNode, int indexId) {
-        //clean all filters
-        localDijkstra.resetTraversalState();
         relationshipFilterer.setFilter(spurNode);
 
         for (var path : kShortestPaths) {
@@ -129,18 +141,74 @@ public class YensTask implements Runnable {
             }
         }
         relationshipFilterer.prepare();
+    }
+
+    private Optional<PathResult> computeDijkstra(MutablePathResult rootPath, long spurNode, int indexId) {
+        if (localDijkstra == null) {
+            setupDijkstra();
+        }
+        //clean all filters
+        localDijkstra.resetTraversalState();
         // Filter nodes from root path to avoid cyclic path searches.
         for (int j = 0; j < indexId; j++) {
             localDijkstra.withVisited(rootPath.node(j));
         }
-    }
-
-    private Optional<PathResult> computeDijkstra(long spurNode) {
         localDijkstra.withSourceNode(spurNode);
         var result = localDijkstra.compute().findFirst();
         return result;
     }
 
+    // Every spur path starts with an admissible relationship of the spur node and costs at least
+    // its weight plus the distance of its end node to the target. If the tree path from the end
+    // node of the cheapest such relationship avoids the root path, it is a shortest spur path.
+    // Otherwise, the spur path is searched with the tree distances as heuristic.
+    private Optional<PathResult> computeSpurPath(MutablePathResult rootPath, long spurNode, int indexId) {
+        rootNodes.clear();
+        for (int j = 0; j < indexId; j++) {
+            rootNodes.add(rootPath.node(j));
+        }
+
+        firstNode = ReverseShortestPathTree.NO_SUCCESSOR;
+        firstCost = Double.POSITIVE_INFINITY;
+        var relationshipId = new MutableLong();
+        localGraph.forEachRelationship(spurNode, 1.0D, (source, target, weight) -> {
+            var currentRelationshipId = relationshipId.getAndIncrement();
+            if (target != spurNode
+                && !rootNodes.contains(target)
+                && reverseShortestPathTree.reachesTarget(target)
+                && !relationshipFilterer.isBlocked(target, currentRelationshipId)) {
+                var cost = weight + reverseShortestPathTree.distance(target);
+                if (cost < firstCost) {
+                    firstNode = target;
+                    firstRelationshipId = currentRelationshipId;
+                    firstWeight = weight;
+                    firstCost = cost;
+                }
+            }
+            return true;
+        });
+
+        // the target cannot be reached from the spur node without the blocked relationships
+        if (firstNode == ReverseShortestPathTree.NO_SUCCESSOR) {
+            return Optional.empty();
+        }
+
+        for (long node = firstNode; node != reverseShortestPathTree.targetNode(); node = reverseShortestPathTree.successor(node)) {
+            if (node == spurNode || rootNodes.contains(node)) {
+                return computeDijkstra(rootPath, spurNode, indexId);
+            }
+        }
+
+        return Optional.of(reverseShortestPathTree.spurPath(
+            localGraph,
+            spurNode,
+            firstNode,
+            firstRelationshipId,
+            firstWeight,
+            trackRelationships
+        ));
+    }
+
     private void storePath(int indexId, MutablePathResult rootPath, Optional<PathResult> spurPath) {
 
         // Entire path is made up of the root path and spur path.
@@ -157,17 +225,26 @@ public class YensTask implements Runnable {
 
 
     private void setupDijkstra() {
+        Optional<Dijkstra.HeuristicFunction> heuristicFunction = reverseShortestPathTree == null
+            ? Optional.empty()
+            : Optional.of(reverseShortestPathTree::distance);
 
         this.localDijkstra = Dijkstra.sourceTarget(
             localGraph,
             Yens.dijkstraConfig(targetNode, trackRelationships),
-            Optional.empty(),
+            heuristicFunction,
             ProgressTracker.NULL_TRACKER
         );
 
         localDijkstra.withRelationshipFilter((source, target, relationshipId) ->
             relationshipFilterer.validRelationship(source, target, relationshipId)
         );
+        if (reverseShortestPathTree != null) {
+            // nodes that cannot reach the target do not need to be explored
+            localDijkstra.withRelationshipFilter((source, target, relationshipId) ->
+                reverseShortestPathTree.reachesTarget(target)
+            );
+        }
     }
 
 }
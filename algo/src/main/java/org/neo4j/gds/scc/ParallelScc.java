@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.scc;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
+
+import static org.neo4j.gds.scc.Scc.UNORDERED;
+
+/**
+ * Parallel strongly connected components following the Multistep approach:
+ *
+ * Slota, G. M., Rajamanickam, S., &amp; Madduri, K. (2014). BFS and Coloring-based Parallel Algorithms for
+ * Strongly Connected Components and Related Problems. IPDPS 2014.
+ *
+ * 1. Trim: nodes without an unassigned incoming or outgoing neighbour form a component on their own.
+ *    Trimming a node can make its neighbours trimmable, so trimming continues from the trimmed nodes.
+ * 2. Forward-backward: the nodes reachable from a high degree pivot that can also reach the pivot form its component.
+ *    On real world graphs this is typically the giant component.
+ * 3. Coloring: every node takes the largest node id that can reach it. A node that kept its own id is the root
+ *    of a component which consists of all nodes of the same color that reach the root.
+ *    Trim and coloring are repeated until every node is assigned.
+ * 4. Fallback: coloring assigns only the components whose root has the largest color, so a round can assign
+ *    as little as one component, for example on a long chain of small components whose ids decrease along it.
+ *    Once a round assigns less than 1 / {@value #SEQUENTIAL_FALLBACK_RATIO} of the remaining nodes,
+ *    the remaining nodes are assigned by {@link SequentialScc}, which takes a single pass over them.
+ *
+ * Only a single forward-backward pivot is used, the multi-pivot variant is not implemented.
+
+ * All phases are level synchronous traversals over a shared frontier which is expanded in parallel.
+ * Every node joins the frontier of a round at most once, which is guarded by the atomic bit sets.
+ * Requires the graph to be undirected or to have an inverse index.
+ */
+final class ParallelScc {
+
+    static final long SEQUENTIAL_FALLBACK_RATIO = 100;
+
+    private final Graph graph;
+    private final int concurrency;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+    private final boolean undirected;
+
+    private final HugeLongArray connectedComponents;
+    private final HugeAtomicBitSet assigned;
+    private final HugeAtomicBitSet visited;
+    private final HugeAtomicLongArray colors;
+
+    private HugeLongArray frontier;
+    private HugeLongArray nextFrontier;
+    private long frontierSize;
+    private final AtomicLong nextFrontierSize;
+
+    ParallelScc(
+        Graph graph,
+        int concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.concurrency = concurrency;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.undirected = graph.characteristics().isUndirected();
+
+        var nodeCount = graph.nodeCount();
+        this.connectedComponents = HugeLongArray.newArray(nodeCount);
+        this.assigned = HugeAtomicBitSet.create(nodeCount);
+        this.visited = HugeAtomicBitSet.create(nodeCount);
+        this.colors = HugeAtomicLongArray.of(nodeCount, ParalleLongPageCreator.identity(concurrency));
+        this.frontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontier = HugeLongArray.newArray(nodeCount);
+        this.nextFrontierSize = new AtomicLong();
+    }
+
+    HugeLongArray compute() {
+        connectedComponents.fill(UNORDERED);
+
+        long remainingNodes = graph.nodeCount() - trim();
+        if (remainingNodes > 0) {
+            remainingNodes -= forwardBackward(pivot());
+        }
+        while (remainingNodes > 0) {
+            terminationFlag.assertRunning();
+            long assignedNodes = color();
+            if (assignedNodes < remainingNodes) {
+                assignedNodes += trim();
+            }
+            remainingNodes -= assignedNodes;
+            if (remainingNodes > 0 && assignedNodes < remainingNodes / SEQUENTIAL_FALLBACK_RATIO) {
+                assignRemainingSequentially();
+                remainingNodes = 0;
+            }
+        }
+
+        return connectedComponents;
+    }
+
+    /**
+     * Assigns the components of the subgraph induced by the unassigned nodes in a single sequential pass.
+     */
+    private void assignRemainingSequentially() {
+        var remainingComponents = new SequentialScc(graph, progressTracker, terminationFlag, assigned::get).compute();
+        terminationFlag.assertRunning();
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            if (!assigned.get(nodeId)) {
+                connectedComponents.set(nodeId, remainingComponents.get(nodeId));
+            }
+        }
+    }
+
+    /**
+     * Assigns every node without an unassigned incoming or outgoing neighbour to a component on its own.
+     * Returns the number of trimmed nodes.
+     */
+    private long trim() {
+        scan((localGraph, nodeId, next) -> {
+            if (!assigned.get(nodeId) && isTrimmable(localGraph, nodeId) && !assigned.getAndSet(nodeId)) {
+                connectedComponents.set(nodeId, nodeId);
+                next.add(nodeId);
+            }
+        });
+
+        long trimmedNodes = 0;
+        while (frontierSize > 0) {
+            trimmedNodes += frontierSize;
+            progressTracker.logProgress(frontierSize);
+            expand((localGraph, nodeId, next) -> {
+                RelationshipVisitor trimNeighbour = target -> {
+                    if (!assigned.get(target) && isTrimmable(localGraph, target) && !assigned.getAndSet(target)) {
+                        connectedComponents.set(target, target);
+                        next.add(target);
+                    }
+                };
+                forEachOutgoing(localGraph, nodeId, trimNeighbour);
+                forEachIncoming(localGraph, nodeId, trimNeighbour);
+            });
+        }
+        return trimmedNodes;
+    }
+
+    private boolean isTrimmable(Graph localGraph, long nodeId) {
+        return !hasUnassignedNeighbour(localGraph, nodeId, false)
+               || !hasUnassignedNeighbour(localGraph, nodeId, true);
+    }
+
+    private boolean hasUnassignedNeighbour(Graph localGraph, long nodeId, boolean incoming) {
+        var found = new boolean[1];
+        RelationshipVisitor visitor = target -> {
+            if (target != nodeId && !assigned.get(target)) {
+                found[0] = true;
+            }
+        };
+        if (incoming) {
+            forEachIncoming(localGraph, nodeId, visitor, () -> !found[0]);
+        } else {
+            forEachOutgoing(localGraph, nodeId, visitor, () -> !found[0]);
+        }
+        return found[0];
+    }
+
+    /**
+     * Picks the unassigned node with the largest product of in- and out-degree,
+     * which is likely to be part of the largest component.
+     */
+    private long pivot() {
+        var candidates = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> new PivotTask(graph.concurrentCopy(), partition.startNode(), partition.nodeCount()),
+            Optional.empty()
+        );
+        RunWithConcurrency.builder().tasks(candidates).concurrency(concurrency).run();
+
+        var pivot = candidates.get(0);
+        for (var candidate : candidates) {
+            if (candidate.bestScore > pivot.bestScore) {
+                pivot = candidate;
+            }
+        }
+        return pivot.bestNode;
+    }
+
+    /**
+     * Assigns the component of the pivot: the intersection of the nodes reachable from the pivot
+     * and the nodes that reach the pivot. Returns the size of the component.
+     */
+    private long forwardBackward(long pivot) {
+        visited.set(pivot);
+        seed(pivot);
+        while (frontierSize > 0) {
+            terminationFlag.assertRunning();
+            expand((localGraph, nodeId, next) -> forEachOutgoing(localGraph, nodeId, target -> {
+                if (!assigned.get(target) && !visited.getAndSet(target)) {
+                    next.add(target);
+                }
+            }));
+        }
+
+        assigned.set(pivot);
+        connectedComponents.set(pivot, pivot);
+        seed(pivot);
+        long componentSize = 0;
+        while (frontierSize > 0) {
+            terminationFlag.assertRunning();
+            componentSize += frontierSize;
+            progressTracker.logProgress(frontierSize);
+            expand((localGraph, nodeId, next) -> forEachIncoming(localGraph, nodeId, target -> {
+                if (visited.get(target) && !assigned.getAndSet(target)) {
+                    connectedComponents.set(target, pivot);
+                    next.add(target);
+                }
+            }));
+        }
+
+        visited.clear();
+        return componentSize;
+    }
+
+    /**
+     * Propagates the largest node id along the outgoing relationships of the unassigned nodes
+     * and assigns the component of every node that kept its own id. Returns the number of assigned nodes.
+     */
+    private long color() {
+        scan((localGraph, nodeId, next) -> {
+            if (!assigned.get(nodeId)) {
+                colors.set(nodeId, nodeId);
+                visited.set(nodeId);
+                next.add(nodeId);
+            }
+        });
+
+        while (frontierSize > 0) {
+            terminationFlag.assertRunning();
+            expand((localGraph, nodeId, next) -> {
+                // clear before reading the color, so a concurrent increase re-queues the node
+                visited.clear(nodeId);
+                long color = colors.get(nodeId);
+                forEachOutgoing(localGraph, nodeId, target -> {
+                    if (assigned.get(target)) {
+                        return;
+                    }
+                    long targetColor = colors.get(target);
+                    while (targetColor < color) {
+                        long witness = colors.compareAndExchange(target, targetColor, color);
+                        if (witness == targetColor) {
+                            if (!visited.getAndSet(target)) {
+                                next.add(target);
+                            }
+                            break;
+                        }
+                        targetColor = witness;
+                    }
+                });
+            });
+        }
+
+        scan((localGraph, nodeId, next) -> {
+            if (!assigned.get(nodeId) && colors.get(nodeId) == nodeId) {
+                assigned.set(nodeId);
+                connectedComponents.set(nodeId, nodeId);
+                next.add(nodeId);
+            }
+        });
+
+        long assignedNodes = 0;
+        while (frontierSize > 0) {
+            terminationFlag.assertRunning();
+            assignedNodes += frontierSize;
+            progressTracker.logProgress(frontierSize);
+            expand((localGraph, nodeId, next) -> {
+                long color = colors.get(nodeId);
+                forEachIncoming(localGraph, nodeId, target -> {
+                    if (!assigned.get(target) && colors.get(target) == color && !assigned.getAndSet(target)) {
+                        connectedComponents.set(target, color);
+                        next.add(target);
+                    }
+                });
+            });
+        }
+        return assignedNodes;
+    }
+
+    private void seed(long nodeId) {
+        frontier.set(0, nodeId);
+        frontierSize = 1;
+    }
+
+    /**
+     * Visits all nodes of the graph, the collected nodes become the next frontier.
+     */
+    private void scan(FrontierVisitor visitor) {
+        traverse(graph.nodeCount(), index -> index, visitor);
+    }
+
+    /**
+     * Visits all nodes of the current frontier, the collected nodes become the next frontier.
+     */
+    private void expand(FrontierVisitor visitor) {
+        var currentFrontier = frontier;
+        traverse(frontierSize, currentFrontier::get, visitor);
+    }
+
+    private void traverse(long size, LongUnaryOperator nodeAt, FrontierVisitor visitor) {
+        nextFrontierSize.set(0);
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            size,
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                var next = new LongArrayList();
+                long end = partition.startNode() + partition.nodeCount();
+                for (long index = partition.startNode(); index < end; index++) {
+                    visitor.visit(localGraph, nodeAt.applyAsLong(index), next);
+                }
+                long offset = nextFrontierSize.getAndAdd(next.size());
+                for (int i = 0; i < next.size(); i++) {
+                    nextFrontier.set(offset + i, next.get(i));
+                }
+            },
+            Optional.empty()
+        );
+        if (tasks.size() == 1) {
+            // deep but narrow traversals produce many tiny frontiers, those are not worth a round trip to the pool
+            tasks.get(0).run();
+        } else {
+            RunWithConcurrency.builder().tasks(tasks).concurrency(concurrency).run();
+        }
+
+        var swap = frontier;
+        frontier = nextFrontier;
+        nextFrontier = swap;
+        frontierSize = nextFrontierSize.get();
+    }
+
+    private void forEachOutgoing(Graph localGraph, long nodeId, RelationshipVisitor visitor) {
+        forEachOutgoing(localGraph, nodeId, visitor, () -> true);
+    }
+
+    private void forEachOutgoing(Graph localGraph, long nodeId, RelationshipVisitor visitor, Continuation continuation) {
+        localGraph.forEachRelationship(nodeId, (source, target) -> {
+            visitor.visit(target);
+            return continuation.proceed();
+        });
+    }
+
+    private void forEachIncoming(Graph localGraph, long nodeId, RelationshipVisitor visitor) {
+        forEachIncoming(localGraph, nodeId, visitor, () -> true);
+    }
+
+    private void forEachIncoming(Graph localGraph, long nodeId, RelationshipVisitor visitor, Continuation continuation) {
+        if (undirected) {
+            forEachOutgoing(localGraph, nodeId, visitor, continuation);
+            return;
+        }
+        localGraph.forEachInverseRelationship(nodeId, (source, target) -> {
+            visitor.visit(target);
+            return continuation.proceed();
+        });
+    }
+
+    @FunctionalInterface
+    private interface FrontierVisitor {
+        void visit(Graph localGraph, long nodeId, LongArrayList next);
+    }
+
+    @FunctionalInterface
+    private interface RelationshipVisitor {
+        void visit(long target);
+    }
+
+    @FunctionalInterface
+    private interface Continuation {
+        boolean proceed();
+    }
+
+    private final class PivotTask implements Runnable {
+        private final Graph localGraph;
+        private final long startNode;
+        private final long endNode;
+        private long bestNode;
+        private long bestScore;
+
+        private PivotTask(Graph localGraph, long startNode, long nodeCount) {
+            this.localGraph = localGraph;
+            this.startNode = startNode;
+            this.endNode = startNode + nodeCount;
+            this.bestNode = -1;
+            this.bestScore = -1;
+        }
+
+        @Override
+        public void run() {
+            for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+                if (assigned.get(nodeId)) {
+                    continue;
+                }
+                long outDegree = localGraph.degree(nodeId);
+                long inDegree = undirected ? outDegree : localGraph.degreeInverse(nodeId);
+                long score = outDegree * inDegree;
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestNode = nodeId;
+                }
+            }
+        }
+    }
+}
@@ -19,46 +19,39 @@
  */
 package org.neo4j.gds.scc;
 
-import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.core.utils.paged.PagedLongStack;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 /**
- * huge iterative (non recursive) sequential strongly connected components algorithm.
+ * Strongly connected components.
  *
- * specified in:  http://code.activestate.com/recipes/578507-strongly-connected-components-of-a-directed-graph/
+ * If the relationships of the graph can be traversed backwards, i.e. the graph is undirected or has an inverse index,
+ * the components are computed in parallel by {@link ParallelScc}. Otherwise, the sequential {@link SequentialScc} is used.
  */
 public class Scc extends Algorithm<HugeLongArray> {
     public static final int UNORDERED = -1;
     public static final String SCC_DESCRIPTION = "The SCC algorithm finds sets of connected nodes in an directed graph, " +
                                                  "where all nodes in the same set form a connected component.";
     private final Graph graph;
-    private final HugeLongArrayStack boundaries;
-    private final HugeLongArray connectedComponents;
-    private final HugeLongArray index;
-    private final HugeLongArrayStack stack;
-    private final PagedLongStack todo; // stores nodeIds either positive (edge visit) or negative (node visit)
-    private final BitSet visited;
+    private final int concurrency;
 
     public Scc(
         Graph graph,
         ProgressTracker progressTracker
     ) {
-        super(progressTracker);
+        this(graph, 1, progressTracker);
+    }
 
+    public Scc(
+        Graph graph,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
         this.graph = graph;
-        var nodeCount = this.graph.nodeCount();
-
-        this.boundaries = HugeLongArrayStack.newStack(nodeCount);
-        this.connectedComponents = HugeLongArray.newArray(nodeCount);
-        this.index = HugeLongArray.newArray(nodeCount);
-        this.stack = HugeLongArrayStack.newStack(nodeCount);
-        this.todo = new PagedLongStack(nodeCount); //can be as high as `graph.relationshipsCount()` if we are unlucky...
-        this.visited = new BitSet(nodeCount);
+        this.concurrency = concurrency;
     }
 
     /**
@@ -66,88 +59,15 @@ public class Scc extends Algorithm<HugeLongArray> {
      */
     public HugeLongArray compute() {
         progressTracker.beginSubTask();
-        index.fill(UNORDERED);
-        connectedComponents.fill(UNORDERED);
-
-        graph.forEachNode(this::computePerNode); //this will visit 0 first
-        progressTracker.endSubTask();
-        return connectedComponents;
-    }
-
-    private boolean computePerNode(long nodeId) {
-        if (!terminationFlag.running()) {
-            return false;
-        }
-
-        if (index.get(nodeId) != UNORDERED) {
-            return true;
-        }
 
-        todo.push(-nodeId); //push nodeId as a node visit
-
-        while (!todo.isEmpty()) {
-            var node = todo.pop();
-
-            if (node < 0) { // if the node is <0, we know we are going to visit a node as a node
-                distinguishNodeVisitType(-node);
-            } else if (node > 0) { //otherwise  if it's positive, then it 's an edge
-                visitEdge(node);
-            } else { //the 0 case
-                //-0 = 0 , so a 0 can indicate two things:
-                // (i) either a visit edge to 0
-                // (ii) or a node visit to 0 (here stuck must be empty: either it's the first action or the last)
-                if (todo.isEmpty()) {
-                    distinguishNodeVisitType(0);
-                } else {    //otherwise, it's an edge action, do so
-                    visitEdge(0);
-                }
-            }
-        }
-        return true;
-    }
-
-    private void distinguishNodeVisitType(long node) {
-        if (index.get(node) != UNORDERED) { //last visit
-            postVisitNode(node);
-        } else {            //first visit
-            visitNode(node);
-        }
-    }
-
-    private void visitNode(long nodeId) {
-        final long stackSize = stack.size();
-        index.set(nodeId, stackSize);
-        stack.push(nodeId); // push to stack (at most one entry per vertex)
-        boundaries.push(stackSize); // push to stack (at most one entry per vertex)
-        todo.push(-nodeId);
-        graph.forEachRelationship(nodeId, (s, t) -> {
-            todo.push(t);
-            return true;
-        });
-    }
-
-    private void visitEdge(long nodeId) {
-        if (index.get(nodeId) == UNORDERED) {
-            todo.push(-nodeId); //organize a first visit to nodeId
-        } else if (!visited.get(nodeId)) {          //skip nodes already in a component
-            while (index.get(nodeId) < boundaries.peek()) {
-                boundaries.pop();
-            }
+        HugeLongArray connectedComponents;
+        if (graph.characteristics().isUndirected() || graph.characteristics().isInverseIndexed()) {
+            connectedComponents = new ParallelScc(graph, concurrency, progressTracker, terminationFlag).compute();
+        } else {
+            connectedComponents = new SequentialScc(graph, progressTracker, terminationFlag).compute();
         }
-    }
 
-    private void postVisitNode(long nodeId) {
-        if (boundaries.peek() == index.get(nodeId)) {
-            boundaries.pop();
-            long element;
-            do {
-                element = stack.pop(); //pop to stack
-                connectedComponents.set(element, nodeId);
-                visited.set(element);
-            } while (element != nodeId);
-        }
-        progressTracker.logProgress();
+        progressTracker.endSubTask();
+        return connectedComponents;
     }
-
-
 }
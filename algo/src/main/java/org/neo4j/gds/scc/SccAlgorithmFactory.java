@@ -32,6 +32,7 @@ public class SccAlgorithmFactory<CONFIG extends SccCommonBaseConfig> extends Gra
     public Scc build(Graph graph, CONFIG configuration, ProgressTracker progressTracker) {
         return new Scc(
             graph,
+            configuration.concurrency(),
             progressTracker
         );
     }
@@ -27,9 +27,12 @@ import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.similarity.filtering.NodeFilterSpec;
 import org.neo4j.gds.similarity.knn.KnnBaseConfig;
+import org.neo4j.gds.similarity.knn.KnnStrategy;
 
 import java.util.Collection;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
@@ -54,6 +57,17 @@ public interface FilteredKnnBaseConfig extends KnnBaseConfig {
         return false;
     }
 
+    @Value.Check
+    default void validateStrategy() {
+        if (strategy() != KnnStrategy.NNDESCENT) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Filtered KNN only supports the `%s` strategy, but got `%s`.",
+                KnnStrategy.NNDESCENT,
+                strategy()
+            ));
+        }
+    }
+
     @Configuration.GraphStoreValidationCheck
     default void validateSourceNodeFilter(
         GraphStore graphStore,
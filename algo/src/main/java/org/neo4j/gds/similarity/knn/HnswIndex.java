@@ -0,0 +1,621 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * An approximate nearest neighbour index over all nodes of a graph,
+ * based on hierarchical navigable small world graphs (Malkov and Yashunin, 2016).
+ * <p>
+ * Every node is assigned a random top layer, with the probability of reaching a layer decaying exponentially.
+ * On every layer a node is connected to at most {@code maxConnections} similar nodes, on the bottom layer to twice as many.
+ * Neighbours are chosen with the diversity heuristic of the paper: a candidate is only kept if it is more similar
+ * to the node than to any neighbour kept before, which keeps far away clusters reachable.
+ * Queries descend greedily through the upper layers and run a best-first search on the bottom layer.
+ * <p>
+ * The index is built in parallel. Neighbour lists are guarded by the monitor of their node,
+ * only inserting a node that becomes the new top entry point is serialized.
+ * Once built, the index is immutable and can be queried concurrently.
+ */
+public final class HnswIndex {
+
+    // higher layers are practically never drawn, capping them bounds the per node arrays
+    private static final int MAX_LEVEL = 16;
+
+    public static MemoryEstimation memoryEstimation(int maxConnections) {
+        // on average a node has 1 / (maxConnections - 1) layers above the bottom layer
+        long bottomLayer = sizeOfInstance(Node.class)
+                           + sizeOfObjectArray(1)
+                           + sizeOfIntArray(1)
+                           + sizeOfLongArray(2L * maxConnections);
+        long upperLayers = (sizeOfLongArray(maxConnections) + Long.BYTES) / (maxConnections - 1);
+
+        return MemoryEstimations.builder(HnswIndex.class)
+            .perNode("layers", nodeCount -> HugeObjectArray.memoryEstimation(nodeCount, bottomLayer + upperLayers))
+            .build();
+    }
+
+    public static HnswIndex build(
+        IdMap idMap,
+        SimilarityFunction similarityFunction,
+        HnswParameters parameters,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        var index = new HnswIndex(idMap, similarityFunction, parameters);
+        index.insertAll(concurrency, executorService, progressTracker, terminationFlag);
+        return index;
+    }
+
+    private final IdMap idMap;
+    private final SimilarityFunction similarityFunction;
+    private final HnswParameters parameters;
+    private final HugeObjectArray<Node> nodes;
+    private final long levelSeed;
+    private final double levelMultiplier;
+    private final Object entryPointLock;
+    private final LongAdder buildComparisons;
+
+    private volatile EntryPoint entryPoint;
+
+    private HnswIndex(IdMap idMap, SimilarityFunction similarityFunction, HnswParameters parameters) {
+        this.idMap = idMap;
+        this.similarityFunction = similarityFunction;
+        this.parameters = parameters;
+        this.nodes = HugeObjectArray.newArray(Node.class, idMap.nodeCount());
+        this.levelSeed = parameters.randomSeed().orElseGet(() -> new SplittableRandom().nextLong());
+        this.levelMultiplier = 1.0 / Math.log(parameters.maxConnections());
+        this.entryPointLock = new Object();
+        this.buildComparisons = new LongAdder();
+    }
+
+    public IdMap idMap() {
+        return idMap;
+    }
+
+    public HnswParameters parameters() {
+        return parameters;
+    }
+
+    public long nodeCount() {
+        return nodes.size();
+    }
+
+    /**
+     * The top layer of the index, or -1 if the index is empty.
+     */
+    public int maxLevel() {
+        var entry = entryPoint;
+        return entry == null ? -1 : entry.level;
+    }
+
+    /**
+     * The number of similarities computed while building the index.
+     */
+    public long buildComparisons() {
+        return buildComparisons.sum();
+    }
+
+    /**
+     * Returns up to {@code k} nodes that are most similar to the given node, excluding the node itself,
+     * in descending order of similarity. Node ids are mapped ids of the indexed graph.
+     */
+    public List<SimilarityResult> search(long nodeId, int k) {
+        return search(nodeId, k, parameters.efSearch());
+    }
+
+    public List<SimilarityResult> search(long nodeId, int k, int ef) {
+        var searcher = newSearcher();
+        int found = search(nodeId, k, ef, searcher);
+        var results = new ArrayList<SimilarityResult>(Math.min(found, k));
+        for (int i = 0; i < found && results.size() < k; i++) {
+            long neighbor = searcher.resultId(i);
+            if (neighbor != nodeId) {
+                results.add(new SimilarityResult(nodeId, neighbor, searcher.resultScore(i)));
+            }
+        }
+        return results;
+    }
+
+    Searcher newSearcher() {
+        return new Searcher();
+    }
+
+    /**
+     * Searches the neighbours of the given node and leaves them in descending order of similarity in the searcher.
+     * The result may contain the node itself.
+     *
+     * @return the number of found nodes
+     */
+    int search(long nodeId, int k, int ef, Searcher searcher) {
+        var entry = entryPoint;
+        if (entry == null) {
+            return 0;
+        }
+        searcher.start(nodeId, entry.nodeId);
+        for (int layer = entry.level; layer > 0; layer--) {
+            searcher.searchLayer(layer, 1);
+        }
+        searcher.searchLayer(0, Math.max(ef, k + 1));
+        return searcher.resultCount;
+    }
+
+    private void insertAll(
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        long nodeCount = nodes.size();
+        int maxConnections = parameters.maxConnections();
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            terminationFlag,
+            nodeId -> nodes.set(nodeId, new Node(randomLevel(nodeId), maxConnections))
+        );
+        if (nodeCount == 0) {
+            return;
+        }
+
+        // the first node becomes the entry point, all others are linked to existing nodes
+        var firstSearcher = newSearcher();
+        insert(0, firstSearcher);
+        progressTracker.logProgress(1);
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var searcher = newSearcher();
+                partition.consume(nodeId -> {
+                    if (nodeId != 0) {
+                        insert(nodeId, searcher);
+                    }
+                });
+                buildComparisons.add(searcher.comparisons);
+                progressTracker.logProgress(partition.startNode() == 0 ? partition.nodeCount() - 1 : partition.nodeCount());
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private int randomLevel(long nodeId) {
+        // derived from the node id instead of a shared random, so levels do not depend on the partitioning
+        long hash = mix(levelSeed + nodeId * 0x9E3779B97F4A7C15L);
+        double uniform = ((hash >>> 11) + 1) * 0x1.0p-53;
+        return (int) Math.min(MAX_LEVEL, Math.floor(-Math.log(uniform) * levelMultiplier));
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private void insert(long nodeId, Searcher searcher) {
+        int level = nodes.get(nodeId).level();
+        var entry = entryPoint;
+        if (entry == null || level > entry.level) {
+            synchronized (entryPointLock) {
+                entry = entryPoint;
+                if (entry == null) {
+                    entryPoint = new EntryPoint(nodeId, level);
+                    return;
+                }
+                if (level > entry.level) {
+                    link(nodeId, level, entry, searcher);
+                    entryPoint = new EntryPoint(nodeId, level);
+                    return;
+                }
+            }
+        }
+        link(nodeId, level, entry, searcher);
+    }
+
+    private void link(long nodeId, int level, EntryPoint entry, Searcher searcher) {
+        searcher.start(nodeId, entry.nodeId);
+        for (int layer = entry.level; layer > level; layer--) {
+            searcher.searchLayer(layer, 1);
+        }
+        for (int layer = Math.min(level, entry.level); layer >= 0; layer--) {
+            searcher.searchLayer(layer, parameters.efConstruction());
+            int selected = searcher.selectNeighbors(capacity(layer));
+            for (int i = 0; i < selected; i++) {
+                long neighbor = searcher.selectedIds[i];
+                double similarity = searcher.selectedScores[i];
+                connect(nodeId, layer, neighbor, similarity, searcher);
+                connect(neighbor, layer, nodeId, similarity, searcher);
+            }
+        }
+    }
+
+    private void connect(long nodeId, int layer, long neighbor, double similarity, Searcher searcher) {
+        var node = nodes.get(nodeId);
+        synchronized (node) {
+            long[] neighbors = node.neighbors[layer];
+            int degree = node.degrees[layer];
+            for (int i = 0; i < degree; i++) {
+                if (neighbors[i] == neighbor) {
+                    return;
+                }
+            }
+            if (degree < neighbors.length) {
+                neighbors[degree] = neighbor;
+                node.degrees[layer] = degree + 1;
+            } else {
+                node.degrees[layer] = searcher.prune(nodeId, neighbors, degree, neighbor, similarity);
+            }
+        }
+    }
+
+    private int capacity(int layer) {
+        return layer == 0 ? 2 * parameters.maxConnections() : parameters.maxConnections();
+    }
+
+    private static final class EntryPoint {
+        private final long nodeId;
+        private final int level;
+
+        private EntryPoint(long nodeId, int level) {
+            this.nodeId = nodeId;
+            this.level = level;
+        }
+    }
+
+    private static final class Node {
+        private final long[][] neighbors;
+        private final int[] degrees;
+
+        private Node(int level, int maxConnections) {
+            this.neighbors = new long[level + 1][];
+            this.degrees = new int[level + 1];
+            for (int layer = 0; layer <= level; layer++) {
+                neighbors[layer] = new long[layer == 0 ? 2 * maxConnections : maxConnections];
+            }
+        }
+
+        private int level() {
+            return degrees.length - 1;
+        }
+
+        private synchronized int copyNeighbors(int layer, long[] into) {
+            if (layer >= degrees.length) {
+                return 0;
+            }
+            int degree = degrees[layer];
+            System.arraycopy(neighbors[layer], 0, into, 0, degree);
+            return degree;
+        }
+    }
+
+    /**
+     * Per thread state for searching and linking nodes.
+     */
+    final class Searcher {
+        private final LongHashSet visited;
+        private final CandidateHeap candidates;
+        private final CandidateHeap results;
+        private final long[] neighborBuffer;
+
+        private long query;
+        private long[] resultIds;
+        private double[] resultScores;
+        private int resultCount;
+
+        private long[] selectedIds;
+        private double[] selectedScores;
+
+        // separate from the selection, which is still being linked while neighbour lists are pruned
+        private final long[] prunedIds;
+        private final double[] prunedScores;
+
+        private long comparisons;
+
+        private Searcher() {
+            int bottomCapacity = capacity(0);
+            this.visited = new LongHashSet();
+            this.candidates = new CandidateHeap(false);
+            this.results = new CandidateHeap(true);
+            this.neighborBuffer = new long[bottomCapacity];
+            this.resultIds = new long[bottomCapacity];
+            this.resultScores = new double[bottomCapacity];
+            this.selectedIds = new long[bottomCapacity];
+            this.selectedScores = new double[bottomCapacity];
+            this.prunedIds = new long[bottomCapacity + 1];
+            this.prunedScores = new double[bottomCapacity + 1];
+        }
+
+        long resultId(int index) {
+            return resultIds[index];
+        }
+
+        double resultScore(int index) {
+            return resultScores[index];
+        }
+
+        long comparisons() {
+            return comparisons;
+        }
+
+        private double similarity(long first, long second) {
+            comparisons++;
+            return similarityFunction.computeSimilarity(first, second);
+        }
+
+        private void start(long query, long entryNode) {
+            this.query = query;
+            this.resultIds[0] = entryNode;
+            this.resultScores[0] = similarity(query, entryNode);
+            this.resultCount = 1;
+        }
+
+        /**
+         * Best-first search on one layer, starting from the current results.
+         * Replaces the results with the {@code ef} most similar nodes that were found.
+         */
+        private void searchLayer(int layer, int ef) {
+            visited.clear();
+            candidates.clear();
+            results.clear();
+            for (int i = 0; i < resultCount; i++) {
+                visited.add(resultIds[i]);
+                candidates.push(resultIds[i], resultScores[i]);
+                results.push(resultIds[i], resultScores[i]);
+                if (results.size() > ef) {
+                    results.pop();
+                }
+            }
+
+            while (candidates.size() > 0) {
+                long candidate = candidates.topId();
+                double candidateScore = candidates.topScore();
+                candidates.pop();
+                if (results.size() >= ef && candidateScore < results.topScore()) {
+                    break;
+                }
+
+                int degree = nodes.get(candidate).copyNeighbors(layer, neighborBuffer);
+                for (int i = 0; i < degree; i++) {
+                    long neighbor = neighborBuffer[i];
+                    if (!visited.add(neighbor)) {
+                        continue;
+                    }
+                    double score = similarity(query, neighbor);
+                    if (results.size() < ef || score > results.topScore()) {
+                        candidates.push(neighbor, score);
+                        results.push(neighbor, score);
+                        if (results.size() > ef) {
+                            results.pop();
+                        }
+                    }
+                }
+            }
+
+            resultCount = results.size();
+            if (resultIds.length < resultCount) {
+                resultIds = new long[resultCount];
+                resultScores = new double[resultCount];
+            }
+            for (int i = resultCount - 1; i >= 0; i--) {
+                resultIds[i] = results.topId();
+                resultScores[i] = results.topScore();
+                results.pop();
+            }
+        }
+
+        /**
+         * Picks the neighbours of the query among the current results.
+         */
+        private int selectNeighbors(int maxCount) {
+            ensureSelectionCapacity(resultCount);
+            int count = 0;
+            for (int i = 0; i < resultCount; i++) {
+                if (resultIds[i] != query) {
+                    selectedIds[count] = resultIds[i];
+                    selectedScores[count] = resultScores[i];
+                    count++;
+                }
+            }
+            return keepDiverse(selectedIds, selectedScores, count, maxCount);
+        }
+
+        /**
+         * Shrinks a full neighbour list after adding one more neighbour.
+         * The caller holds the monitor of the node.
+         *
+         * @return the new degree
+         */
+        private int prune(long nodeId, long[] neighbors, int degree, long newNeighbor, double newSimilarity) {
+            for (int i = 0; i < degree; i++) {
+                prunedIds[i] = neighbors[i];
+                prunedScores[i] = similarity(nodeId, neighbors[i]);
+            }
+            prunedIds[degree] = newNeighbor;
+            prunedScores[degree] = newSimilarity;
+            sortDescending(prunedIds, prunedScores, degree + 1);
+
+            int kept = keepDiverse(prunedIds, prunedScores, degree + 1, neighbors.length);
+            System.arraycopy(prunedIds, 0, neighbors, 0, kept);
+            return kept;
+        }
+
+        /**
+         * Compacts the candidates, which are sorted by descending similarity to the base node,
+         * to those that are more similar to the base node than to any candidate kept before.
+         */
+        private int keepDiverse(long[] ids, double[] scores, int count, int maxCount) {
+            int kept = 0;
+            for (int candidate = 0; candidate < count && kept < maxCount; candidate++) {
+                long candidateId = ids[candidate];
+                double candidateScore = scores[candidate];
+                boolean diverse = true;
+                for (int i = 0; i < kept; i++) {
+                    if (similarity(candidateId, ids[i]) > candidateScore) {
+                        diverse = false;
+                        break;
+                    }
+                }
+                if (diverse) {
+                    ids[kept] = candidateId;
+                    scores[kept] = candidateScore;
+                    kept++;
+                }
+            }
+            return kept;
+        }
+
+        private void ensureSelectionCapacity(int capacity) {
+            if (selectedIds.length < capacity) {
+                selectedIds = Arrays.copyOf(selectedIds, capacity);
+                selectedScores = Arrays.copyOf(selectedScores, capacity);
+            }
+        }
+    }
+
+    private static void sortDescending(long[] ids, double[] scores, int count) {
+        // the lists are short, insertion sort avoids boxing
+        for (int i = 1; i < count; i++) {
+            long id = ids[i];
+            double score = scores[i];
+            int j = i - 1;
+            while (j >= 0 && scores[j] < score) {
+                ids[j + 1] = ids[j];
+                scores[j + 1] = scores[j];
+                j--;
+            }
+            ids[j + 1] = id;
+            scores[j + 1] = score;
+        }
+    }
+
+    /**
+     * A binary heap of node ids ordered by their similarity.
+     */
+    private static final class CandidateHeap {
+        private final boolean leastSimilarFirst;
+        private long[] ids;
+        private double[] scores;
+        private int size;
+
+        private CandidateHeap(boolean leastSimilarFirst) {
+            this.leastSimilarFirst = leastSimilarFirst;
+            this.ids = new long[16];
+            this.scores = new double[16];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        long topId() {
+            return ids[0];
+        }
+
+        double topScore() {
+            return scores[0];
+        }
+
+        void push(long id, double score) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            int index = size++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!before(score, scores[parent])) {
+                    break;
+                }
+                ids[index] = ids[parent];
+                scores[index] = scores[parent];
+                index = parent;
+            }
+            ids[index] = id;
+            scores[index] = score;
+        }
+
+        void pop() {
+            size--;
+            if (size == 0) {
+                return;
+            }
+            long id = ids[size];
+            double score = scores[size];
+            int index = 0;
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                int right = child + 1;
+                if (right < size && before(scores[right], scores[child])) {
+                    child = right;
+                }
+                if (!before(scores[child], score)) {
+                    break;
+                }
+                ids[index] = ids[child];
+                scores[index] = scores[child];
+                index = child;
+            }
+            ids[index] = id;
+            scores[index] = score;
+        }
+
+        private boolean before(double first, double second) {
+            return leastSimilarFirst ? first < second : first > second;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.loading.GraphExtensionKey;
+import org.neo4j.gds.core.loading.GraphExtensionScope;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@link HnswIndex}es next to their graphs in the {@link GraphStoreCatalog},
+ * so that repeated KNN queries with the {@link KnnStrategy#HNSW} strategy do not rebuild the index.
+ * <p>
+ * An index is built on first use for each graph view, combination of node properties and index parameters.
+ * It is discarded as soon as its graph is changed or removed.
+ * The search parameter {@link HnswParameters#efSearch()} does not affect the index and may differ between queries.
+ */
+public final class HnswIndexCatalog {
+
+    private HnswIndexCatalog() {}
+
+    public static HnswIndexProvider provider(String username, DatabaseId databaseId, String graphName) {
+        return (graph, nodeProperties, parameters, builder) -> GraphStoreCatalog.computeExtensionIfAbsent(
+            username,
+            databaseId,
+            graphName,
+            extensionKey(graph, nodeProperties, parameters),
+            GraphExtensionScope.GRAPH,
+            HnswIndex.class,
+            graphStore -> builder.get()
+        );
+    }
+
+    static String extensionKey(Graph graph, List<KnnNodePropertySpec> nodeProperties, HnswParameters parameters) {
+        var properties = nodeProperties
+            .stream()
+            .map(spec -> spec.name() + ":" + spec.metric())
+            .collect(Collectors.joining(","));
+        return GraphExtensionKey.of(
+            "hnsw",
+            graph,
+            Optional.empty(),
+            Map.of(
+                "nodeProperties", properties,
+                "maxConnections", parameters.maxConnections(),
+                "efConstruction", parameters.efConstruction(),
+                "randomSeed", parameters.randomSeed().map(String::valueOf).orElse("none")
+            )
+        );
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.ValueClass;
+
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@ValueClass
+public interface HnswParameters {
+
+    /**
+     * The number of neighbours a node keeps on every layer above the bottom layer.
+     * The bottom layer keeps twice as many.
+     */
+    int maxConnections();
+
+    /**
+     * The size of the candidate list while inserting nodes into the index.
+     */
+    int efConstruction();
+
+    /**
+     * The size of the candidate list while searching the index, raised to {@code k + 1} for larger queries.
+     */
+    int efSearch();
+
+    Optional<Long> randomSeed();
+
+    @Value.Check
+    default void validate() {
+        if (maxConnections() < 2) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The maximum number of connections must be at least 2, but got %d.",
+                maxConnections()
+            ));
+        }
+        if (efConstruction() < 1 || efSearch() < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The candidate list sizes must be positive, but got %d for construction and %d for search.",
+                efConstruction(),
+                efSearch()
+            ));
+        }
+    }
+
+    static HnswParameters of(int maxConnections, int efConstruction, int efSearch, Optional<Long> randomSeed) {
+        return ImmutableHnswParameters.of(maxConnections, efConstruction, efSearch, randomSeed);
+    }
+}
@@ -29,9 +29,11 @@ import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.LongStream;
 
 public class Knn extends Algorithm<KnnResult> {
@@ -42,6 +44,24 @@ public class Knn extends Algorithm<KnnResult> {
         SimilarityComputer similarityComputer,
         NeighborFilterFactory neighborFilterFactory,
         KnnContext context
+    ) {
+        return create(
+            graph,
+            parameters,
+            similarityComputer,
+            neighborFilterFactory,
+            context,
+            HnswIndexProvider.BUILD
+        );
+    }
+
+    public static Knn create(
+        Graph graph,
+        KnnParameters parameters,
+        SimilarityComputer similarityComputer,
+        NeighborFilterFactory neighborFilterFactory,
+        KnnContext context,
+        HnswIndexProvider hnswIndexProvider
     ) {
         var similarityFunction = new SimilarityFunction(similarityComputer);
         return new Knn(
@@ -59,7 +79,10 @@ public class Knn extends Algorithm<KnnResult> {
             parameters.samplerType(),
             similarityFunction,
             neighborFilterFactory,
-            NeighbourConsumers.no_op
+            NeighbourConsumers.no_op,
+            parameters.hnswParameters(),
+            parameters.nodePropertySpecs(),
+            hnswIndexProvider
         );
     }
 
@@ -75,6 +98,13 @@ public class Knn extends Algorithm<KnnResult> {
     private final GenerateRandomNeighbors.Factory generateRandomNeighborsFactory;
     private final SplitOldAndNewNeighbors.Factory splitOldAndNewNeighborsFactory;
     private final long updateThreshold;
+    private final int topK;
+    private final SimilarityFunction similarityFunction;
+    private final NeighbourConsumers neighborConsumers;
+    private final SplittableRandom splittableRandom;
+    private final Optional<HnswParameters> hnswParameters;
+    private final List<KnnNodePropertySpec> nodePropertySpecs;
+    private final HnswIndexProvider hnswIndexProvider;
 
     public Knn(
         Graph graph,
@@ -92,6 +122,48 @@ public class Knn extends Algorithm<KnnResult> {
         SimilarityFunction similarityFunction,
         NeighborFilterFactory neighborFilterFactory,
         NeighbourConsumers neighborConsumers
+    ) {
+        this(
+            graph,
+            progressTracker,
+            executorService,
+            k,
+            concurrency,
+            minBatchSize,
+            maxIterations,
+            similarityCutoff,
+            perturbationRate,
+            randomJoins,
+            randomSeed,
+            initialSamplerType,
+            similarityFunction,
+            neighborFilterFactory,
+            neighborConsumers,
+            Optional.empty(),
+            List.of(),
+            HnswIndexProvider.BUILD
+        );
+    }
+
+    Knn(
+        Graph graph,
+        ProgressTracker progressTracker,
+        ExecutorService executorService,
+        K k,
+        int concurrency,
+        int minBatchSize,
+        int maxIterations,
+        double similarityCutoff,
+        double perturbationRate,
+        int randomJoins,
+        Optional<Long> randomSeed,
+        KnnSampler.SamplerType initialSamplerType,
+        SimilarityFunction similarityFunction,
+        NeighborFilterFactory neighborFilterFactory,
+        NeighbourConsumers neighborConsumers,
+        Optional<HnswParameters> hnswParameters,
+        List<KnnNodePropertySpec> nodePropertySpecs,
+        HnswIndexProvider hnswIndexProvider
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -103,8 +175,15 @@ public class Knn extends Algorithm<KnnResult> {
         this.executorService = executorService;
 
         this.updateThreshold = k.updateThreshold;
+        this.topK = k.value;
+        this.similarityFunction = similarityFunction;
+        this.neighborConsumers = neighborConsumers;
+        this.hnswParameters = hnswParameters;
+        this.nodePropertySpecs = nodePropertySpecs;
+        this.hnswIndexProvider = hnswIndexProvider;
 
         var splittableRandom = randomSeed.map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        this.splittableRandom = splittableRandom;
         switch (initialSamplerType) {
             case UNIFORM:
                 this.samplerFactory = new UniformKnnSampler.Factory(graph.nodeCount(), splittableRandom);
@@ -146,6 +225,9 @@ public class Knn extends Algorithm<KnnResult> {
         if (graph.nodeCount() < 2) {
             return new EmptyResult();
         }
+        if (hnswParameters.isPresent()) {
+            return computeWithIndex(hnswParameters.get());
+        }
         progressTracker.beginSubTask();
         progressTracker.beginSubTask();
         var neighbors = initializeRandomNeighbors();
@@ -164,6 +246,88 @@ public class Knn extends Algorithm<KnnResult> {
                 break;
             }
         }
+        filterBySimilarityCutoff(neighbors);
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+        return ImmutableKnnResult.of(
+            neighbors.data(),
+            iteration,
+            didConverge,
+            neighbors.neighborsFound() + neighbors.joinCounter(),
+            graph.nodeCount()
+        );
+    }
+
+    private KnnResult computeWithIndex(HnswParameters hnswParameters) {
+        progressTracker.beginSubTask();
+        progressTracker.beginSubTask();
+        // an index reused from the provider did not compare any nodes for this computation
+        var buildComparisons = new LongAdder();
+        var index = hnswIndexProvider.hnswIndex(graph, nodePropertySpecs, hnswParameters, () -> {
+            var builtIndex = HnswIndex.build(
+                graph,
+                similarityFunction,
+                hnswParameters,
+                concurrency,
+                executorService,
+                progressTracker,
+                terminationFlag
+            );
+            buildComparisons.add(builtIndex.buildComparisons());
+            return builtIndex;
+        });
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        var neighbors = new Neighbors(HugeObjectArray.newArray(NeighborList.class, graph.nodeCount()));
+        var searchComparisons = new LongAdder();
+        var searchTasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> {
+                var random = splittableRandom.split();
+                var neighborFilter = neighborFilterFactory.create();
+                return (Runnable) () -> {
+                    var searcher = index.newSearcher();
+                    partition.consume(nodeId -> {
+                        var neighborList = new NeighborList(topK, neighborConsumers.get(nodeId));
+                        int found = index.search(nodeId, topK, hnswParameters.efSearch(), searcher);
+                        for (int i = 0; i < found; i++) {
+                            long candidate = searcher.resultId(i);
+                            if (!neighborFilter.excludeNodePair(nodeId, candidate)) {
+                                neighborList.add(candidate, searcher.resultScore(i), random, 0.0);
+                            }
+                        }
+                        neighbors.data().set(nodeId, neighborList);
+                    });
+                    searchComparisons.add(searcher.comparisons());
+                    progressTracker.logProgress(partition.nodeCount());
+                };
+            },
+            Optional.of(minBatchSize)
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(searchTasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        filterBySimilarityCutoff(neighbors);
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+        return ImmutableKnnResult.of(
+            neighbors.data(),
+            0,
+            true,
+            buildComparisons.sum() + searchComparisons.sum(),
+            graph.nodeCount()
+        );
+    }
+
+    private void filterBySimilarityCutoff(Neighbors neighbors) {
         if (similarityCutoff > 0) {
             var neighborFilterTasks = PartitionUtils.rangePartition(
                 concurrency,
@@ -180,16 +344,6 @@ public class Knn extends Algorithm<KnnResult> {
                 .executor(executorService)
                 .run();
         }
-        progressTracker.endSubTask();
-
-        progressTracker.endSubTask();
-        return ImmutableKnnResult.of(
-            neighbors.data(),
-            iteration,
-            didConverge,
-            neighbors.neighborsFound() + neighbors.joinCounter(),
-            graph.nodeCount()
-        );
     }
 
     private Neighbors initializeRandomNeighbors() {
@@ -27,6 +27,7 @@ import org.neo4j.gds.config.IterationsConfig;
 import org.neo4j.gds.config.SingleThreadedRandomSeedConfig;
 
 import java.util.List;
+import java.util.Optional;
 
 @ValueClass
 @Configuration
@@ -93,6 +94,31 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleT
         return KnnSampler.SamplerType.UNIFORM;
     }
 
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.similarity.knn.KnnStrategy#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.knn.KnnStrategy#toString")
+    default KnnStrategy strategy() {
+        return KnnStrategy.NNDESCENT;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 2)
+    default int hnswMaxConnections() {
+        return 16;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int hnswEfConstruction() {
+        return 100;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int hnswEfSearch() {
+        return 64;
+    }
+
     @Value.Default
     @Configuration.Ignore
     default K k(long nodeCount) {
@@ -114,7 +140,10 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleT
             minBatchSize(),
             initialSampler(),
             randomSeed(),
-            nodeProperties()
+            nodeProperties(),
+            strategy() == KnnStrategy.HNSW
+                ? Optional.of(HnswParameters.of(hnswMaxConnections(), hnswEfConstruction(), hnswEfSearch(), randomSeed()))
+                : Optional.empty()
         );
     }
 
@@ -44,6 +44,16 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
 
     private static final String KNN_BASE_TASK_NAME = "Knn";
 
+    private final HnswIndexProvider hnswIndexProvider;
+
+    public KnnFactory() {
+        this(HnswIndexProvider.BUILD);
+    }
+
+    public KnnFactory(HnswIndexProvider hnswIndexProvider) {
+        this.hnswIndexProvider = hnswIndexProvider;
+    }
+
     @Override
     public String taskName() {
         return KNN_BASE_TASK_NAME;
@@ -63,7 +73,8 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
                 .builder()
                 .progressTracker(progressTracker)
                 .executor(DefaultPool.INSTANCE)
-                .build()
+                .build(),
+            hnswIndexProvider
         );
     }
 
@@ -97,9 +108,20 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        if (config.strategy() == KnnStrategy.HNSW) {
+            return hnswTaskTree(graph.nodeCount());
+        }
         return knnTaskTree(graph.nodeCount(), config.maxIterations());
     }
 
+    public static Task hnswTaskTree(long nodeCount) {
+        return Tasks.task(
+            KNN_BASE_TASK_NAME,
+            Tasks.leaf("Build HNSW index", nodeCount),
+            Tasks.leaf("Search neighbors", nodeCount)
+        );
+    }
+
     public static Task knnTaskTree(long nodeCount, int maxIterations) {
         return Tasks.task(
             KNN_BASE_TASK_NAME,
@@ -143,6 +165,14 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
                     HugeObjectArray.memoryEstimation(nodeCount, neighborListEstimate.max)
                 );
 
+                if (configuration.strategy() == KnnStrategy.HNSW) {
+                    return MemoryEstimations
+                        .builder(clazz)
+                        .rangePerNode("top-k-neighbors-list", perNodeNeighborListEstimate)
+                        .add("hnsw-index", HnswIndex.memoryEstimation(configuration.hnswMaxConnections()))
+                        .build();
+                }
+
                 return MemoryEstimations
                     .builder(clazz)
                     .rangePerNode("top-k-neighbors-list", perNodeNeighborListEstimate)
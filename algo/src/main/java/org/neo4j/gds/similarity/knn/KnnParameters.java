@@ -37,7 +37,8 @@ public class KnnParameters {
         int minBatchSize,
         KnnSampler.SamplerType samplerType,
         Optional<Long> randomSeed,
-        List<KnnNodePropertySpec> nodePropertySpecs
+        List<KnnNodePropertySpec> nodePropertySpecs,
+        Optional<HnswParameters> hnswParameters
     ) {
         // concurrency -- no test atm, it probably shouldn't be here
         // maxIterations -- must be 1 or more
@@ -69,7 +70,8 @@ public class KnnParameters {
             minBatchSize,
             samplerType,
             randomSeed,
-            nodePropertySpecs
+            nodePropertySpecs,
+            hnswParameters
         );
     }
 
@@ -83,6 +85,7 @@ public class KnnParameters {
     private final KnnSampler.SamplerType samplerType;
     private final Optional<Long> randomSeed;
     private final List<KnnNodePropertySpec> nodePropertySpecs;
+    private final Optional<HnswParameters> hnswParameters;
 
     private KnnParameters(
         int concurrency,
@@ -94,7 +97,8 @@ public class KnnParameters {
         int minBatchSize,
         KnnSampler.SamplerType samplerType,
         Optional<Long> randomSeed,
-        List<KnnNodePropertySpec> nodePropertySpecs
+        List<KnnNodePropertySpec> nodePropertySpecs,
+        Optional<HnswParameters> hnswParameters
     ) {
         this.concurrency = concurrency;
         this.maxIterations = maxIterations;
@@ -106,6 +110,7 @@ public class KnnParameters {
         this.samplerType = samplerType;
         this.randomSeed = randomSeed;
         this.nodePropertySpecs = nodePropertySpecs;
+        this.hnswParameters = hnswParameters;
     }
 
     int concurrency() {
@@ -147,4 +152,11 @@ public class KnnParameters {
     List<KnnNodePropertySpec> nodePropertySpecs() {
         return nodePropertySpecs;
     }
+
+    /**
+     * Present if the neighbours are found through an {@link HnswIndex} instead of NN-descent.
+     */
+    Optional<HnswParameters> hnswParameters() {
+        return hnswParameters;
+    }
 }
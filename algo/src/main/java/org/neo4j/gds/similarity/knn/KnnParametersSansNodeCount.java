@@ -36,7 +36,8 @@ public class KnnParametersSansNodeCount {
         int minBatchSize,
         KnnSampler.SamplerType samplerType,
         Optional<Long> randomSeed,
-        List<KnnNodePropertySpec> nodePropertySpecs
+        List<KnnNodePropertySpec> nodePropertySpecs,
+        Optional<HnswParameters> hnswParameters
     ) {
         // concurrency -- no test atm, it probably shouldn't be here
         // maxIterations -- must be 1 or more
@@ -70,7 +71,8 @@ public class KnnParametersSansNodeCount {
             minBatchSize,
             samplerType,
             randomSeed,
-            nodePropertySpecs
+            nodePropertySpecs,
+            hnswParameters
         );
     }
 
@@ -86,6 +88,7 @@ public class KnnParametersSansNodeCount {
     private final KnnSampler.SamplerType samplerType;
     private final Optional<Long> randomSeed;
     private final List<KnnNodePropertySpec> nodePropertySpecs;
+    private final Optional<HnswParameters> hnswParameters;
 
     public KnnParametersSansNodeCount(
         int concurrency,
@@ -99,7 +102,8 @@ public class KnnParametersSansNodeCount {
         int minBatchSize,
         KnnSampler.SamplerType samplerType,
         Optional<Long> randomSeed,
-        List<KnnNodePropertySpec> nodePropertySpecs
+        List<KnnNodePropertySpec> nodePropertySpecs,
+        Optional<HnswParameters> hnswParameters
     ) {
         this.concurrency = concurrency;
         this.maxIterations = maxIterations;
@@ -113,6 +117,7 @@ public class KnnParametersSansNodeCount {
         this.samplerType = samplerType;
         this.randomSeed = randomSeed;
         this.nodePropertySpecs = nodePropertySpecs;
+        this.hnswParameters = hnswParameters;
     }
 
     public KnnParameters finalize(long nodeCount) {
@@ -129,7 +134,8 @@ public class KnnParametersSansNodeCount {
             minBatchSize,
             samplerType,
             randomSeed,
-            nodePropertySpecs
+            nodePropertySpecs,
+            hnswParameters
         );
     }
 }
@@ -19,7 +19,7 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
-import java.util.function.IntToDoubleFunction;
+import org.neo4j.gds.core.utils.VectorKernels;
 
 /**
  * Here we calculate Euclidean similarity metrics using Euclidean dictance as described in e.g.
@@ -35,28 +35,16 @@ public final class Euclidean {
     private Euclidean() {}
 
     public static double floatMetric(float[] left, float[] right) {
-        return compute(
-            Math.min(left.length, right.length),
-            i -> left[i],
-            i -> right[i]
-        );
+        var len = Math.min(left.length, right.length);
+        return toMetric(VectorKernels.sumSquareDelta(left, right, len));
     }
 
     public static double doubleMetric(double[] left, double[] right) {
-        return compute(
-            Math.min(left.length, right.length),
-            i -> left[i],
-            i -> right[i]
-        );
+        var len = Math.min(left.length, right.length);
+        return toMetric(VectorKernels.sumSquareDelta(left, right, len));
     }
 
-    private static double compute(int len, IntToDoubleFunction left, IntToDoubleFunction right) {
-        var result = 0D;
-        for (int i = 0; i < len; i++) {
-            double delta = left.applyAsDouble(i) - right.applyAsDouble(i);
-            result += delta * delta;
-        }
-
-        return 1.0 / (1.0 + Math.sqrt(result));
+    private static double toMetric(double squaredDistance) {
+        return 1.0 / (1.0 + Math.sqrt(squaredDistance));
     }
 }
@@ -63,6 +63,7 @@ public class IntersectingTriangleCountFactory<CONFIG extends TriangleCountBaseCo
 
     @NotNull
     public static Task triangleCountProgressTask(Graph graph) {
-        return Tasks.leaf(INTERSECTING_TRIANGLE_COUNT_TASK_NAME, graph.nodeCount());
+        // two passes to build the oriented adjacency and one to intersect the neighbours of every node
+        return Tasks.leaf(INTERSECTING_TRIANGLE_COUNT_TASK_NAME, 3 * graph.nodeCount());
     }
 }
@@ -30,6 +30,7 @@ public class IntersectingTriangleCountMemoryEstimateDefinition  implements Algor
         return MemoryEstimations
             .builder(IntersectingTriangleCount.class)
             .perNode("triangle-counts", HugeAtomicLongArray::memoryEstimation)
+            .add("oriented-adjacency", OrientedAdjacency.memoryEstimation())
             .build();
     }
 }
@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A compact copy of an undirected graph in which every relationship is kept only once,
+ * pointing from the endpoint with the lower degree rank to the one with the higher rank.
+ * A node is ranked lower than another if it has a lower degree, or the same degree and a lower id.
+ *
+ * Every triangle (u, v, w) with rank(u) < rank(v) < rank(w) is found exactly once, as the
+ * intersection of the forward neighbours of u and v. Ordering by degree bounds the number of
+ * forward neighbours by the square root of the number of relationships, which keeps the
+ * intersections short on skewed degree distributions.
+ *
+ * Self-loops, parallel relationships and nodes exceeding `maxDegree` are dropped while building
+ * the copy. The forward neighbours of a node are sorted by node id.
+ *
+ * If a sampling ratio below 1 is given, every relationship is kept independently with that
+ * probability. The decision only depends on the endpoints and the seed, so parallel
+ * relationships are kept or dropped together.
+ *
+ * Building the copy takes two passes over all nodes, each of which logs one unit of progress per node.
+ */
+final class OrientedAdjacency {
+
+    // Intersections switch from a linear merge to galloping through the longer
+    // array once it is at least this many times longer than the shorter one.
+    private static final int GALLOPING_THRESHOLD = 32;
+
+    // start index of the forward neighbours of a node in `targets`
+    private final HugeLongArray offsets;
+    // number of forward neighbours of a node
+    private final HugeIntArray degrees;
+    private final HugeLongArray targets;
+    private final int maxForwardDegree;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations
+            .builder(OrientedAdjacency.class)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perGraphDimension(
+                "targets",
+                (dimensions, concurrency) -> MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound() / 2))
+            )
+            .build();
+    }
+
+    static OrientedAdjacency build(
+        Graph graph,
+        long maxDegree,
+        double samplingRatio,
+        long seed,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        var nodeCount = graph.nodeCount();
+        var degrees = HugeIntArray.newArray(nodeCount);
+
+        var tasks = PartitionUtils.degreePartition(
+            graph,
+            concurrency,
+            partition -> new BuildTask(
+                graph,
+                partition,
+                degrees,
+                maxDegree,
+                samplingRatio,
+                seed,
+                progressTracker,
+                terminationFlag
+            ),
+            Optional.empty()
+        );
+
+        // count the forward neighbours, including parallel relationships
+        ParallelUtil.run(tasks, executorService);
+
+        var offsets = HugeLongArray.newArray(nodeCount);
+        long offset = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            offsets.set(node, offset);
+            offset += degrees.get(node);
+        }
+        var targets = HugeLongArray.newArray(offset);
+
+        // copy, sort and deduplicate the forward neighbours
+        for (var task : tasks) {
+            task.fill(offsets, targets);
+        }
+        ParallelUtil.run(tasks, executorService);
+
+        var maxForwardDegree = tasks.stream().mapToInt(BuildTask::maxForwardDegree).max().orElse(0);
+
+        return new OrientedAdjacency(offsets, degrees, targets, maxForwardDegree);
+    }
+
+    private OrientedAdjacency(HugeLongArray offsets, HugeIntArray degrees, HugeLongArray targets, int maxForwardDegree) {
+        this.offsets = offsets;
+        this.degrees = degrees;
+        this.targets = targets;
+        this.maxForwardDegree = maxForwardDegree;
+    }
+
+    int maxForwardDegree() {
+        return maxForwardDegree;
+    }
+
+    HugeCursor<long[]> newCursor() {
+        return targets.newCursor();
+    }
+
+    /**
+     * Copies the forward neighbours of the given node into the buffer,
+     * which needs to hold at least {@link #maxForwardDegree()} elements.
+     *
+     * @return the number of forward neighbours
+     */
+    int copyNeighbours(long node, long[] buffer, HugeCursor<long[]> cursor) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return 0;
+        }
+        var start = offsets.get(node);
+        targets.initCursor(cursor, start, start + degree);
+        int length = 0;
+        while (cursor.next()) {
+            var blockLength = cursor.limit - cursor.offset;
+            System.arraycopy(cursor.array, cursor.offset, buffer, length, blockLength);
+            length += blockLength;
+        }
+        return degree;
+    }
+
+    /**
+     * Writes the common elements of two sorted, duplicate-free arrays into `out`,
+     * which needs to hold at least `min(aLength, bLength)` elements.
+     *
+     * @return the number of common elements
+     */
+    static int intersect(long[] a, int aLength, long[] b, int bLength, long[] out) {
+        if (aLength > bLength) {
+            return intersect(b, bLength, a, aLength, out);
+        }
+        if (aLength == 0) {
+            return 0;
+        }
+        if (bLength / aLength >= GALLOPING_THRESHOLD) {
+            return gallopingIntersect(a, aLength, b, bLength, out);
+        }
+        return mergeIntersect(a, aLength, b, bLength, out);
+    }
+
+    private static int mergeIntersect(long[] a, int aLength, long[] b, int bLength, long[] out) {
+        int i = 0;
+        int j = 0;
+        int matches = 0;
+        while (i < aLength && j < bLength) {
+            var x = a[i];
+            var y = b[j];
+            // written unconditionally and kept only on a match, which avoids a hard to predict branch
+            out[matches] = x;
+            matches += x == y ? 1 : 0;
+            i += x <= y ? 1 : 0;
+            j += y <= x ? 1 : 0;
+        }
+        return matches;
+    }
+
+    private static int gallopingIntersect(long[] small, int smallLength, long[] large, int largeLength, long[] out) {
+        int low = 0;
+        int matches = 0;
+        for (int i = 0; i < smallLength && low < largeLength; i++) {
+            var value = small[i];
+            if (large[low] < value) {
+                // exponential search for a window that contains the first element >= value
+                int previous = low;
+                int step = 1;
+                while (previous + step < largeLength && large[previous + step] < value) {
+                    previous += step;
+                    step <<= 1;
+                }
+                low = previous + 1;
+                int high = Math.min(previous + step, largeLength);
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (large[mid] < value) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+            }
+            if (low < largeLength && large[low] == value) {
+                out[matches++] = value;
+                low++;
+            }
+        }
+        return matches;
+    }
+
+    static boolean precedes(long node, int degree, long otherNode, int otherDegree) {
+        return degree < otherDegree || (degree == otherDegree && node < otherNode);
+    }
+
+    static boolean isSampled(long source, long target, double samplingRatio, long seed) {
+        if (samplingRatio >= 1.0) {
+            return true;
+        }
+        // SplitMix64 finalizer over the endpoints and the seed
+        long hash = source * 0x9E3779B97F4A7C15L + target + seed;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        hash = hash ^ (hash >>> 31);
+        return (hash >>> 11) * 0x1.0p-53 < samplingRatio;
+    }
+
+    private static final class BuildTask implements Runnable {
+
+        private final Graph graph;
+        private final DegreePartition partition;
+        private final HugeIntArray degrees;
+        private final long maxDegree;
+        private final double samplingRatio;
+        private final long seed;
+        private final ProgressTracker progressTracker;
+        private final TerminationFlag terminationFlag;
+
+        // set for the second pass
+        private HugeLongArray offsets;
+        private HugeLongArray targets;
+
+        private long[] buffer;
+        private int length;
+        private int maxForwardDegree;
+
+        BuildTask(
+            Graph graph,
+            DegreePartition partition,
+            HugeIntArray degrees,
+            long maxDegree,
+            double samplingRatio,
+            long seed,
+            ProgressTracker progressTracker,
+            TerminationFlag terminationFlag
+        ) {
+            this.graph = graph.concurrentCopy();
+            this.partition = partition;
+            this.degrees = degrees;
+            this.maxDegree = maxDegree;
+            this.samplingRatio = samplingRatio;
+            this.seed = seed;
+            this.progressTracker = progressTracker;
+            this.terminationFlag = terminationFlag;
+            this.buffer = new long[0];
+        }
+
+        void fill(HugeLongArray offsets, HugeLongArray targets) {
+            this.offsets = offsets;
+            this.targets = targets;
+        }
+
+        int maxForwardDegree() {
+            return maxForwardDegree;
+        }
+
+        @Override
+        public void run() {
+            var startNode = partition.startNode();
+            var endNode = startNode + partition.nodeCount();
+            for (long node = startNode; node < endNode; node++) {
+                if (node % ParallelUtil.DEFAULT_BATCH_SIZE == 0) {
+                    terminationFlag.assertRunning();
+                }
+                if (targets == null) {
+                    degrees.set(node, forwardNeighbours(node, false));
+                } else if (degrees.get(node) > 0) {
+                    copyUniqueNeighbours(node);
+                }
+                progressTracker.logProgress();
+            }
+        }
+
+        private int forwardNeighbours(long node, boolean collect) {
+            var degree = graph.degree(node);
+            if (degree > maxDegree) {
+                return 0;
+            }
+            length = 0;
+            graph.forEachRelationship(node, (source, target) -> {
+                if (source == target) {
+                    return true;
+                }
+                var targetDegree = graph.degree(target);
+                if (targetDegree <= maxDegree
+                    && precedes(source, degree, target, targetDegree)
+                    && isSampled(source, target, samplingRatio, seed)) {
+                    if (collect) {
+                        buffer[length] = target;
+                    }
+                    length++;
+                }
+                return true;
+            });
+            return length;
+        }
+
+        private void copyUniqueNeighbours(long node) {
+            var count = degrees.get(node);
+            if (buffer.length < count) {
+                buffer = new long[count];
+            }
+            forwardNeighbours(node, true);
+            Arrays.sort(buffer, 0, count);
+
+            int unique = 0;
+            var offset = offsets.get(node);
+            for (int i = 0; i < count; i++) {
+                if (i == 0 || buffer[i] != buffer[i - 1]) {
+                    targets.set(offset + unique, buffer[i]);
+                    unique++;
+                }
+            }
+            degrees.set(node, unique);
+            maxForwardDegree = Math.max(maxForwardDegree, unique);
+        }
+    }
+}
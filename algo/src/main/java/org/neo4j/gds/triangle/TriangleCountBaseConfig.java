@@ -26,6 +26,7 @@ import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 import java.util.Collection;
@@ -37,7 +38,7 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface TriangleCountBaseConfig extends AlgoBaseConfig {
+public interface TriangleCountBaseConfig extends AlgoBaseConfig, RandomSeedConfig {
 
     @Value.Default
     default long maxDegree() {
@@ -51,6 +52,16 @@ public interface TriangleCountBaseConfig extends AlgoBaseConfig {
         }
     }
 
+    /**
+     * The probability with which a relationship is considered when counting triangles.
+     * Values below 1 yield an estimate of the triangle counts.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1, minInclusive = false)
+    default double samplingRatio() {
+        return 1.0;
+    }
+
     @Configuration.GraphStoreValidationCheck
     default void validateTargetRelIsUndirected(
         GraphStore graphStore,
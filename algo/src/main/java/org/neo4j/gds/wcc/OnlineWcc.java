@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Keeps the components computed by {@link Wcc} up to date while relationships are added to the graph.
+ * <p>
+ * Every added relationship is a single union on the {@link HugeAtomicDisjointSetStruct},
+ * so relationships can be added from many threads at once without locking,
+ * and looking up the component of a node takes amortized O(α(n)).
+ * Relationships are only added to the components, not to the graph they were computed from.
+ * Removing relationships is not supported, as it can split components; recompute them with {@link Wcc} instead.
+ */
+public final class OnlineWcc {
+
+    private final IdMap idMap;
+    private final DisjointSetStruct components;
+    private final LongAdder addedRelationshipCount;
+
+    /**
+     * @param idMap      the nodes of the graph the components were computed on
+     * @param components the components as computed by {@link Wcc}, which supports concurrent unions
+     */
+    public OnlineWcc(IdMap idMap, DisjointSetStruct components) {
+        this.idMap = idMap;
+        this.components = components;
+        this.addedRelationshipCount = new LongAdder();
+    }
+
+    /**
+     * Merges the components of the given nodes, which are identified by their original node ids.
+     */
+    public void addRelationship(long sourceNodeId, long targetNodeId) {
+        components.union(toMappedNodeId(sourceNodeId), toMappedNodeId(targetNodeId));
+        addedRelationshipCount.increment();
+    }
+
+    public void addRelationships(long[] sourceNodeIds, long[] targetNodeIds, int concurrency) {
+        if (sourceNodeIds.length != targetNodeIds.length) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected as many source nodes as target nodes, but got %d source nodes and %d target nodes.",
+                sourceNodeIds.length,
+                targetNodeIds.length
+            ));
+        }
+        // resolve all nodes first, so that a batch with an unknown node is rejected as a whole
+        var sources = new long[sourceNodeIds.length];
+        var targets = new long[targetNodeIds.length];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = toMappedNodeId(sourceNodeIds[i]);
+            targets[i] = toMappedNodeId(targetNodeIds[i]);
+        }
+
+        ParallelUtil.parallelForEachNode(
+            sources.length,
+            concurrency,
+            TerminationFlag.RUNNING_TRUE,
+            index -> components.union(sources[(int) index], targets[(int) index])
+        );
+        addedRelationshipCount.add(sources.length);
+    }
+
+    /**
+     * @return the component of the node with the given original node id
+     */
+    public long componentId(long nodeId) {
+        return components.setIdOf(toMappedNodeId(nodeId));
+    }
+
+    public long nodeCount() {
+        return idMap.nodeCount();
+    }
+
+    /**
+     * @return the number of relationships added since the components were computed
+     */
+    public long addedRelationshipCount() {
+        return addedRelationshipCount.sum();
+    }
+
+    private long toMappedNodeId(long nodeId) {
+        long mappedNodeId = idMap.safeToMappedNodeId(nodeId);
+        if (mappedNodeId == IdMap.NOT_FOUND) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node with id %d does not exist in the graph the components were computed on.",
+                nodeId
+            ));
+        }
+        return mappedNodeId;
+    }
+}
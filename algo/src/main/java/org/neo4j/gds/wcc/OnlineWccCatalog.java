@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.core.loading.CatalogRequest;
+import org.neo4j.gds.core.loading.GraphExtensionScope;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Keeps one {@link OnlineWcc} next to its graph in the {@link GraphStoreCatalog}.
+ * It survives changes to node and graph properties,
+ * but is discarded as soon as the nodes or relationships of its graph change or the graph is removed.
+ */
+public final class OnlineWccCatalog {
+
+    static final String EXTENSION_KEY = "wcc.online";
+
+    private OnlineWccCatalog() {}
+
+    /**
+     * Replaces the components stored for the graph.
+     */
+    public static void set(String username, DatabaseId databaseId, String graphName, OnlineWcc onlineWcc) {
+        GraphStoreCatalog.removeExtension(username, databaseId, graphName, EXTENSION_KEY);
+        GraphStoreCatalog.computeExtensionIfAbsent(
+            username,
+            databaseId,
+            graphName,
+            EXTENSION_KEY,
+            GraphExtensionScope.TOPOLOGY,
+            OnlineWcc.class,
+            graphStore -> onlineWcc
+        );
+    }
+
+    public static OnlineWcc get(String username, DatabaseId databaseId, String graphName) {
+        // fails if the graph does not exist
+        GraphStoreCatalog.get(CatalogRequest.of(username, databaseId), graphName);
+        return GraphStoreCatalog
+            .getExtension(username, databaseId, graphName, EXTENSION_KEY, OnlineWcc.class)
+            .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                "No components are kept for graph `%s`. Run `gds.wcc.online.init` on the graph first.",
+                graphName
+            )));
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.allshortestpaths;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableAllShortestPathsDijkstraStreamConfig;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class MultiSourceDistanceMatrixTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+
+        ", (a)-[:R {w: 10.0}]->(d)" +
+        ", (a)-[:R {w: 1.0}]->(b)" +
+        ", (b)-[:R {w: 1.0}]->(c)" +
+        ", (c)-[:R {w: 1.0}]->(d)" +
+        ", (b)-[:R {w: 5.0}]->(e)" +
+        ", (d)-[:R {w: 1.0}]->(e)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldComputeDistancesBetweenSourcesAndTargets() {
+        var sources = mappedIds("a", "b", "f");
+        var targets = mappedIds("d", "e");
+
+        var distances = distances(graph, sources, targets, 4);
+
+        // the path with more hops is shorter than the direct relationship
+        assertThat(distances).containsExactlyInAnyOrderEntriesOf(Map.of(
+            List.of(idFunction.of("a"), idFunction.of("d")), 3.0,
+            List.of(idFunction.of("a"), idFunction.of("e")), 4.0,
+            List.of(idFunction.of("b"), idFunction.of("d")), 2.0,
+            List.of(idFunction.of("b"), idFunction.of("e")), 3.0
+        ));
+    }
+
+    @Test
+    void shouldEmitZeroDistanceForSourcesThatAreTargets() {
+        var sources = mappedIds("a", "c");
+
+        var distances = distances(graph, sources, sources, 1);
+
+        assertThat(distances).containsExactlyInAnyOrderEntriesOf(Map.of(
+            List.of(idFunction.of("a"), idFunction.of("a")), 0.0,
+            List.of(idFunction.of("a"), idFunction.of("c")), 2.0,
+            List.of(idFunction.of("c"), idFunction.of("c")), 0.0
+        ));
+    }
+
+    @Test
+    void shouldFindSameDistancesAsWeightedAllShortestPathsAcrossBatches() {
+        int nodeCount = 200;
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("foo", 1, 10))
+            .nodeCount(nodeCount)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var allNodes = LongStream.range(0, nodeCount).toArray();
+
+        var expected = new WeightedAllShortestPaths(randomGraph, DefaultPool.INSTANCE, 4)
+            .compute()
+            .collect(Collectors.toMap(r -> List.of(r.sourceNodeId, r.targetNodeId), r -> r.distance));
+
+        assertThat(distances(randomGraph, allNodes, allNodes, 4)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldFindSameDistancesAsDijkstraFromEverySource() {
+        int nodeCount = 2_000;
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("foo", 0.1, 100))
+            .nodeCount(nodeCount)
+            .seed(42L)
+            .build()
+            .generate();
+
+        // more sources than fit into a single batch
+        var random = new Random(42L);
+        var sources = random.longs(100, 0, nodeCount).distinct().toArray();
+        var targets = LongStream.range(0, nodeCount).toArray();
+
+        var expected = new HashMap<List<Long>, Double>();
+        for (long source : sources) {
+            long originalSource = randomGraph.toOriginalNodeId(source);
+            var config = ImmutableAllShortestPathsDijkstraStreamConfig.builder()
+                .sourceNode(originalSource)
+                .build();
+            Dijkstra
+                .singleSource(randomGraph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .forEachPath(path -> expected.put(
+                    List.of(originalSource, randomGraph.toOriginalNodeId(path.targetNode())),
+                    path.totalCost()
+                ));
+        }
+
+        var actual = distances(randomGraph, sources, targets, 4);
+
+        assertThat(actual).hasSameSizeAs(expected);
+        expected.forEach((pair, distance) -> assertThat(actual.get(pair)).as("%s", pair).isCloseTo(distance, within(1e-9)));
+    }
+
+    @Test
+    void shouldEstimateDistancesOfEveryTask() {
+        long nodeCount = 100_000;
+        var dimensions = GraphDimensions.of(nodeCount);
+        long distancesPerTask = HugeDoubleArray.memoryEstimation(nodeCount * 64);
+
+        // a single batch of ten sources runs in one task with ten lanes
+        var fewSources = MultiSourceDistanceMatrix.memoryEstimation(10, 5).estimate(dimensions, 4).memoryUsage();
+        assertThat(fewSources.max).isLessThan(distancesPerTask);
+
+        // without source nodes every node is a source, so that every task keeps all 64 lanes
+        var allSources = MultiSourceDistanceMatrix.memoryEstimation(0, 5).estimate(dimensions, 4).memoryUsage();
+        assertThat(allSources.min).isGreaterThan(4 * distancesPerTask);
+        var singleTask = MultiSourceDistanceMatrix.memoryEstimation(0, 5).estimate(dimensions, 1).memoryUsage();
+        assertThat(singleTask.min).isLessThan(2 * distancesPerTask);
+    }
+
+    private long[] mappedIds(String... variables) {
+        return Arrays.stream(variables).mapToLong(variable -> graph.toMappedNodeId(idFunction.of(variable))).toArray();
+    }
+
+    private static Map<List<Long>, Double> distances(Graph graph, long[] sources, long[] targets, int concurrency) {
+        var distances = new HashMap<List<Long>, Double>();
+        new MultiSourceDistanceMatrix(graph, sources, targets, concurrency, DefaultPool.INSTANCE)
+            .compute()
+            .forEach(r -> assertThat(distances.put(List.of(r.sourceNodeId, r.targetNodeId), r.distance)).isNull());
+        return distances;
+    }
+}
@@ -19,18 +19,21 @@
  */
 package org.neo4j.gds.betweenness;
 
-import com.carrotsearch.hppc.LongArrayList;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.termination.TerminationFlag;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @GdlExtension
 class ForwardTraverserTest {
 
@@ -61,14 +64,22 @@ class ForwardTraverserTest {
     @Inject
     private Graph weightedGraph;
 
+    @GdlGraph(graphNamePrefix = "zeroWeighted")
+    private static final String zeroWeightedGdl =
+        "CREATE " +
+        "  (a)-[:REL {weight: 0.0}]->(b)" +
+        ", (b)-[:REL {weight: 0.0}]->(a)" +
+        ", (a)-[:REL {weight: 1.0}]->(c)" +
+        ", (b)-[:REL {weight: 1.0}]->(c)";
+    @Inject
+    private Graph zeroWeightedGraph;
+
     @Test
     void shouldWorkOnUnWeightedGraphs() {
         var backwardNodes = HugeLongArrayStack.newStack(equallyWeightedGraph.nodeCount());
-        var predecessors = HugeObjectArray.newArray(LongArrayList.class, equallyWeightedGraph.nodeCount());
         var sigma = HugeLongArray.newArray(equallyWeightedGraph.nodeCount());
         UnweightedForwardTraverser unweightedForwardTraverser = UnweightedForwardTraverser.create(
             equallyWeightedGraph,
-            predecessors,
             backwardNodes,
             sigma,
             TerminationFlag.RUNNING_TRUE
@@ -81,22 +92,16 @@ class ForwardTraverserTest {
         SoftAssertions softAssertions = new SoftAssertions();
 
         softAssertions.assertThat(sigma.toArray()).isEqualTo(new long[]{1, 1, 0, 1, 1, 2, 2});
-        softAssertions.assertThat(predecessors.get(0)).isNull();
-        softAssertions.assertThat(predecessors.get(1).toArray()).containsExactly(0);
-        softAssertions.assertThat(predecessors.get(2)).isNull();
-        softAssertions.assertThat(predecessors.get(3).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(4).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(5).toArray()).containsExactly(3, 4);
-        softAssertions.assertThat(predecessors.get(6).toArray()).containsExactly(5);
-
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(6);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(5);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(4);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(3);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(1);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(0);
-
-        softAssertions.assertThat(backwardNodes.isEmpty()).isTrue();
+
+        var successors = popAndCollectSuccessors(unweightedForwardTraverser, backwardNodes);
+
+        softAssertions.assertThat(successors.keySet()).containsExactly(6L, 5L, 4L, 3L, 1L, 0L);
+        softAssertions.assertThat(successors.get(0L)).containsExactly(1L);
+        softAssertions.assertThat(successors.get(1L)).containsExactlyInAnyOrder(3L, 4L);
+        softAssertions.assertThat(successors.get(3L)).containsExactly(5L);
+        softAssertions.assertThat(successors.get(4L)).containsExactly(5L);
+        softAssertions.assertThat(successors.get(5L)).containsExactly(6L);
+        softAssertions.assertThat(successors.get(6L)).isEmpty();
 
         softAssertions.assertAll();
     }
@@ -104,11 +109,9 @@ class ForwardTraverserTest {
     @Test
     void shouldWorkOnWeightedGraphs() {
         var backwardNodes = HugeLongArrayStack.newStack(equallyWeightedGraph.nodeCount());
-        var predecessors = HugeObjectArray.newArray(LongArrayList.class, equallyWeightedGraph.nodeCount());
         var sigma = HugeLongArray.newArray(equallyWeightedGraph.nodeCount());
         WeightedForwardTraverser weightedForwardTraversor = WeightedForwardTraverser.create(
             weightedGraph,
-            predecessors,
             backwardNodes,
             sigma,
             TerminationFlag.RUNNING_TRUE
@@ -121,23 +124,61 @@ class ForwardTraverserTest {
         SoftAssertions softAssertions = new SoftAssertions();
 
         softAssertions.assertThat(sigma.toArray()).isEqualTo(new long[]{1, 1, 0, 1, 1, 1, 1});
-        softAssertions.assertThat(predecessors.get(0)).isNull();
-        softAssertions.assertThat(predecessors.get(1).toArray()).containsExactly(0);
-        softAssertions.assertThat(predecessors.get(2)).isNull();
-        softAssertions.assertThat(predecessors.get(3).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(4).toArray()).containsExactly(1);
-        softAssertions.assertThat(predecessors.get(5).toArray()).containsExactly(4);
-        softAssertions.assertThat(predecessors.get(6).toArray()).containsExactly(5);
-
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(3);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(6);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(5);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(4);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(1);
-        softAssertions.assertThat(backwardNodes.pop()).isEqualTo(0);
-
-        softAssertions.assertThat(backwardNodes.isEmpty()).isTrue();
+
+        var successors = popAndCollectSuccessors(weightedForwardTraversor, backwardNodes);
+
+        softAssertions.assertThat(successors.keySet()).containsExactly(3L, 6L, 5L, 4L, 1L, 0L);
+        softAssertions.assertThat(successors.get(0L)).containsExactly(1L);
+        softAssertions.assertThat(successors.get(1L)).containsExactlyInAnyOrder(3L, 4L);
+        softAssertions.assertThat(successors.get(3L)).isEmpty();
+        softAssertions.assertThat(successors.get(4L)).containsExactly(5L);
+        softAssertions.assertThat(successors.get(5L)).containsExactly(6L);
+        softAssertions.assertThat(successors.get(6L)).isEmpty();
 
         softAssertions.assertAll();
     }
+
+    @Test
+    void shouldOnlyFindSuccessorsVisitedLaterOnZeroWeights() {
+        var backwardNodes = HugeLongArrayStack.newStack(zeroWeightedGraph.nodeCount());
+        var sigma = HugeLongArray.newArray(zeroWeightedGraph.nodeCount());
+        WeightedForwardTraverser weightedForwardTraversor = WeightedForwardTraverser.create(
+            zeroWeightedGraph,
+            backwardNodes,
+            sigma,
+            TerminationFlag.RUNNING_TRUE
+        );
+        weightedForwardTraversor.clear();
+
+        sigma.addTo(0, 1);
+        weightedForwardTraversor.traverse(0);
+
+        SoftAssertions softAssertions = new SoftAssertions();
+
+        softAssertions.assertThat(sigma.toArray()).isEqualTo(new long[]{1, 1, 2});
+
+        var successors = popAndCollectSuccessors(weightedForwardTraversor, backwardNodes);
+
+        softAssertions.assertThat(successors.keySet()).containsExactly(2L, 1L, 0L);
+        softAssertions.assertThat(successors.get(0L)).containsExactlyInAnyOrder(1L, 2L);
+        softAssertions.assertThat(successors.get(1L)).containsExactly(2L);
+        softAssertions.assertThat(successors.get(2L)).isEmpty();
+
+        softAssertions.assertAll();
+    }
+
+    private static Map<Long, List<Long>> popAndCollectSuccessors(
+        ForwardTraverser traverser,
+        HugeLongArrayStack backwardNodes
+    ) {
+        // insertion ordered, so that the keys reflect the order in which the nodes were popped
+        var successors = new LinkedHashMap<Long, List<Long>>();
+        while (!backwardNodes.isEmpty()) {
+            var node = backwardNodes.pop();
+            var nodeSuccessors = new ArrayList<Long>();
+            traverser.forEachSuccessor(node, nodeSuccessors::add);
+            successors.put(node, nodeSuccessors);
+        }
+        return successors;
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.coarsening;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+@GdlExtension
+class GraphCoarseningTest {
+
+    @GdlGraph(idOffset = 0)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (a)-[:R {weight: 1.0}]->(b)" +
+        ", (a)-[:R {weight: 2.0}]->(c)" +
+        ", (b)-[:R {weight: 3.0}]->(c)" +
+        ", (b)-[:R {weight: 4.0}]->(a)" +
+        ", (c)-[:R {weight: 5.0}]->(d)" +
+        ", (d)-[:R {weight: 6.0}]->(e)" +
+        ", (e)-[:R {weight: 7.0}]->(c)";
+
+    @Inject
+    private TestGraph graph;
+
+    // a, b -> 7; c, d -> 3; e -> 5
+    private static final long[] COMMUNITIES = {7, 7, 3, 3, 5};
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldSumRelationshipsBetweenCommunities(int concurrency) {
+        var coarseGraph = coarsen(false, concurrency);
+
+        assertGraphEquals(
+            fromGdl(
+                "(c7), (c3), (c5)" +
+                ", (c7)-[:_IGNORED_ {w: 5.0}]->(c3)" +
+                ", (c3)-[:_IGNORED_ {w: 6.0}]->(c5)" +
+                ", (c5)-[:_IGNORED_ {w: 7.0}]->(c3)"
+            ),
+            coarseGraph
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldKeepSelfLoops(int concurrency) {
+        var coarseGraph = coarsen(true, concurrency);
+
+        assertGraphEquals(
+            fromGdl(
+                "(c7), (c3), (c5)" +
+                ", (c7)-[:_IGNORED_ {w: 5.0}]->(c7)" +
+                ", (c7)-[:_IGNORED_ {w: 5.0}]->(c3)" +
+                ", (c3)-[:_IGNORED_ {w: 5.0}]->(c3)" +
+                ", (c3)-[:_IGNORED_ {w: 6.0}]->(c5)" +
+                ", (c5)-[:_IGNORED_ {w: 7.0}]->(c3)"
+            ),
+            coarseGraph
+        );
+    }
+
+    @Test
+    void shouldNumberCommunitiesByTheirSmallestMember() {
+        var coarseGraph = coarsen(false, 4);
+
+        assertThat(coarseGraph.nodeCount()).isEqualTo(3);
+        assertThat(coarseGraph.toOriginalNodeId(0)).isEqualTo(7);
+        assertThat(coarseGraph.toOriginalNodeId(1)).isEqualTo(3);
+        assertThat(coarseGraph.toOriginalNodeId(2)).isEqualTo(5);
+        assertThat(coarseGraph.toMappedNodeId(3)).isEqualTo(1);
+        assertThat(coarseGraph.relationshipCount()).isEqualTo(3);
+    }
+
+    private Graph coarsen(boolean keepSelfLoops, int concurrency) {
+        return new GraphCoarsening(
+            graph,
+            nodeId -> COMMUNITIES[(int) nodeId],
+            7,
+            Direction.DIRECTED,
+            keepSelfLoops,
+            concurrency,
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        ).coarsen();
+    }
+}
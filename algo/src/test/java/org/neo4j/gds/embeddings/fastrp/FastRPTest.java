@@ -28,6 +28,7 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.collections.hsa.HugeSparseLongArray;
 import org.neo4j.gds.compat.Neo4jProxy;
@@ -141,10 +142,9 @@ class FastRPTest {
         fastRP.initDegreePartition();
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 2);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 2);
+        HugeObjectArray<float[]> randomVectors = copyRows(fastRP.currentEmbedding(-1));
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
         float[] expected = randomVectors.get(1);
         l2Normalize(expected);
@@ -170,10 +170,9 @@ class FastRPTest {
         fastRP.initDegreePartition();
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 3);
+        HugeObjectArray<float[]> randomVectors = copyRows(fastRP.currentEmbedding(-1));
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
         float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
         for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
@@ -223,13 +222,13 @@ class FastRPTest {
         initial1[2] = -0.5f;
         initial2[5] = -3.0f;
         initial2[4] = -0.5f;
-        initialRandomVectors.set(0, initial0);
-        initialRandomVectors.set(1, initial1);
-        initialRandomVectors.set(2, initial2);
+        initialRandomVectors.setRow(0, initial0);
+        initialRandomVectors.setRow(1, initial1);
+        initialRandomVectors.setRow(2, initial2);
 
         fastRP.addInitialVectorsToEmbedding();
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
 
         var expected0 = new float[embeddingDimension];
@@ -326,7 +325,7 @@ class FastRPTest {
         );
 
         concurrentFastRP.compute();
-        HugeObjectArray<float[]> concurrentEmbeddings = concurrentFastRP.embeddings();
+        HugeFloatMatrix concurrentEmbeddings = concurrentFastRP.embeddings();
 
         FastRP sequentialFastRP = new FastRP(
             graph,
@@ -336,7 +335,7 @@ class FastRPTest {
         );
 
         sequentialFastRP.compute();
-        HugeObjectArray<float[]> sequentialEmbeddings = sequentialFastRP.embeddings();
+        HugeFloatMatrix sequentialEmbeddings = sequentialFastRP.embeddings();
 
         graph.forEachNode(nodeId -> {
             assertThat(concurrentEmbeddings.get(nodeId)).containsExactly(sequentialEmbeddings.get(nodeId));
@@ -369,10 +368,9 @@ class FastRPTest {
         fastRP.initDegreePartition();
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 3);
+        HugeObjectArray<float[]> randomVectors = copyRows(fastRP.currentEmbedding(-1));
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
         float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
         for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
@@ -403,7 +401,7 @@ class FastRPTest {
 
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = fastRP.currentEmbedding(-1);
+        HugeFloatMatrix randomVectors = fastRP.currentEmbedding(-1);
 
         for (int i = 0; i < graph.nodeCount(); i++) {
             float[] embedding = randomVectors.get(i);
@@ -445,7 +443,7 @@ class FastRPTest {
 
         var embeddings = fastRP.embeddings();
 
-        for (int i = 0; i < embeddings.size(); i++) {
+        for (int i = 0; i < embeddings.rows(); i++) {
             assertThat(embeddings.get(i)).containsOnly(0f);
         }
     }
@@ -669,7 +667,7 @@ class FastRPTest {
         assertThat(cosineSum / nodeCount).isCloseTo(1, Offset.offset(0.000001));
     }
 
-    private HugeObjectArray<float[]> embeddings(Graph graph, List<String> properties) {
+    private HugeFloatMatrix embeddings(Graph graph, List<String> properties) {
         var fastRPArray = new FastRP(
             graph,
             DEFAULT_CONFIG,
@@ -679,6 +677,12 @@ class FastRPTest {
         return fastRPArray.compute().embeddings();
     }
 
+    private static HugeObjectArray<float[]> copyRows(HugeFloatMatrix matrix) {
+        HugeObjectArray<float[]> copy = HugeObjectArray.newArray(float[].class, matrix.rows());
+        copy.setAll(matrix::get);
+        return copy;
+    }
+
     private List<FeatureExtractor> defaultFeatureExtractors(Graph graph) {
         return FeatureExtraction.propertyExtractors(graph, DEFAULT_CONFIG.featureProperties());
     }
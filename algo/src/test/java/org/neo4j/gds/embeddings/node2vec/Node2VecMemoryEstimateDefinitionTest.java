@@ -38,7 +38,7 @@ class Node2VecMemoryEstimateDefinitionTest {
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(1000, 1)
-            .hasSameMinAndMaxEqualTo(7_688_464L);
+            .hasSameMinAndMaxEqualTo(7_648_768L);
     }
 
 }
@@ -26,6 +26,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.core.utils.Intersections;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.core.helper.FloatVectorTestUtils;
+import org.neo4j.gds.ml.core.tensor.FloatVector;
 
 import java.util.Optional;
 import java.util.Random;
@@ -84,8 +85,8 @@ class Node2VecModelTest {
 
         var embeddings = trainResult.embeddings();
 
-        for (long idx = 0; idx < embeddings.size(); idx++) {
-            assertThat(FloatVectorTestUtils.notContainsNaN(embeddings.get(idx))).isTrue();
+        for (long idx = 0; idx < embeddings.rows(); idx++) {
+            assertThat(FloatVectorTestUtils.notContainsNaN(new FloatVector(embeddings.get(idx)))).isTrue();
         }
 
         double innerClusterSum = LongStream.range(0, numberOfClusters)
@@ -96,10 +97,9 @@ class Node2VecModelTest {
                     .flatMap(nodeId ->
                         LongStream.range(0, clusterSize)
                             .mapToObj(ignore -> {
-                                var e1 = embeddings.get(nodeId).data();
+                                var e1 = embeddings.get(nodeId);
                                 var e2 = embeddings
-                                    .get(random.nextInt(clusterSize) + (clusterId * clusterSize))
-                                    .data();
+                                    .get(random.nextInt(clusterSize) + (clusterId * clusterSize));
                                 return Intersections.cosine(e1, e2, e1.length);
                             })
                     )
@@ -122,10 +122,9 @@ class Node2VecModelTest {
                         LongStream.range(0, clusterSize)
                             .mapToObj(ignore -> {
                                 long otherClusterId = (clusterId + random.nextInt(numberOfClusters - 1) + 1) % numberOfClusters;
-                                var e1 = embeddings.get(nodeId).data();
+                                var e1 = embeddings.get(nodeId);
                                 var e2 = embeddings
-                                    .get(random.nextInt(clusterSize) + (otherClusterId * clusterSize))
-                                    .data();
+                                    .get(random.nextInt(clusterSize) + (otherClusterId * clusterSize));
                                 return Intersections.cosine(e1, e2, e1.length);
                             })
                     )
@@ -37,7 +37,7 @@ import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.collections.hsa.HugeSparseLongArray;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
@@ -54,7 +54,6 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
-import org.neo4j.gds.ml.core.tensor.FloatVector;
 
 import java.util.List;
 import java.util.Optional;
@@ -111,7 +110,7 @@ class Node2VecTest {
             EmbeddingInitializer.NORMALIZED
         );
 
-        HugeObjectArray<FloatVector> node2Vec = new Node2Vec(
+        HugeFloatMatrix node2Vec = new Node2Vec(
             currentGraph,
             4,
             NO_SOURCE_NODES,
@@ -123,7 +122,7 @@ class Node2VecTest {
         ).compute().embeddings();
 
         currentGraph.forEachNode(node -> {
-                assertEquals(embeddingDimension, node2Vec.get(node).data().length);
+                assertEquals(embeddingDimension, node2Vec.get(node).length);
                 return true;
             }
         );
@@ -364,7 +363,7 @@ class Node2VecTest {
         for (long originalNodeId = 0; originalNodeId < nodeCount; originalNodeId++) {
             var firstVector = firstEmbeddings.get(firstGraph.toMappedNodeId(originalNodeId));
             var secondVector = secondEmbeddings.get(secondGraph.toMappedNodeId(originalNodeId));
-            double cosine = Intersections.cosine(firstVector.data(), secondVector.data(), secondVector.data().length);
+            double cosine = Intersections.cosine(firstVector, secondVector, secondVector.length);
             cosineSum += cosine;
         }
         //There's no hard cutoff on the average cosineSim.
@@ -33,14 +33,14 @@ class KCoreDecompositionMemoryEstimateDefinitionTest {
 
     static Stream<Arguments> memoryEstimationTuples() {
         return Stream.of(
-            arguments(1, 1992L),
-            arguments(4, 5088L)
+            arguments(1, 2368L, 3168L),
+            arguments(4, 4192L, 4992L)
         );
     }
 
     @ParameterizedTest
     @MethodSource("memoryEstimationTuples")
-    void memoryEstimation(int concurrency, long expectedMemoryEstimation) {
+    void memoryEstimation(int concurrency, long expectedMin, long expectedMax) {
 
         var config= mock(KCoreDecompositionBaseConfig.class);
 
@@ -49,7 +49,8 @@ class KCoreDecompositionMemoryEstimateDefinitionTest {
 
         MemoryEstimationAssert.assertThat(memoryEstimation).
             memoryRange(100,concurrency)
-            .hasSameMinAndMaxEqualTo(expectedMemoryEstimation);
+            .hasMin(expectedMin)
+            .hasMax(expectedMax);
 
     }
 
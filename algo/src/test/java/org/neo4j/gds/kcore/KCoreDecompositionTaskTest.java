@@ -32,8 +32,8 @@ class KCoreDecompositionTaskTest {
             .estimate(GraphDimensions.of(100), 4)
             .memoryUsage();
 
-        assertThat(memoryUsage.min).isEqualTo(936L);
-        assertThat(memoryUsage.max).isEqualTo(936L);
+        assertThat(memoryUsage.min).isEqualTo(512L);
+        assertThat(memoryUsage.max).isEqualTo(512L);
     }
 
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.kcore;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@GdlExtension
+class KCoreMaintenanceTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:node)," +
+        "  (b:node)," +
+        "  (c:node)," +
+        "  (d:node)," +
+        "  (e:node)," +
+
+        "(a)-[:R]->(b)," +
+        "(b)-[:R]->(c)," +
+        "(c)-[:R]->(a)," +
+        "(d)-[:R]->(a)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldUpdateCoreValues() {
+        var maintenance = maintenance();
+
+        // d joins the 2-core of the triangle
+        assertThat(maintenance.insertRelationship(graph.toMappedNodeId("d"), graph.toMappedNodeId("b")))
+            .containsExactly(graph.toMappedNodeId("d"));
+        assertCoreValues(maintenance, 2, 2, 2, 2, 0);
+
+        // the triangle becomes a 4-cycle, which is still a 2-core
+        assertThat(maintenance.deleteRelationship(graph.toMappedNodeId("a"), graph.toMappedNodeId("b")))
+            .isEmpty();
+        assertCoreValues(maintenance, 2, 2, 2, 2, 0);
+
+        // the 4-cycle becomes a path
+        assertThat(maintenance.deleteRelationship(graph.toMappedNodeId("d"), graph.toMappedNodeId("a")))
+            .containsExactlyInAnyOrder(
+                graph.toMappedNodeId("a"),
+                graph.toMappedNodeId("b"),
+                graph.toMappedNodeId("c"),
+                graph.toMappedNodeId("d")
+            );
+        assertCoreValues(maintenance, 1, 1, 1, 1, 0);
+
+        // an isolated node joins the path
+        assertThat(maintenance.insertRelationship(graph.toMappedNodeId("e"), graph.toMappedNodeId("a")))
+            .containsExactly(graph.toMappedNodeId("e"));
+        assertCoreValues(maintenance, 1, 1, 1, 1, 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 42L, 1337L})
+    void shouldMatchRecomputation(long seed) {
+        int nodeCount = 40;
+        var random = new Random(seed);
+        // insertion ordered, so that the updates only depend on the seed
+        var relationships = new LinkedHashSet<List<Integer>>();
+        while (relationships.size() < 80) {
+            relationships.add(randomPair(random, nodeCount));
+        }
+
+        var initialGraph = fromRelationships(nodeCount, relationships);
+        var coreValues = new KCoreDecomposition(initialGraph, 1, ProgressTracker.NULL_TRACKER).compute().coreValues();
+        var maintenance = KCoreMaintenance.of(initialGraph, coreValues, 1);
+
+        for (int step = 0; step < 200; step++) {
+            if (random.nextBoolean()) {
+                var relationship = new ArrayList<>(relationships).get(random.nextInt(relationships.size()));
+                relationships.remove(relationship);
+                maintenance.deleteRelationship(
+                    initialGraph.toMappedNodeId("n" + relationship.get(0)),
+                    initialGraph.toMappedNodeId("n" + relationship.get(1))
+                );
+            } else {
+                List<Integer> relationship;
+                do {
+                    relationship = randomPair(random, nodeCount);
+                } while (relationships.contains(relationship));
+                relationships.add(relationship);
+                maintenance.insertRelationship(
+                    initialGraph.toMappedNodeId("n" + relationship.get(0)),
+                    initialGraph.toMappedNodeId("n" + relationship.get(1))
+                );
+            }
+
+            if (step % 10 == 9) {
+                var updatedGraph = fromRelationships(nodeCount, relationships);
+                var expected = new KCoreDecomposition(updatedGraph, 1, ProgressTracker.NULL_TRACKER).compute().coreValues();
+                for (int node = 0; node < nodeCount; node++) {
+                    var variable = "n" + node;
+                    assertThat(maintenance.coreValues().get(initialGraph.toMappedNodeId(variable)))
+                        .as("core value of (%s) after %d updates", variable, step + 1)
+                        .isEqualTo(expected.get(updatedGraph.toMappedNodeId(variable)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void memoryEstimationShouldCountEveryRelationship() {
+        var withoutRelationships = KCoreMaintenance.memoryEstimation()
+            .estimate(GraphDimensions.of(100, 0), 4)
+            .memoryUsage();
+        var withRelationships = KCoreMaintenance.memoryEstimation()
+            .estimate(GraphDimensions.of(100, 1_000), 4)
+            .memoryUsage();
+
+        assertThat(withoutRelationships.min).isEqualTo(withoutRelationships.max).isGreaterThan(100 * Long.BYTES);
+        assertThat(withRelationships.min - withoutRelationships.min).isEqualTo(1_000 * Long.BYTES);
+    }
+
+    @Test
+    void shouldFailOnMissingRelationship() {
+        var maintenance = maintenance();
+
+        assertThatThrownBy(() -> maintenance.deleteRelationship(graph.toMappedNodeId("d"), graph.toMappedNodeId("e")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("There is no relationship between the nodes");
+    }
+
+    @Test
+    void shouldFailOnSelfLoop() {
+        var maintenance = maintenance();
+
+        assertThatThrownBy(() -> maintenance.insertRelationship(graph.toMappedNodeId("a"), graph.toMappedNodeId("a")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Self-loops are not supported");
+    }
+
+    private KCoreMaintenance maintenance() {
+        var coreValues = new KCoreDecomposition(graph, 1, ProgressTracker.NULL_TRACKER).compute().coreValues();
+        return KCoreMaintenance.of(graph, coreValues, 1);
+    }
+
+    private static List<Integer> randomPair(Random random, int nodeCount) {
+        int source = random.nextInt(nodeCount);
+        int target = random.nextInt(nodeCount - 1);
+        // skip self-loops
+        if (target >= source) {
+            target++;
+        }
+        return List.of(Math.min(source, target), Math.max(source, target));
+    }
+
+    private static TestGraph fromRelationships(int nodeCount, Collection<List<Integer>> relationships) {
+        var gdl = new StringJoiner(", ", "CREATE ", "");
+        for (int node = 0; node < nodeCount; node++) {
+            gdl.add(formatWithLocale("(n%d)", node));
+        }
+        for (var relationship : relationships) {
+            gdl.add(formatWithLocale("(n%d)-[:R]->(n%d)", relationship.get(0), relationship.get(1)));
+        }
+        return TestSupport.fromGdl(gdl.toString(), Orientation.UNDIRECTED);
+    }
+
+    private void assertCoreValues(KCoreMaintenance maintenance, int a, int b, int c, int d, int e) {
+        var coreValues = maintenance.coreValues();
+        assertThat(coreValues.get(graph.toMappedNodeId("a"))).isEqualTo(a);
+        assertThat(coreValues.get(graph.toMappedNodeId("b"))).isEqualTo(b);
+        assertThat(coreValues.get(graph.toMappedNodeId("c"))).isEqualTo(c);
+        assertThat(coreValues.get(graph.toMappedNodeId("d"))).isEqualTo(d);
+        assertThat(coreValues.get(graph.toMappedNodeId("e"))).isEqualTo(e);
+    }
+}
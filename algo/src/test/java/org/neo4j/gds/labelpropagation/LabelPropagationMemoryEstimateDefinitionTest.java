@@ -34,9 +34,9 @@ class LabelPropagationMemoryEstimateDefinitionTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 800_464, 4_994_640),
-            Arguments.of(4, 801_544, 17_578_248),
-            Arguments.of(42, 815_224, 176_970_616)
+            Arguments.of(1, 813_312, 7_104_384),
+            Arguments.of(4, 815_208, 25_979_496),
+            Arguments.of(42, 839_224, 265_064_248)
         );
     }
 
@@ -28,6 +28,7 @@ import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.compat.Neo4jProxy;
@@ -61,6 +62,7 @@ class LabelPropagationTest {
 
     // override idOffset for seedId to be actual neo4j ids
     @GdlGraph
+    @GdlGraph(graphNamePrefix = "inverse", indexInverse = true)
     private static final String GRAPH =
         "CREATE" +
         "  (nAlice:User   {seedId: 2})" +
@@ -80,9 +82,28 @@ class LabelPropagationTest {
         ", (nMichael)-[:FOLLOW]->(nBridget)" +
         ", (nCharles)-[:FOLLOW]->(nDoug)";
 
+    @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED)
+    private static final String UNDIRECTED_GRAPH =
+        "CREATE" +
+        "  (a), (b), (c), (d), (e), (f), (g), (h)" +
+        ", (a)-[:REL]->(b)" +
+        ", (a)-[:REL]->(c)" +
+        ", (b)-[:REL]->(c)" +
+        ", (c)-[:REL]->(d)" +
+        ", (d)-[:REL]->(e)" +
+        ", (d)-[:REL]->(f)" +
+        ", (e)-[:REL]->(f)" +
+        ", (g)-[:REL]->(h)";
+
     @Inject
     private TestGraph graph;
 
+    @Inject
+    private TestGraph inverseGraph;
+
+    @Inject
+    private TestGraph undirectedGraph;
+
     @InjectSoftAssertions
     SoftAssertions soft;
 
@@ -192,6 +213,60 @@ class LabelPropagationTest {
         }
     }
 
+    @Test
+    void shouldComputeLabelsOfAllNodesWithoutInverseIndex() {
+        var result = new LabelPropagation(
+            graph,
+            DEFAULT_CONFIG,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(result.activeNodeCounts()).containsExactly(6, 6, 6);
+    }
+
+    @Test
+    void shouldOnlyComputeLabelsOfNodesWithChangedNeighboursWithInverseIndex() {
+        var expected = new LabelPropagation(
+            graph,
+            DEFAULT_CONFIG,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        var result = new LabelPropagation(
+            inverseGraph,
+            DEFAULT_CONFIG,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(result.labels().toArray()).containsExactly(expected.labels().toArray());
+        assertThat(result.ranIterations()).isEqualTo(expected.ranIterations());
+        assertThat(result.didConverge()).isTrue();
+        assertThat(result.activeNodeCounts()).containsExactly(6, 3, 1);
+    }
+
+    @Test
+    void shouldOnlyComputeLabelsOfNodesWithChangedNeighbours() {
+        var result = new LabelPropagation(
+            undirectedGraph,
+            DEFAULT_CONFIG,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        long firstLabel = undirectedGraph.toOriginalNodeId("b");
+        long secondLabel = undirectedGraph.toOriginalNodeId("h");
+        assertThat(result.labels().toArray()).containsExactly(
+            firstLabel, firstLabel, firstLabel, firstLabel, firstLabel, firstLabel,
+            secondLabel, secondLabel
+        );
+        assertThat(result.didConverge()).isTrue();
+        // no neighbour of (f), (g) and (h) changes its label after they got theirs, so they are not computed again
+        assertThat(result.activeNodeCounts()).containsExactly(8, 5);
+    }
+
     private static IntObjectMap<IntArrayList> groupByPartitionInt(HugeLongArray labels) {
         if (labels == null) {
             return null;
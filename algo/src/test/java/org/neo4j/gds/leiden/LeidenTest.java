@@ -79,9 +79,33 @@ class LeidenTest {
         "  (a5)-[:R {weight: 1.0}]->(a7)," +
         "  (a6)-[:R {weight: 1.0}]->(a7)";
 
+    // `x` is seeded into the community of the right triangle, although it is only connected to the left one
+    @GdlGraph(graphNamePrefix = "changed", orientation = Orientation.UNDIRECTED)
+    private static final String CHANGED_DB_CYPHER =
+        "CREATE" +
+        "  (a:Node {seed: 1, changed: 0, changedFar: 0})," +
+        "  (b:Node {seed: 1, changed: 0, changedFar: 0})," +
+        "  (c:Node {seed: 1, changed: 0, changedFar: 0})," +
+        "  (d:Node {seed: 2, changed: 0, changedFar: 0})," +
+        "  (e:Node {seed: 2, changed: 0, changedFar: 0})," +
+        "  (f:Node {seed: 2, changed: 0, changedFar: 1})," +
+        "  (x:Node {seed: 2, changed: 1, changedFar: 0})," +
+        "  (a)-[:R]->(b)," +
+        "  (a)-[:R]->(c)," +
+        "  (b)-[:R]->(c)," +
+        "  (c)-[:R]->(d)," +
+        "  (d)-[:R]->(e)," +
+        "  (d)-[:R]->(f)," +
+        "  (e)-[:R]->(f)," +
+        "  (x)-[:R]->(a)," +
+        "  (x)-[:R]->(b)";
+
     @Inject
     private TestGraph graph;
 
+    @Inject
+    private TestGraph changedGraph;
+
     @Test
     void leiden() {
         int maxLevels = 3;
@@ -210,6 +234,44 @@ class LeidenTest {
 
     }
 
+    @Test
+    void shouldReevaluateChangedNodes() {
+        var leidenResult = changedLeiden("changed").compute();
+
+        var communities = leidenResult.communities();
+        assertThat(communities.get(changedGraph.toMappedNodeId("x")))
+            .isEqualTo(communities.get(changedGraph.toMappedNodeId("a")))
+            .isNotEqualTo(communities.get(changedGraph.toMappedNodeId("d")));
+    }
+
+    @Test
+    void shouldOnlyReevaluateTheNeighbourhoodOfChangedNodes() {
+        var leidenResult = changedLeiden("changedFar").compute();
+
+        // `x` is not in the neighbourhood of `f`, so nothing moves and the seeding is kept
+        assertThat(leidenResult.ranLevels()).isEqualTo(1);
+        assertThat(leidenResult.didConverge()).isTrue();
+        var communities = leidenResult.communities();
+        assertThat(communities.get(changedGraph.toMappedNodeId("x"))).isEqualTo(2L);
+        assertThat(communities.get(changedGraph.toMappedNodeId("a"))).isEqualTo(1L);
+    }
+
+    private Leiden changedLeiden(String changedNodesProperty) {
+        return new Leiden(
+            changedGraph,
+            3,
+            1.0,
+            0.01,
+            false,
+            19L,
+            changedGraph.nodeProperties("seed"),
+            changedGraph.nodeProperties(changedNodesProperty),
+            TOLERANCE_DEFAULT,
+            1,
+            ProgressTracker.NULL_TRACKER
+        );
+    }
+
     @Test
     void shouldMaintainPartition() {
         var localCommunities = HugeLongArray.of(1, 1, 1, 3, 3, 3, 1, 3);
@@ -42,6 +42,7 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.gds.modularity.ModularityCalculator;
 import org.neo4j.gds.termination.TerminationFlag;
 
@@ -118,9 +119,33 @@ class LouvainTest {
         ", (l)-[:TYPE_OUT {weight: 1.0}]->(n)" +
         ", (m)-[:TYPE_OUT {weight: 1.0}]->(n)";
 
+    // `x` is seeded into the community of the right triangle, although it is only connected to the left one
+    @GdlGraph(graphNamePrefix = "changed", orientation = Orientation.UNDIRECTED)
+    private static final String CHANGED_DB_CYPHER =
+        "CREATE" +
+        "  (a:Node {seed: 1, changed: 0, changedFar: 0})" +
+        ", (b:Node {seed: 1, changed: 0, changedFar: 0})" +
+        ", (c:Node {seed: 1, changed: 0, changedFar: 0})" +
+        ", (d:Node {seed: 2, changed: 0, changedFar: 0})" +
+        ", (e:Node {seed: 2, changed: 0, changedFar: 0})" +
+        ", (f:Node {seed: 2, changed: 0, changedFar: 1})" +
+        ", (x:Node {seed: 2, changed: 1, changedFar: 0})" +
+        ", (a)-[:TYPE]->(b)" +
+        ", (a)-[:TYPE]->(c)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(d)" +
+        ", (d)-[:TYPE]->(e)" +
+        ", (d)-[:TYPE]->(f)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (x)-[:TYPE]->(a)" +
+        ", (x)-[:TYPE]->(b)";
+
     @Inject
     private GraphStore graphStore;
 
+    @Inject
+    private TestGraph changedGraph;
+
     @Inject
     private IdFunction idFunction;
 
@@ -433,6 +458,38 @@ class LouvainTest {
 
     }
 
+    @Test
+    void shouldReevaluateChangedNodes() {
+        var config = defaultConfigBuilder().seedProperty("seed").changedNodesProperty("changed").build();
+        var result = new LouvainAlgorithmFactory<>()
+            .build(changedGraph, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+
+        assertThat(result.getCommunity(changedGraph.toMappedNodeId("x")))
+            .isEqualTo(result.getCommunity(changedGraph.toMappedNodeId("a")))
+            .isEqualTo(1L);
+        assertThat(result.getCommunity(changedGraph.toMappedNodeId("d"))).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldOnlyReevaluateTheNeighbourhoodOfChangedNodes() {
+        var config = defaultConfigBuilder().seedProperty("seed").changedNodesProperty("changedFar").build();
+        var result = new LouvainAlgorithmFactory<>()
+            .build(changedGraph, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+
+        // `x` is not in the neighbourhood of `f`, so it keeps its seeded community
+        assertThat(result.getCommunity(changedGraph.toMappedNodeId("x"))).isEqualTo(2L);
+        assertThat(result.getCommunity(changedGraph.toMappedNodeId("a"))).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRequireSeedingForChangedNodes() {
+        assertThatThrownBy(() -> defaultConfigBuilder().changedNodesProperty("changed").build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("`seedProperty`");
+    }
+
     @Test
     void shouldGiveSameResultWithCalculator() {
         var myGraph = RandomGraphGenerator
@@ -22,15 +22,21 @@ package org.neo4j.gds.msbfs;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.config.ConcurrencyConfig;
 import org.neo4j.gds.core.concurrency.DefaultPool;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -432,6 +438,68 @@ final class MultiSourceBFSAccessMethodsTest {
     }
 
 
+    @Nested
+    class DirectionOptimizingTest {
+
+        @ParameterizedTest
+        @EnumSource(value = Direction.class)
+        void shouldComputeTheSameDistancesWhenPullingFromIncomingRelationships(Direction direction) {
+            int nodeCount = 500;
+            var graph = RandomGraphGenerator.builder()
+                .nodeCount(nodeCount)
+                .averageDegree(10)
+                .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+                .direction(direction)
+                .inverseIndex(direction == Direction.DIRECTED)
+                .seed(42)
+                .build()
+                .generate();
+
+            var depths = new int[nodeCount][nodeCount];
+            for (int[] sourceDepths : depths) {
+                Arrays.fill(sourceDepths, -1);
+            }
+
+            MultiSourceBFSAccessMethods.aggregatedNeighborProcessingWithoutSourceNodes(
+                nodeCount,
+                graph,
+                (nodeId, depth, sourceNodeIds) -> {
+                    synchronized (depths) {
+                        while (sourceNodeIds.hasNext()) {
+                            depths[(int) sourceNodeIds.nextLong()][(int) nodeId] = depth;
+                        }
+                    }
+                }
+            ).run(4, DefaultPool.INSTANCE);
+
+            for (int sourceNodeId = 0; sourceNodeId < nodeCount; sourceNodeId++) {
+                assertArrayEquals(sequentialBfsDepths(graph, sourceNodeId), depths[sourceNodeId]);
+            }
+        }
+
+        // the source itself is never reported by MS-BFS, hence it keeps depth -1
+        private int[] sequentialBfsDepths(Graph graph, int sourceNodeId) {
+            var depths = new int[(int) graph.nodeCount()];
+            Arrays.fill(depths, -1);
+            var queue = new ArrayDeque<Long>();
+            depths[sourceNodeId] = 0;
+            queue.add((long) sourceNodeId);
+            while (!queue.isEmpty()) {
+                long nodeId = queue.poll();
+                graph.forEachRelationship(nodeId, (s, t) -> {
+                    if (depths[(int) t] == -1) {
+                        depths[(int) t] = depths[(int) s] + 1;
+                        queue.add(t);
+                    }
+                    return true;
+                });
+            }
+            depths[sourceNodeId] = -1;
+            return depths;
+        }
+    }
+
+
     private static BfsSources toList(BfsSources sources, LongUnaryOperator modify) {
         List<Long> longs = new ArrayList<>();
         while (sources.hasNext()) {
@@ -56,6 +56,7 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 import static org.neo4j.gds.TestSupport.assertMemoryEstimation;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
@@ -141,6 +142,60 @@ class PageRankTest {
             assertThat(pregelResult.iterations()).isEqualTo(expectedIterations);
         }
 
+        @Test
+        void warmStartFromConvergedRanks() {
+            var config = ImmutablePageRankStreamConfig.builder()
+                .maxIterations(40)
+                .concurrency(1)
+                .tolerance(1E-4)
+                .seedProperty("expectedRank")
+                .build();
+
+            var result = runOnPregel(graph, config);
+            var rankProvider = result.centralityScoreProvider();
+            var expected = graph.nodeProperties("expectedRank");
+
+            // initial superstep plus the superstep computing the residuals
+            assertThat(result.iterations()).isEqualTo(2);
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(rankProvider.applyAsDouble(nodeId)).isEqualTo(
+                    expected.doubleValue(nodeId),
+                    within(SCORE_PRECISION)
+                );
+            }
+        }
+
+        @Test
+        void warmStartFromOutdatedRanks() {
+            var config = ImmutablePageRankStreamConfig.builder()
+                .maxIterations(100)
+                .concurrency(1)
+                .tolerance(0)
+                .seedProperty("expectedPersonalizedRank2")
+                .build();
+
+            var rankProvider = runOnPregel(graph, config).centralityScoreProvider();
+            var expected = graph.nodeProperties("expectedRank");
+
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(rankProvider.applyAsDouble(nodeId)).isEqualTo(
+                    expected.doubleValue(nodeId),
+                    within(SCORE_PRECISION)
+                );
+            }
+        }
+
+        @Test
+        void warmStartIsOnlySupportedByPageRank() {
+            var config = ImmutablePageRankStreamConfig.builder()
+                .seedProperty("expectedRank")
+                .build();
+
+            assertThatThrownBy(() -> runOnPregel(graph, config, Mode.ARTICLE_RANK))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The `seedProperty` parameter is only supported by PageRank, not by ArticleRank.");
+        }
+
         @ParameterizedTest
         @CsvSource(value = {
             "a;e,expectedPersonalizedRank1",
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.contraction;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.CatalogRequest;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.paths.PathResult;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraStreamConfig;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.extension.GdlSupportPerMethodExtension.DATABASE_ID;
+
+@GdlExtension
+class ContractionHierarchyTest {
+
+    private static final String USERNAME = "alice";
+
+    @GdlGraph(username = USERNAME, addToCatalog = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (e)" +
+        ", (f)" +
+        ", (a)-[:ROAD {cost: 1.0}]->(b)" +
+        ", (b)-[:ROAD {cost: 1.0}]->(c)" +
+        ", (c)-[:ROAD {cost: 1.0}]->(d)" +
+        ", (a)-[:ROAD {cost: 5.0}]->(d)" +
+        ", (c)-[:ROAD {cost: 1.0}]->(e)" +
+        ", (e)-[:ROAD {cost: 1.0}]->(d)" +
+        ", (d)-[:ROAD {cost: 2.0}]->(a)";
+
+    @Inject
+    private TestGraph graph;
+
+    private static ContractionHierarchyStreamConfig config(long sourceNode, long targetNode) {
+        return ContractionHierarchyStreamConfig.of(CypherMapWrapper.create(Map.of(
+            "sourceNode", sourceNode,
+            "targetNode", targetNode,
+            "trackRelationships", true
+        )));
+    }
+
+    private static ContractionHierarchy build(Graph graph) {
+        return new ContractionHierarchyBuilder(
+            graph,
+            config(0, 0),
+            ContractionHierarchyProvider.BUILD,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+
+    @Test
+    void shouldUnpackShortcuts() {
+        var hierarchy = build(graph);
+
+        var path = hierarchy.shortestPath(graph.toMappedNodeId("a"), graph.toMappedNodeId("d"), true);
+
+        assertThat(path.nodeIds()).containsExactly(
+            graph.toMappedNodeId("a"),
+            graph.toMappedNodeId("b"),
+            graph.toMappedNodeId("c"),
+            graph.toMappedNodeId("d")
+        );
+        assertThat(path.costs()).containsExactly(0.0, 1.0, 2.0, 3.0);
+        // a, b and c have their path relationship first, their only one respectively
+        assertThat(path.relationshipIds()).containsExactly(0L, 0L, 0L);
+        assertThat(hierarchy.distance(graph.toMappedNodeId("a"), graph.toMappedNodeId("d"))).isEqualTo(3.0);
+    }
+
+    @Test
+    void shouldFollowRelationshipDirection() {
+        var hierarchy = build(graph);
+
+        assertThat(hierarchy.distance(graph.toMappedNodeId("d"), graph.toMappedNodeId("b"))).isEqualTo(3.0);
+        assertThat(hierarchy.distance(graph.toMappedNodeId("a"), graph.toMappedNodeId("f"))).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(hierarchy.shortestPath(graph.toMappedNodeId("f"), graph.toMappedNodeId("a"), false)).isSameAs(PathResult.EMPTY);
+        assertThat(hierarchy.distance(graph.toMappedNodeId("f"), graph.toMappedNodeId("f"))).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldRankAllNodes() {
+        var hierarchy = build(graph);
+
+        assertThat(hierarchy.nodeCount()).isEqualTo(6);
+        assertThat(graph.nodeCount()).isEqualTo(6);
+        var ranks = new boolean[6];
+        for (long node = 0; node < 6; node++) {
+            ranks[(int) hierarchy.rank(node)] = true;
+        }
+        assertThat(ranks).containsOnly(true);
+    }
+
+    @Test
+    void shouldFindSameShortestPathsAsDijkstra() {
+        int nodeCount = 2_000;
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("foo", 1, 10))
+            .nodeCount(nodeCount)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var hierarchy = build(randomGraph);
+
+        var random = new Random(42L);
+        for (int i = 0; i < 100; i++) {
+            long source = random.nextInt(nodeCount);
+            long target = random.nextInt(nodeCount);
+
+            var dijkstraConfig = ShortestPathDijkstraStreamConfig.of(CypherMapWrapper.create(Map.of(
+                "sourceNode", randomGraph.toOriginalNodeId(source),
+                "targetNode", randomGraph.toOriginalNodeId(target)
+            )));
+            var expected = Dijkstra
+                .sourceTarget(randomGraph, dijkstraConfig, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+
+            var actual = hierarchy.shortestPath(source, target, false);
+
+            assertThat(actual != PathResult.EMPTY).isEqualTo(expected.isPresent());
+            expected.ifPresent(path -> {
+                assertThat(actual.totalCost()).isCloseTo(path.totalCost(), within(1e-9));
+                assertThat(actual.nodeIds()).startsWith(source).endsWith(target);
+            });
+        }
+    }
+
+    @Test
+    void shouldCacheHierarchyInCatalog() {
+        var provider = ContractionHierarchyCatalog.provider(USERNAME, DATABASE_ID, "graph");
+        var source = graph.toOriginalNodeId("a");
+        var target = graph.toOriginalNodeId("d");
+
+        var hierarchy = new ContractionHierarchyBuilder(graph, config(source, target), provider, ProgressTracker.NULL_TRACKER).compute();
+        var sameHierarchy = new ContractionHierarchyShortestPath(graph, config(target, source), provider, ProgressTracker.NULL_TRACKER);
+        var path = sameHierarchy.compute().findFirst();
+
+        assertThat(path).isPresent();
+        assertThat(path.get().totalCost()).isEqualTo(2.0);
+        assertThat(provider.contractionHierarchy(graph, config(source, target), () -> null)).isSameAs(hierarchy);
+
+        GraphStoreCatalog.removeAllLoadedGraphs();
+        assertThatThrownBy(() -> provider.contractionHierarchy(graph, config(source, target), () -> hierarchy))
+            .hasMessageContaining("Graph with name `graph` does not exist");
+    }
+
+    @Test
+    void shouldRebuildHierarchyAfterRelationshipsChanged() {
+        var provider = ContractionHierarchyCatalog.provider(USERNAME, DATABASE_ID, "graph");
+        var source = graph.toOriginalNodeId("a");
+        var target = graph.toOriginalNodeId("d");
+        var hierarchy = new ContractionHierarchyBuilder(graph, config(source, target), provider, ProgressTracker.NULL_TRACKER).compute();
+
+        // drop the relationship type and mutate it again, which changes the graph store in place
+        var graphStore = GraphStoreCatalog.get(CatalogRequest.of(USERNAME, DATABASE_ID), "graph").graphStore();
+        var roadType = RelationshipType.of("ROAD");
+        var relationships = graphStore.relationships(roadType).orElseThrow();
+        graphStore.deleteRelationships(roadType);
+        graphStore.addRelationshipType(relationships);
+
+        var rebuiltHierarchy = new ContractionHierarchyBuilder(graph, config(source, target), provider, ProgressTracker.NULL_TRACKER).compute();
+        assertThat(rebuiltHierarchy).isNotSameAs(hierarchy);
+        assertThat(provider.contractionHierarchy(graph, config(source, target), () -> null)).isSameAs(rebuiltHierarchy);
+    }
+}
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
@@ -43,6 +44,7 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.gdl.GdlFactory;
 import org.neo4j.gds.paths.delta.config.ImmutableAllShortestPathsDeltaStreamConfig;
 import org.neo4j.gds.paths.dijkstra.Dijkstra;
 
@@ -349,8 +351,9 @@ final class DeltaSteppingTest {
 
     private DeltaSteppingTest() {}
 
-    @Test
-    void shouldGiveSameResultsAsDijkstra() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldGiveSameResultsAsDijkstra(boolean adaptiveDelta) {
         int nodeCount = 3_000;
         long seed = 42L;
         long start = 42;
@@ -369,6 +372,7 @@ final class DeltaSteppingTest {
             .concurrency(concurrency)
             .sourceNode(start)
             .trackRelationships(true)
+            .adaptiveDelta(adaptiveDelta)
             .build();
         var deltaStepping = DeltaStepping.of(
             newGraph,
@@ -404,4 +408,19 @@ final class DeltaSteppingTest {
 
     }
 
+    @Test
+    void shouldDeriveAdaptiveDelta() {
+        var weightedGraph = GdlFactory.of(
+            "(a)-[:REL {w: 4.0}]->(b), (a)-[:REL {w: 1.0}]->(c), (b)-[:REL {w: 2.5}]->(c)"
+        ).build().getUnion();
+        // the average weight divided by the average degree of one
+        assertThat(DeltaStepping.adaptiveDelta(weightedGraph)).isEqualTo(2.5);
+
+        var unweightedGraph = GdlFactory.of(
+            "(a)-[:REL]->(b), (a)-[:REL]->(c), (a)-[:REL]->(d), (b)-[:REL]->(c), (b)-[:REL]->(d), (c)-[:REL]->(d)"
+        ).build().getUnion();
+        // buckets narrower than the lightest relationship would hold a single distance
+        assertThat(DeltaStepping.adaptiveDelta(unweightedGraph)).isEqualTo(1.0);
+    }
+
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.dijkstra;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraStreamConfig;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.paths.PathTestUtil.expected;
+
+@GdlExtension
+class BidirectionalDijkstraTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A)" +
+        ", (b:B)" +
+        ", (c:C)" +
+        ", (d:D)" +
+        ", (e:E)" +
+        ", (f:F)" +
+
+        ", (a)-[:TYPE {cost: 4}]->(b)" +
+        ", (a)-[:TYPE {cost: 2}]->(c)" +
+        ", (b)-[:TYPE {cost: 5}]->(c)" +
+        ", (b)-[:TYPE {cost: 10}]->(d)" +
+        ", (c)-[:TYPE {cost: 3}]->(e)" +
+        ", (d)-[:TYPE {cost: 11}]->(f)" +
+        ", (e)-[:TYPE {cost: 4}]->(d)";
+
+    @GdlGraph(graphNamePrefix = "natural")
+    private static final String NATURAL = DB_CYPHER;
+
+    @GdlGraph(graphNamePrefix = "inverse", indexInverse = true)
+    private static final String INVERSE = DB_CYPHER;
+
+    @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED)
+    private static final String UNDIRECTED = DB_CYPHER;
+
+    // the target has no outgoing relationships, so it is only reachable by expanding it backwards
+    @GdlGraph(graphNamePrefix = "fanIn", indexInverse = true)
+    private static final String FAN_IN =
+        "CREATE" +
+        "  (a)-[:TYPE {cost: 1}]->(b)" +
+        ", (a)-[:TYPE {cost: 1}]->(c)" +
+        ", (b)-[:TYPE {cost: 1}]->(t)" +
+        ", (x)-[:TYPE {cost: 5}]->(t)" +
+        ", (y)-[:TYPE {cost: 5}]->(t)";
+
+    @Inject
+    private TestGraph naturalGraph;
+
+    @Inject
+    private TestGraph inverseGraph;
+
+    @Inject
+    private TestGraph undirectedGraph;
+
+    @Inject
+    private TestGraph fanInGraph;
+
+    private static ShortestPathDijkstraStreamConfig config(long sourceNode, long targetNode, boolean trackRelationships) {
+        return ImmutableShortestPathDijkstraStreamConfig.builder()
+            .concurrency(1)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .trackRelationships(trackRelationships)
+            .bidirectional(true)
+            .build();
+    }
+
+    @Test
+    void sourceTargetOnInverseIndexedGraph() {
+        var expected = expected(inverseGraph::toMappedNodeId, 0, new double[]{0.0, 2.0, 5.0, 9.0, 20.0}, "a", "c", "e", "d", "f");
+
+        var config = config(inverseGraph.toOriginalNodeId("a"), inverseGraph.toOriginalNodeId("f"), false);
+
+        var path = BidirectionalDijkstra
+            .sourceTarget(inverseGraph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .findFirst()
+            .get();
+
+        assertThat(path).isEqualTo(expected);
+    }
+
+    @Test
+    void sourceTargetOnUndirectedGraph() {
+        var expected = expected(undirectedGraph::toMappedNodeId, 0, new double[]{0.0, 11.0, 15.0, 18.0, 20.0}, "f", "d", "e", "c", "a");
+
+        var config = config(undirectedGraph.toOriginalNodeId("f"), undirectedGraph.toOriginalNodeId("a"), false);
+
+        var path = BidirectionalDijkstra
+            .sourceTarget(undirectedGraph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .findFirst()
+            .get();
+
+        assertThat(path).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldTrackSameRelationshipsAsDijkstra() {
+        var config = config(inverseGraph.toOriginalNodeId("a"), inverseGraph.toOriginalNodeId("f"), true);
+
+        var expected = Dijkstra
+            .sourceTarget(inverseGraph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+            .compute()
+            .findFirst()
+            .get();
+
+        var path = BidirectionalDijkstra
+            .sourceTarget(inverseGraph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .findFirst()
+            .get();
+
+        assertThat(path).isEqualTo(expected);
+        assertThat(path.relationshipIds()).hasSize(4);
+    }
+
+    @Test
+    void shouldLogInverseDegreeForBackwardSteps() {
+        var config = config(fanInGraph.toOriginalNodeId("a"), fanInGraph.toOriginalNodeId("t"), false);
+        var progressTask = new DijkstraFactory.SourceTargetDijkstraFactory<>().progressTask(fanInGraph, config);
+        var progressTracker = new TestProgressTracker(
+            progressTask,
+            Neo4jProxy.testLog(),
+            1,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+
+        var path = BidirectionalDijkstra
+            .sourceTarget(fanInGraph, config, progressTracker)
+            .compute()
+            .findFirst()
+            .get();
+
+        assertThat(path.totalCost()).isEqualTo(2.0);
+        // a is expanded forwards, then t is expanded backwards along its three incoming relationships
+        assertThat(progressTracker.getProgresses())
+            .hasSize(1)
+            .first()
+            .extracting(AtomicLong::get)
+            .isEqualTo(2L + 3L);
+    }
+
+    @Test
+    void nonExisting() {
+        var config = config(inverseGraph.toOriginalNodeId("f"), inverseGraph.toOriginalNodeId("a"), false);
+
+        var paths = BidirectionalDijkstra
+            .sourceTarget(inverseGraph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .pathSet();
+
+        assertThat(paths).isEmpty();
+    }
+
+    @Test
+    void sameSourceAndTarget() {
+        var expected = expected(inverseGraph::toMappedNodeId, 0, new double[]{0.0}, "c");
+
+        var config = config(inverseGraph.toOriginalNodeId("c"), inverseGraph.toOriginalNodeId("c"), false);
+
+        var path = BidirectionalDijkstra
+            .sourceTarget(inverseGraph, config, ProgressTracker.NULL_TRACKER)
+            .compute()
+            .findFirst()
+            .get();
+
+        assertThat(path).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldFailOnDirectedGraphWithoutInverseIndex() {
+        var config = config(naturalGraph.toOriginalNodeId("a"), naturalGraph.toOriginalNodeId("f"), false);
+
+        assertThatThrownBy(() -> BidirectionalDijkstra.sourceTarget(naturalGraph, config, ProgressTracker.NULL_TRACKER))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Bidirectional Dijkstra requires the relationships to be undirected or inverse indexed.");
+    }
+
+    @Test
+    void shouldBeSelectedByFactory() {
+        var config = config(inverseGraph.toOriginalNodeId("a"), inverseGraph.toOriginalNodeId("f"), false);
+
+        var algorithm = new DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraStreamConfig>()
+            .build(inverseGraph, config, ProgressTracker.NULL_TRACKER);
+
+        assertThat(algorithm).isInstanceOf(BidirectionalDijkstra.class);
+    }
+
+    @Test
+    void shouldGiveSameCostsAsDijkstra() {
+        int nodeCount = 2_000;
+        var graph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .inverseIndex(true)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("foo", 1, 10))
+            .allowSelfLoops(RandomGraphGeneratorConfig.AllowSelfLoops.NO)
+            .nodeCount(nodeCount)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var random = new Random(42L);
+        for (int i = 0; i < 50; i++) {
+            var config = config(random.nextInt(nodeCount), random.nextInt(nodeCount), true);
+
+            var expected = Dijkstra
+                .sourceTarget(graph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+
+            var actual = BidirectionalDijkstra
+                .sourceTarget(graph, config, ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+
+            assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+            actual.ifPresent(path -> assertThat(path.totalCost()).isCloseTo(expected.get().totalCost(), within(1e-9)));
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.landmarks;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGeneratorBuilder;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.CatalogRequest;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.paths.dijkstra.Dijkstra;
+import org.neo4j.gds.paths.dijkstra.DijkstraFactory;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableAllShortestPathsDijkstraStreamConfig;
+import org.neo4j.gds.paths.dijkstra.config.ImmutableShortestPathDijkstraStreamConfig;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraStreamConfig;
+import org.neo4j.gds.termination.TerminatedException;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.assertj.Extractors.removingThreadId;
+import static org.neo4j.gds.assertj.Extractors.replaceTimings;
+import static org.neo4j.gds.extension.GdlSupportPerMethodExtension.DATABASE_ID;
+
+@GdlExtension
+class LandmarkIndexTest {
+
+    private static final String USERNAME = "alice";
+
+    @GdlGraph(username = USERNAME, addToCatalog = true, orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (e)" +
+        ", (a)-[:LINE {cost: 1.0}]->(b)" +
+        ", (b)-[:LINE {cost: 1.0}]->(c)" +
+        ", (c)-[:LINE {cost: 1.0}]->(d)" +
+        ", (d)-[:LINE {cost: 1.0}]->(e)";
+
+    @Inject
+    private TestGraph graph;
+
+    private static ShortestPathDijkstraStreamConfig config(long sourceNode, long targetNode, int landmarks) {
+        return ImmutableShortestPathDijkstraStreamConfig.builder()
+            .concurrency(4)
+            .sourceNode(sourceNode)
+            .targetNode(targetNode)
+            .landmarks(landmarks)
+            .build();
+    }
+
+    private static LandmarkIndex build(Graph graph, int landmarks) {
+        return LandmarkIndex.build(
+            graph,
+            landmarks,
+            4,
+            DefaultPool.INSTANCE,
+            TerminationFlag.RUNNING_TRUE,
+            ProgressTracker.NULL_TRACKER
+        );
+    }
+
+    private LandmarkIndex landmarkIndex(LandmarkIndexProvider provider, ShortestPathDijkstraStreamConfig config) {
+        return provider.landmarkIndex(graph, config, TerminationFlag.RUNNING_TRUE, ProgressTracker.NULL_TRACKER);
+    }
+
+    @Test
+    void shouldSelectLandmarksFarApart() {
+        var index = build(graph, 3);
+
+        // b is the first node with the highest degree, e is farthest from b and a is farthest from both
+        assertThat(index.landmarks()).containsExactly(
+            graph.toMappedNodeId("b"),
+            graph.toMappedNodeId("e"),
+            graph.toMappedNodeId("a")
+        );
+    }
+
+    @Test
+    void shouldStopWhenAllNodesAreLandmarks() {
+        var index = build(graph, 10);
+
+        assertThat(index.landmarks()).hasSize(5);
+    }
+
+    @Test
+    void shouldComputeExactBoundsOnLine() {
+        var index = build(graph, 2);
+        var heuristic = index.heuristic(graph.toMappedNodeId("e"));
+
+        assertThat(heuristic.applyAsDouble(graph.toMappedNodeId("a"))).isEqualTo(4.0);
+        assertThat(heuristic.applyAsDouble(graph.toMappedNodeId("c"))).isEqualTo(2.0);
+        assertThat(heuristic.applyAsDouble(graph.toMappedNodeId("e"))).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldNeverOverestimateDistances() {
+        int nodeCount = 1_000;
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.UNDIRECTED)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("foo", 1, 10))
+            .nodeCount(nodeCount)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var index = build(randomGraph, 8);
+        var random = new Random(42L);
+
+        for (int i = 0; i < 10; i++) {
+            long target = random.nextInt(nodeCount);
+            var heuristic = index.heuristic(target);
+            var config = ImmutableAllShortestPathsDijkstraStreamConfig.builder()
+                .sourceNode(randomGraph.toOriginalNodeId(target))
+                .build();
+
+            assertThat(heuristic.applyAsDouble(target)).isEqualTo(0.0);
+            // the graph is undirected, so the distances from the target are the distances to the target
+            Dijkstra
+                .singleSource(randomGraph, config, Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .forEachPath(path -> assertThat(heuristic.applyAsDouble(path.targetNode()))
+                    .isLessThanOrEqualTo(path.totalCost() + 1e-9));
+        }
+    }
+
+    @Test
+    void shouldFindSameShortestPathsAsDijkstra() {
+        int nodeCount = 2_000;
+        var randomGraph = new RandomGraphGeneratorBuilder()
+            .direction(Direction.DIRECTED)
+            .inverseIndex(true)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("foo", 1, 10))
+            .nodeCount(nodeCount)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var landmarkIndex = build(randomGraph, 4);
+        var factory = new DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraStreamConfig>(
+            (graph, config, terminationFlag, progressTracker) -> landmarkIndex
+        );
+
+        var random = new Random(42L);
+        for (int i = 0; i < 50; i++) {
+            long source = random.nextInt(nodeCount);
+            long target = random.nextInt(nodeCount);
+
+            var expected = Dijkstra
+                .sourceTarget(randomGraph, config(source, target, 0), Optional.empty(), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+
+            var actual = factory
+                .build(randomGraph, config(source, target, 4), ProgressTracker.NULL_TRACKER)
+                .compute()
+                .findFirst();
+
+            assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+            actual.ifPresent(path -> assertThat(path.totalCost()).isCloseTo(expected.get().totalCost(), within(1e-9)));
+        }
+    }
+
+    @Test
+    void shouldCacheIndexInCatalog() {
+        var provider = LandmarkIndexCatalog.provider(USERNAME, DATABASE_ID, "graph");
+        var source = graph.toOriginalNodeId("a");
+        var target = graph.toOriginalNodeId("e");
+
+        var index = landmarkIndex(provider, config(source, target, 2));
+        var sameIndex = landmarkIndex(provider, config(target, source, 2));
+        var otherIndex = landmarkIndex(provider, config(source, target, 3));
+
+        assertThat(sameIndex).isSameAs(index);
+        assertThat(otherIndex).isNotSameAs(index);
+
+        GraphStoreCatalog.removeAllLoadedGraphs();
+        assertThatThrownBy(() -> landmarkIndex(provider, config(source, target, 2)))
+            .hasMessageContaining("Graph with name `graph` does not exist");
+    }
+
+    @Test
+    void shouldRebuildIndexAfterRelationshipsChanged() {
+        var provider = LandmarkIndexCatalog.provider(USERNAME, DATABASE_ID, "graph");
+        var source = graph.toOriginalNodeId("a");
+        var target = graph.toOriginalNodeId("e");
+        var index = landmarkIndex(provider, config(source, target, 2));
+
+        // drop the relationship type and mutate it again, which changes the graph store in place
+        var graphStore = GraphStoreCatalog.get(CatalogRequest.of(USERNAME, DATABASE_ID), "graph").graphStore();
+        var lineType = RelationshipType.of("LINE");
+        var relationships = graphStore.relationships(lineType).orElseThrow();
+        graphStore.deleteRelationships(lineType);
+        graphStore.addRelationshipType(relationships);
+
+        var rebuiltIndex = landmarkIndex(provider, config(source, target, 2));
+        assertThat(rebuiltIndex).isNotSameAs(index);
+        assertThat(landmarkIndex(provider, config(source, target, 2))).isSameAs(rebuiltIndex);
+    }
+
+    @Test
+    void shouldLogProgressOfLandmarkBuild() {
+        var config = config(graph.toOriginalNodeId("a"), graph.toOriginalNodeId("e"), 2);
+        var factory = new DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraStreamConfig>();
+        var log = Neo4jProxy.testLog();
+        var progressTracker = new TestProgressTracker(
+            factory.progressTask(graph, config),
+            log,
+            4,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+
+        var path = factory.build(graph, config, progressTracker).compute().findFirst();
+
+        assertThat(path).isPresent();
+        assertThat(log.getMessages(TestLog.INFO))
+            .extracting(removingThreadId())
+            .extracting(replaceTimings())
+            .containsSubsequence(
+                "Dijkstra :: Start",
+                "Dijkstra :: Build landmarks :: Start",
+                "Dijkstra :: Build landmarks 50%",
+                "Dijkstra :: Build landmarks 100%",
+                "Dijkstra :: Build landmarks :: Finished",
+                "Dijkstra :: Dijkstra :: Start",
+                "Dijkstra :: Dijkstra :: Finished",
+                "Dijkstra :: Finished"
+            );
+    }
+
+    @Test
+    void shouldStopLandmarkBuildWhenTerminated() {
+        var config = config(graph.toOriginalNodeId("a"), graph.toOriginalNodeId("e"), 2);
+        var algorithm = new DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraStreamConfig>()
+            .build(graph, config, ProgressTracker.NULL_TRACKER);
+        algorithm.setTerminationFlag(TerminationFlag.STOP_RUNNING);
+
+        assertThatThrownBy(algorithm::compute).isInstanceOf(TerminatedException.class);
+    }
+
+    @Test
+    void shouldNotCombineWithBidirectionalSearch() {
+        assertThatThrownBy(() -> ImmutableShortestPathDijkstraStreamConfig.builder()
+            .sourceNode(0)
+            .targetNode(1)
+            .landmarks(2)
+            .bidirectional(true)
+            .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The `bidirectional` and the `landmarks` option cannot be used at the same time.");
+    }
+}
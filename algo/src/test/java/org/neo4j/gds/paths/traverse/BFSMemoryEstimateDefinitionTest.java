@@ -32,10 +32,10 @@ class BFSMemoryEstimateDefinitionTest {
     @ParameterizedTest
     @CsvSource(
         {
-            "10_000,100_000,1,402_988,402_988",
-            "10_000,100_000,2,402_988,482_972",
-            "100_000,1_000_000,1,4_026_890,4_026_890",
-            "100_000,1_000_000,2,4_026_890,4_826_874"
+            "10_000,100_000,1,402_988,563_052",
+            "10_000,100_000,2,402_988,643_036",
+            "100_000,1_000_000,1,4_026_890,5_626_954",
+            "100_000,1_000_000,2,4_026_890,6_426_938"
         }
     )
     void testMemoryEstimation(
@@ -19,15 +19,21 @@
  */
 package org.neo4j.gds.paths.traverse;
 
+import com.carrotsearch.hppc.LongArrayList;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 
+import java.util.BitSet;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -126,6 +132,56 @@ class BFSOnBiggerGraphTest {
             ).mapToLong(graph::toMappedNodeId).toArray());
     }
 
+    @ParameterizedTest
+    @MethodSource("bottomUpParameters")
+    void shouldKeepTheTopDownOrderWhenTraversingBottomUp(Direction direction, int concurrency) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .direction(direction)
+            .inverseIndex(direction == Direction.DIRECTED)
+            .seed(42)
+            .build()
+            .generate();
+
+        long[] nodes = BFS.create(
+            randomGraph,
+            0,
+            ExitPredicate.FOLLOW,
+            Aggregator.NO_AGGREGATION,
+            concurrency,
+            ProgressTracker.NULL_TRACKER,
+            BFS.ALL_DEPTHS_ALLOWED
+        ).compute().toArray();
+
+        assertThat(nodes).isEqualTo(sequentialBfs(randomGraph, 0));
+    }
+
+    private static long[] sequentialBfs(Graph graph, long sourceNodeId) {
+        var visited = new BitSet((int) graph.nodeCount());
+        var traversedNodes = new LongArrayList();
+        visited.set((int) sourceNodeId);
+        traversedNodes.add(sourceNodeId);
+        for (int idx = 0; idx < traversedNodes.size(); idx++) {
+            graph.forEachRelationship(traversedNodes.get(idx), (s, t) -> {
+                if (!visited.get((int) t)) {
+                    visited.set((int) t);
+                    traversedNodes.add(t);
+                }
+                return true;
+            });
+        }
+        return traversedNodes.toArray();
+    }
+
+    private static Stream<Arguments> bottomUpParameters() {
+        return crossArguments(
+            () -> Stream.of(Arguments.of(Direction.UNDIRECTED), Arguments.of(Direction.DIRECTED)),
+            () -> Stream.of(Arguments.of(1), Arguments.of(4))
+        );
+    }
+
     private static Stream<Arguments> bfsParameters() {
         return crossArguments(
             () -> Stream.of(Arguments.of(1), Arguments.of(4), Arguments.of(8)), // concurrencies
@@ -34,14 +34,14 @@ class YensMemoryEstimateDefinitionTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1_000, 3, 1, 56_960L),
-            Arguments.of(1_000, 3, 4, 227_744L),
+            Arguments.of(1_000, 3, 1, 97_232L),
+            Arguments.of(1_000, 3, 4, 268_016L),
 
-            Arguments.of(1_000_000, 3, 1, 56_125_832L),
-            Arguments.of(1_000_000, 3, 4, 224_503_232L),
+            Arguments.of(1_000_000, 3, 1, 96_126_104L),
+            Arguments.of(1_000_000, 3, 4, 264_503_504L),
 
-            Arguments.of(1_000_000_000, 3, 1, 56_133_545_928L),
-            Arguments.of(1_000_000_000, 3, 4, 224_534_183_616L)
+            Arguments.of(1_000_000_000, 3, 1, 96_139_649_840L),
+            Arguments.of(1_000_000_000, 3, 4, 264_540_287_528L)
 
         );
     }
@@ -312,6 +312,30 @@ class YensTest {
         return elements.stream().filter(e -> e.getSourceVertexId() == id).findFirst().orElseThrow();
     }
 
+    @Nested
+    @TestInstance(value = TestInstance.Lifecycle.PER_CLASS)
+    class InverseIndexed {
+
+        @GdlGraph(aggregation = Aggregation.SINGLE, indexInverse = true)
+        private static final String DB_CYPHER = YensTest.DB_CYPHER;
+
+        @Inject
+        private TestGraph graph;
+
+        // The inverse index lets Yens complete spur paths from the reverse shortest path tree.
+        // Only inputs without ties on the last returned cost are used, as tied paths may be
+        // selected in a different order.
+        Stream<List<String>> pathInput() {
+            return YensTest.pathInput().filter(paths -> Set.of(1, 2, 5, 7).contains(paths.size()));
+        }
+
+        @ParameterizedTest
+        @MethodSource("pathInput")
+        void compute(Collection<String> expectedPaths) {
+            assertResult(graph, expectedPaths, false, 4);
+        }
+    }
+
     @Nested
     @TestInstance(value = TestInstance.Lifecycle.PER_CLASS)
     class MultiGraph {
@@ -20,10 +20,20 @@
 package org.neo4j.gds.scc;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.TestProgressTracker;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -31,6 +41,7 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.IdFunction;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
 
 import java.util.HashMap;
 import java.util.List;
@@ -69,15 +80,21 @@ class SccTest {
         ", (h)-[:TYPE {cost: 3}]->(i)" +
         ", (i)-[:TYPE {cost: 3}]->(g)";
 
+    @GdlGraph(graphNamePrefix = "inverse", indexInverse = true)
+    private static final String INVERSE_DB_CYPHER = DB_CYPHER;
+
     @Inject
     private TestGraph graph;
 
+    @Inject
+    private TestGraph inverseGraph;
+
     @Test
     void testDirect() {
         var scc = new Scc(graph, ProgressTracker.NULL_TRACKER);
         var components = scc.compute();
 
-        assertCC(components);
+        assertCC(graph, components);
 
         HashMap<Long, Long> componentsMap = new HashMap<>();
         for (long nodeId = 0; nodeId < components.size(); ++nodeId) {
@@ -103,10 +120,117 @@ class SccTest {
     void testHugeIterativeScc() {
         Scc algo = new Scc(graph, ProgressTracker.NULL_TRACKER);
         HugeLongArray components = algo.compute();
-        assertCC(components);
+        assertCC(graph, components);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testParallel(int concurrency) {
+        var components = new Scc(inverseGraph, concurrency, ProgressTracker.NULL_TRACKER).compute();
+
+        assertCC(inverseGraph, components);
+        for (long nodeId = 0; nodeId < components.size(); nodeId++) {
+            // the component id is the id of one of its members
+            assertThat(components.get(components.get(nodeId))).isEqualTo(components.get(nodeId));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void parallelShouldMatchSequentialOnRandomGraph(int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .seed(42)
+            .inverseIndex(true)
+            .build()
+            .generate();
+
+        var expected = new SequentialScc(graph, ProgressTracker.NULL_TRACKER, TerminationFlag.RUNNING_TRUE).compute();
+        var actual = new ParallelScc(
+            graph,
+            concurrency,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        // component ids differ between the implementations, so compare the partitions they induce
+        var expectedToActual = new HashMap<Long, Long>();
+        var actualToExpected = new HashMap<Long, Long>();
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            long expectedComponent = expected.get(nodeId);
+            long actualComponent = actual.get(nodeId);
+            assertThat(expectedToActual.computeIfAbsent(expectedComponent, ignore -> actualComponent))
+                .as("node %d", nodeId)
+                .isEqualTo(actualComponent);
+            assertThat(actualToExpected.computeIfAbsent(actualComponent, ignore -> expectedComponent))
+                .as("node %d", nodeId)
+                .isEqualTo(expectedComponent);
+        }
+        // the graph should contain both trivial and non-trivial components
+        assertThat(expectedToActual.size()).isGreaterThan(1).isLessThan((int) graph.nodeCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    @Timeout(value = 10)
+    void parallelShouldHandleLongChainOfSmallComponents(int concurrency) {
+        int componentCount = 50_000;
+        var graph = chainOfTwoCycles(componentCount);
+
+        var components = new ParallelScc(
+            graph,
+            concurrency,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        ).compute();
+
+        for (long component = 0; component < componentCount; component++) {
+            long first = 2 * component;
+            long firstComponent = components.get(graph.toMappedNodeId(first));
+            assertThat(components.get(graph.toMappedNodeId(first + 1))).as("node %d", first + 1).isEqualTo(firstComponent);
+            if (component > 0) {
+                assertThat(components.get(graph.toMappedNodeId(first - 1))).as("node %d", first - 1).isNotEqualTo(firstComponent);
+            }
+        }
+    }
+
+    /**
+     * Every pair of nodes forms a cycle and points to the pair with the next smaller ids,
+     * so that coloring only assigns the pair with the largest ids in each round.
+     */
+    private static Graph chainOfTwoCycles(int componentCount) {
+        long nodeCount = 2L * componentCount;
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(nodeCount - 1)
+            .concurrency(1)
+            .build();
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            nodesBuilder.addNode(nodeId);
+        }
+        var idMap = nodesBuilder.build().idMap();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(RelationshipType.of("NEXT"))
+            .orientation(Orientation.NATURAL)
+            .indexInverse(true)
+            .executorService(DefaultPool.INSTANCE)
+            .build();
+        for (long component = 0; component < componentCount; component++) {
+            long first = 2 * component;
+            relationshipsBuilder.add(first, first + 1);
+            relationshipsBuilder.add(first + 1, first);
+            if (component > 0) {
+                relationshipsBuilder.add(first, first - 1);
+            }
+        }
+
+        return GraphFactory.create(idMap, relationshipsBuilder.build());
     }
 
-    private void assertCC(HugeLongArray components) {
+    private void assertCC(TestGraph graph, HugeLongArray components) {
         IdFunction idFunction = graph::toMappedNodeId;
 
         assertBelongSameComponent(components, List.of(
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.loading.CatalogRequest;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.extension.GdlSupportPerMethodExtension.DATABASE_ID;
+
+@GdlExtension
+class HnswIndexTest {
+
+    private static final String USERNAME = "alice";
+
+    @GdlGraph(username = USERNAME, addToCatalog = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a { vec: [1.0, 0.0] } )" +
+        ", (b { vec: [0.9, 0.1] } )" +
+        ", (c { vec: [0.8, 0.3] } )" +
+        ", (d { vec: [0.0, 1.0] } )" +
+        ", (e { vec: [0.1, 0.9] } )" +
+        ", (f { vec: [-1.0, 0.0] } )";
+
+    @Inject
+    private TestGraph graph;
+
+    @Test
+    void shouldFindNearestNeighbors() {
+        var index = build(graph, HnswParameters.of(2, 10, 10, Optional.of(42L)), 1);
+
+        var neighbors = index.search(graph.toMappedNodeId("a"), 2);
+
+        assertThat(neighbors)
+            .extracting(result -> result.node2)
+            .containsExactly(graph.toMappedNodeId("b"), graph.toMappedNodeId("c"));
+        assertThat(neighbors)
+            .extracting(result -> result.similarity)
+            .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(index.nodeCount()).isEqualTo(6);
+        assertThat(index.maxLevel()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void shouldNotReturnTheQueryNode() {
+        var index = build(graph, HnswParameters.of(4, 10, 10, Optional.of(42L)), 1);
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            long queryNode = nodeId;
+            assertThat(index.search(queryNode, 5))
+                .hasSize(5)
+                .allSatisfy(result -> assertThat(result.node2).isNotEqualTo(queryNode));
+        }
+    }
+
+    @Test
+    void shouldHaveHighRecallOnRandomVectors() {
+        var randomGraph = RandomGraphGenerator
+            .builder()
+            .nodeCount(2_000)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomEmbedding("vec", 16, -1, 1))
+            .seed(42L)
+            .build()
+            .generate();
+        var similarityComputer = SimilarityComputer.ofProperty(randomGraph, new KnnNodePropertySpec("vec"));
+        var index = HnswIndex.build(
+            randomGraph,
+            new SimilarityFunction(similarityComputer),
+            HnswParameters.of(16, 100, 64, Optional.of(42L)),
+            4,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+
+        int k = 10;
+        int queries = 50;
+        long hits = 0;
+        for (long query = 0; query < queries; query++) {
+            long queryNode = query * 37;
+            var expected = LongStream
+                .range(0, randomGraph.nodeCount())
+                .filter(candidate -> candidate != queryNode)
+                .boxed()
+                .sorted(Comparator.comparingDouble(candidate -> -similarityComputer.safeSimilarity(queryNode, candidate)))
+                .limit(k)
+                .collect(Collectors.toSet());
+
+            hits += index.search(queryNode, k).stream().filter(result -> expected.contains(result.node2)).count();
+        }
+
+        assertThat((double) hits / (queries * k)).isGreaterThan(0.9);
+        assertThat(index.buildComparisons()).isLessThan(randomGraph.nodeCount() * randomGraph.nodeCount() / 2);
+    }
+
+    @Test
+    void shouldRunKnnWithHnswStrategy() {
+        var config = new KnnBaseConfigImpl(CypherMapWrapper.create(Map.of(
+            "nodeProperties", List.of("vec"),
+            "topK", 1,
+            "strategy", "hNsW",
+            "hnswMaxConnections", 4,
+            "concurrency", 1,
+            "randomSeed", 42L
+        )));
+        assertThat(config.strategy()).isEqualTo(KnnStrategy.HNSW);
+
+        var result = new KnnFactory<>().build(graph, config, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(result.didConverge()).isTrue();
+        assertThat(result.ranIterations()).isZero();
+        assertThat(result.neighborsOf(graph.toMappedNodeId("a"))).containsExactly(graph.toMappedNodeId("b"));
+        assertThat(result.neighborsOf(graph.toMappedNodeId("d"))).containsExactly(graph.toMappedNodeId("e"));
+    }
+
+    @Test
+    void shouldRejectUnknownStrategy() {
+        assertThatThrownBy(() -> new KnnBaseConfigImpl(CypherMapWrapper.create(Map.of(
+            "nodeProperties", List.of("vec"),
+            "strategy", "bruteForce"
+        ))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Strategy `BRUTEFORCE` is not supported. Must be one of: [NNDESCENT, HNSW].");
+    }
+
+    @Test
+    void shouldReuseIndexFromCatalogUntilGraphChanges() {
+        var config = new KnnBaseConfigImpl(CypherMapWrapper.create(Map.of(
+            "nodeProperties", List.of("vec"),
+            "topK", 1,
+            "strategy", "hnsw",
+            "hnswMaxConnections", 4,
+            "concurrency", 1,
+            "randomSeed", 42L
+        )));
+        var knnFactory = new KnnFactory<>(HnswIndexCatalog.provider(USERNAME, DATABASE_ID, "graph"));
+
+        var result = knnFactory.build(graph, config, ProgressTracker.NULL_TRACKER).compute();
+        var cachedResult = knnFactory.build(graph, config, ProgressTracker.NULL_TRACKER).compute();
+        assertThat(cachedResult.neighborsOf(graph.toMappedNodeId("d"))).containsExactly(graph.toMappedNodeId("e"));
+        // only the searches compare nodes when the index is reused
+        assertThat(cachedResult.nodePairsConsidered()).isLessThan(result.nodePairsConsidered());
+
+        // re-mutating the property under the same name changes the graph store in place
+        var graphStore = GraphStoreCatalog.get(CatalogRequest.of(USERNAME, DATABASE_ID), "graph").graphStore();
+        var vectors = graphStore.nodeProperty("vec").values();
+        graphStore.removeNodeProperty("vec");
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "vec", vectors);
+
+        var rebuiltResult = knnFactory.build(graph, config, ProgressTracker.NULL_TRACKER).compute();
+        assertThat(rebuiltResult.nodePairsConsidered()).isEqualTo(result.nodePairsConsidered());
+
+        GraphStoreCatalog.removeAllLoadedGraphs();
+        assertThatThrownBy(() -> knnFactory.build(graph, config, ProgressTracker.NULL_TRACKER).compute())
+            .hasMessageContaining("Graph with name `graph` does not exist");
+    }
+
+    @Test
+    void shouldKeyIndexByGraphView() {
+        var parameters = HnswParameters.of(4, 10, 10, Optional.of(42L));
+        var nodeProperties = List.of(new KnnNodePropertySpec("vec"));
+        var graphStore = GraphStoreCatalog.get(CatalogRequest.of(USERNAME, DATABASE_ID), "graph").graphStore();
+
+        assertThat(HnswIndexCatalog.extensionKey(graph, nodeProperties, parameters))
+            .isEqualTo(HnswIndexCatalog.extensionKey(graphStore.getUnion(), nodeProperties, parameters))
+            .isNotEqualTo(HnswIndexCatalog.extensionKey(
+                graph,
+                nodeProperties,
+                HnswParameters.of(8, 10, 10, Optional.of(42L))
+            ));
+    }
+
+    @Test
+    void shouldValidateParameters() {
+        assertThatThrownBy(() -> HnswParameters.of(1, 10, 10, Optional.empty()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The maximum number of connections must be at least 2, but got 1.");
+    }
+
+    private static HnswIndex build(TestGraph graph, HnswParameters parameters, int concurrency) {
+        return HnswIndex.build(
+            graph,
+            new SimilarityFunction(SimilarityComputer.ofProperty(graph, new KnnNodePropertySpec("vec"))),
+            parameters,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+}
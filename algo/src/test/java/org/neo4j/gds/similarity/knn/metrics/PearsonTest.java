@@ -43,7 +43,7 @@ class PearsonTest {
             new double[]{10, 9, 2.5, 6, 4}
         );
 
-        assertEquals(0.12869467138374713, pearsonCorrelation);
+        assertEquals(0.12869467138374713, pearsonCorrelation, 1e-15);
     }
 
     @Test
@@ -65,7 +65,7 @@ class PearsonTest {
             new float[]{10, 9, 2.5f, 6, 4}
         );
 
-        assertEquals(0.12869467138374713, pearsonCorrelation);
+        assertEquals(0.12869467138374713, pearsonCorrelation, 1e-15);
     }
 
     @Test
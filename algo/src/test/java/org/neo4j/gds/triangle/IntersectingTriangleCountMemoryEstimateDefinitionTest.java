@@ -26,6 +26,7 @@ import org.neo4j.gds.assertions.MemoryEstimationAssert;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.mem.BitUtil;
 
 class IntersectingTriangleCountMemoryEstimateDefinitionTest {
 
@@ -38,23 +39,25 @@ class IntersectingTriangleCountMemoryEstimateDefinitionTest {
         GraphDimensions graphDimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
 
         long hugeAtomicLongArray = 24 + nodeCount * 8 + 16;
-        long expected = 64 + hugeAtomicLongArray;
+        long orientedAdjacency = 32 + (24 + nodeCount * 8 + 16) + (24 + BitUtil.align(16 + nodeCount * 4, 8)) + 40;
+        long expected = 56 + hugeAtomicLongArray + orientedAdjacency;
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(graphDimensions, 1)
             .hasSameMinAndMaxEqualTo(expected);
     }
 
-    @CsvSource({"1000000000, 8001220736", "100000000000, 800122070336"})
+    @CsvSource({"1000000000, 8001220736, 4001220736", "100000000000, 800122070336, 400122070336"})
     @ParameterizedTest
-    void memoryEstimationLargePages(long nodeCount, long sizeOfHugeArray) {
+    void memoryEstimationLargePages(long nodeCount, long sizeOfHugeArray, long sizeOfHugeIntArray) {
         MemoryEstimation memoryEstimation =
             new IntersectingTriangleCountMemoryEstimateDefinition().memoryEstimation(null);
 
         GraphDimensions graphDimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
         
         long hugeAtomicLongArray = 32 + sizeOfHugeArray;
-        long expected = 64 + hugeAtomicLongArray;
+        long orientedAdjacency = 32 + (32 + sizeOfHugeArray) + (32 + sizeOfHugeIntArray) + 40;
+        long expected = 56 + hugeAtomicLongArray + orientedAdjacency;
 
         MemoryEstimationAssert.assertThat(memoryEstimation)
             .memoryRange(graphDimensions, 1)
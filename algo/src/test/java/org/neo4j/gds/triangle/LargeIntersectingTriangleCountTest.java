@@ -29,6 +29,7 @@ import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
 
 class LargeIntersectingTriangleCountTest {
 
@@ -67,6 +68,55 @@ class LargeIntersectingTriangleCountTest {
 
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testSampling(int concurrency) {
+        long nodeCount = 100;
+        var graph = produceComplete(nodeCount);
+
+        var result = IntersectingTriangleCount.create(
+            graph,
+            defaultConfigBuilder().concurrency(concurrency).samplingRatio(0.5).randomSeed(42L).build(),
+            DefaultPool.INSTANCE
+        ).compute();
+
+        long triangleCount = nodeCount * (nodeCount - 1) * (nodeCount - 2) / 6;
+        assertThat(result.globalTriangles()).isCloseTo(triangleCount, withinPercentage(10));
+
+        var localTriangles = result.localTriangles();
+        for (int u = 0; u < localTriangles.size(); u++) {
+            assertThat(localTriangles.get(u)).isPositive();
+        }
+    }
+
+    private Graph produceComplete(long nodeCount) {
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(nodeCount)
+            .concurrency(1)
+            .build();
+
+        for (var nodeId = 0; nodeId < nodeCount; ++nodeId) {
+            nodesBuilder.addNode(nodeId);
+        }
+
+        var idMap = nodesBuilder.build().idMap();
+
+        RelationshipsBuilder relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(RelationshipType.of("FOO"))
+            .orientation(Orientation.UNDIRECTED)
+            .executorService(DefaultPool.INSTANCE)
+            .build();
+
+        for (long u = 0; u < nodeCount; ++u) {
+            for (long v = u + 1; v < nodeCount; ++v) {
+                relationshipsBuilder.add(u, v);
+            }
+        }
+
+        return GraphFactory.create(idMap, relationshipsBuilder.build());
+    }
+
     private Graph produceRingStar(long nodeCount) {
         long centerOriginalId = nodeCount - 1;
 
@@ -25,6 +25,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.assertions.MemoryEstimationAssert;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.mem.BitUtil;
 
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
@@ -40,7 +41,8 @@ class LocalClusteringCoefficientMemoryEstimateDefinitionTest {
         GraphDimensions graphDimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
         var memoryEstimation = new LocalClusteringCoefficientMemoryEstimateDefinition().memoryEstimation(config);
 
-        long triangleCountEstimate = 56 + 24 + nodeCount * 8 + 16;
+        long orientedAdjacency = 32 + (24 + nodeCount * 8 + 16) + (24 + BitUtil.align(16 + nodeCount * 4, 8)) + 40;
+        long triangleCountEstimate = 56 + 24 + nodeCount * 8 + 16 + orientedAdjacency;
         long hugeDoubleArray = 16 + nodeCount * 8 + 16;
         long expected = 64 + hugeDoubleArray + triangleCountEstimate;
 
@@ -65,15 +67,16 @@ class LocalClusteringCoefficientMemoryEstimateDefinitionTest {
             .hasSameMinAndMaxEqualTo(expected);
     }
 
-    @CsvSource({"1000000000, 8001220736", "100000000000, 800122070336"})
+    @CsvSource({"1000000000, 8001220736, 4001220736", "100000000000, 800122070336, 400122070336"})
     @ParameterizedTest
-    void memoryEstimationLargePages(long nodeCount, long sizeOfHugeArray) {
+    void memoryEstimationLargePages(long nodeCount, long sizeOfHugeArray, long sizeOfHugeIntArray) {
         var config = createConfig(false);
 
         GraphDimensions graphDimensions = ImmutableGraphDimensions.builder().nodeCount(nodeCount).build();
         var memoryEstimation = new LocalClusteringCoefficientMemoryEstimateDefinition().memoryEstimation(config);
 
-        long triangleCountEstimate = 56 + 32 + sizeOfHugeArray;
+        long orientedAdjacency = 32 + (32 + sizeOfHugeArray) + (32 + sizeOfHugeIntArray) + 40;
+        long triangleCountEstimate = 56 + 32 + sizeOfHugeArray + orientedAdjacency;
         long hugeDoubleArray = 24 + sizeOfHugeArray;
         long expected = 64 + hugeDoubleArray + triangleCountEstimate;
 
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.triangle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.termination.TerminationFlag;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class OrientedAdjacencyTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (a)-[:T]->(b)" +
+        ", (a)-[:T]->(b)" +
+        ", (a)-[:T]->(a)" +
+        ", (b)-[:T]->(c)" +
+        ", (c)-[:T]->(a)";
+
+    @Inject
+    private TestGraph graph;
+
+    @ParameterizedTest
+    @CsvSource({
+        // merge
+        "10, 10, 30",
+        "50, 200, 400",
+        // galloping, the longer array is at least 32 times as long
+        "3, 96, 200",
+        "10, 1000, 2000",
+        "1, 5000, 10000",
+    })
+    void shouldIntersectLikeNaiveSetIntersection(int smallLength, int largeLength, int bound) {
+        var random = new Random(42L);
+        for (int run = 0; run < 20; run++) {
+            var small = randomSortedArray(random, smallLength, bound);
+            var large = randomSortedArray(random, largeLength, bound);
+
+            var expected = new TreeSet<Long>();
+            Arrays.stream(small).forEach(expected::add);
+            expected.retainAll(Arrays.stream(large).boxed().collect(Collectors.toSet()));
+
+            // both argument orders, with unused trailing elements in the buffers
+            var out = new long[smallLength];
+            var smallBuffer = Arrays.copyOf(small, smallLength + 3);
+            var largeBuffer = Arrays.copyOf(large, largeLength + 3);
+            int matches = OrientedAdjacency.intersect(smallBuffer, smallLength, largeBuffer, largeLength, out);
+            assertThat(Arrays.copyOf(out, matches)).containsExactly(expected.stream().mapToLong(Long::longValue).toArray());
+
+            var swappedOut = new long[smallLength];
+            int swappedMatches = OrientedAdjacency.intersect(largeBuffer, largeLength, smallBuffer, smallLength, swappedOut);
+            assertThat(Arrays.copyOf(swappedOut, swappedMatches)).containsExactly(Arrays.copyOf(out, matches));
+        }
+    }
+
+    @Test
+    void shouldIntersectWithEmptyArrays() {
+        var out = new long[0];
+        assertThat(OrientedAdjacency.intersect(new long[0], 0, new long[]{1, 2, 3}, 3, out)).isZero();
+        assertThat(OrientedAdjacency.intersect(new long[]{1, 2, 3}, 3, new long[0], 0, out)).isZero();
+    }
+
+    @Test
+    void shouldDropSelfLoopsAndParallelRelationships() {
+        var adjacency = build(1);
+
+        // (c) has the lowest degree and (a) the highest, (d) has no relationships
+        assertThat(forwardNeighbours(adjacency, "c")).containsExactly(graph.toMappedNodeId("a"), graph.toMappedNodeId("b"));
+        assertThat(forwardNeighbours(adjacency, "b")).containsExactly(graph.toMappedNodeId("a"));
+        assertThat(forwardNeighbours(adjacency, "a")).isEmpty();
+        assertThat(forwardNeighbours(adjacency, "d")).isEmpty();
+        assertThat(adjacency.maxForwardDegree()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBuildSameAdjacencyInParallel() {
+        var sequential = build(1);
+        var parallel = build(4);
+
+        LongStream
+            .range(0, graph.nodeCount())
+            .forEach(node -> assertThat(forwardNeighbours(parallel, node)).containsExactly(forwardNeighbours(sequential, node)));
+    }
+
+    private OrientedAdjacency build(int concurrency) {
+        return OrientedAdjacency.build(
+            graph,
+            Long.MAX_VALUE,
+            1.0,
+            0L,
+            concurrency,
+            DefaultPool.INSTANCE,
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE
+        );
+    }
+
+    private long[] forwardNeighbours(OrientedAdjacency adjacency, String variable) {
+        return forwardNeighbours(adjacency, graph.toMappedNodeId(variable));
+    }
+
+    private static long[] forwardNeighbours(OrientedAdjacency adjacency, long node) {
+        var buffer = new long[adjacency.maxForwardDegree()];
+        int degree = adjacency.copyNeighbours(node, buffer, adjacency.newCursor());
+        return Arrays.copyOf(buffer, degree);
+    }
+
+    private static long[] randomSortedArray(Random random, int length, int bound) {
+        var values = new TreeSet<Long>();
+        while (values.size() < length) {
+            values.add((long) random.nextInt(bound));
+        }
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class OnlineWccTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)-[:REL]->(b)" +
+        ", (b)-[:REL]->(c)" +
+        ", (d)-[:REL]->(e)" +
+        ", (f)-[:REL]->(g)" +
+        ", (h)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    private OnlineWcc onlineWcc() {
+        var config = ImmutableWccStreamConfig.builder().build();
+        var components = new Wcc(
+            graph,
+            DefaultPool.INSTANCE,
+            ParallelUtil.DEFAULT_BATCH_SIZE,
+            config,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+        return new OnlineWcc(graph, components);
+    }
+
+    @Test
+    void shouldKeepComputedComponents() {
+        var onlineWcc = onlineWcc();
+
+        assertThat(onlineWcc.componentId(idFunction.of("a"))).isEqualTo(onlineWcc.componentId(idFunction.of("c")));
+        assertThat(onlineWcc.componentId(idFunction.of("a"))).isNotEqualTo(onlineWcc.componentId(idFunction.of("d")));
+        assertThat(onlineWcc.nodeCount()).isEqualTo(8);
+        assertThat(onlineWcc.addedRelationshipCount()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldMergeComponentsOfAddedRelationship() {
+        var onlineWcc = onlineWcc();
+
+        onlineWcc.addRelationship(idFunction.of("c"), idFunction.of("d"));
+
+        assertThat(onlineWcc.componentId(idFunction.of("a"))).isEqualTo(onlineWcc.componentId(idFunction.of("e")));
+        assertThat(onlineWcc.componentId(idFunction.of("a"))).isNotEqualTo(onlineWcc.componentId(idFunction.of("f")));
+        assertThat(onlineWcc.addedRelationshipCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMergeComponentsOfAddedRelationships() {
+        var onlineWcc = onlineWcc();
+
+        onlineWcc.addRelationships(
+            new long[]{idFunction.of("a"), idFunction.of("e"), idFunction.of("h")},
+            new long[]{idFunction.of("d"), idFunction.of("g"), idFunction.of("h")},
+            ConcurrencyConfig.DEFAULT_CONCURRENCY
+        );
+
+        var componentId = onlineWcc.componentId(idFunction.of("a"));
+        for (var variable : new String[]{"b", "c", "d", "e", "f", "g"}) {
+            assertThat(onlineWcc.componentId(idFunction.of(variable))).isEqualTo(componentId);
+        }
+        assertThat(onlineWcc.componentId(idFunction.of("h"))).isNotEqualTo(componentId);
+        assertThat(onlineWcc.addedRelationshipCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectBatchWithUnknownNode() {
+        var onlineWcc = onlineWcc();
+        var unknownNodeId = idFunction.of("h") + 42;
+
+        assertThatThrownBy(() -> onlineWcc.addRelationships(
+            new long[]{idFunction.of("c"), idFunction.of("a")},
+            new long[]{idFunction.of("d"), unknownNodeId},
+            ConcurrencyConfig.DEFAULT_CONCURRENCY
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Node with id " + unknownNodeId + " does not exist");
+
+        assertThat(onlineWcc.componentId(idFunction.of("c"))).isNotEqualTo(onlineWcc.componentId(idFunction.of("d")));
+        assertThat(onlineWcc.addedRelationshipCount()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldRejectMismatchingSourcesAndTargets() {
+        var onlineWcc = onlineWcc();
+
+        assertThatThrownBy(() -> onlineWcc.addRelationships(
+            new long[]{idFunction.of("a"), idFunction.of("b")},
+            new long[]{idFunction.of("d")},
+            ConcurrencyConfig.DEFAULT_CONCURRENCY
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("2 source nodes and 1 target nodes");
+    }
+}
@@ -182,6 +182,17 @@ public interface CatalogBusinessFacade {
         GraphStreamNodePropertyOrPropertiesResultProducer<T> outputMarshaller
     );
 
+    Stream<GraphStreamNodePropertiesBatchResult> streamNodePropertiesBatched(
+        User user,
+        DatabaseId databaseId,
+        TaskRegistryFactory taskRegistryFactory,
+        UserLogRegistryFactory userLogRegistryFactory,
+        String graphName,
+        Object nodeProperties,
+        Object nodeLabels,
+        Map<String, Object> configuration
+    );
+
     <T> Stream<T> streamRelationshipProperties(
         User user,
         DatabaseId databaseId,
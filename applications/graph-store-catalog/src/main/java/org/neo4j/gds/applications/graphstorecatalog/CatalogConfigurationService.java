@@ -242,6 +242,26 @@ public class CatalogConfigurationService {
         return configuration;
     }
 
+    GraphStreamNodePropertiesBatchedConfig parseGraphStreamNodePropertiesBatchedConfiguration(
+        GraphName graphName,
+        Object nodeProperties,
+        Object nodeLabels,
+        Map<String, Object> rawConfiguration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(rawConfiguration);
+
+        var configuration = GraphStreamNodePropertiesBatchedConfig.of(
+            graphName.getValue(),
+            nodeProperties,
+            nodeLabels,
+            cypherConfig
+        );
+
+        ensureThereAreNoExtraConfigurationKeys(cypherConfig, configuration);
+
+        return configuration;
+    }
+
     GraphStreamRelationshipPropertiesConfig parseGraphStreamRelationshipPropertiesConfiguration(
         GraphName graphName,
         List<String> relationshipProperties,
@@ -604,6 +604,43 @@ public class DefaultCatalogBusinessFacade implements CatalogBusinessFacade {
         );
     }
 
+    @Override
+    public Stream<GraphStreamNodePropertiesBatchResult> streamNodePropertiesBatched(
+        User user,
+        DatabaseId databaseId,
+        TaskRegistryFactory taskRegistryFactory,
+        UserLogRegistryFactory userLogRegistryFactory,
+        String graphNameAsString,
+        Object nodePropertiesAsObject,
+        Object nodeLabelsAsObject,
+        Map<String, Object> rawConfiguration
+    ) {
+        var graphName = graphNameValidationService.validate(graphNameAsString);
+
+        var configuration = catalogConfigurationService.parseGraphStreamNodePropertiesBatchedConfiguration(
+            graphName,
+            nodePropertiesAsObject,
+            nodeLabelsAsObject,
+            rawConfiguration
+        );
+
+        var graphStoreWithConfig = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
+        var graphStore = graphStoreWithConfig.graphStore();
+        graphStoreValidationService.ensureNodePropertiesMatchNodeLabels(
+            graphStore,
+            configuration.nodeLabels(),
+            configuration.nodeLabelIdentifiers(graphStore),
+            configuration.nodeProperties()
+        );
+
+        return streamNodePropertiesApplication.computeBatched(
+            taskRegistryFactory,
+            userLogRegistryFactory,
+            graphStore,
+            configuration
+        );
+    }
+
     @Override
     public <T> Stream<T> streamRelationshipProperties(
         User user,
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.applications.graphstorecatalog;
+
+import java.util.List;
+
+/**
+ * One node property for a block of consecutive nodes.
+ * The node ids and the property values are primitive arrays of equal length,
+ * e.g. {@code long[]} and {@code double[]}, or {@code double[][]} for embeddings.
+ */
+public class GraphStreamNodePropertiesBatchResult {
+    public final String nodeProperty;
+    public final Object nodeIds;
+    public final Object propertyValues;
+    public final List<List<String>> nodeLabels;
+
+    public GraphStreamNodePropertiesBatchResult(
+        String nodeProperty,
+        Object nodeIds,
+        Object propertyValues,
+        List<List<String>> nodeLabels
+    ) {
+        this.nodeProperty = nodeProperty;
+        this.nodeIds = nodeIds;
+        this.propertyValues = propertyValues;
+        this.nodeLabels = nodeLabels;
+    }
+}
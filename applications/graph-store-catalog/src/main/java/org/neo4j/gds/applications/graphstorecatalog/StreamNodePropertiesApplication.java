@@ -23,6 +23,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.utils.progress.JobId;
 import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
@@ -31,7 +32,9 @@ import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.core.utils.warnings.UserLogRegistryFactory;
 import org.neo4j.gds.logging.Log;
+import org.neo4j.gds.mem.BitUtil;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -77,6 +80,140 @@ public class StreamNodePropertiesApplication {
         );
     }
 
+    /**
+     * Streams node properties in columnar batches of consecutive nodes, one row per batch and property.
+     * Batches are read from the property values only when the consumer pulls the next row.
+     */
+    Stream<GraphStreamNodePropertiesBatchResult> computeBatched(
+        TaskRegistryFactory taskRegistryFactory,
+        UserLogRegistryFactory userLogRegistryFactory,
+        GraphStore graphStore,
+        GraphStreamNodePropertiesBatchedConfig configuration
+    ) {
+        var nodeLabels = configuration.validNodeLabels(graphStore);
+
+        var subGraph = graphStore.getGraph(nodeLabels, graphStore.relationshipTypes(), Optional.empty());
+
+        var nodePropertyKeysAndValues = configuration.nodeProperties().stream()
+            .map(propertyKey -> Pair.of(propertyKey, subGraph.nodeProperties(propertyKey)))
+            .collect(Collectors.toList());
+
+        var task = Tasks.leaf(
+            "Graph :: NodeProperties :: Stream",
+            subGraph.nodeCount() * nodePropertyKeysAndValues.size()
+        );
+
+        var progressTracker = new TaskProgressTracker(
+            task,
+            (org.neo4j.logging.Log) log.getNeo4jLog(),
+            configuration.concurrency(),
+            new JobId(),
+            taskRegistryFactory,
+            userLogRegistryFactory
+        );
+
+        progressTracker.beginSubTask();
+
+        return computeNodePropertyBatchStream(
+            configuration,
+            subGraph,
+            nodePropertyKeysAndValues,
+            progressTracker
+        ).onClose(progressTracker::endSubTask);
+    }
+
+    Stream<GraphStreamNodePropertiesBatchResult> computeNodePropertyBatchStream(
+        GraphStreamNodePropertiesBatchedConfig configuration,
+        IdMap idMap,
+        Collection<Pair<String, NodePropertyValues>> nodePropertyKeysAndValues,
+        ProgressTracker progressTracker
+    ) {
+        int batchSize = configuration.batchSize();
+        long nodeCount = idMap.nodeCount();
+        long batchCount = BitUtil.ceilDiv(nodeCount, batchSize);
+        boolean listNodeLabels = configuration.listNodeLabels();
+
+        return LongStream.range(0, batchCount)
+            .boxed()
+            .flatMap(batch -> {
+                long startNode = batch * batchSize;
+                int length = (int) Math.min(batchSize, nodeCount - startNode);
+
+                var nodeIds = new long[length];
+                for (int i = 0; i < length; i++) {
+                    nodeIds[i] = idMap.toOriginalNodeId(startNode + i);
+                }
+
+                List<List<String>> nodeLabels = listNodeLabels
+                    ? nodeLabelsOf(idMap, startNode, length)
+                    : Collections.emptyList();
+
+                return nodePropertyKeysAndValues.stream().map(propertyKeyAndValues -> {
+                    var propertyValues = column(propertyKeyAndValues.getValue(), startNode, length);
+                    progressTracker.logProgress(length);
+
+                    return new GraphStreamNodePropertiesBatchResult(
+                        propertyKeyAndValues.getKey(),
+                        nodeIds,
+                        propertyValues,
+                        nodeLabels
+                    );
+                });
+            });
+    }
+
+    private static List<List<String>> nodeLabelsOf(IdMap idMap, long startNode, int length) {
+        var nodeLabels = new ArrayList<List<String>>(length);
+        for (int i = 0; i < length; i++) {
+            nodeLabels.add(idMap.nodeLabels(startNode + i).stream().map(NodeLabel::name).collect(Collectors.toList()));
+        }
+        return nodeLabels;
+    }
+
+    /**
+     * Copies the values of a block of nodes into a primitive array that matches the value type.
+     */
+    static Object column(NodePropertyValues values, long startNode, int length) {
+        var valueType = values.valueType();
+        if (valueType == ValueType.LONG) {
+            var column = new long[length];
+            for (int i = 0; i < length; i++) {
+                column[i] = values.longValue(startNode + i);
+            }
+            return column;
+        } else if (valueType == ValueType.DOUBLE) {
+            var column = new double[length];
+            for (int i = 0; i < length; i++) {
+                column[i] = values.doubleValue(startNode + i);
+            }
+            return column;
+        } else if (valueType == ValueType.DOUBLE_ARRAY) {
+            var column = new double[length][];
+            for (int i = 0; i < length; i++) {
+                column[i] = values.doubleArrayValue(startNode + i);
+            }
+            return column;
+        } else if (valueType == ValueType.FLOAT_ARRAY) {
+            var column = new float[length][];
+            for (int i = 0; i < length; i++) {
+                column[i] = values.floatArrayValue(startNode + i);
+            }
+            return column;
+        } else if (valueType == ValueType.LONG_ARRAY) {
+            var column = new long[length][];
+            for (int i = 0; i < length; i++) {
+                column[i] = values.longArrayValue(startNode + i);
+            }
+            return column;
+        }
+
+        var column = new Object[length];
+        for (int i = 0; i < length; i++) {
+            column[i] = values.getObject(startNode + i);
+        }
+        return column;
+    }
+
     private <T> Stream<T> _compute(
         TaskRegistryFactory taskRegistryFactory,
         UserLogRegistryFactory userLogRegistryFactory,
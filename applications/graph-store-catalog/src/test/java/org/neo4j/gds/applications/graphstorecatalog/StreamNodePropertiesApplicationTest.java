@@ -23,12 +23,19 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.gdl.GdlFactory;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 class StreamNodePropertiesApplicationTest {
@@ -62,4 +69,70 @@ class StreamNodePropertiesApplicationTest {
         verify(progressTracker).endSubTask();
     }
 
+    @Test
+    void shouldStreamColumnarBatches() {
+        var gdlFactory = GdlFactory.of(
+            "(a:A {age: 1, score: 0.5, embedding: [1.0, 2.0]})" +
+            ", (b:A {age: 2, score: 1.5, embedding: [3.0, 4.0]})" +
+            ", (c:B {age: 3, score: 2.5, embedding: [5.0, 6.0]})"
+        );
+        var graph = gdlFactory.build().getUnion();
+        var configuration = GraphStreamNodePropertiesBatchedConfig.of(
+            "g",
+            List.of("age", "score", "embedding"),
+            List.of("*"),
+            CypherMapWrapper.create(Map.of("batchSize", 2, "listNodeLabels", true))
+        );
+        var nodePropertyKeysAndValues = configuration.nodeProperties().stream()
+            .map(propertyKey -> Pair.of(propertyKey, graph.nodeProperties(propertyKey)))
+            .collect(Collectors.toList());
+        var progressTracker = mock(ProgressTracker.class);
+
+        var batches = new StreamNodePropertiesApplication(null)
+            .computeNodePropertyBatchStream(configuration, graph, nodePropertyKeysAndValues, progressTracker)
+            .collect(Collectors.toList());
+
+        assertThat(batches)
+            .extracting(batch -> batch.nodeProperty)
+            .containsExactly("age", "score", "embedding", "age", "score", "embedding");
+
+        var firstBlock = new long[]{gdlFactory.nodeId("a"), gdlFactory.nodeId("b")};
+        assertThat(batches.get(0).nodeIds).isEqualTo(firstBlock);
+        assertThat(batches.get(0).propertyValues).isEqualTo(new long[]{1L, 2L});
+        assertThat(batches.get(1).propertyValues).isEqualTo(new double[]{0.5, 1.5});
+        assertThat(batches.get(2).propertyValues).isEqualTo(new double[][]{{1.0, 2.0}, {3.0, 4.0}});
+        assertThat(batches.get(0).nodeLabels).containsExactly(List.of("A"), List.of("A"));
+
+        assertThat(batches.get(3).nodeIds).isEqualTo(new long[]{gdlFactory.nodeId("c")});
+        assertThat(batches.get(3).propertyValues).isEqualTo(new long[]{3L});
+        assertThat(batches.get(5).propertyValues).isEqualTo(new double[][]{{5.0, 6.0}});
+        assertThat(batches.get(5).nodeLabels).containsExactly(List.of("B"));
+
+        verify(progressTracker, times(3)).logProgress(2);
+        verify(progressTracker, times(3)).logProgress(1);
+    }
+
+    @Test
+    void shouldProduceBatchesLazily() {
+        var graph = GdlFactory.of("({age: 1}), ({age: 2}), ({age: 3})").build().getUnion();
+        var configuration = GraphStreamNodePropertiesBatchedConfig.of(
+            "g",
+            "age",
+            List.of("*"),
+            CypherMapWrapper.create(Map.of("batchSize", 1))
+        );
+        var progressTracker = mock(ProgressTracker.class);
+
+        var firstBatch = new StreamNodePropertiesApplication(null)
+            .computeNodePropertyBatchStream(
+                configuration,
+                graph,
+                List.of(Pair.of("age", graph.nodeProperties("age"))),
+                progressTracker
+            )
+            .findFirst();
+
+        assertThat(firstBatch).isPresent();
+        verify(progressTracker, times(1)).logProgress(1);
+    }
 }
@@ -82,6 +82,16 @@ class StubGraphStore implements GraphStore {
         throw new UnsupportedOperationException("TODO");
     }
 
+    @Override
+    public long mutationCount() {
+        throw new UnsupportedOperationException("TODO");
+    }
+
+    @Override
+    public long topologyChangeCount() {
+        throw new UnsupportedOperationException("TODO");
+    }
+
     @Override
     public Capabilities capabilities() {
         throw new UnsupportedOperationException("TODO");
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.gds.utils.GdsFeatureToggles.AdjacencyPackingStrategy;
+
+import java.util.function.Supplier;
+
+/**
+ * The adjacency list implementations that can be selected during graph construction.
+ * Each variant flips the matching {@link GdsFeatureToggles} while a graph is being
+ * built and restores the previous toggle state afterwards.
+ */
+public enum AdjacencyCompression {
+    VAR_LONG(false, false, false, null),
+    UNCOMPRESSED(true, false, false, null),
+    PACKED_BLOCK_ALIGNED_TAIL(false, true, false, AdjacencyPackingStrategy.BLOCK_ALIGNED_TAIL),
+    PACKED_VAR_LONG_TAIL(false, true, false, AdjacencyPackingStrategy.VAR_LONG_TAIL),
+    PACKED_TAIL(false, true, false, AdjacencyPackingStrategy.PACKED_TAIL),
+    PACKED_INLINED_HEAD_PACKED_TAIL(false, true, false, AdjacencyPackingStrategy.INLINED_HEAD_PACKED_TAIL),
+    MIXED(false, false, true, null);
+
+    private final boolean uncompressed;
+    private final boolean packed;
+    private final boolean mixed;
+    private final AdjacencyPackingStrategy packingStrategy;
+
+    AdjacencyCompression(
+        boolean uncompressed,
+        boolean packed,
+        boolean mixed,
+        AdjacencyPackingStrategy packingStrategy
+    ) {
+        this.uncompressed = uncompressed;
+        this.packed = packed;
+        this.mixed = mixed;
+        this.packingStrategy = packingStrategy;
+    }
+
+    public <T> T apply(Supplier<T> graphSupplier) {
+        var uncompressedBefore = GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(uncompressed);
+        var packedBefore = GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(packed);
+        var mixedBefore = GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.toggle(mixed);
+        var strategyBefore = packingStrategy == null
+            ? GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get()
+            : GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.getAndSet(packingStrategy);
+        try {
+            return graphSupplier.get();
+        } finally {
+            GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(uncompressedBefore);
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(packedBefore);
+            GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.toggle(mixedBefore);
+            GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.set(strategyBefore);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full scans over all adjacency lists through {@link org.neo4j.gds.api.AdjacencyCursor}s,
+ * which is the access pattern of most traversal based algorithms.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class AdjacencyCursorBenchmark {
+
+    @Benchmark
+    public long reuseCursor(GraphState state, TraversalCounters counters) {
+        var adjacencyList = state.adjacencyList;
+        var nodeCount = state.graph.nodeCount();
+        var cursor = adjacencyList.rawAdjacencyCursor();
+
+        long checksum = 0;
+        long relationships = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            while (cursor.hasNextVLong()) {
+                checksum += cursor.nextVLong();
+                relationships++;
+            }
+        }
+
+        counters.nodes += nodeCount;
+        counters.relationships += relationships;
+        return checksum;
+    }
+
+    @Benchmark
+    public long newCursor(GraphState state, TraversalCounters counters) {
+        var adjacencyList = state.adjacencyList;
+        var nodeCount = state.graph.nodeCount();
+
+        long checksum = 0;
+        long relationships = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            var cursor = adjacencyList.adjacencyCursor(node);
+            while (cursor.hasNextVLong()) {
+                checksum += cursor.nextVLong();
+                relationships++;
+            }
+        }
+
+        counters.nodes += nodeCount;
+        counters.relationships += relationships;
+        return checksum;
+    }
+
+    @Benchmark
+    public long advanceToMedianTarget(GraphState state, TraversalCounters counters) {
+        var adjacencyList = state.adjacencyList;
+        var nodeCount = state.graph.nodeCount();
+        var target = nodeCount / 2;
+        var cursor = adjacencyList.rawAdjacencyCursor();
+
+        long checksum = 0;
+        long relationships = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            relationships += cursor.size();
+            checksum += cursor.advance(target);
+        }
+
+        counters.nodes += nodeCount;
+        counters.relationships += relationships;
+        return checksum;
+    }
+}
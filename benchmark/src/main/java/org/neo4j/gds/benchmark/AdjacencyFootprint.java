@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.annotation.SuppressForbidden;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Prints the memory footprint in bytes per relationship of every {@link AdjacencyCompression}
+ * on the same graphs that are used in the JMH benchmarks of this module.
+ * Usage: {@code AdjacencyFootprint [nodeCount] [averageDegree]}
+ */
+public final class AdjacencyFootprint {
+
+    private AdjacencyFootprint() {}
+
+    @SuppressForbidden(reason = "This is a command line tool reporting to stdout")
+    public static void main(String[] args) {
+        long nodeCount = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        long averageDegree = args.length > 1 ? Long.parseLong(args[1]) : 16L;
+
+        System.out.println("distribution,compression,relationships,pages,bytesOnHeap,bytesOffHeap,bytesPerRelationship");
+        for (var distribution : new RelationshipDistribution[]{RelationshipDistribution.UNIFORM, RelationshipDistribution.POWER_LAW}) {
+            for (var compression : AdjacencyCompression.values()) {
+                var graph = GraphState.generate(compression, distribution, nodeCount, averageDegree);
+                var memoryInfo = graph.relationshipTopology().adjacencyList().memoryInfo();
+                var relationshipCount = graph.relationshipCount();
+                var bytesTotal = memoryInfo.bytesTotal().orElse(-1);
+
+                System.out.println(formatWithLocale(
+                    "%s,%s,%d,%d,%d,%d,%.3f",
+                    distribution,
+                    compression,
+                    relationshipCount,
+                    memoryInfo.pages(),
+                    memoryInfo.bytesOnHeap().orElse(-1),
+                    memoryInfo.bytesOffHeap().orElse(-1),
+                    relationshipCount == 0 ? 0.0 : (double) bytesTotal / relationshipCount
+                ));
+            }
+        }
+    }
+}
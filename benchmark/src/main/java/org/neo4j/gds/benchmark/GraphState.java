@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig.AllowSelfLoops;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A random graph that is generated once per trial for every combination
+ * of adjacency compression and relationship distribution.
+ * The generator is seeded, so all runs operate on identical topologies.
+ */
+@State(Scope.Benchmark)
+public class GraphState {
+
+    static final long SEED = 42L;
+
+    @Param({
+        "VAR_LONG",
+        "UNCOMPRESSED",
+        "PACKED_BLOCK_ALIGNED_TAIL",
+        "PACKED_VAR_LONG_TAIL",
+        "PACKED_TAIL",
+        "PACKED_INLINED_HEAD_PACKED_TAIL",
+        "MIXED"
+    })
+    public AdjacencyCompression compression;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    @Param({"1000000"})
+    public long nodeCount;
+
+    @Param({"16"})
+    public long averageDegree;
+
+    HugeGraph graph;
+    AdjacencyList adjacencyList;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.graph = generate(compression, distribution, nodeCount, averageDegree);
+        this.adjacencyList = graph.relationshipTopology().adjacencyList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.graph = null;
+        this.adjacencyList = null;
+    }
+
+    static HugeGraph generate(
+        AdjacencyCompression compression,
+        RelationshipDistribution distribution,
+        long nodeCount,
+        long averageDegree
+    ) {
+        return compression.apply(() -> RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .aggregation(Aggregation.NONE)
+            .allowSelfLoops(AllowSelfLoops.NO)
+            .seed(SEED)
+            .build()
+            .generate()
+        );
+    }
+}
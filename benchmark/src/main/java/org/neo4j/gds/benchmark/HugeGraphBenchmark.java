@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full scans through the {@link org.neo4j.gds.core.huge.HugeGraph} API,
+ * i.e. including the overhead of the graph on top of the adjacency list.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class HugeGraphBenchmark {
+
+    @Benchmark
+    public long forEachRelationship(GraphState state, TraversalCounters counters) {
+        var graph = state.graph;
+        var nodeCount = graph.nodeCount();
+        var consumer = new SummingConsumer();
+
+        for (long node = 0; node < nodeCount; node++) {
+            graph.forEachRelationship(node, consumer);
+        }
+
+        counters.nodes += nodeCount;
+        counters.relationships += consumer.relationships;
+        return consumer.checksum;
+    }
+
+    @Benchmark
+    public long degree(GraphState state, TraversalCounters counters) {
+        var graph = state.graph;
+        var nodeCount = graph.nodeCount();
+
+        long relationships = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            relationships += graph.degree(node);
+        }
+
+        counters.nodes += nodeCount;
+        return relationships;
+    }
+
+    private static final class SummingConsumer implements RelationshipConsumer {
+        long checksum;
+        long relationships;
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            checksum += targetNodeId;
+            relationships++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.core.utils.Intersections;
+import org.neo4j.gds.core.utils.VectorKernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential similarity loops of {@link Intersections} with the
+ * unrolled {@link VectorKernels} that back the KNN similarity metrics.
+ * Every invocation scores one vector against all other vectors of the state,
+ * which mirrors how KNN evaluates candidate neighbours.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OperationsPerInvocation(SimilarityKernelBenchmark.VECTORS)
+public class SimilarityKernelBenchmark {
+
+    static final int VECTORS = 256;
+
+    @State(Scope.Benchmark)
+    public static class Vectors {
+
+        @Param({"16", "64", "128", "256", "512", "1024"})
+        public int dimension;
+
+        float[][] floats;
+        double[][] doubles;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            var random = new SplittableRandom(GraphState.SEED);
+            this.floats = new float[VECTORS][dimension];
+            this.doubles = new double[VECTORS][dimension];
+            for (int v = 0; v < VECTORS; v++) {
+                for (int i = 0; i < dimension; i++) {
+                    double value = random.nextDouble(-1, 1);
+                    floats[v][i] = (float) value;
+                    doubles[v][i] = value;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public double cosineFloatScalar(Vectors state) {
+        var query = state.floats[0];
+        double sum = 0;
+        for (var other : state.floats) {
+            sum += Intersections.cosine(query, other, state.dimension);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double cosineFloatUnrolled(Vectors state) {
+        var query = state.floats[0];
+        double sum = 0;
+        for (var other : state.floats) {
+            sum += VectorKernels.cosine(query, other, state.dimension);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double cosineDoubleScalar(Vectors state) {
+        var query = state.doubles[0];
+        double sum = 0;
+        for (var other : state.doubles) {
+            sum += Intersections.cosine(query, other, state.dimension);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double cosineDoubleUnrolled(Vectors state) {
+        var query = state.doubles[0];
+        double sum = 0;
+        for (var other : state.doubles) {
+            sum += VectorKernels.cosine(query, other, state.dimension);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double euclideanDoubleScalar(Vectors state) {
+        var query = state.doubles[0];
+        double sum = 0;
+        for (var other : state.doubles) {
+            sum += Intersections.sumSquareDelta(query, other, state.dimension);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double euclideanDoubleUnrolled(Vectors state) {
+        var query = state.doubles[0];
+        double sum = 0;
+        for (var other : state.doubles) {
+            sum += VectorKernels.sumSquareDelta(query, other, state.dimension);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double pearsonDoubleScalar(Vectors state) {
+        var query = state.doubles[0];
+        double sum = 0;
+        for (var other : state.doubles) {
+            sum += Intersections.pearson(query, other, state.dimension);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double pearsonDoubleUnrolled(Vectors state) {
+        var query = state.doubles[0];
+        double sum = 0;
+        for (var other : state.doubles) {
+            sum += VectorKernels.pearson(query, other, state.dimension);
+        }
+        return sum;
+    }
+}
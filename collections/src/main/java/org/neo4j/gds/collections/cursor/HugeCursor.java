@@ -201,4 +201,69 @@ public abstract class HugeCursor<Array> implements AutoCloseable {
             pageIndex = -1;
         }
     }
+
+    /**
+     * A cursor over values that are not stored in Java arrays, e.g. off-heap pages.
+     * Every call to {@link #next()} copies the following block of values into a reused on-heap buffer.
+     * Writes to {@link #array} are not reflected in the underlying storage.
+     */
+    public static final class CopyingCursor<Array> extends HugeCursor<Array> {
+
+        @FunctionalInterface
+        public interface BlockLoader<Array> {
+            void load(long start, Array buffer, int length);
+        }
+
+        private final BlockLoader<Array> loader;
+        private final int bufferLength;
+        private long capacity;
+        private long position;
+        private long end;
+
+        public CopyingCursor(long capacity, Array buffer, BlockLoader<Array> loader) {
+            super();
+            this.capacity = capacity;
+            this.array = buffer;
+            this.bufferLength = getLength(buffer);
+            this.loader = loader;
+        }
+
+        @Override
+        void setRange() {
+            setRange(0L, capacity);
+        }
+
+        @Override
+        public void setRange(long start, long end) {
+            this.position = start;
+            this.end = end;
+            this.base = start;
+            this.offset = 0;
+            this.limit = 0;
+        }
+
+        @Override
+        public boolean next() {
+            if (position >= end) {
+                return false;
+            }
+            int length = (int) Math.min(bufferLength, end - position);
+            loader.load(position, array, length);
+            base = position;
+            offset = 0;
+            limit = length;
+            position += length;
+            return true;
+        }
+
+        @Override
+        public void close() {
+            array = null;
+            base = 0L;
+            limit = 0;
+            capacity = 0L;
+            position = 0L;
+            end = 0L;
+        }
+    }
 }
@@ -21,11 +21,14 @@ package org.neo4j.gds.collections.ha;
 
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.mem.OffHeapMemory;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToDoubleFunction;
 import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 import static org.neo4j.gds.mem.HugeArrays.PAGE_SHIFT;
 import static org.neo4j.gds.mem.HugeArrays.PAGE_SIZE;
@@ -202,6 +205,9 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
      * Creates a new array of the given size.
      */
     public static HugeDoubleArray newArray(long size) {
+        if (HugeArrays.allocateOffHeap(size)) {
+            return OffHeapHugeDoubleArray.of(size);
+        }
         if (size <= HugeArrays.MAX_ARRAY_LENGTH) {
             return SingleHugeDoubleArray.of(size);
         }
@@ -276,6 +282,10 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeDoubleArray) {
+                OffHeapHugeDoubleArray.copy(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeDoubleArray) {
                 SingleHugeDoubleArray dst = (SingleHugeDoubleArray) dest;
                 System.arraycopy(page, 0, dst.page, 0, (int) length);
@@ -416,6 +426,10 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeDoubleArray) {
+                OffHeapHugeDoubleArray.copy(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeDoubleArray) {
                 SingleHugeDoubleArray dst = (SingleHugeDoubleArray) dest;
                 int start = 0;
@@ -480,4 +494,149 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             return Arrays.stream(pages).flatMapToDouble(Arrays::stream);
         }
     }
+
+    /**
+     * Pages live outside the Java heap, see {@link org.neo4j.gds.mem.PageAllocation}.
+     * Off-heap memory is returned to the operating system once the array becomes unreachable.
+     */
+    static final class OffHeapHugeDoubleArray extends HugeDoubleArray implements OffHeapMemory {
+
+        private static HugeDoubleArray of(long size) {
+            var buffers = OffHeapPages.allocate(size, Double.BYTES);
+            var pages = new DoubleBuffer[buffers.length];
+            for (int i = 0; i < buffers.length; i++) {
+                pages[i] = buffers[i].asDoubleBuffer();
+            }
+            return new OffHeapHugeDoubleArray(size, pages);
+        }
+
+        private final long size;
+        private DoubleBuffer[] pages;
+        private final long memoryUsed;
+        private final long offHeapMemoryUsed;
+
+        private OffHeapHugeDoubleArray(long size, DoubleBuffer[] pages) {
+            this.size = size;
+            this.pages = pages;
+            this.memoryUsed = OffHeapPages.sizeOfOnHeap(OffHeapHugeDoubleArray.class, pages.length);
+            this.offHeapMemoryUsed = OffHeapPages.sizeOfOffHeap(size, Double.BYTES);
+        }
+
+        @Override
+        public double get(long index) {
+            assert index < size;
+            return pages[OffHeapPages.pageIndex(index)].get(OffHeapPages.indexInPage(index));
+        }
+
+        @Override
+        public void set(long index, double value) {
+            assert index < size;
+            pages[OffHeapPages.pageIndex(index)].put(OffHeapPages.indexInPage(index), value);
+        }
+
+        @Override
+        public void addTo(long index, double value) {
+            assert index < size;
+            var page = pages[OffHeapPages.pageIndex(index)];
+            int indexInPage = OffHeapPages.indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) + value);
+        }
+
+        @Override
+        public void setAll(LongToDoubleFunction gen) {
+            for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+                var page = pages[pageIndex];
+                long base = ((long) pageIndex) << OffHeapPages.PAGE_SHIFT;
+                for (int i = 0; i < page.limit(); i++) {
+                    page.put(i, gen.applyAsDouble(base + i));
+                }
+            }
+        }
+
+        @Override
+        public void fill(double value) {
+            for (var page : pages) {
+                for (int i = 0; i < page.limit(); i++) {
+                    page.put(i, value);
+                }
+            }
+        }
+
+        @Override
+        public void copyTo(HugeDoubleArray dest, long length) {
+            copy(this, dest, length);
+        }
+
+        static void copy(HugeDoubleArray source, HugeDoubleArray dest, long length) {
+            length = Math.min(length, Math.min(source.size(), dest.size()));
+            for (long i = 0; i < length; i++) {
+                dest.set(i, source.get(i));
+            }
+            for (long i = length; i < dest.size(); i++) {
+                dest.set(i, 0D);
+            }
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memoryUsed;
+        }
+
+        @Override
+        public long sizeOfOffHeap() {
+            return pages == null ? 0L : offHeapMemoryUsed;
+        }
+
+        @Override
+        public DoubleStream stream() {
+            return LongStream.range(0, size).mapToDouble(this::get);
+        }
+
+        @Override
+        public long release() {
+            if (pages != null) {
+                pages = null;
+                return memoryUsed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<double[]> newCursor() {
+            var buffer = new double[(int) Math.min(HugeArrays.PAGE_SIZE, size)];
+            return new HugeCursor.CopyingCursor<>(size, buffer, this::copyToBuffer);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(double[] source, long sliceStart, long sliceEnd) {
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            int sourceIndex = 0;
+            while (sourceIndex < length) {
+                long index = sliceStart + sourceIndex;
+                var page = pages[OffHeapPages.pageIndex(index)].duplicate();
+                page.position(OffHeapPages.indexInPage(index));
+                int toCopy = Math.min(length - sourceIndex, page.remaining());
+                page.put(source, sourceIndex, toCopy);
+                sourceIndex += toCopy;
+            }
+            return sourceIndex;
+        }
+
+        private void copyToBuffer(long start, double[] buffer, int length) {
+            int bufferIndex = 0;
+            while (bufferIndex < length) {
+                long index = start + bufferIndex;
+                var page = pages[OffHeapPages.pageIndex(index)].duplicate();
+                page.position(OffHeapPages.indexInPage(index));
+                int toCopy = Math.min(length - bufferIndex, page.remaining());
+                page.get(buffer, bufferIndex, toCopy);
+                bufferIndex += toCopy;
+            }
+        }
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ha;
+
+import org.neo4j.gds.mem.HugeArrays;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * A dense, long-indexable matrix of {@code float} values with a fixed number of columns.
+ * <p>
+ * Rows are stored contiguously in pages of {@code float[]}, a row never spans two pages.
+ * Compared to a {@link HugeObjectArray} of {@code float[]}, this saves an array header and
+ * a reference per row and keeps neighbouring rows close in memory.
+ * <p>
+ * Hot loops can access a row without copying through {@link #rowPage(long)} and {@link #rowOffset(long)}:
+ * <pre>{@code
+ * float[] page = matrix.rowPage(row);
+ * int offset = matrix.rowOffset(row);
+ * for (int i = 0; i < matrix.dimension(); i++) {
+ *     sum += page[offset + i];
+ * }
+ * }</pre>
+ */
+public final class HugeFloatMatrix {
+
+    private final long rows;
+    private final int dimension;
+    private final int rowShift;
+    private final long rowMask;
+    private final float[][] pages;
+
+    public static HugeFloatMatrix newMatrix(long rows, int dimension) {
+        if (dimension < 1) {
+            throw new IllegalArgumentException("The dimension of a matrix must be at least 1, but got " + dimension);
+        }
+        int rowShift = rowShift(dimension);
+        int rowsPerPage = 1 << rowShift;
+        long numPages = (rows + rowsPerPage - 1) >>> rowShift;
+        assert numPages <= HugeArrays.MAX_ARRAY_LENGTH : "too many pages for " + rows + " rows";
+
+        var pages = new float[(int) numPages][];
+        for (int i = 0; i < pages.length; i++) {
+            long rowsInPage = Math.min(rowsPerPage, rows - ((long) i << rowShift));
+            pages[i] = new float[(int) rowsInPage * dimension];
+        }
+        return new HugeFloatMatrix(rows, dimension, rowShift, pages);
+    }
+
+    public static long memoryEstimation(long rows, int dimension) {
+        int rowShift = rowShift(dimension);
+        int rowsPerPage = 1 << rowShift;
+        long numPages = (rows + rowsPerPage - 1) >>> rowShift;
+        if (numPages == 0) {
+            return sizeOfInstance(HugeFloatMatrix.class) + sizeOfObjectArray(0);
+        }
+        long rowsInLastPage = rows - ((numPages - 1) << rowShift);
+
+        return sizeOfInstance(HugeFloatMatrix.class)
+               + sizeOfObjectArray(numPages)
+               + (numPages - 1) * sizeOfFloatArray((long) rowsPerPage * dimension)
+               + sizeOfFloatArray(rowsInLastPage * dimension);
+    }
+
+    private static int rowShift(int dimension) {
+        // pages hold a power of two rows, so that finding a row is a shift instead of a division
+        int rowsPerPage = Integer.highestOneBit(Math.max(1, HugeArrays.PAGE_SIZE / dimension));
+        return Integer.numberOfTrailingZeros(rowsPerPage);
+    }
+
+    private HugeFloatMatrix(long rows, int dimension, int rowShift, float[][] pages) {
+        this.rows = rows;
+        this.dimension = dimension;
+        this.rowShift = rowShift;
+        this.rowMask = (1L << rowShift) - 1;
+        this.pages = pages;
+    }
+
+    /**
+     * @return the number of rows, which is the number of nodes when used for node embeddings
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * @return the number of columns of each row
+     */
+    public int dimension() {
+        return dimension;
+    }
+
+    public float get(long row, int column) {
+        return pages[pageIndex(row)][rowOffset(row) + column];
+    }
+
+    public void set(long row, int column, float value) {
+        pages[pageIndex(row)][rowOffset(row) + column] = value;
+    }
+
+    /**
+     * @return a copy of the given row
+     */
+    public float[] get(long row) {
+        int offset = rowOffset(row);
+        return Arrays.copyOfRange(pages[pageIndex(row)], offset, offset + dimension);
+    }
+
+    /**
+     * Copies the given row into the first {@link #dimension()} entries of {@code target}.
+     */
+    public void copyRow(long row, float[] target) {
+        System.arraycopy(pages[pageIndex(row)], rowOffset(row), target, 0, dimension);
+    }
+
+    /**
+     * Sets the given row to the first {@link #dimension()} entries of {@code values}.
+     */
+    public void setRow(long row, float[] values) {
+        System.arraycopy(values, 0, pages[pageIndex(row)], rowOffset(row), dimension);
+    }
+
+    public void fillRow(long row, float value) {
+        int offset = rowOffset(row);
+        Arrays.fill(pages[pageIndex(row)], offset, offset + dimension, value);
+    }
+
+    /**
+     * @return the page that stores the given row, the row starts at {@link #rowOffset(long)}
+     */
+    public float[] rowPage(long row) {
+        return pages[pageIndex(row)];
+    }
+
+    /**
+     * @return the offset of the first entry of the given row within its {@link #rowPage(long)}
+     */
+    public int rowOffset(long row) {
+        return (int) (row & rowMask) * dimension;
+    }
+
+    /**
+     * @return the number of bytes used by this matrix
+     */
+    public long sizeOf() {
+        long size = sizeOfInstance(HugeFloatMatrix.class) + sizeOfObjectArray(pages.length);
+        for (float[] page : pages) {
+            size += sizeOfFloatArray(page.length);
+        }
+        return size;
+    }
+
+    private int pageIndex(long row) {
+        return (int) (row >>> rowShift);
+    }
+}
@@ -21,7 +21,9 @@ package org.neo4j.gds.collections.ha;
 
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.mem.OffHeapMemory;
 
+import java.nio.IntBuffer;
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToIntFunction;
@@ -218,6 +220,9 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
      * Creates a new array of the given size.
      */
     public static HugeIntArray newArray(long size) {
+        if (HugeArrays.allocateOffHeap(size)) {
+            return OffHeapHugeIntArray.of(size);
+        }
         if (size <= HugeArrays.MAX_ARRAY_LENGTH) {
             return SingleHugeIntArray.of(size);
         }
@@ -313,6 +318,10 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeIntArray) {
+                OffHeapHugeIntArray.copy(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeIntArray) {
                 SingleHugeIntArray dst = (SingleHugeIntArray) dest;
                 System.arraycopy(page, 0, dst.page, 0, (int) length);
@@ -474,6 +483,10 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeIntArray) {
+                OffHeapHugeIntArray.copy(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeIntArray) {
                 SingleHugeIntArray dst = (SingleHugeIntArray) dest;
                 int start = 0;
@@ -533,4 +546,172 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             return new HugeCursor.PagedCursor<>(size, pages);
         }
     }
+
+    /**
+     * Pages live outside the Java heap, see {@link org.neo4j.gds.mem.PageAllocation}.
+     * Off-heap memory is returned to the operating system once the array becomes unreachable.
+     */
+    static final class OffHeapHugeIntArray extends HugeIntArray implements OffHeapMemory {
+
+        private static HugeIntArray of(long size) {
+            var buffers = OffHeapPages.allocate(size, Integer.BYTES);
+            var pages = new IntBuffer[buffers.length];
+            for (int i = 0; i < buffers.length; i++) {
+                pages[i] = buffers[i].asIntBuffer();
+            }
+            return new OffHeapHugeIntArray(size, pages);
+        }
+
+        private final long size;
+        private IntBuffer[] pages;
+        private final long memoryUsed;
+        private final long offHeapMemoryUsed;
+
+        private OffHeapHugeIntArray(long size, IntBuffer[] pages) {
+            this.size = size;
+            this.pages = pages;
+            this.memoryUsed = OffHeapPages.sizeOfOnHeap(OffHeapHugeIntArray.class, pages.length);
+            this.offHeapMemoryUsed = OffHeapPages.sizeOfOffHeap(size, Integer.BYTES);
+        }
+
+        @Override
+        public int get(long index) {
+            assert index < size;
+            return pages[OffHeapPages.pageIndex(index)].get(OffHeapPages.indexInPage(index));
+        }
+
+        @Override
+        public int getAndAdd(long index, int delta) {
+            assert index < size;
+            var page = pages[OffHeapPages.pageIndex(index)];
+            int indexInPage = OffHeapPages.indexInPage(index);
+            var value = page.get(indexInPage);
+            page.put(indexInPage, value + delta);
+            return value;
+        }
+
+        @Override
+        public void set(long index, int value) {
+            assert index < size;
+            pages[OffHeapPages.pageIndex(index)].put(OffHeapPages.indexInPage(index), value);
+        }
+
+        @Override
+        public void or(long index, final int value) {
+            assert index < size;
+            var page = pages[OffHeapPages.pageIndex(index)];
+            int indexInPage = OffHeapPages.indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) | value);
+        }
+
+        @Override
+        public int and(long index, final int value) {
+            assert index < size;
+            var page = pages[OffHeapPages.pageIndex(index)];
+            int indexInPage = OffHeapPages.indexInPage(index);
+            int result = page.get(indexInPage) & value;
+            page.put(indexInPage, result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, int value) {
+            assert index < size;
+            var page = pages[OffHeapPages.pageIndex(index)];
+            int indexInPage = OffHeapPages.indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) + value);
+        }
+
+        @Override
+        public void setAll(LongToIntFunction gen) {
+            for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+                var page = pages[pageIndex];
+                long base = ((long) pageIndex) << OffHeapPages.PAGE_SHIFT;
+                for (int i = 0; i < page.limit(); i++) {
+                    page.put(i, gen.applyAsInt(base + i));
+                }
+            }
+        }
+
+        @Override
+        public void fill(int value) {
+            for (var page : pages) {
+                for (int i = 0; i < page.limit(); i++) {
+                    page.put(i, value);
+                }
+            }
+        }
+
+        @Override
+        public void copyTo(HugeIntArray dest, long length) {
+            copy(this, dest, length);
+        }
+
+        static void copy(HugeIntArray source, HugeIntArray dest, long length) {
+            length = Math.min(length, Math.min(source.size(), dest.size()));
+            for (long i = 0; i < length; i++) {
+                dest.set(i, source.get(i));
+            }
+            for (long i = length; i < dest.size(); i++) {
+                dest.set(i, 0);
+            }
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memoryUsed;
+        }
+
+        @Override
+        public long sizeOfOffHeap() {
+            return pages == null ? 0L : offHeapMemoryUsed;
+        }
+
+        @Override
+        public long release() {
+            if (pages != null) {
+                pages = null;
+                return memoryUsed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<int[]> newCursor() {
+            var buffer = new int[(int) Math.min(HugeArrays.PAGE_SIZE, size)];
+            return new HugeCursor.CopyingCursor<>(size, buffer, this::copyToBuffer);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(int[] source, long sliceStart, long sliceEnd) {
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            int sourceIndex = 0;
+            while (sourceIndex < length) {
+                long index = sliceStart + sourceIndex;
+                var page = pages[OffHeapPages.pageIndex(index)].duplicate();
+                page.position(OffHeapPages.indexInPage(index));
+                int toCopy = Math.min(length - sourceIndex, page.remaining());
+                page.put(source, sourceIndex, toCopy);
+                sourceIndex += toCopy;
+            }
+            return sourceIndex;
+        }
+
+        private void copyToBuffer(long start, int[] buffer, int length) {
+            int bufferIndex = 0;
+            while (bufferIndex < length) {
+                long index = start + bufferIndex;
+                var page = pages[OffHeapPages.pageIndex(index)].duplicate();
+                page.position(OffHeapPages.indexInPage(index));
+                int toCopy = Math.min(length - bufferIndex, page.remaining());
+                page.get(buffer, bufferIndex, toCopy);
+                bufferIndex += toCopy;
+            }
+        }
+    }
 }
@@ -24,7 +24,9 @@ import org.neo4j.gds.collections.PageUtil;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.mem.OffHeapMemory;
 
+import java.nio.LongBuffer;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.function.LongFunction;
@@ -219,6 +221,9 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
      * Creates a new array of the given size.
      */
     public static HugeLongArray newArray(long size) {
+        if (HugeArrays.allocateOffHeap(size)) {
+            return OffHeapHugeLongArray.of(size);
+        }
         if (size <= HugeArrays.MAX_ARRAY_LENGTH) {
             return SingleHugeLongArray.of(size);
         }
@@ -318,6 +323,10 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeLongArray) {
+                OffHeapHugeLongArray.copy(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeLongArray) {
                 SingleHugeLongArray dst = (SingleHugeLongArray) dest;
                 System.arraycopy(page, 0, dst.page, 0, (int) length);
@@ -483,6 +492,10 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             if (length > dest.size()) {
                 length = dest.size();
             }
+            if (dest instanceof OffHeapHugeLongArray) {
+                OffHeapHugeLongArray.copy(this, dest, length);
+                return;
+            }
             if (dest instanceof SingleHugeLongArray) {
                 SingleHugeLongArray dst = (SingleHugeLongArray) dest;
                 int start = 0;
@@ -558,4 +571,180 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         }
 
     }
+
+    /**
+     * Pages live outside the Java heap, see {@link org.neo4j.gds.mem.PageAllocation}.
+     * Off-heap memory is returned to the operating system once the array becomes unreachable.
+     */
+    static final class OffHeapHugeLongArray extends HugeLongArray implements OffHeapMemory {
+
+        private static HugeLongArray of(long size) {
+            var buffers = OffHeapPages.allocate(size, Long.BYTES);
+            var pages = new LongBuffer[buffers.length];
+            for (int i = 0; i < buffers.length; i++) {
+                pages[i] = buffers[i].asLongBuffer();
+            }
+            return new OffHeapHugeLongArray(size, pages);
+        }
+
+        private final long size;
+        private LongBuffer[] pages;
+        private final long memoryUsed;
+        private final long offHeapMemoryUsed;
+
+        private OffHeapHugeLongArray(long size, LongBuffer[] pages) {
+            this.size = size;
+            this.pages = pages;
+            this.memoryUsed = OffHeapPages.sizeOfOnHeap(OffHeapHugeLongArray.class, pages.length);
+            this.offHeapMemoryUsed = OffHeapPages.sizeOfOffHeap(size, Long.BYTES);
+        }
+
+        @Override
+        public long get(long index) {
+            assert index < size;
+            return pages[OffHeapPages.pageIndex(index)].get(OffHeapPages.indexInPage(index));
+        }
+
+        @Override
+        public void set(long index, long value) {
+            assert index < size;
+            pages[OffHeapPages.pageIndex(index)].put(OffHeapPages.indexInPage(index), value);
+        }
+
+        @Override
+        public void or(long index, final long value) {
+            assert index < size;
+            var page = pages[OffHeapPages.pageIndex(index)];
+            int indexInPage = OffHeapPages.indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) | value);
+        }
+
+        @Override
+        public long and(long index, final long value) {
+            assert index < size;
+            var page = pages[OffHeapPages.pageIndex(index)];
+            int indexInPage = OffHeapPages.indexInPage(index);
+            long result = page.get(indexInPage) & value;
+            page.put(indexInPage, result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, long value) {
+            assert index < size;
+            var page = pages[OffHeapPages.pageIndex(index)];
+            int indexInPage = OffHeapPages.indexInPage(index);
+            page.put(indexInPage, page.get(indexInPage) + value);
+        }
+
+        @Override
+        public void setAll(LongUnaryOperator gen) {
+            for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+                var page = pages[pageIndex];
+                long base = ((long) pageIndex) << OffHeapPages.PAGE_SHIFT;
+                for (int i = 0; i < page.limit(); i++) {
+                    page.put(i, gen.applyAsLong(base + i));
+                }
+            }
+        }
+
+        @Override
+        public void fill(long value) {
+            for (var page : pages) {
+                for (int i = 0; i < page.limit(); i++) {
+                    page.put(i, value);
+                }
+            }
+        }
+
+        @Override
+        public void copyTo(HugeLongArray dest, long length) {
+            copy(this, dest, length);
+        }
+
+        static void copy(HugeLongArray source, HugeLongArray dest, long length) {
+            length = Math.min(length, Math.min(source.size(), dest.size()));
+            for (long i = 0; i < length; i++) {
+                dest.set(i, source.get(i));
+            }
+            for (long i = length; i < dest.size(); i++) {
+                dest.set(i, 0L);
+            }
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memoryUsed;
+        }
+
+        @Override
+        public long sizeOfOffHeap() {
+            return pages == null ? 0L : offHeapMemoryUsed;
+        }
+
+        @Override
+        public long binarySearch(long searchValue) {
+            long low = 0;
+            long high = size - 1;
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                long midVal = get(mid);
+                if (midVal < searchValue) {
+                    low = mid + 1;
+                } else if (midVal > searchValue) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return low - 1;
+        }
+
+        @Override
+        public long release() {
+            if (pages != null) {
+                pages = null;
+                return memoryUsed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<long[]> newCursor() {
+            var buffer = new long[(int) Math.min(HugeArrays.PAGE_SIZE, size)];
+            return new HugeCursor.CopyingCursor<>(size, buffer, this::copyToBuffer);
+        }
+
+        @Override
+        public int copyFromArrayIntoSlice(long[] source, long sliceStart, long sliceEnd) {
+            int length = (int) Math.min(source.length, sliceEnd - sliceStart);
+            int sourceIndex = 0;
+            while (sourceIndex < length) {
+                long index = sliceStart + sourceIndex;
+                var page = pages[OffHeapPages.pageIndex(index)].duplicate();
+                page.position(OffHeapPages.indexInPage(index));
+                int toCopy = Math.min(length - sourceIndex, page.remaining());
+                page.put(source, sourceIndex, toCopy);
+                sourceIndex += toCopy;
+            }
+            return sourceIndex;
+        }
+
+        private void copyToBuffer(long start, long[] buffer, int length) {
+            int bufferIndex = 0;
+            while (bufferIndex < length) {
+                long index = start + bufferIndex;
+                var page = pages[OffHeapPages.pageIndex(index)].duplicate();
+                page.position(OffHeapPages.indexInPage(index));
+                int toCopy = Math.min(length - bufferIndex, page.remaining());
+                page.get(buffer, bufferIndex, toCopy);
+                bufferIndex += toCopy;
+            }
+        }
+    }
 }
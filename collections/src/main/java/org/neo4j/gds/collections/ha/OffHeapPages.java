@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ha;
+
+import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.mem.PageAllocation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Allocates the pages of off-heap huge arrays, either as direct buffers
+ * or as memory-mapped regions of a temporary file.
+ * <p>
+ * Off-heap pages are larger than heap pages since they do not put pressure on
+ * the garbage collector and each page comes with a fixed buffer overhead.
+ */
+final class OffHeapPages {
+
+    static final int PAGE_SHIFT = 20;
+    static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    static final long PAGE_MASK = PAGE_SIZE - 1;
+
+    private OffHeapPages() {}
+
+    static int pageIndex(long index) {
+        return (int) (index >>> PAGE_SHIFT);
+    }
+
+    static int indexInPage(long index) {
+        return (int) (index & PAGE_MASK);
+    }
+
+    static int numberOfPages(long size) {
+        return HugeArrays.numberOfPages(size, PAGE_SHIFT, PAGE_MASK);
+    }
+
+    static ByteBuffer[] allocate(long size, int bytesPerElement) {
+        int numPages = numberOfPages(size);
+        var pages = new ByteBuffer[numPages];
+        var allocation = HugeArrays.PAGE_ALLOCATION.get();
+        if (allocation == PageAllocation.MEMORY_MAPPED) {
+            mapPages(pages, size, bytesPerElement);
+        } else {
+            for (int pageIndex = 0; pageIndex < numPages; pageIndex++) {
+                pages[pageIndex] = ByteBuffer
+                    .allocateDirect(pageLength(pageIndex, numPages, size) * bytesPerElement)
+                    .order(ByteOrder.nativeOrder());
+            }
+        }
+        return pages;
+    }
+
+    /**
+     * The backing file is deleted right after mapping, the mapped regions stay valid
+     * until the buffers are garbage collected.
+     */
+    private static void mapPages(ByteBuffer[] pages, long size, int bytesPerElement) {
+        try {
+            var file = Files.createTempFile(HugeArrays.MAPPED_PAGES_DIRECTORY.get(), "gds-huge-array", ".pages");
+            try (var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long position = 0L;
+                for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+                    long pageBytes = (long) pageLength(pageIndex, pages.length, size) * bytesPerElement;
+                    pages[pageIndex] = channel
+                        .map(FileChannel.MapMode.READ_WRITE, position, pageBytes)
+                        .order(ByteOrder.nativeOrder());
+                    position += pageBytes;
+                }
+            } finally {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    // some platforms do not allow deleting mapped files
+                    file.toFile().deleteOnExit();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int pageLength(int pageIndex, int numPages, long size) {
+        return pageIndex == numPages - 1
+            ? 1 + (int) ((size - 1L) & PAGE_MASK)
+            : PAGE_SIZE;
+    }
+
+    static long sizeOfOffHeap(long size, int bytesPerElement) {
+        return size * bytesPerElement;
+    }
+
+    /**
+     * Heap overhead of the page references and the typed buffer views.
+     */
+    static long sizeOfOnHeap(Class<?> arrayClass, int numPages) {
+        return MemoryUsage.sizeOfInstance(arrayClass)
+               + MemoryUsage.sizeOfObjectArray(numPages)
+               + 2L * numPages * MemoryUsage.sizeOfInstance(ByteBuffer.class);
+    }
+}
@@ -19,6 +19,9 @@
  */
 package org.neo4j.gds.mem;
 
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
 public final class HugeArrays {
 
     // Arrays larger than this have a higher risk of triggering a full GC
@@ -30,6 +33,26 @@ public final class HugeArrays {
     public static final int PAGE_SIZE = 1 << PAGE_SHIFT;
     private static final long PAGE_MASK = PAGE_SIZE - 1;
 
+    // Arrays smaller than this are always allocated on heap, regardless of the configured page allocation.
+    public static final long MIN_OFF_HEAP_SIZE = PAGE_SIZE;
+
+    // Determines where pages of newly created HugeLongArray, HugeDoubleArray and HugeIntArray instances live.
+    public static final AtomicReference<PageAllocation> PAGE_ALLOCATION = new AtomicReference<>(
+        PageAllocation.parse(System.getProperty(HugeArrays.class.getCanonicalName() + ".pageAllocation"), PageAllocation.HEAP)
+    );
+
+    // Directory for the backing files of PageAllocation.MEMORY_MAPPED.
+    public static final AtomicReference<Path> MAPPED_PAGES_DIRECTORY = new AtomicReference<>(
+        Path.of(System.getProperty(
+            HugeArrays.class.getCanonicalName() + ".mappedPagesDirectory",
+            System.getProperty("java.io.tmpdir")
+        ))
+    );
+
+    public static boolean allocateOffHeap(long size) {
+        return size >= MIN_OFF_HEAP_SIZE && PAGE_ALLOCATION.get() != PageAllocation.HEAP;
+    }
+
     public static int pageIndex(long index) {
         return (int) (index >>> PAGE_SHIFT);
     }
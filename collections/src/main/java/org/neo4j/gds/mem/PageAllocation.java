@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.mem;
+
+/**
+ * Determines where the pages of newly created huge arrays are allocated.
+ *
+ * @see HugeArrays#PAGE_ALLOCATION
+ */
+public enum PageAllocation {
+    /**
+     * Pages are regular Java arrays on the heap.
+     */
+    HEAP,
+    /**
+     * Pages are direct buffers outside the Java heap, they are not scanned by the garbage collector.
+     */
+    OFF_HEAP,
+    /**
+     * Pages are memory-mapped regions of a temporary file in {@link HugeArrays#MAPPED_PAGES_DIRECTORY},
+     * which allows the operating system to page them out under memory pressure.
+     */
+    MEMORY_MAPPED;
+
+    static PageAllocation parse(String value, PageAllocation defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        for (PageAllocation allocation : values()) {
+            if (allocation.name().equalsIgnoreCase(value.trim())) {
+                return allocation;
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ha;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HugeFloatMatrixTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 128, HugeArrays.PAGE_SIZE + 1})
+    void shouldStoreRowsAcrossPages(int dimension) {
+        long rows = 2L * HugeArrays.PAGE_SIZE / dimension + 7;
+        var matrix = HugeFloatMatrix.newMatrix(rows, dimension);
+
+        for (long row = 0; row < rows; row++) {
+            matrix.set(row, 0, row);
+            matrix.set(row, dimension - 1, -row);
+        }
+
+        for (long row = 0; row < rows; row++) {
+            var values = matrix.get(row);
+            assertThat(values).hasSize(dimension);
+            assertThat(values[0]).isEqualTo((float) row);
+            assertThat(values[dimension - 1]).isEqualTo((float) -row);
+            assertThat(matrix.rowPage(row)[matrix.rowOffset(row)]).isEqualTo((float) row);
+            assertThat(matrix.rowOffset(row) + dimension).isLessThanOrEqualTo(matrix.rowPage(row).length);
+        }
+    }
+
+    @Test
+    void shouldCopyAndFillRows() {
+        var matrix = HugeFloatMatrix.newMatrix(3, 4);
+
+        matrix.setRow(1, new float[]{1, 2, 3, 4, 5});
+        matrix.fillRow(2, 42);
+
+        var buffer = new float[4];
+        matrix.copyRow(1, buffer);
+        assertThat(buffer).containsExactly(1, 2, 3, 4);
+        assertThat(matrix.get(0)).containsExactly(0, 0, 0, 0);
+        assertThat(matrix.get(2)).containsExactly(42, 42, 42, 42);
+        assertThat(matrix.get(1, 3)).isEqualTo(4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 1000, 100_000})
+    void shouldEstimateMemory(long rows) {
+        var matrix = HugeFloatMatrix.newMatrix(rows, 64);
+
+        assertThat(HugeFloatMatrix.memoryEstimation(rows, 64)).isEqualTo(matrix.sizeOf());
+        assertThat(matrix.sizeOf()).isLessThan(
+            HugeObjectArray.memoryEstimation(rows, MemoryUsage.sizeOfFloatArray(64))
+        );
+    }
+
+    @Test
+    void shouldRejectEmptyRows() {
+        assertThatThrownBy(() -> HugeFloatMatrix.newMatrix(1, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
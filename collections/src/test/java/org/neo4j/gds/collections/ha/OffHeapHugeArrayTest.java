@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ha;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.mem.OffHeapMemory;
+import org.neo4j.gds.mem.PageAllocation;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapHugeArrayTest {
+
+    // spans two off-heap pages
+    private static final long SIZE = OffHeapPages.PAGE_SIZE + 42;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void resetPageAllocation() {
+        HugeArrays.PAGE_ALLOCATION.set(PageAllocation.HEAP);
+        HugeArrays.MAPPED_PAGES_DIRECTORY.set(Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    @Test
+    void shouldAllocateSmallArraysOnHeap() {
+        HugeArrays.PAGE_ALLOCATION.set(PageAllocation.OFF_HEAP);
+
+        assertThat(HugeLongArray.newArray(HugeArrays.MIN_OFF_HEAP_SIZE - 1)).isNotInstanceOf(OffHeapMemory.class);
+        assertThat(HugeLongArray.newArray(HugeArrays.MIN_OFF_HEAP_SIZE)).isInstanceOf(OffHeapMemory.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PageAllocation.class, names = {"OFF_HEAP", "MEMORY_MAPPED"})
+    void longArray(PageAllocation allocation) {
+        useAllocation(allocation);
+        var array = HugeLongArray.newArray(SIZE);
+        assertThat(array).isInstanceOf(HugeLongArray.OffHeapHugeLongArray.class);
+
+        array.setAll(index -> index * 2);
+        assertThat(array.binarySearch(41)).isEqualTo(20);
+        assertThat(array.binarySearch(OffHeapPages.PAGE_SIZE * 2L)).isEqualTo(OffHeapPages.PAGE_SIZE);
+
+        array.addTo(SIZE - 1, 1);
+        array.or(0, 0b101);
+        assertThat(array.get(0)).isEqualTo(0b101);
+        assertThat(array.get(OffHeapPages.PAGE_SIZE)).isEqualTo(OffHeapPages.PAGE_SIZE * 2L);
+        assertThat(array.get(SIZE - 1)).isEqualTo((SIZE - 1) * 2 + 1);
+
+        long expectedSum = 0L;
+        for (long i = 0; i < SIZE; i++) {
+            expectedSum += array.get(i);
+        }
+        assertThat(sum(array.newCursor(), array)).isEqualTo(expectedSum);
+
+        var copy = HugeLongArray.newArray(SIZE);
+        array.copyTo(copy, SIZE);
+        assertThat(copy.get(SIZE - 1)).isEqualTo(array.get(SIZE - 1));
+
+        var onHeap = HugeLongArray.newPagedArray(SIZE);
+        array.copyTo(onHeap, SIZE);
+        onHeap.copyTo(copy, 10);
+        assertThat(copy.get(9)).isEqualTo(18L);
+        assertThat(copy.get(10)).isEqualTo(0L);
+
+        int copied = array.copyFromArrayIntoSlice(new long[]{7L, 8L, 9L}, OffHeapPages.PAGE_SIZE - 1, SIZE);
+        assertThat(copied).isEqualTo(3);
+        assertThat(array.get(OffHeapPages.PAGE_SIZE - 1)).isEqualTo(7L);
+        assertThat(array.get(OffHeapPages.PAGE_SIZE + 1)).isEqualTo(9L);
+
+        assertThat(((OffHeapMemory) array).sizeOfOffHeap()).isEqualTo(SIZE * Long.BYTES);
+        assertThat(array.sizeOf()).isLessThan(SIZE);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PageAllocation.class, names = {"OFF_HEAP", "MEMORY_MAPPED"})
+    void doubleArray(PageAllocation allocation) {
+        useAllocation(allocation);
+        var array = HugeDoubleArray.newArray(SIZE);
+        assertThat(array).isInstanceOf(HugeDoubleArray.OffHeapHugeDoubleArray.class);
+
+        array.fill(0.5);
+        array.addTo(SIZE - 1, 1.0);
+        assertThat(array.get(SIZE - 1)).isEqualTo(1.5);
+        assertThat(array.stream().sum()).isEqualTo(SIZE * 0.5 + 1.0);
+        assertThat(array.toArray()).hasSize((int) SIZE).contains(1.5);
+        assertThat(((OffHeapMemory) array).sizeOfOffHeap()).isEqualTo(SIZE * Double.BYTES);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PageAllocation.class, names = {"OFF_HEAP", "MEMORY_MAPPED"})
+    void intArray(PageAllocation allocation) {
+        useAllocation(allocation);
+        var array = HugeIntArray.newArray(SIZE);
+        assertThat(array).isInstanceOf(HugeIntArray.OffHeapHugeIntArray.class);
+
+        array.set(OffHeapPages.PAGE_SIZE, 40);
+        assertThat(array.getAndAdd(OffHeapPages.PAGE_SIZE, 2)).isEqualTo(40);
+        assertThat(array.and(OffHeapPages.PAGE_SIZE, 0b1010)).isEqualTo(42 & 0b1010);
+        assertThat(array.copyOf(SIZE + 1).get(OffHeapPages.PAGE_SIZE)).isEqualTo(42 & 0b1010);
+        assertThat(((OffHeapMemory) array).sizeOfOffHeap()).isEqualTo(SIZE * Integer.BYTES);
+    }
+
+    @Test
+    void shouldReportOffHeapMemoryOfReachableArrays() {
+        HugeArrays.PAGE_ALLOCATION.set(PageAllocation.OFF_HEAP);
+        var arrays = List.of(HugeLongArray.newArray(SIZE), HugeIntArray.newArray(SIZE), HugeLongArray.newArray(42));
+
+        assertThat(MemoryUsage.sizeOfOffHeap(arrays)).isEqualTo(SIZE * (Long.BYTES + Integer.BYTES));
+    }
+
+    private void useAllocation(PageAllocation allocation) {
+        HugeArrays.PAGE_ALLOCATION.set(allocation);
+        HugeArrays.MAPPED_PAGES_DIRECTORY.set(tempDir);
+    }
+
+    private static long sum(HugeCursor<long[]> cursor, HugeLongArray array) {
+        long sum = 0L;
+        try (cursor) {
+            array.initCursor(cursor);
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    sum += cursor.array[i];
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -22,8 +22,10 @@ package org.neo4j.gds.utils;
 import org.apache.commons.text.CaseUtils;
 import org.jetbrains.annotations.TestOnly;
 
+import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 public enum GdsFeatureToggles {
@@ -103,6 +105,23 @@ public enum GdsFeatureToggles {
     );
     public static final AtomicInteger PAGES_PER_THREAD = new AtomicInteger(PAGES_PER_THREAD_FLAG);
 
+    // How many bytes of target ids and properties the import of a single relationship type may buffer
+    // on heap before pages are spilled to disk. Negative values disable spilling.
+    public static final long ADJACENCY_SPILL_BUDGET_DEFAULT_SETTING = -1L;
+    private static final long ADJACENCY_SPILL_BUDGET_FLAG = Long.getLong(
+        name(GdsFeatureToggles.class, "adjacencySpillBudget"),
+        ADJACENCY_SPILL_BUDGET_DEFAULT_SETTING
+    );
+    public static final AtomicLong ADJACENCY_SPILL_BUDGET = new AtomicLong(ADJACENCY_SPILL_BUDGET_FLAG);
+
+    // Directory for the temporary files of spilled relationship imports.
+    public static final AtomicReference<Path> ADJACENCY_SPILL_DIRECTORY = new AtomicReference<>(
+        Path.of(System.getProperty(
+            name(GdsFeatureToggles.class, "adjacencySpillDirectory"),
+            System.getProperty("java.io.tmpdir")
+        ))
+    );
+
 
     // Determines the packing strategy when adjacency packing is used.
     public enum AdjacencyPackingStrategy {
@@ -90,7 +90,12 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphProjectConfig> ex
             var sizeInBytes = MemoryUsage.sizeOf(graphStore);
             if (sizeInBytes >= 0) {
                 var memoryUsage = MemoryUsage.humanReadable(sizeInBytes);
-                return formatWithLocale("Actual memory usage of the loaded graph: %s", memoryUsage);
+                var offHeapMemoryUsage = MemoryUsage.humanReadable(MemoryUsage.sizeOfOffHeap(graphStore));
+                return formatWithLocale(
+                    "Actual memory usage of the loaded graph: %s (off-heap: %s)",
+                    memoryUsage,
+                    offHeapMemoryUsage
+                );
             } else {
                 return "Actual memory usage of the loaded graph could not be determined.";
             }
@@ -51,6 +51,19 @@ public interface GraphStore {
 
     ZonedDateTime modificationTime();
 
+    /**
+     * @return the number of changes made to this graph store since it was created,
+     *     such as added or removed labels, relationship types or properties
+     */
+    long mutationCount();
+
+    /**
+     * @return the number of changes made to the nodes or relationships of this graph store since it was created,
+     *     such as added node labels or added or removed relationship types;
+     *     changes to node or graph properties are not counted
+     */
+    long topologyChangeCount();
+
     Capabilities capabilities();
 
     // Graph Properties
@@ -69,6 +69,16 @@ public abstract class GraphStoreAdapter implements GraphStoreWrapper {
         return graphStore.modificationTime();
     }
 
+    @Override
+    public long mutationCount() {
+        return graphStore.mutationCount();
+    }
+
+    @Override
+    public long topologyChangeCount() {
+        return graphStore.topologyChangeCount();
+    }
+
 
     @Override
     public Set<String> graphPropertyKeys() {
@@ -23,10 +23,13 @@ import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.collections.ha.HugeByteArray;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeFloatMatrix;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.collections.ha.HugeObjectArray;
 
+import java.util.Optional;
+
 public final class NodePropertyValuesAdapter {
     private NodePropertyValuesAdapter() {}
 
@@ -50,6 +53,25 @@ public final class NodePropertyValuesAdapter {
         return ObjectNodePropertyValuesAdapter.adapt(hugeObjectArray);
     }
 
+    public static FloatArrayNodePropertyValues adapt(HugeFloatMatrix hugeFloatMatrix) {
+        return new FloatArrayNodePropertyValues() {
+            @Override
+            public float[] floatArrayValue(long nodeId) {
+                return hugeFloatMatrix.get(nodeId);
+            }
+
+            @Override
+            public long nodeCount() {
+                return hugeFloatMatrix.rows();
+            }
+
+            @Override
+            public Optional<Integer> dimension() {
+                return Optional.of(hugeFloatMatrix.dimension());
+            }
+        };
+    }
+
     public static LongNodePropertyValues adapt(HugeAtomicLongArray hugeAtomicLongArray) {
         return LongNodePropertyValuesAdapter.adapt(hugeAtomicLongArray);
     }
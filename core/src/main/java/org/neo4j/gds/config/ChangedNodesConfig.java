@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.config;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.api.GraphStore;
+
+import java.util.Collection;
+
+import static org.neo4j.gds.core.StringIdentifierValidations.emptyToNull;
+import static org.neo4j.gds.core.StringIdentifierValidations.validateNoWhiteCharacter;
+
+/**
+ * Marks the nodes that are affected by changes to the graph since the seeded communities were computed,
+ * for example the end nodes of added or removed relationships.
+ * Algorithms only re-evaluate the neighbourhood of those nodes instead of the whole graph.
+ */
+public interface ChangedNodesConfig extends SeedConfig {
+    String CHANGED_NODES_PROPERTY_KEY = "changedNodesProperty";
+
+    @Value.Default
+    @Configuration.ConvertWith(method = "validateChangedNodesPropertyName")
+    @Configuration.Key(CHANGED_NODES_PROPERTY_KEY)
+    default @Nullable String changedNodesProperty() {
+        return null;
+    }
+
+    static @Nullable String validateChangedNodesPropertyName(String input) {
+        return validateNoWhiteCharacter(emptyToNull(input), CHANGED_NODES_PROPERTY_KEY);
+    }
+
+    @Value.Check
+    default void validateChangedNodesRequireSeeding() {
+        if (changedNodesProperty() != null && !isIncremental()) {
+            throw new IllegalArgumentException(
+                "The `changedNodesProperty` option can only be used together with the `seedProperty` option.");
+        }
+    }
+
+    @Configuration.GraphStoreValidationCheck
+    default void validateChangedNodesProperty(
+        GraphStore graphStore,
+        Collection<NodeLabel> selectedLabels,
+        Collection<RelationshipType> selectedRelationshipTypes
+    ) {
+        String changedNodesProperty = changedNodesProperty();
+        if (changedNodesProperty != null) {
+            ConfigNodesValidations.validateNodePropertyExists(
+                graphStore,
+                selectedLabels,
+                "Changed nodes property",
+                changedNodesProperty
+            );
+        }
+    }
+}
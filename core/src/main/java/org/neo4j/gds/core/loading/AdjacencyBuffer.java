@@ -33,7 +33,10 @@ import org.neo4j.gds.core.compression.common.AdjacencyCompression;
 import org.neo4j.gds.core.compression.common.ZigZagLongDecoding;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -59,6 +62,10 @@ import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_PROPERTY_KEY;
  *     <li>Compresses raw records into compressed long arrays</li>
  *     <li>Creates tasks that write compressed long arrays into the final adjacency list using a specific compressor</li>
  * </ul>
+ *
+ * If {@link GdsFeatureToggles#ADJACENCY_SPILL_BUDGET} is set, each page may buffer its share of that budget on heap.
+ * A page that exceeds its share is spilled to a temporary file by {@link AdjacencySpill},
+ * and the spilled runs are merged back in when the page is compressed.
  */
 @Value.Style(typeBuilder = "AdjacencyBufferBuilder")
 public final class AdjacencyBuffer {
@@ -66,6 +73,8 @@ public final class AdjacencyBuffer {
     private final AdjacencyCompressorFactory adjacencyCompressorFactory;
     private final ReentrantLock[] chunkLocks;
     private final ChunkedAdjacencyLists[] chunkedAdjacencyLists;
+    private final AdjacencySpill @Nullable [] spills;
+    private final long spillThreshold;
     private final AdjacencyBufferPaging paging;
     private final LongAdder relationshipCounter;
     private final int[] propertyKeyIds;
@@ -100,13 +109,23 @@ public final class AdjacencyBuffer {
         //noinspection OptionalGetWithoutIsPresent -- pageSize is defined because we have a nodeCount
         var pageSize = importSizing.pageSize().getAsInt();
 
+        var chunkedAdjacencyLists = ChunkedAdjacencyLists
+            .memoryEstimation(avgDegree, pageSize, propertyCount)
+            .times(numberOfPages);
+
+        long spillBudget = GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.get();
+        if (spillBudget >= 0) {
+            // pages are spilled before their buffers exceed the budget
+            chunkedAdjacencyLists = MemoryEstimations.andThen(
+                chunkedAdjacencyLists,
+                range -> MemoryRange.of(Math.min(range.min, spillBudget), Math.min(range.max, spillBudget))
+            );
+        }
+
         return MemoryEstimations
             .builder(AdjacencyBuffer.class)
             .fixed("ChunkedAdjacencyLists pages", sizeOfObjectArray(numberOfPages))
-            .add(
-                "ChunkedAdjacencyLists",
-                ChunkedAdjacencyLists.memoryEstimation(avgDegree, pageSize, propertyCount).times(numberOfPages)
-            )
+            .add("ChunkedAdjacencyLists", chunkedAdjacencyLists)
             .build();
     }
 
@@ -138,11 +157,24 @@ public final class AdjacencyBuffer {
             ? new PagingWithKnownPageSize(pageSize.getAsInt())
             : new PagingWithUnknownPageSize(numPages);
 
+        long spillBudget = GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.get();
+        AdjacencySpill[] spills = null;
+        if (spillBudget >= 0) {
+            Path spillDirectory = GdsFeatureToggles.ADJACENCY_SPILL_DIRECTORY.get();
+            spills = new AdjacencySpill[numPages];
+            Arrays.setAll(
+                spills,
+                page -> new AdjacencySpill(spillDirectory, importMetaData.propertyKeyIds().length)
+            );
+        }
+
         return new AdjacencyBuffer(
             importMetaData,
             adjacencyCompressorFactory,
             chunkLocks,
             compressedAdjacencyLists,
+            spills,
+            spillBudget / numPages,
             paging,
             atLeastOnePropertyToLoad
         );
@@ -153,12 +185,16 @@ public final class AdjacencyBuffer {
         AdjacencyCompressorFactory adjacencyCompressorFactory,
         ReentrantLock[] chunkLocks,
         ChunkedAdjacencyLists[] chunkedAdjacencyLists,
+        AdjacencySpill @Nullable [] spills,
+        long spillThreshold,
         AdjacencyBufferPaging paging,
         boolean atLeastOnePropertyToLoad
     ) {
         this.adjacencyCompressorFactory = adjacencyCompressorFactory;
         this.chunkLocks = chunkLocks;
         this.chunkedAdjacencyLists = chunkedAdjacencyLists;
+        this.spills = spills;
+        this.spillThreshold = spillThreshold;
         this.paging = paging;
         this.relationshipCounter = adjacencyCompressorFactory.relationshipCounter();
         this.propertyKeyIds = importMetaData.propertyKeyIds();
@@ -225,6 +261,10 @@ public final class AdjacencyBuffer {
                     compressedTargets.add(localId, targets, propertyValues, startOffset, endOffset, targetsToImport);
                 }
 
+                if (spills != null && compressedTargets.bufferedBytes() > spillThreshold) {
+                    spill(pageIndex);
+                }
+
                 startOffset = endOffset;
             }
         } finally {
@@ -234,6 +274,36 @@ public final class AdjacencyBuffer {
         }
     }
 
+    // must be called while holding the lock of the page
+    private void spill(int pageIndex) {
+        var buffer = this.chunkedAdjacencyLists[pageIndex];
+        this.spills[pageIndex].spill(buffer);
+        this.chunkedAdjacencyLists[pageIndex] = ChunkedAdjacencyLists.of(
+            propertyKeyIds.length,
+            buffer.capacity()
+        );
+    }
+
+    /**
+     * Deletes the temporary files of all spilled pages.
+     * Spilled runs are deleted when their page is compressed, this also covers imports
+     * that fail or are terminated before all pages are compressed.
+     */
+    void deleteSpills() {
+        if (spills == null) {
+            return;
+        }
+        for (int page = 0; page < spills.length; page++) {
+            var lock = this.chunkLocks[page];
+            lock.lock();
+            try {
+                spills[page].delete();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
     Collection<AdjacencyListBuilderTask> adjacencyListBuilderTasks(
         Optional<AdjacencyCompressor.ValueMapper> mapper,
         Optional<LongConsumer> drainCountConsumer
@@ -247,6 +317,7 @@ public final class AdjacencyBuffer {
                 paging,
                 adjacencyCompressorFactory,
                 chunkedAdjacencyLists[page],
+                spills != null && !spills[page].isEmpty() ? Optional.of(spills[page]) : Optional.empty(),
                 relationshipCounter,
                 mapper.orElse(ZigZagLongDecoding.Identity.INSTANCE),
                 drainCountConsumer.orElse(n -> {})
@@ -281,6 +352,7 @@ public final class AdjacencyBuffer {
         private final AdjacencyBufferPaging paging;
         private final AdjacencyCompressorFactory adjacencyCompressorFactory;
         private final ChunkedAdjacencyLists chunkedAdjacencyLists;
+        private final Optional<AdjacencySpill> spill;
         private final LongAdder relationshipCounter;
         private final AdjacencyCompressor.ValueMapper valueMapper;
         private final LongConsumer drainCountConsumer;
@@ -290,6 +362,7 @@ public final class AdjacencyBuffer {
             AdjacencyBufferPaging paging,
             AdjacencyCompressorFactory adjacencyCompressorFactory,
             ChunkedAdjacencyLists chunkedAdjacencyLists,
+            Optional<AdjacencySpill> spill,
             LongAdder relationshipCounter,
             AdjacencyCompressor.ValueMapper valueMapper,
             LongConsumer drainCountConsumer
@@ -298,6 +371,7 @@ public final class AdjacencyBuffer {
             this.paging = paging;
             this.adjacencyCompressorFactory = adjacencyCompressorFactory;
             this.chunkedAdjacencyLists = chunkedAdjacencyLists;
+            this.spill = spill;
             this.valueMapper = valueMapper;
             this.drainCountConsumer = drainCountConsumer;
             this.relationshipCounter = relationshipCounter;
@@ -306,27 +380,34 @@ public final class AdjacencyBuffer {
         @Override
         public void run() {
             try (var compressor = adjacencyCompressorFactory.createCompressor()) {
-                var buffer = new LongArrayBuffer();
                 var importedRelationships = new MutableLong(0L);
-                chunkedAdjacencyLists.consume((localId, targets, properties, compressedByteSize, numberOfCompressedTargets) -> {
-                    var sourceNodeId = this.paging.sourceNodeId(localId, this.page);
-                    var nodeId = valueMapper.map(sourceNodeId);
-
-                    AdjacencyCompression.zigZagUncompressFrom(
-                        buffer,
-                        targets,
-                        numberOfCompressedTargets,
-                        compressedByteSize,
-                        valueMapper
-                    );
-
-                    importedRelationships.add(compressor.compress(
-                        nodeId,
-                        buffer.buffer,
-                        properties,
-                        numberOfCompressedTargets
-                    ));
-                });
+                if (spill.isPresent()) {
+                    spill.get().consume(chunkedAdjacencyLists, valueMapper, (localId, targets, properties, length) -> {
+                        var nodeId = valueMapper.map(this.paging.sourceNodeId(localId, this.page));
+                        importedRelationships.add(compressor.compress(nodeId, targets, properties, length));
+                    });
+                } else {
+                    var buffer = new LongArrayBuffer();
+                    chunkedAdjacencyLists.consume((localId, targets, properties, compressedByteSize, numberOfCompressedTargets) -> {
+                        var sourceNodeId = this.paging.sourceNodeId(localId, this.page);
+                        var nodeId = valueMapper.map(sourceNodeId);
+
+                        AdjacencyCompression.zigZagUncompressFrom(
+                            buffer,
+                            targets,
+                            numberOfCompressedTargets,
+                            compressedByteSize,
+                            valueMapper
+                        );
+
+                        importedRelationships.add(compressor.compress(
+                            nodeId,
+                            buffer.buffer,
+                            properties,
+                            numberOfCompressedTargets
+                        ));
+                    });
+                }
                 relationshipCounter.add(importedRelationships.longValue());
                 drainCountConsumer.accept(importedRelationships.longValue());
             }
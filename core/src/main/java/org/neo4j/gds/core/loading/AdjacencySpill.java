@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.compress.AdjacencyCompressor;
+import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Moves the buffered adjacency lists of one {@link AdjacencyBuffer} page to a temporary file
+ * and merges them back in when the page is compressed.
+ * <p>
+ * Every spill appends one run to the file. A run contains the buffered nodes of the page in ascending local id order,
+ * each with its targets in the zig-zag delta encoding of {@link ChunkedAdjacencyLists} followed by its properties.
+ * Since every run is sorted, the runs and the remaining in-memory buffer are merged in a single pass.
+ */
+final class AdjacencySpill {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final int ENTRY_HEADER_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final int numberOfProperties;
+    private final LongArrayList runOffsets;
+
+    private @Nullable Path file;
+    private long fileSize;
+
+    AdjacencySpill(Path directory, int numberOfProperties) {
+        this.directory = directory;
+        this.numberOfProperties = numberOfProperties;
+        this.runOffsets = new LongArrayList();
+    }
+
+    boolean isEmpty() {
+        return runOffsets.isEmpty();
+    }
+
+    int numberOfRuns() {
+        return runOffsets.size();
+    }
+
+    /**
+     * Drains the given buffer into a new run. The buffer cannot be used afterwards.
+     */
+    void spill(ChunkedAdjacencyLists buffer) {
+        try {
+            if (file == null) {
+                file = Files.createTempFile(directory, "gds-adjacency-", ".spill");
+            }
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                file,
+                StandardOpenOption.APPEND
+            )))) {
+                runOffsets.add(fileSize);
+                buffer.consume((localId, targets, properties, compressedByteSize, numberOfCompressedTargets) -> {
+                    try {
+                        out.writeLong(localId);
+                        out.writeInt(numberOfCompressedTargets);
+                        out.writeInt(compressedByteSize);
+                        out.write(targets, 0, compressedByteSize);
+                        for (int propertyIndex = 0; propertyIndex < numberOfProperties; propertyIndex++) {
+                            var values = properties[propertyIndex];
+                            for (int i = 0; i < numberOfCompressedTargets; i++) {
+                                out.writeLong(values[i]);
+                            }
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    fileSize += ENTRY_HEADER_SIZE
+                                + compressedByteSize
+                                + (long) numberOfCompressedTargets * numberOfProperties * Long.BYTES;
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Merges all spilled runs with the given in-memory buffer and passes the complete,
+     * uncompressed adjacency list of every node to the consumer, in ascending local id order.
+     * The temporary file is deleted afterwards.
+     */
+    void consume(
+        ChunkedAdjacencyLists inMemory,
+        AdjacencyCompressor.ValueMapper valueMapper,
+        Consumer consumer
+    ) {
+        assert file != null;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // ties are broken by run, so that every node sees its targets in import order
+            var runs = new PriorityQueue<>(Comparator
+                .comparingLong((RunReader run) -> run.localId)
+                .thenComparingInt(run -> run.index));
+            for (int run = 0; run < runOffsets.size(); run++) {
+                long end = run + 1 < runOffsets.size() ? runOffsets.get(run + 1) : fileSize;
+                var reader = new RunReader(channel, run, runOffsets.get(run), end);
+                if (reader.next()) {
+                    runs.add(reader);
+                }
+            }
+
+            var merged = new MergeBuffer(numberOfProperties, valueMapper);
+            inMemory.consume((localId, targets, properties, compressedByteSize, numberOfCompressedTargets) -> {
+                try {
+                    emitSpilledBefore(localId, runs, merged, consumer);
+                    merged.reset();
+                    appendSpilled(localId, runs, merged);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                merged.append(targets, compressedByteSize, numberOfCompressedTargets, properties);
+                consumer.accept(localId, merged.targets, merged.properties, merged.length);
+            });
+            emitSpilledBefore(Long.MAX_VALUE, runs, merged, consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            delete();
+        }
+    }
+
+    void delete() {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            file = null;
+        }
+    }
+
+    private static void emitSpilledBefore(
+        long bound,
+        PriorityQueue<RunReader> runs,
+        MergeBuffer merged,
+        Consumer consumer
+    ) throws IOException {
+        while (!runs.isEmpty() && runs.peek().localId < bound) {
+            long localId = runs.peek().localId;
+            merged.reset();
+            appendSpilled(localId, runs, merged);
+            consumer.accept(localId, merged.targets, merged.properties, merged.length);
+        }
+    }
+
+    private static void appendSpilled(long localId, PriorityQueue<RunReader> runs, MergeBuffer merged) throws IOException {
+        while (!runs.isEmpty() && runs.peek().localId == localId) {
+            var run = runs.poll();
+            run.appendTo(merged);
+            if (run.next()) {
+                runs.add(run);
+            }
+        }
+    }
+
+    interface Consumer {
+        void accept(long localId, long[] targets, long[] @Nullable [] properties, int length);
+    }
+
+    /**
+     * Collects the uncompressed targets and properties of a single node from multiple runs.
+     */
+    private static final class MergeBuffer {
+        private final AdjacencyCompressor.ValueMapper valueMapper;
+        private final long[] @Nullable [] properties;
+        private long[] targets;
+        private long[] decoded;
+        private byte[] compressed;
+        private int length;
+
+        MergeBuffer(int numberOfProperties, AdjacencyCompressor.ValueMapper valueMapper) {
+            this.valueMapper = valueMapper;
+            this.targets = new long[0];
+            this.decoded = new long[0];
+            this.compressed = new byte[0];
+            if (numberOfProperties > 0) {
+                this.properties = new long[numberOfProperties][0];
+            } else {
+                this.properties = null;
+            }
+        }
+
+        void reset() {
+            length = 0;
+        }
+
+        void append(byte[] compressedTargets, int compressedByteSize, int count, long[] @Nullable [] values) {
+            ensureCapacity(count);
+            decode(compressedTargets, compressedByteSize, count);
+            if (properties != null) {
+                for (int propertyIndex = 0; propertyIndex < properties.length; propertyIndex++) {
+                    System.arraycopy(values[propertyIndex], 0, properties[propertyIndex], length, count);
+                }
+            }
+            length += count;
+        }
+
+        private void ensureCapacity(int additional) {
+            int required = length + additional;
+            if (targets.length < required) {
+                int newLength = Math.max(required, targets.length + (targets.length >> 1));
+                targets = Arrays.copyOf(targets, newLength);
+                if (properties != null) {
+                    for (int propertyIndex = 0; propertyIndex < properties.length; propertyIndex++) {
+                        properties[propertyIndex] = Arrays.copyOf(properties[propertyIndex], newLength);
+                    }
+                }
+            }
+        }
+
+        private void decode(byte[] compressedTargets, int compressedByteSize, int count) {
+            if (decoded.length < count) {
+                decoded = new long[count];
+            }
+            AdjacencyCompression.zigZagUncompressFrom(decoded, compressedTargets, count, compressedByteSize, valueMapper);
+            System.arraycopy(decoded, 0, targets, length, count);
+        }
+
+        private byte[] compressedBuffer(int size) {
+            if (compressed.length < size) {
+                compressed = new byte[size];
+            }
+            return compressed;
+        }
+    }
+
+    /**
+     * Reads the entries of one run through positional reads on a channel that is shared by all runs of the file.
+     */
+    private static final class RunReader {
+        private final FileChannel channel;
+        private final int index;
+        private final ByteBuffer buffer;
+        private final long end;
+        private long position;
+
+        long localId;
+        private int count;
+        private int compressedByteSize;
+
+        RunReader(FileChannel channel, int index, long start, long end) {
+            this.channel = channel;
+            this.index = index;
+            this.buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            this.buffer.limit(0);
+            this.position = start;
+            this.end = end;
+        }
+
+        boolean next() throws IOException {
+            if (position == end && !buffer.hasRemaining()) {
+                return false;
+            }
+            fill(ENTRY_HEADER_SIZE);
+            localId = buffer.getLong();
+            count = buffer.getInt();
+            compressedByteSize = buffer.getInt();
+            return true;
+        }
+
+        void appendTo(MergeBuffer merged) throws IOException {
+            var compressed = merged.compressedBuffer(compressedByteSize);
+            int offset = 0;
+            while (offset < compressedByteSize) {
+                fill(1);
+                int bytes = Math.min(buffer.remaining(), compressedByteSize - offset);
+                buffer.get(compressed, offset, bytes);
+                offset += bytes;
+            }
+
+            merged.ensureCapacity(count);
+            merged.decode(compressed, compressedByteSize, count);
+            if (merged.properties != null) {
+                for (long[] values : merged.properties) {
+                    for (int i = 0; i < count; i++) {
+                        fill(Long.BYTES);
+                        values[merged.length + i] = buffer.getLong();
+                    }
+                }
+            }
+            merged.length += count;
+        }
+
+        private void fill(int required) throws IOException {
+            if (buffer.remaining() >= required) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < required) {
+                int bytesToRead = (int) Math.min(buffer.remaining(), end - position);
+                if (bytesToRead <= 0) {
+                    throw new EOFException("Unexpected end of spilled adjacency run.");
+                }
+                buffer.limit(buffer.position() + bytesToRead);
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of spilled adjacency run.");
+                }
+                position += read;
+                buffer.limit(buffer.capacity());
+            }
+            buffer.flip();
+        }
+    }
+}
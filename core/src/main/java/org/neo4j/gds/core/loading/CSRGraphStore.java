@@ -65,6 +65,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -95,6 +96,10 @@ public final class CSRGraphStore implements GraphStore {
 
     private ZonedDateTime modificationTime;
 
+    private final AtomicLong mutationCount = new AtomicLong();
+
+    private final AtomicLong topologyChangeCount = new AtomicLong();
+
     private CSRGraphStore(
         DatabaseInfo databaseInfo,
         Capabilities capabilities,
@@ -159,6 +164,16 @@ public final class CSRGraphStore implements GraphStore {
         return modificationTime;
     }
 
+    @Override
+    public long mutationCount() {
+        return mutationCount.get();
+    }
+
+    @Override
+    public long topologyChangeCount() {
+        return topologyChangeCount.get();
+    }
+
     @Override
     public Capabilities capabilities() {
         return capabilities;
@@ -247,7 +262,7 @@ public final class CSRGraphStore implements GraphStore {
 
     @Override
     public void addNodeLabel(NodeLabel nodeLabel) {
-        updateGraphStore(graphStore -> {
+        updateTopology(graphStore -> {
             nodes.addNodeLabel(nodeLabel);
             var nodeSchema = schema.nodeSchema();
             schema.nodeSchema().addLabel(nodeLabel, nodeSchema.unionProperties());
@@ -418,9 +433,17 @@ public final class CSRGraphStore implements GraphStore {
             );
     }
 
+    /**
+     * Returns the topology and properties of the given relationship type as they are stored,
+     * which allows sharing them with another graph store without copying.
+     */
+    public Optional<SingleTypeRelationships> relationships(RelationshipType relationshipType) {
+        return Optional.ofNullable(relationships.get(relationshipType));
+    }
+
     @Override
     public void addRelationshipType(SingleTypeRelationships relationships) {
-        updateGraphStore(graphStore -> {
+        updateTopology(graphStore -> {
             graphStore.relationships.computeIfAbsent(relationships.relationshipSchemaEntry().identifier(), __ -> {
                 schema.relationshipSchema().set(relationships.relationshipSchemaEntry());
                 return relationships;
@@ -446,7 +469,7 @@ public final class CSRGraphStore implements GraphStore {
 
     @Override
     public DeletionResult deleteRelationships(RelationshipType relationshipType) {
-        return DeletionResult.of(builder -> updateGraphStore(graphStore -> {
+        return DeletionResult.of(builder -> updateTopology(graphStore -> {
             Optional.ofNullable(graphStore.relationships.remove(relationshipType)).ifPresentOrElse(relationship -> {
                 builder.deletedRelationships(relationship.topology().elementCount());
                 relationship.properties().ifPresent(properties -> {
@@ -578,6 +601,12 @@ public final class CSRGraphStore implements GraphStore {
     private synchronized void updateGraphStore(Consumer<CSRGraphStore> updateFunction) {
         updateFunction.accept(this);
         this.modificationTime = TimeUtil.now();
+        this.mutationCount.incrementAndGet();
+    }
+
+    private synchronized void updateTopology(Consumer<CSRGraphStore> updateFunction) {
+        updateGraphStore(updateFunction);
+        this.topologyChangeCount.incrementAndGet();
     }
 
     private CSRGraph createGraph(
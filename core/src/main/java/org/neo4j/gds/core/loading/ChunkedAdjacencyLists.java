@@ -53,6 +53,9 @@ public final class ChunkedAdjacencyLists {
     private final HugeSparseLongList lastValues;
     private final HugeSparseIntList lengths;
 
+    // bytes held by the target and property arrays, used to decide when to spill
+    private long bufferedBytes;
+
     public static MemoryEstimation memoryEstimation(long avgDegree, long nodeCount, int propertyCount) {
         // Best case scenario:
         // Difference between node identifiers in each adjacency list is 1.
@@ -199,6 +202,7 @@ public final class ChunkedAdjacencyLists {
         } else if (compressedTargets.length <= targetLength) {
             int newLength = BitUtil.nextHighestPowerOfTwo(targetLength);
 //            int newLength = ArrayUtil.oversize(pos + required, Byte.BYTES);
+            this.bufferedBytes += newLength - compressedTargets.length;
             compressedTargets = Arrays.copyOf(compressedTargets, newLength);
             this.targetLists.set(index, compressedTargets);
         }
@@ -222,6 +226,7 @@ public final class ChunkedAdjacencyLists {
         } else if (currentProperties.length <= pos + required) {
 //            int newLength = ArrayUtil.oversize(pos + required, Long.BYTES);
             int newLength = BitUtil.nextHighestPowerOfTwo(pos + required);
+            this.bufferedBytes += (long) (newLength - currentProperties.length) * Long.BYTES;
             currentProperties = Arrays.copyOf(currentProperties, newLength);
             this.properties[propertyIndex].set(index, currentProperties);
         }
@@ -229,6 +234,13 @@ public final class ChunkedAdjacencyLists {
         return currentProperties;
     }
 
+    /**
+     * The number of bytes held by the buffered target and property arrays.
+     */
+    public long bufferedBytes() {
+        return bufferedBytes;
+    }
+
     public long capacity() {
         return targetLists.capacity();
     }
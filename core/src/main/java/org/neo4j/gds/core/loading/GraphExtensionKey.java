@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.ElementIdentifier;
+import org.neo4j.gds.api.Graph;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Builds the keys of {@link GraphStoreCatalog} extensions that are derived from a graph view,
+ * that is the node labels, relationship types and relationship property a query filters the graph store by.
+ * Changes to the graph store itself discard its extensions and need not be part of the key.
+ */
+public final class GraphExtensionKey {
+
+    private GraphExtensionKey() {}
+
+    /**
+     * @param extensionName        the kind of extension, for example {@code "landmarks"}
+     * @param graph                the graph view the extension is derived from
+     * @param relationshipProperty the relationship property the graph view was created with
+     * @param parameters           any other parameters the extension depends on
+     */
+    public static String of(
+        String extensionName,
+        Graph graph,
+        Optional<String> relationshipProperty,
+        Map<String, ?> parameters
+    ) {
+        var schema = graph.schema();
+        var sortedParameters = new TreeMap<String, Object>(parameters)
+            .entrySet()
+            .stream()
+            .map(parameter -> "|" + parameter.getKey() + "=" + parameter.getValue())
+            .collect(Collectors.joining());
+        return formatWithLocale(
+            "%s[labels=%s|types=%s|relationshipProperty=%s|inverseIndexed=%s%s]",
+            extensionName,
+            sortedNames(schema.nodeSchema().availableLabels()),
+            sortedNames(schema.relationshipSchema().availableTypes()),
+            relationshipProperty.orElse(""),
+            graph.characteristics().isInverseIndexed(),
+            sortedParameters
+        );
+    }
+
+    private static String sortedNames(Collection<? extends ElementIdentifier> identifiers) {
+        return identifiers
+            .stream()
+            .map(ElementIdentifier::name)
+            .sorted()
+            .collect(Collectors.joining(","));
+    }
+}
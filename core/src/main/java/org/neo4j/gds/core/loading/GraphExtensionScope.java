@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.GraphStore;
+
+/**
+ * Describes which changes to a graph store discard a {@link GraphStoreCatalog} extension derived from it.
+ */
+public enum GraphExtensionScope {
+    /**
+     * The extension is derived from nodes and relationships only.
+     * It is kept when node or graph properties are added or removed.
+     */
+    TOPOLOGY {
+        @Override
+        long changeCount(GraphStore graphStore) {
+            return graphStore.topologyChangeCount();
+        }
+    },
+    /**
+     * The extension may be derived from any part of the graph, including node properties.
+     * It is discarded by every change to the graph store.
+     */
+    GRAPH {
+        @Override
+        long changeCount(GraphStore graphStore) {
+            return graphStore.mutationCount();
+        }
+    };
+
+    abstract long changeCount(GraphStore graphStore);
+}
@@ -37,7 +37,10 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -259,6 +262,66 @@ public final class GraphStoreCatalog {
         );
     }
 
+    /**
+     * Returns the extension stored under {@code extensionKey} next to the given graph,
+     * computing it from the graph store if it is absent.
+     * Extensions hold data that is derived from a graph, such as indexes over node properties.
+     * They are discarded whenever the graph is replaced or removed from the catalog,
+     * and whenever it is changed in a way that the {@code scope} of the extension covers.
+     * Use {@link GraphExtensionKey} to key extensions that are derived from a graph view rather than the whole graph.
+     * Concurrent calls for the same extension wait for a single computation, while other extensions remain available.
+     */
+    public static <T> T computeExtensionIfAbsent(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String extensionKey,
+        GraphExtensionScope scope,
+        Class<T> extensionType,
+        Function<GraphStore, ? extends T> extensionFactory
+    ) {
+        var extension = getUserCatalog(username).computeExtensionIfAbsent(
+            UserCatalog.UserCatalogKey.of(databaseId, graphName),
+            extensionKey,
+            scope,
+            extensionFactory
+        );
+        return castExtension(extension, extensionKey, extensionType);
+    }
+
+    public static <T> Optional<T> getExtension(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String extensionKey,
+        Class<T> extensionType
+    ) {
+        return getUserCatalog(username)
+            .getExtension(UserCatalog.UserCatalogKey.of(databaseId, graphName), extensionKey)
+            .map(extension -> castExtension(extension, extensionKey, extensionType));
+    }
+
+    public static void removeExtension(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String extensionKey
+    ) {
+        getUserCatalog(username).removeExtension(UserCatalog.UserCatalogKey.of(databaseId, graphName), extensionKey);
+    }
+
+    private static <T> T castExtension(Object extension, String extensionKey, Class<T> extensionType) {
+        if (!extensionType.isInstance(extension)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The graph extension `%s` is of type `%s`, not `%s`.",
+                extensionKey,
+                extension.getClass().getSimpleName(),
+                extensionType.getSimpleName()
+            ));
+        }
+        return extensionType.cast(extension);
+    }
+
     public static void removeAllLoadedGraphs() {
         userCatalogs.clear();
     }
@@ -320,6 +383,8 @@ public final class GraphStoreCatalog {
 
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
+        private final Map<UserCatalogKey, GraphExtensions> extensionsByName = new ConcurrentHashMap<>();
+
         private void set(
             UserCatalogKey userCatalogKey,
             GraphProjectConfig config,
@@ -340,6 +405,7 @@ public final class GraphStoreCatalog {
                 );
             }
             graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            extensionsByName.remove(userCatalogKey);
         }
 
         private void setDegreeDistribution(UserCatalogKey userCatalogKey, Map<String, Object> degreeDistribution) {
@@ -362,6 +428,69 @@ public final class GraphStoreCatalog {
             degreeDistributionByName.remove(userCatalogKey);
         }
 
+        private Object computeExtensionIfAbsent(
+            UserCatalogKey userCatalogKey,
+            String extensionKey,
+            GraphExtensionScope scope,
+            Function<GraphStore, ?> extensionFactory
+        ) {
+            var graphStore = get(userCatalogKey, true).graphStore();
+            // extensions computed for a graph store that has since been replaced are discarded
+            var extensions = extensionsByName.compute(
+                userCatalogKey,
+                (key, current) -> current != null && current.graphStore == graphStore
+                    ? current
+                    : new GraphExtensions(graphStore)
+            );
+            while (true) {
+                // the map only holds a placeholder while the extension is computed,
+                // so that long computations block neither the map nor other extensions
+                var placeholder = new GraphExtension(graphStore, scope, extensionFactory);
+                // an extension computed before a change that its scope covers is discarded as well
+                var extension = extensions.values.compute(
+                    extensionKey,
+                    (key, current) -> current != null && current.isValidFor(graphStore) ? current : placeholder
+                );
+                if (extension == placeholder) {
+                    placeholder.value.run();
+                }
+                try {
+                    return extension.value.get();
+                } catch (ExecutionException e) {
+                    extensions.values.remove(extensionKey, extension);
+                    if (extension == placeholder) {
+                        ExceptionUtil.throwIfUnchecked(e.getCause());
+                        throw new RuntimeException(e.getCause());
+                    }
+                    // another caller failed to compute the extension and reports its failure, so try again
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+
+        private Optional<Object> getExtension(UserCatalogKey userCatalogKey, String extensionKey) {
+            var graphStoreWithConfig = graphsByName.get(userCatalogKey);
+            var extensions = extensionsByName.get(userCatalogKey);
+            if (graphStoreWithConfig == null || extensions == null) {
+                return Optional.empty();
+            }
+            var graphStore = graphStoreWithConfig.graphStore();
+            var extension = extensions.values.get(extensionKey);
+            if (extensions.graphStore != graphStore || extension == null || !extension.isValidFor(graphStore)) {
+                return Optional.empty();
+            }
+            return extension.completedValue();
+        }
+
+        private void removeExtension(UserCatalogKey userCatalogKey, String extensionKey) {
+            var extensions = extensionsByName.get(userCatalogKey);
+            if (extensions != null) {
+                extensions.values.remove(extensionKey);
+            }
+        }
+
         private @Nullable GraphStoreWithConfig get(UserCatalogKey userCatalogKey, boolean failOnMissing) {
             var graphStoreWithConfig = graphsByName.get(userCatalogKey);
 
@@ -404,6 +533,7 @@ public final class GraphStoreCatalog {
                 .map(graphStoreWithConfig -> {
                     removedGraphConsumer.accept(graphStoreWithConfig);
                     removeDegreeDistribution(userCatalogKey);
+                    extensionsByName.remove(userCatalogKey);
                     graphsByName.remove(userCatalogKey);
                     return Boolean.TRUE;
                 })
@@ -412,6 +542,7 @@ public final class GraphStoreCatalog {
 
         private void remove(String databaseName) {
             graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+            extensionsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
         }
 
         private Stream<GraphStoreWithUserNameAndConfig> streamGraphStores(String userName) {
@@ -449,6 +580,47 @@ public final class GraphStoreCatalog {
                     )
                 );
         }
+
+        private static final class GraphExtensions {
+            private final GraphStore graphStore;
+            private final Map<String, GraphExtension> values = new ConcurrentHashMap<>();
+
+            private GraphExtensions(GraphStore graphStore) {
+                this.graphStore = graphStore;
+            }
+        }
+
+        private static final class GraphExtension {
+            private final FutureTask<Object> value;
+            private final GraphExtensionScope scope;
+            // read before the extension is computed, so that a concurrent change invalidates it afterwards
+            private final long changeCount;
+
+            private GraphExtension(
+                GraphStore graphStore,
+                GraphExtensionScope scope,
+                Function<GraphStore, ?> extensionFactory
+            ) {
+                this.value = new FutureTask<>(() -> extensionFactory.apply(graphStore));
+                this.scope = scope;
+                this.changeCount = scope.changeCount(graphStore);
+            }
+
+            private boolean isValidFor(GraphStore graphStore) {
+                return changeCount == scope.changeCount(graphStore);
+            }
+
+            private Optional<Object> completedValue() {
+                if (!value.isDone()) {
+                    return Optional.empty();
+                }
+                try {
+                    return Optional.ofNullable(value.get());
+                } catch (ExecutionException | InterruptedException e) {
+                    return Optional.empty();
+                }
+            }
+        }
     }
 
 }
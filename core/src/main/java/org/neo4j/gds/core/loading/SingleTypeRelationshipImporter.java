@@ -105,6 +105,14 @@ public final class SingleTypeRelationshipImporter {
         return adjacencyBuffer.adjacencyListBuilderTasks(mapper, drainCountConsumer);
     }
 
+    /**
+     * Deletes any adjacency lists that were spilled to disk and not yet compressed.
+     * Must be called when the import ends, whether or not it succeeded.
+     */
+    public void deleteSpills() {
+        adjacencyBuffer.deleteSpills();
+    }
+
     public <PROPERTY_REF> ThreadLocalSingleTypeRelationshipImporter<PROPERTY_REF> threadLocalImporter(
         RelationshipsBatchBuffer<PROPERTY_REF> relationshipsBatchBuffer,
         PropertyReader<PROPERTY_REF> propertyReader
@@ -133,6 +133,8 @@ abstract class SingleTypeRelationshipsBuilder {
 
     abstract SingleTypeRelationships singleTypeRelationshipImportResult();
 
+    abstract void deleteSpills();
+
     PartialIdMap partialIdMap() {
         return idMap;
     }
@@ -143,11 +145,15 @@ abstract class SingleTypeRelationshipsBuilder {
     ) {
         var adjacencyListBuilderTasks = adjacencyListBuilderTasks(mapper, drainCountConsumer);
 
-        RunWithConcurrency.builder()
-            .concurrency(concurrency)
-            .tasks(adjacencyListBuilderTasks)
-            .executor(executorService)
-            .run();
+        try {
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(adjacencyListBuilderTasks)
+                .executor(executorService)
+                .run();
+        } finally {
+            deleteSpills();
+        }
 
         return singleTypeRelationshipImportResult();
     }
@@ -252,6 +258,11 @@ abstract class SingleTypeRelationshipsBuilder {
             return importer.adjacencyListBuilderTasks(mapper, drainCountConsumer);
         }
 
+        @Override
+        void deleteSpills() {
+            importer.deleteSpills();
+        }
+
         @Override
         SingleTypeRelationships singleTypeRelationshipImportResult() {
             var adjacencyListsWithProperties = importer.build();
@@ -331,6 +342,15 @@ abstract class SingleTypeRelationshipsBuilder {
             return Stream.concat(forwardTasks.stream(), reverseTasks.stream()).collect(Collectors.toList());
         }
 
+        @Override
+        void deleteSpills() {
+            try {
+                forwardImporter.deleteSpills();
+            } finally {
+                inverseImporter.deleteSpills();
+            }
+        }
+
         @Override
         SingleTypeRelationships singleTypeRelationshipImportResult() {
             var forwardListWithProperties = forwardImporter.build();
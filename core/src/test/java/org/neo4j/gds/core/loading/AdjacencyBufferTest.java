@@ -20,11 +20,27 @@
 package org.neo4j.gds.core.loading;
 
 import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
 
 class AdjacencyBufferTest {
 
@@ -45,6 +61,79 @@ class AdjacencyBufferTest {
         assertThat((double) max1 / max2).isCloseTo((double) max2 / max3, Percentage.withPercentage(20));
     }
 
+    @Test
+    void memoryEstimationShouldBeBoundedBySpillBudget() {
+        var unbounded = estimate(10_000_000, 10, 1, 4).memoryUsage();
+
+        GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.set(1_000_000);
+        var bounded = estimate(10_000_000, 10, 1, 4).memoryUsage();
+
+        assertThat(unbounded.max).isGreaterThan(1_000_000);
+        assertThat(bounded.max).isLessThan(unbounded.max).isLessThan(1_100_000);
+    }
+
+    @Test
+    void shouldImportTheSameGraphWhenSpillingToDisk(@TempDir Path tempDir) throws IOException {
+        var expected = generateGraph();
+
+        GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.set(16 * 1024);
+        GdsFeatureToggles.ADJACENCY_SPILL_DIRECTORY.set(tempDir);
+        var actual = generateGraph();
+
+        assertGraphEquals(expected, actual);
+        try (var spillFiles = Files.list(tempDir)) {
+            assertThat(spillFiles).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldDeleteSpilledRunsWhenTheImportFails(@TempDir Path tempDir) throws IOException {
+        var graph = generateGraph();
+
+        GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.set(16 * 1024);
+        GdsFeatureToggles.ADJACENCY_SPILL_DIRECTORY.set(tempDir);
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(graph)
+            .relationshipType(RelationshipType.of("REL"))
+            .build();
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                relationshipsBuilder.add(graph.toOriginalNodeId(source), graph.toOriginalNodeId(target));
+                return true;
+            });
+            return true;
+        });
+
+        assertThatThrownBy(() -> relationshipsBuilder.build(
+            Optional.of(value -> {
+                throw new IllegalStateException("compression failed");
+            }),
+            Optional.empty()
+        )).hasStackTraceContaining("compression failed");
+
+        try (var spillFiles = Files.list(tempDir)) {
+            assertThat(spillFiles).isEmpty();
+        }
+    }
+
+    @AfterEach
+    void resetSpilling() {
+        GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.set(GdsFeatureToggles.ADJACENCY_SPILL_BUDGET_DEFAULT_SETTING);
+        GdsFeatureToggles.ADJACENCY_SPILL_DIRECTORY.set(Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    private static Graph generateGraph() {
+        return RandomGraphGenerator
+            .builder()
+            .nodeCount(10_000)
+            .averageDegree(20)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0, 1))
+            .seed(42L)
+            .build()
+            .generate();
+    }
+
     private MemoryTree estimate(long nodeCount, long avgDegree, int propertyCount, int concurrency) {
         var dimensions = ImmutableGraphDimensions
             .builder()
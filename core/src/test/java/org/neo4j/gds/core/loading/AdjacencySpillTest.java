@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.core.compression.common.ZigZagLongDecoding;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdjacencySpillTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMergeSpilledRunsWithInMemoryBuffer() throws IOException {
+        var spill = new AdjacencySpill(tempDir, 1);
+
+        var first = ChunkedAdjacencyLists.of(1, 0);
+        first.add(0, new long[]{42L, 1337L}, new long[][]{{1L, 2L}}, 0, 2, 2);
+        first.add(3, new long[]{7L}, new long[][]{{3L}}, 0, 1, 1);
+        spill.spill(first);
+
+        var second = ChunkedAdjacencyLists.of(1, 0);
+        second.add(1, new long[]{5L}, new long[][]{{4L}}, 0, 1, 1);
+        second.add(3, new long[]{8L, 9L}, new long[][]{{5L, 6L}}, 0, 2, 2);
+        spill.spill(second);
+
+        var inMemory = ChunkedAdjacencyLists.of(1, 0);
+        inMemory.add(0, new long[]{23L}, new long[][]{{7L}}, 0, 1, 1);
+        inMemory.add(2, new long[]{11L}, new long[][]{{8L}}, 0, 1, 1);
+
+        assertThat(spill.numberOfRuns()).isEqualTo(2);
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).hasSize(1);
+        }
+
+        var nodes = new ArrayList<Long>();
+        var targets = new ArrayList<long[]>();
+        var properties = new ArrayList<long[]>();
+        spill.consume(inMemory, ZigZagLongDecoding.Identity.INSTANCE, (localId, nodeTargets, nodeProperties, length) -> {
+            nodes.add(localId);
+            targets.add(Arrays.copyOf(nodeTargets, length));
+            properties.add(Arrays.copyOf(nodeProperties[0], length));
+        });
+
+        assertThat(nodes).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(targets).containsExactly(
+            new long[]{42L, 1337L, 23L},
+            new long[]{5L},
+            new long[]{11L},
+            new long[]{7L, 8L, 9L}
+        );
+        assertThat(properties).containsExactly(
+            new long[]{1L, 2L, 7L},
+            new long[]{4L},
+            new long[]{8L},
+            new long[]{3L, 5L, 6L}
+        );
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldApplyValueMapperToSpilledTargets() {
+        var spill = new AdjacencySpill(tempDir, 0);
+
+        var buffer = ChunkedAdjacencyLists.of(0, 0);
+        buffer.add(0, new long[]{1L, 2L, 3L}, 0, 3, 3);
+        spill.spill(buffer);
+
+        List<long[]> targets = new ArrayList<>();
+        spill.consume(
+            ChunkedAdjacencyLists.of(0, 0),
+            value -> value + 100,
+            (localId, nodeTargets, nodeProperties, length) -> {
+                assertThat(nodeProperties).isNull();
+                targets.add(Arrays.copyOf(nodeTargets, length));
+            }
+        );
+
+        assertThat(targets).containsExactly(new long[]{101L, 102L, 103L});
+    }
+
+    @Test
+    void shouldTrackBufferedBytes() {
+        var buffer = ChunkedAdjacencyLists.of(1, 0);
+        assertThat(buffer.bufferedBytes()).isZero();
+
+        buffer.add(0, new long[]{1L, 2L, 3L}, new long[][]{{1L, 2L, 3L}}, 0, 3, 3);
+
+        // three single byte targets and three properties, each grown to the next power of two
+        assertThat(buffer.bufferedBytes()).isEqualTo(4 + 4 * Long.BYTES);
+    }
+}
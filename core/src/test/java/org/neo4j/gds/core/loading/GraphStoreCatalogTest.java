@@ -22,6 +22,7 @@ package org.neo4j.gds.core.loading;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.GraphProjectConfig;
@@ -29,9 +30,13 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.nodeproperties.LongTestPropertyValues;
+import org.neo4j.gds.utils.ExceptionUtil;
 
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -459,4 +464,152 @@ class GraphStoreCatalogTest {
             ))
             .withMessage("Graph with name `myGraph` does not exist on database `mydatabase`. It might exist on another database.");
     }
+
+    @Test
+    void computeExtensionOnlyOnce() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var computations = new MutableInt();
+
+        for (int i = 0; i < 2; i++) {
+            var extension = GraphStoreCatalog.computeExtensionIfAbsent(
+                USER_NAME,
+                DATABASE_ID,
+                GRAPH_NAME,
+                "index",
+                GraphExtensionScope.GRAPH,
+                String.class,
+                store -> {
+                    computations.increment();
+                    return "index for " + store.nodeCount();
+                }
+            );
+            assertThat(extension).isEqualTo("index for 1");
+        }
+
+        assertThat(computations.intValue()).isEqualTo(1);
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", String.class))
+            .contains("index for 1");
+    }
+
+    @Test
+    void discardExtensionsWhenGraphIsReplacedOrRemoved() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.computeExtensionIfAbsent(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", GraphExtensionScope.GRAPH, String.class, store -> "old");
+
+        GraphStoreCatalog.overwrite(CONFIG, otherGraphStore);
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", String.class)).isEmpty();
+
+        GraphStoreCatalog.computeExtensionIfAbsent(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", GraphExtensionScope.GRAPH, String.class, store -> "new");
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", String.class)).contains("new");
+
+        GraphStoreCatalog.removeExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "index");
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", String.class)).isEmpty();
+
+        GraphStoreCatalog.computeExtensionIfAbsent(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", GraphExtensionScope.GRAPH, String.class, store -> "new");
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), GRAPH_NAME, graphStoreWithConfig -> {}, true);
+        GraphStoreCatalog.set(CONFIG, otherGraphStore);
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", String.class)).isEmpty();
+    }
+
+    @Test
+    void discardExtensionsWhenGraphIsChanged() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.computeExtensionIfAbsent(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", GraphExtensionScope.GRAPH, String.class, store -> "old");
+
+        graphStore.addNodeLabel(NodeLabel.of("Changed"));
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", String.class)).isEmpty();
+
+        var extension = GraphStoreCatalog.computeExtensionIfAbsent(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", GraphExtensionScope.GRAPH, String.class, store -> "new");
+        assertThat(extension).isEqualTo("new");
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", String.class)).contains("new");
+    }
+
+    @Test
+    void keepTopologyExtensionsWhenNodePropertiesChange() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.computeExtensionIfAbsent(USER_NAME, DATABASE_ID, GRAPH_NAME, "topology", GraphExtensionScope.TOPOLOGY, String.class, store -> "topology");
+        GraphStoreCatalog.computeExtensionIfAbsent(USER_NAME, DATABASE_ID, GRAPH_NAME, "graph", GraphExtensionScope.GRAPH, String.class, store -> "graph");
+
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "score", new LongTestPropertyValues(nodeId -> nodeId));
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "topology", String.class)).contains("topology");
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "graph", String.class)).isEmpty();
+
+        graphStore.addNodeLabel(NodeLabel.of("Changed"));
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "topology", String.class)).isEmpty();
+    }
+
+    @Test
+    void computeExtensionWithoutBlockingOtherExtensions() throws Exception {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var slowExtension = CompletableFuture.supplyAsync(() -> GraphStoreCatalog.computeExtensionIfAbsent(
+            USER_NAME,
+            DATABASE_ID,
+            GRAPH_NAME,
+            "slow",
+            GraphExtensionScope.GRAPH,
+            String.class,
+            store -> {
+                started.countDown();
+                ExceptionUtil.run(release::await);
+                return "slow";
+            }
+        ));
+        started.await();
+
+        var fastExtension = GraphStoreCatalog.computeExtensionIfAbsent(USER_NAME, DATABASE_ID, GRAPH_NAME, "fast", GraphExtensionScope.GRAPH, String.class, store -> "fast");
+        assertThat(fastExtension).isEqualTo("fast");
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "slow", String.class)).isEmpty();
+
+        release.countDown();
+        assertThat(slowExtension.get()).isEqualTo("slow");
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "slow", String.class)).contains("slow");
+    }
+
+    @Test
+    void computeExtensionAgainAfterFailure() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+
+        assertThatThrownBy(() -> GraphStoreCatalog.computeExtensionIfAbsent(
+            USER_NAME,
+            DATABASE_ID,
+            GRAPH_NAME,
+            "index",
+            GraphExtensionScope.GRAPH,
+            String.class,
+            store -> {
+                throw new IllegalStateException("Failed to build the index.");
+            }
+        )).isInstanceOf(IllegalStateException.class).hasMessage("Failed to build the index.");
+        assertThat(GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", String.class)).isEmpty();
+
+        var extension = GraphStoreCatalog.computeExtensionIfAbsent(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", GraphExtensionScope.GRAPH, String.class, store -> "index");
+        assertThat(extension).isEqualTo("index");
+    }
+
+    @Test
+    void shouldFailOnExtensionOfUnexpectedType() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.computeExtensionIfAbsent(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", GraphExtensionScope.GRAPH, String.class, store -> "index");
+
+        assertThatThrownBy(() -> GraphStoreCatalog.getExtension(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", Long.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The graph extension `index` is of type `String`, not `Long`.");
+    }
+
+    @Test
+    void shouldNotComputeExtensionsForMissingGraphs() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> GraphStoreCatalog.computeExtensionIfAbsent(
+                USER_NAME,
+                DATABASE_ID,
+                GRAPH_NAME,
+                "index",
+                GraphExtensionScope.GRAPH,
+                String.class,
+                store -> "index"
+            ));
+    }
 }
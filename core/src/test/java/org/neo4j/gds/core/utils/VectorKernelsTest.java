@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class VectorKernelsTest {
+
+    private static final long SEED = 42L;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 4, 5, 7, 8, 13, 64, 127, 256, 1031})
+    void cosineMatchesScalarLoop(int length) {
+        var random = new SplittableRandom(SEED + length);
+        var left = randomDoubles(random, length);
+        var right = randomDoubles(random, length);
+
+        assertSameResult(VectorKernels.cosine(left, right, length), Intersections.cosine(left, right, length), 1e-12);
+
+        var leftFloats = toFloats(left);
+        var rightFloats = toFloats(right);
+        assertSameResult(
+            VectorKernels.cosine(leftFloats, rightFloats, length),
+            Intersections.cosine(leftFloats, rightFloats, length),
+            1e-4
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 4, 5, 7, 8, 13, 64, 127, 256, 1031})
+    void sumSquareDeltaMatchesScalarLoop(int length) {
+        var random = new SplittableRandom(SEED + length);
+        var left = randomDoubles(random, length);
+        var right = randomDoubles(random, length);
+
+        var expected = Intersections.sumSquareDelta(left, right, length);
+        assertThat(VectorKernels.sumSquareDelta(left, right, length)).isCloseTo(expected, within(1e-12 * (1 + expected)));
+
+        var leftFloats = toFloats(left);
+        var rightFloats = toFloats(right);
+        var expectedFloats = 0D;
+        for (int i = 0; i < length; i++) {
+            double delta = (double) leftFloats[i] - rightFloats[i];
+            expectedFloats += delta * delta;
+        }
+        assertThat(VectorKernels.sumSquareDelta(leftFloats, rightFloats, length))
+            .isCloseTo(expectedFloats, within(1e-12 * (1 + expectedFloats)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 5, 7, 8, 13, 64, 127, 256, 1031})
+    void pearsonMatchesScalarLoop(int length) {
+        var random = new SplittableRandom(SEED + length);
+        var left = randomDoubles(random, length);
+        var right = randomDoubles(random, length);
+
+        var expected = Intersections.pearson(left, right, length);
+        assertThat(VectorKernels.pearson(left, right, length)).isCloseTo(expected, within(1e-12));
+        assertThat(VectorKernels.pearson(toFloats(left), toFloats(right), length)).isCloseTo(expected, within(1e-6));
+    }
+
+    @Test
+    void shortVectorsAreBitIdenticalToScalarLoop() {
+        double[] left = {0.1, -2.5, 3.75};
+        double[] right = {1.3, 0.2, -0.7};
+
+        assertThat(VectorKernels.cosine(left, right, 3)).isEqualTo(Intersections.cosine(left, right, 3));
+        assertThat(VectorKernels.sumSquareDelta(left, right, 3)).isEqualTo(Intersections.sumSquareDelta(left, right, 3));
+        assertThat(VectorKernels.cosine(toFloats(left), toFloats(right), 3))
+            .isEqualTo(Intersections.cosine(toFloats(left), toFloats(right), 3));
+    }
+
+    @Test
+    void ignoresEntriesBeyondLength() {
+        double[] left = {1, 2, 3, 4, 5, 100};
+        double[] right = {5, 4, 3, 2, 1, -100};
+
+        assertThat(VectorKernels.sumSquareDelta(left, right, 5)).isEqualTo(40D);
+        assertThat(VectorKernels.pearson(left, right, 5)).isCloseTo(-1D, within(1e-15));
+        assertThat(VectorKernels.cosine(left, left, 5)).isCloseTo(1D, within(1e-15));
+    }
+
+    private static void assertSameResult(double actual, double expected, double tolerance) {
+        if (Double.isNaN(expected)) {
+            assertThat(actual).isNaN();
+        } else {
+            assertThat(actual).isCloseTo(expected, within(tolerance));
+        }
+    }
+
+    private static double[] randomDoubles(SplittableRandom random, int length) {
+        var values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextDouble(-1, 1);
+        }
+        return values;
+    }
+
+    private static float[] toFloats(double[] values) {
+        var floats = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            floats[i] = (float) values[i];
+        }
+        return floats;
+    }
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CompositeRelationshipIterator;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a {@link GraphStore} into a binary snapshot directory,
+ * which can be loaded with {@link SnapshotToGraphStoreImporter}.
+ * <p>
+ * Adjacency lists are written uncompressed, independent of the in-memory compression.
+ * This trades disk space for the ability to memory-map the relationships
+ * on load without any decoding or rebuilding.
+ * Graph properties are not part of a snapshot.
+ */
+public final class GraphStoreToSnapshotExporter {
+
+    private final GraphStore graphStore;
+    private final Path snapshotDirectory;
+    private final int concurrency;
+
+    public static GraphStoreToSnapshotExporter create(GraphStore graphStore, Path snapshotDirectory, int concurrency) {
+        return new GraphStoreToSnapshotExporter(graphStore, snapshotDirectory, concurrency);
+    }
+
+    private GraphStoreToSnapshotExporter(GraphStore graphStore, Path snapshotDirectory, int concurrency) {
+        this.graphStore = graphStore;
+        this.snapshotDirectory = snapshotDirectory;
+        this.concurrency = concurrency;
+    }
+
+    public void run() {
+        try {
+            Files.createDirectories(snapshotDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var nodeSchema = graphStore.schema().nodeSchema();
+        var labels = nodeSchema.containsOnlyAllNodesLabel()
+            ? List.<NodeLabel>of()
+            : new ArrayList<>(nodeSchema.availableLabels());
+        var nodePropertyKeys = new ArrayList<>(graphStore.nodePropertyKeys());
+        var relationshipTypes = new ArrayList<>(graphStore.relationshipTypes());
+        var inverseIndexedTypes = graphStore.inverseIndexedRelationshipTypes();
+
+        var tasks = new ArrayList<Runnable>();
+        tasks.add(() -> writeOriginalIds(graphStore.nodes()));
+        for (int labelIndex = 0; labelIndex < labels.size(); labelIndex++) {
+            var label = labels.get(labelIndex);
+            var file = SnapshotFormat.labelFile(labelIndex);
+            tasks.add(() -> writeLabel(graphStore.nodes(), label, file));
+        }
+        for (int propertyIndex = 0; propertyIndex < nodePropertyKeys.size(); propertyIndex++) {
+            var key = nodePropertyKeys.get(propertyIndex);
+            var index = propertyIndex;
+            tasks.add(() -> writeNodeProperty(graphStore.nodeProperty(key).values(), index));
+        }
+
+        var relationshipCounts = new long[relationshipTypes.size()];
+        for (int typeIndex = 0; typeIndex < relationshipTypes.size(); typeIndex++) {
+            var type = relationshipTypes.get(typeIndex);
+            var index = typeIndex;
+            tasks.add(() -> relationshipCounts[index] = writeRelationships(type, index, false));
+            if (inverseIndexedTypes.contains(type)) {
+                tasks.add(() -> writeRelationships(type, index, true));
+            }
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(DefaultPool.INSTANCE)
+            .run();
+
+        writeMetaData(labels, nodePropertyKeys, relationshipTypes, relationshipCounts, inverseIndexedTypes);
+    }
+
+    private void writeMetaData(
+        List<NodeLabel> labels,
+        List<String> nodePropertyKeys,
+        List<RelationshipType> relationshipTypes,
+        long[] relationshipCounts,
+        Set<RelationshipType> inverseIndexedTypes
+    ) {
+        var file = snapshotDirectory.resolve(SnapshotFormat.META_DATA_FILE);
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(SnapshotFormat.MAGIC);
+            out.writeInt(SnapshotFormat.VERSION);
+            out.writeUTF(graphStore.capabilities().writeMode().name());
+
+            var nodes = graphStore.nodes();
+            out.writeLong(nodes.nodeCount());
+            out.writeLong(nodes.highestOriginalId());
+
+            // node schema, label files are indexed by the position in this list
+            var nodeSchema = graphStore.schema().nodeSchema();
+            out.writeBoolean(labels.isEmpty());
+            var schemaLabels = labels.isEmpty() ? List.of(NodeLabel.ALL_NODES) : labels;
+            out.writeInt(schemaLabels.size());
+            for (var label : schemaLabels) {
+                out.writeUTF(label.name());
+                var properties = nodeSchema.get(label).properties();
+                out.writeInt(properties.size());
+                for (PropertySchema propertySchema : properties.values()) {
+                    SnapshotSchemaIO.writePropertySchema(out, propertySchema);
+                }
+            }
+
+            // node property files are indexed by the position in this list
+            out.writeInt(nodePropertyKeys.size());
+            for (var key : nodePropertyKeys) {
+                out.writeUTF(key);
+            }
+
+            var relationshipSchema = graphStore.schema().relationshipSchema();
+            out.writeInt(relationshipTypes.size());
+            for (int typeIndex = 0; typeIndex < relationshipTypes.size(); typeIndex++) {
+                var type = relationshipTypes.get(typeIndex);
+                var entry = relationshipSchema.get(type);
+                out.writeUTF(type.name());
+                out.writeUTF(entry.direction().name());
+                out.writeBoolean(graphStore.getGraph(type).isMultiGraph());
+                out.writeBoolean(inverseIndexedTypes.contains(type));
+                out.writeLong(relationshipCounts[typeIndex]);
+                var properties = relationshipPropertySchemas(entry);
+                out.writeInt(properties.size());
+                for (var propertySchema : properties) {
+                    SnapshotSchemaIO.writeRelationshipPropertySchema(out, propertySchema);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeOriginalIds(IdMap idMap) {
+        try (var writer = LongColumnWriter.create(snapshotDirectory.resolve(SnapshotFormat.ORIGINAL_IDS_FILE))) {
+            long nodeCount = idMap.nodeCount();
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                writer.write(idMap.toOriginalNodeId(nodeId));
+            }
+        }
+    }
+
+    private void writeLabel(IdMap idMap, NodeLabel label, String fileName) {
+        try (var writer = LongColumnWriter.create(snapshotDirectory.resolve(fileName))) {
+            long nodeCount = idMap.nodeCount();
+            long word = 0L;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                if (idMap.hasLabel(nodeId, label)) {
+                    word |= 1L << (nodeId & 63);
+                }
+                if ((nodeId & 63) == 63) {
+                    writer.write(word);
+                    word = 0L;
+                }
+            }
+            if ((nodeCount & 63) != 0) {
+                writer.write(word);
+            }
+        }
+    }
+
+    private void writeNodeProperty(NodePropertyValues values, int propertyIndex) {
+        var valueType = values.valueType();
+        long nodeCount = graphStore.nodeCount();
+        var valuesFile = snapshotDirectory.resolve(SnapshotFormat.nodePropertyFile(propertyIndex));
+
+        if (valueType == ValueType.LONG) {
+            try (var writer = LongColumnWriter.create(valuesFile)) {
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writer.write(values.longValue(nodeId));
+                }
+            }
+        } else if (valueType == ValueType.DOUBLE) {
+            try (var writer = LongColumnWriter.create(valuesFile)) {
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    writer.writeDouble(values.doubleValue(nodeId));
+                }
+            }
+        } else if (MappedNodePropertyValues.isArray(valueType)) {
+            var offsetsFile = snapshotDirectory.resolve(SnapshotFormat.nodePropertyOffsetsFile(propertyIndex));
+            try (
+                var writer = LongColumnWriter.create(valuesFile);
+                var offsetsWriter = LongColumnWriter.create(offsetsFile)
+            ) {
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    offsetsWriter.write(writer.written());
+                    writeArray(writer, values, valueType, nodeId);
+                }
+            }
+        } else {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node properties of type `%s` are not supported by graph snapshots.",
+                valueType
+            ));
+        }
+    }
+
+    private static void writeArray(LongColumnWriter writer, NodePropertyValues values, ValueType valueType, long nodeId) {
+        switch (valueType) {
+            case DOUBLE_ARRAY:
+                var doubles = values.doubleArrayValue(nodeId);
+                if (doubles == null) {
+                    writer.write(SnapshotFormat.NULL_ARRAY_LENGTH);
+                } else {
+                    writer.write(doubles.length);
+                    for (double value : doubles) {
+                        writer.writeDouble(value);
+                    }
+                }
+                break;
+            case FLOAT_ARRAY:
+                var floats = values.floatArrayValue(nodeId);
+                if (floats == null) {
+                    writer.write(SnapshotFormat.NULL_ARRAY_LENGTH);
+                } else {
+                    writer.write(floats.length);
+                    for (int i = 0; i < floats.length; i += 2) {
+                        long low = Integer.toUnsignedLong(Float.floatToRawIntBits(floats[i]));
+                        long high = i + 1 < floats.length ? Float.floatToRawIntBits(floats[i + 1]) : 0L;
+                        writer.write(high << Integer.SIZE | low);
+                    }
+                }
+                break;
+            case LONG_ARRAY:
+                var longs = values.longArrayValue(nodeId);
+                if (longs == null) {
+                    writer.write(SnapshotFormat.NULL_ARRAY_LENGTH);
+                } else {
+                    writer.write(longs.length);
+                    for (long value : longs) {
+                        writer.write(value);
+                    }
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unexpected array type " + valueType);
+        }
+    }
+
+    private long writeRelationships(RelationshipType type, int typeIndex, boolean inverse) {
+        var propertyKeys = relationshipPropertySchemas(graphStore.schema().relationshipSchema().get(type))
+            .stream()
+            .map(PropertySchema::key)
+            .toArray(String[]::new);
+        var iterator = graphStore.getCompositeRelationshipIterator(type, List.of(propertyKeys));
+
+        try (
+            var offsetsWriter = LongColumnWriter.create(snapshotDirectory.resolve(SnapshotFormat.offsetsFile(typeIndex, inverse)));
+            var targetsWriter = LongColumnWriter.create(snapshotDirectory.resolve(SnapshotFormat.targetsFile(typeIndex, inverse)));
+            var propertyWriters = new RelationshipPropertyWriters(typeIndex, propertyKeys.length, inverse)
+        ) {
+            CompositeRelationshipIterator.RelationshipConsumer consumer = (source, target, properties) -> {
+                targetsWriter.write(target);
+                for (int propertyIndex = 0; propertyIndex < properties.length; propertyIndex++) {
+                    propertyWriters.writeDouble(propertyIndex, properties[propertyIndex]);
+                }
+                return true;
+            };
+
+            long nodeCount = graphStore.nodeCount();
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                offsetsWriter.write(targetsWriter.written());
+                if (inverse) {
+                    iterator.forEachInverseRelationship(nodeId, consumer);
+                } else {
+                    iterator.forEachRelationship(nodeId, consumer);
+                }
+            }
+            long relationshipCount = targetsWriter.written();
+            offsetsWriter.write(relationshipCount);
+
+            return relationshipCount;
+        }
+    }
+
+    // sorted, so that property files are indexed deterministically
+    static List<RelationshipPropertySchema> relationshipPropertySchemas(MutableRelationshipSchemaEntry entry) {
+        var properties = new ArrayList<>(entry.properties().entrySet());
+        properties.sort(Map.Entry.comparingByKey());
+        var result = new ArrayList<RelationshipPropertySchema>(properties.size());
+        for (var property : properties) {
+            result.add(property.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * The property columns of one relationship type, opened and closed together.
+     */
+    private final class RelationshipPropertyWriters implements AutoCloseable {
+
+        private final LongColumnWriter[] writers;
+
+        RelationshipPropertyWriters(int typeIndex, int propertyCount, boolean inverse) {
+            this.writers = new LongColumnWriter[propertyCount];
+            try {
+                for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+                    writers[propertyIndex] = LongColumnWriter.create(snapshotDirectory.resolve(
+                        SnapshotFormat.relationshipPropertyFile(typeIndex, propertyIndex, inverse)
+                    ));
+                }
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        void writeDouble(int propertyIndex, double value) {
+            writers[propertyIndex].writeDouble(value);
+        }
+
+        @Override
+        public void close() {
+            for (var writer : writers) {
+                if (writer != null) {
+                    writer.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.core.compression.ImmutableMemoryInfo;
+import org.neo4j.gds.core.compression.MemoryInfo;
+
+/**
+ * An uncompressed adjacency list that reads target ids or property values
+ * directly from memory-mapped snapshot columns.
+ * The offsets column is shared between the topology and all of its properties.
+ */
+final class MappedAdjacencyList implements AdjacencyList, AdjacencyProperties {
+
+    private final MappedLongColumn offsets;
+    private final MappedLongColumn values;
+    private final MemoryInfo memoryInfo;
+
+    MappedAdjacencyList(MappedLongColumn offsets, MappedLongColumn values) {
+        this.offsets = offsets;
+        this.values = values;
+        this.memoryInfo = ImmutableMemoryInfo
+            .builder()
+            .from(MemoryInfo.EMPTY)
+            .pages(offsets.pageCount() + values.pageCount())
+            .bytesOnHeap(0L)
+            .bytesOffHeap(offsets.sizeInBytes() + values.sizeInBytes())
+            .build();
+    }
+
+    @Override
+    public int degree(long node) {
+        return (int) (offsets.get(node + 1) - offsets.get(node));
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        return cursor(null, node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        return cursor(reuse instanceof Cursor ? (Cursor) reuse : null, node);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new Cursor(values);
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        return cursor(null, node);
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        return cursor(reuse instanceof Cursor ? (Cursor) reuse : null, node);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new Cursor(values);
+    }
+
+    @Override
+    public MemoryInfo memoryInfo() {
+        return memoryInfo;
+    }
+
+    private Cursor cursor(@Nullable Cursor reuse, long node) {
+        var cursor = reuse == null ? new Cursor(values) : reuse;
+        var start = offsets.get(node);
+        cursor.init(start, (int) (offsets.get(node + 1) - start));
+        return cursor;
+    }
+
+    static final class Cursor implements AdjacencyCursor, PropertyCursor {
+
+        private final MappedLongColumn values;
+
+        private long index;
+        private long limit;
+        private int degree;
+
+        private Cursor(MappedLongColumn values) {
+            this.values = values;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            this.index = index;
+            this.limit = index + degree;
+            this.degree = degree;
+        }
+
+        @Override
+        public int size() {
+            return degree;
+        }
+
+        @Override
+        public int remaining() {
+            return (int) (limit - index);
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return index < limit;
+        }
+
+        @Override
+        public long nextVLong() {
+            return values.get(index++);
+        }
+
+        @Override
+        public long peekVLong() {
+            return values.get(index);
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return index < limit;
+        }
+
+        @Override
+        public long nextLong() {
+            return values.get(index++);
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            while (index < limit) {
+                long value = values.get(index++);
+                if (value > target) {
+                    return value;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public long advance(long target) {
+            while (index < limit) {
+                long value = values.get(index++);
+                if (value >= target) {
+                    return value;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            index += n;
+            if (index >= limit) {
+                index = limit;
+                return NOT_FOUND;
+            }
+            return values.get(index++);
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof Cursor
+                ? (Cursor) destination
+                : new Cursor(values);
+            dest.index = index;
+            dest.limit = limit;
+            dest.degree = degree;
+            return dest;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.collections.PageUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A read-only, memory-mapped column of longs.
+ * <p>
+ * A single mapping is limited to {@link Integer#MAX_VALUE} bytes,
+ * hence the file is mapped in pages of {@link #PAGE_SIZE} longs.
+ * The data is not copied onto the heap, the operating system
+ * pages it in on first access and may evict it under memory pressure.
+ */
+final class MappedLongColumn {
+
+    static final int PAGE_SHIFT = 27;
+    static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    static final long PAGE_MASK = PAGE_SIZE - 1;
+
+    private final LongBuffer[] pages;
+    private final long size;
+
+    static MappedLongColumn map(Path file) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long byteSize = channel.size();
+            if (byteSize % Long.BYTES != 0) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Snapshot file `%s` is corrupt, its size %d is not a multiple of %d bytes.",
+                    file,
+                    byteSize,
+                    Long.BYTES
+                ));
+            }
+            long size = byteSize / Long.BYTES;
+            int pageCount = PageUtil.numPagesFor(size, PAGE_SHIFT, PAGE_MASK);
+            var pages = new LongBuffer[pageCount];
+            for (int page = 0; page < pageCount; page++) {
+                long pageStart = (long) page << PAGE_SHIFT;
+                long pageLength = Math.min(PAGE_SIZE, size - pageStart);
+                pages[page] = channel
+                    .map(FileChannel.MapMode.READ_ONLY, pageStart * Long.BYTES, pageLength * Long.BYTES)
+                    .order(SnapshotFormat.BYTE_ORDER)
+                    .asLongBuffer();
+            }
+            // the mappings stay valid after the channel is closed
+            return new MappedLongColumn(pages, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedLongColumn(LongBuffer[] pages, long size) {
+        this.pages = pages;
+        this.size = size;
+    }
+
+    long get(long index) {
+        return pages[(int) (index >>> PAGE_SHIFT)].get((int) (index & PAGE_MASK));
+    }
+
+    double getDouble(long index) {
+        return Double.longBitsToDouble(get(index));
+    }
+
+    long size() {
+        return size;
+    }
+
+    int pageCount() {
+        return pages.length;
+    }
+
+    long sizeInBytes() {
+        return size * Long.BYTES;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Node property values that are read from memory-mapped snapshot columns.
+ * Scalar values are returned without any copying, array values are materialized on access.
+ */
+final class MappedNodePropertyValues {
+
+    private MappedNodePropertyValues() {}
+
+    static NodePropertyValues of(
+        ValueType valueType,
+        long nodeCount,
+        MappedLongColumn values,
+        @Nullable MappedLongColumn offsets
+    ) {
+        switch (valueType) {
+            case LONG:
+                return new MappedLong(nodeCount, values);
+            case DOUBLE:
+                return new MappedDouble(nodeCount, values);
+            case DOUBLE_ARRAY:
+                return new MappedDoubleArray(nodeCount, values, offsets);
+            case FLOAT_ARRAY:
+                return new MappedFloatArray(nodeCount, values, offsets);
+            case LONG_ARRAY:
+                return new MappedLongArray(nodeCount, values, offsets);
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node properties of type `%s` are not supported by graph snapshots.",
+                    valueType
+                ));
+        }
+    }
+
+    static boolean isArray(ValueType valueType) {
+        return valueType == ValueType.DOUBLE_ARRAY
+               || valueType == ValueType.FLOAT_ARRAY
+               || valueType == ValueType.LONG_ARRAY;
+    }
+
+    private static final class MappedLong implements LongNodePropertyValues {
+        private final long nodeCount;
+        private final MappedLongColumn values;
+
+        MappedLong(long nodeCount, MappedLongColumn values) {
+            this.nodeCount = nodeCount;
+            this.values = values;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        @Override
+        public long nodeCount() {
+            return nodeCount;
+        }
+    }
+
+    private static final class MappedDouble implements DoubleNodePropertyValues {
+        private final long nodeCount;
+        private final MappedLongColumn values;
+
+        MappedDouble(long nodeCount, MappedLongColumn values) {
+            this.nodeCount = nodeCount;
+            this.values = values;
+        }
+
+        @Override
+        public double doubleValue(long nodeId) {
+            return values.getDouble(nodeId);
+        }
+
+        @Override
+        public long nodeCount() {
+            return nodeCount;
+        }
+    }
+
+    private abstract static class MappedArray {
+        final long nodeCount;
+        final MappedLongColumn values;
+        final MappedLongColumn offsets;
+
+        MappedArray(long nodeCount, MappedLongColumn values, MappedLongColumn offsets) {
+            this.nodeCount = nodeCount;
+            this.values = values;
+            this.offsets = offsets;
+        }
+
+        public long nodeCount() {
+            return nodeCount;
+        }
+
+        public boolean hasValue(long nodeId) {
+            return values.get(offsets.get(nodeId)) != SnapshotFormat.NULL_ARRAY_LENGTH;
+        }
+    }
+
+    private static final class MappedDoubleArray extends MappedArray implements DoubleArrayNodePropertyValues {
+
+        MappedDoubleArray(long nodeCount, MappedLongColumn values, MappedLongColumn offsets) {
+            super(nodeCount, values, offsets);
+        }
+
+        @Override
+        @Nullable
+        public double[] doubleArrayValue(long nodeId) {
+            long offset = offsets.get(nodeId);
+            long length = values.get(offset);
+            if (length == SnapshotFormat.NULL_ARRAY_LENGTH) {
+                return null;
+            }
+            var array = new double[(int) length];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = values.getDouble(offset + 1 + i);
+            }
+            return array;
+        }
+    }
+
+    private static final class MappedFloatArray extends MappedArray implements FloatArrayNodePropertyValues {
+
+        MappedFloatArray(long nodeCount, MappedLongColumn values, MappedLongColumn offsets) {
+            super(nodeCount, values, offsets);
+        }
+
+        @Override
+        @Nullable
+        public float[] floatArrayValue(long nodeId) {
+            long offset = offsets.get(nodeId);
+            long length = values.get(offset);
+            if (length == SnapshotFormat.NULL_ARRAY_LENGTH) {
+                return null;
+            }
+            var array = new float[(int) length];
+            for (int i = 0; i < array.length; i++) {
+                long packed = values.get(offset + 1 + i / 2);
+                int bits = (i & 1) == 0 ? (int) packed : (int) (packed >>> Integer.SIZE);
+                array[i] = Float.intBitsToFloat(bits);
+            }
+            return array;
+        }
+    }
+
+    private static final class MappedLongArray extends MappedArray implements LongArrayNodePropertyValues {
+
+        MappedLongArray(long nodeCount, MappedLongColumn values, MappedLongColumn offsets) {
+            super(nodeCount, values, offsets);
+        }
+
+        @Override
+        @Nullable
+        public long[] longArrayValue(long nodeId) {
+            long offset = offsets.get(nodeId);
+            long length = values.get(offset);
+            if (length == SnapshotFormat.NULL_ARRAY_LENGTH) {
+                return null;
+            }
+            var array = new long[(int) length];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = values.get(offset + 1 + i);
+            }
+            return array;
+        }
+    }
+}
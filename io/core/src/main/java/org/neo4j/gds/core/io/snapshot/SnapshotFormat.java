@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import java.nio.ByteOrder;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Layout of a binary graph store snapshot.
+ * <p>
+ * A snapshot is a directory with a single metadata file, describing the schema and sizes,
+ * and one column file per id map, label, node property and relationship type.
+ * Column files are flat arrays of little-endian longs without any header,
+ * so that they can be memory-mapped and accessed without decoding.
+ * <p>
+ * Relationships are stored in CSR layout, i.e. an offsets column with {@code nodeCount + 1}
+ * entries, a targets column and one column per relationship property,
+ * all three aligned by the offsets.
+ * Array node properties are stored as a values column with a length prefix for every array,
+ * and an offsets column with one position into the values column per node.
+ * Missing arrays are encoded by a length of {@link #NULL_ARRAY_LENGTH}.
+ * Float arrays pack two values into every long, the first one into the lower 32 bits.
+ */
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x47445353; // GDSS
+    static final int VERSION = 2;
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final String META_DATA_FILE = "graph.meta";
+    static final String ORIGINAL_IDS_FILE = "nodes.ids";
+
+    static final long NULL_ARRAY_LENGTH = -1L;
+
+    private SnapshotFormat() {}
+
+    static String labelFile(int labelIndex) {
+        return formatWithLocale("nodes.label.%d", labelIndex);
+    }
+
+    static String nodePropertyFile(int propertyIndex) {
+        return formatWithLocale("nodes.property.%d", propertyIndex);
+    }
+
+    static String nodePropertyOffsetsFile(int propertyIndex) {
+        return formatWithLocale("nodes.property.%d.offsets", propertyIndex);
+    }
+
+    static String offsetsFile(int typeIndex, boolean inverse) {
+        return formatWithLocale("%s.%d.offsets", relationshipPrefix(inverse), typeIndex);
+    }
+
+    static String targetsFile(int typeIndex, boolean inverse) {
+        return formatWithLocale("%s.%d.targets", relationshipPrefix(inverse), typeIndex);
+    }
+
+    static String relationshipPropertyFile(int typeIndex, int propertyIndex, boolean inverse) {
+        return formatWithLocale("%s.%d.property.%d", relationshipPrefix(inverse), typeIndex, propertyIndex);
+    }
+
+    private static String relationshipPrefix(boolean inverse) {
+        return inverse ? "inverse_relationships" : "relationships";
+    }
+}
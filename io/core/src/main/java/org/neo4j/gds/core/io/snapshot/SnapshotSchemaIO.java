@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.Aggregation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary (de-)serialization of property schemas in the snapshot meta data file.
+ */
+final class SnapshotSchemaIO {
+
+    private SnapshotSchemaIO() {}
+
+    static void writePropertySchema(DataOutput out, PropertySchema propertySchema) throws IOException {
+        out.writeUTF(propertySchema.key());
+        out.writeUTF(propertySchema.valueType().name());
+        out.writeUTF(propertySchema.state().name());
+        writeDefaultValue(out, propertySchema.valueType(), propertySchema.defaultValue());
+    }
+
+    static PropertySchema readPropertySchema(DataInput in) throws IOException {
+        var key = in.readUTF();
+        var valueType = ValueType.valueOf(in.readUTF());
+        var state = PropertyState.valueOf(in.readUTF());
+        var defaultValue = readDefaultValue(in, valueType);
+        return PropertySchema.of(key, valueType, defaultValue, state);
+    }
+
+    static void writeRelationshipPropertySchema(
+        DataOutput out,
+        RelationshipPropertySchema propertySchema
+    ) throws IOException {
+        writePropertySchema(out, propertySchema);
+        out.writeUTF(propertySchema.aggregation().name());
+    }
+
+    static RelationshipPropertySchema readRelationshipPropertySchema(DataInput in) throws IOException {
+        var propertySchema = readPropertySchema(in);
+        var aggregation = Aggregation.valueOf(in.readUTF());
+        return RelationshipPropertySchema.of(
+            propertySchema.key(),
+            propertySchema.valueType(),
+            propertySchema.defaultValue(),
+            propertySchema.state(),
+            aggregation
+        );
+    }
+
+    private static void writeDefaultValue(DataOutput out, ValueType valueType, DefaultValue defaultValue) throws IOException {
+        out.writeBoolean(defaultValue.isUserDefined());
+        if (defaultValue.getObject() == null) {
+            out.writeBoolean(false);
+            return;
+        }
+
+        switch (valueType) {
+            case LONG:
+                out.writeBoolean(true);
+                out.writeLong(defaultValue.longValue());
+                break;
+            case DOUBLE:
+                out.writeBoolean(true);
+                out.writeDouble(defaultValue.doubleValue());
+                break;
+            case DOUBLE_ARRAY:
+                var doubles = defaultValue.doubleArrayValue();
+                out.writeBoolean(doubles != null);
+                if (doubles != null) {
+                    out.writeInt(doubles.length);
+                    for (double value : doubles) {
+                        out.writeDouble(value);
+                    }
+                }
+                break;
+            case FLOAT_ARRAY:
+                var floats = defaultValue.floatArrayValue();
+                out.writeBoolean(floats != null);
+                if (floats != null) {
+                    out.writeInt(floats.length);
+                    for (float value : floats) {
+                        out.writeFloat(value);
+                    }
+                }
+                break;
+            case LONG_ARRAY:
+                var longs = defaultValue.longArrayValue();
+                out.writeBoolean(longs != null);
+                if (longs != null) {
+                    out.writeInt(longs.length);
+                    for (long value : longs) {
+                        out.writeLong(value);
+                    }
+                }
+                break;
+            default:
+                // the value type cannot be restored, fall back to the default of the type
+                out.writeBoolean(false);
+        }
+    }
+
+    private static DefaultValue readDefaultValue(DataInput in, ValueType valueType) throws IOException {
+        boolean isUserDefined = in.readBoolean();
+        boolean hasValue = in.readBoolean();
+        if (!hasValue) {
+            return isUserDefined ? DefaultValue.of(null, true) : valueType.fallbackValue();
+        }
+
+        switch (valueType) {
+            case LONG:
+                return DefaultValue.of(in.readLong(), isUserDefined);
+            case DOUBLE:
+                return DefaultValue.of(in.readDouble(), isUserDefined);
+            case DOUBLE_ARRAY:
+                var doubles = new double[in.readInt()];
+                for (int i = 0; i < doubles.length; i++) {
+                    doubles[i] = in.readDouble();
+                }
+                return DefaultValue.of(doubles, isUserDefined);
+            case FLOAT_ARRAY:
+                var floats = new float[in.readInt()];
+                for (int i = 0; i < floats.length; i++) {
+                    floats[i] = in.readFloat();
+                }
+                return DefaultValue.of(floats, isUserDefined);
+            case LONG_ARRAY:
+                var longs = new long[in.readInt()];
+                for (int i = 0; i < longs.length; i++) {
+                    longs[i] = in.readLong();
+                }
+                return DefaultValue.of(longs, isUserDefined);
+            default:
+                return valueType.fallbackValue();
+        }
+    }
+}
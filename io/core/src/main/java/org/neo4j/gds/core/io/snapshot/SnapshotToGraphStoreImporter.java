@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DatabaseInfo;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.properties.nodes.ImmutableNodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilder;
+import org.neo4j.gds.core.loading.Capabilities.WriteMode;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.ImmutableNodes;
+import org.neo4j.gds.core.loading.ImmutableStaticCapabilities;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Loads a graph store from a snapshot directory written by {@link GraphStoreToSnapshotExporter}.
+ * <p>
+ * Relationships and node properties are memory-mapped and used in place,
+ * only the id map is rebuilt on heap. The snapshot files must therefore
+ * not be modified or deleted while the returned graph store is in use.
+ */
+public final class SnapshotToGraphStoreImporter {
+
+    private static final int ID_BATCH_SIZE = 1 << 14;
+
+    private final Path snapshotDirectory;
+    private final DatabaseInfo databaseInfo;
+    private final int concurrency;
+
+    public static SnapshotToGraphStoreImporter create(Path snapshotDirectory, DatabaseInfo databaseInfo, int concurrency) {
+        return new SnapshotToGraphStoreImporter(snapshotDirectory, databaseInfo, concurrency);
+    }
+
+    private SnapshotToGraphStoreImporter(Path snapshotDirectory, DatabaseInfo databaseInfo, int concurrency) {
+        this.snapshotDirectory = snapshotDirectory;
+        this.databaseInfo = databaseInfo;
+        this.concurrency = concurrency;
+    }
+
+    public GraphStore run() {
+        var metaDataFile = snapshotDirectory.resolve(SnapshotFormat.META_DATA_FILE);
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(metaDataFile)))) {
+            return load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private GraphStore load(DataInputStream in) throws IOException {
+        int magic = in.readInt();
+        int version = in.readInt();
+        if (magic != SnapshotFormat.MAGIC || version != SnapshotFormat.VERSION) {
+            throw new IllegalStateException(formatWithLocale(
+                "Directory `%s` does not contain a graph snapshot of version %d.",
+                snapshotDirectory,
+                SnapshotFormat.VERSION
+            ));
+        }
+        var writeMode = WriteMode.valueOf(in.readUTF());
+        long nodeCount = in.readLong();
+        long highestOriginalId = in.readLong();
+
+        var nodeSchema = MutableNodeSchema.empty();
+        boolean allNodes = in.readBoolean();
+        int labelCount = in.readInt();
+        var labels = new ArrayList<NodeLabel>(labelCount);
+        for (int labelIndex = 0; labelIndex < labelCount; labelIndex++) {
+            var label = NodeLabel.of(in.readUTF());
+            labels.add(label);
+            nodeSchema.addLabel(label);
+            int propertyCount = in.readInt();
+            for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+                var propertySchema = SnapshotSchemaIO.readPropertySchema(in);
+                nodeSchema.addProperty(label, propertySchema.key(), propertySchema);
+            }
+        }
+
+        var idMap = loadIdMap(nodeCount, highestOriginalId, allNodes ? List.of() : labels);
+        var nodePropertyStore = loadNodeProperties(in, nodeSchema, nodeCount);
+
+        var relationshipSchema = MutableRelationshipSchema.empty();
+        var relationships = new HashMap<RelationshipType, SingleTypeRelationships>();
+        int typeCount = in.readInt();
+        for (int typeIndex = 0; typeIndex < typeCount; typeIndex++) {
+            var type = RelationshipType.of(in.readUTF());
+            var direction = Direction.valueOf(in.readUTF());
+            boolean isMultiGraph = in.readBoolean();
+            boolean hasInverse = in.readBoolean();
+            long relationshipCount = in.readLong();
+            int propertyCount = in.readInt();
+            var propertySchemas = new ArrayList<RelationshipPropertySchema>(propertyCount);
+            var schemaEntry = new MutableRelationshipSchemaEntry(type, direction);
+            for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+                var propertySchema = SnapshotSchemaIO.readRelationshipPropertySchema(in);
+                propertySchemas.add(propertySchema);
+                schemaEntry.addProperty(propertySchema.key(), propertySchema);
+            }
+            relationshipSchema.set(schemaEntry);
+
+            var builder = SingleTypeRelationships.builder()
+                .relationshipSchemaEntry(schemaEntry)
+                .topology(topology(typeIndex, false, relationshipCount, isMultiGraph))
+                .properties(properties(typeIndex, false, relationshipCount, propertySchemas));
+            if (hasInverse) {
+                builder
+                    .inverseTopology(topology(typeIndex, true, relationshipCount, isMultiGraph))
+                    .inverseProperties(properties(typeIndex, true, relationshipCount, propertySchemas));
+            }
+            relationships.put(type, builder.build());
+        }
+
+        return new GraphStoreBuilder()
+            .databaseInfo(databaseInfo)
+            .capabilities(ImmutableStaticCapabilities.of(writeMode))
+            .schema(MutableGraphSchema.of(nodeSchema, relationshipSchema, Map.of()))
+            .nodes(ImmutableNodes.of(nodeSchema, idMap, nodePropertyStore))
+            .relationshipImportResult(RelationshipImportResult.of(relationships))
+            .concurrency(concurrency)
+            .build();
+    }
+
+    private IdMap loadIdMap(long nodeCount, long highestOriginalId, List<NodeLabel> labels) {
+        var originalIds = MappedLongColumn.map(snapshotDirectory.resolve(SnapshotFormat.ORIGINAL_IDS_FILE));
+
+        // a single thread allocates consecutive id ranges, which preserves the mapped ids of the snapshot
+        var idMapBuilder = ArrayIdMapBuilder.of(nodeCount);
+        var batch = new long[ID_BATCH_SIZE];
+        for (long start = 0; start < nodeCount; start += ID_BATCH_SIZE) {
+            int batchLength = (int) Math.min(ID_BATCH_SIZE, nodeCount - start);
+            var allocator = idMapBuilder.allocate(batchLength);
+            var ids = batchLength == ID_BATCH_SIZE ? batch : new long[batchLength];
+            for (int i = 0; i < batchLength; i++) {
+                ids[i] = originalIds.get(start + i);
+            }
+            allocator.insert(ids);
+        }
+
+        LabelInformation.Builder labelInformationBuilder;
+        if (labels.isEmpty()) {
+            labelInformationBuilder = LabelInformationBuilders.allNodes();
+        } else {
+            labelInformationBuilder = LabelInformationBuilders.multiLabelWithCapacity(nodeCount);
+            for (int labelIndex = 0; labelIndex < labels.size(); labelIndex++) {
+                var label = labels.get(labelIndex);
+                var bits = MappedLongColumn.map(snapshotDirectory.resolve(SnapshotFormat.labelFile(labelIndex)));
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    if ((bits.get(nodeId >>> 6) & (1L << (nodeId & 63))) != 0) {
+                        labelInformationBuilder.addNodeIdToLabel(label, originalIds.get(nodeId));
+                    }
+                }
+            }
+        }
+
+        return idMapBuilder.build(labelInformationBuilder, highestOriginalId, concurrency);
+    }
+
+    private NodePropertyStore loadNodeProperties(
+        DataInputStream in,
+        MutableNodeSchema nodeSchema,
+        long nodeCount
+    ) throws IOException {
+        var propertySchemas = nodeSchema.unionProperties();
+        var nodePropertyStoreBuilder = NodePropertyStore.builder();
+        int propertyCount = in.readInt();
+        for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+            var propertySchema = propertySchemas.get(in.readUTF());
+            var valueType = propertySchema.valueType();
+            var values = MappedLongColumn.map(snapshotDirectory.resolve(SnapshotFormat.nodePropertyFile(propertyIndex)));
+            var offsets = MappedNodePropertyValues.isArray(valueType)
+                ? MappedLongColumn.map(snapshotDirectory.resolve(SnapshotFormat.nodePropertyOffsetsFile(propertyIndex)))
+                : null;
+            nodePropertyStoreBuilder.putProperty(
+                propertySchema.key(),
+                ImmutableNodeProperty.of(
+                    MappedNodePropertyValues.of(valueType, nodeCount, values, offsets),
+                    propertySchema
+                )
+            );
+        }
+        return nodePropertyStoreBuilder.build();
+    }
+
+    private Topology topology(int typeIndex, boolean inverse, long relationshipCount, boolean isMultiGraph) {
+        var offsets = MappedLongColumn.map(snapshotDirectory.resolve(SnapshotFormat.offsetsFile(typeIndex, inverse)));
+        var targets = MappedLongColumn.map(snapshotDirectory.resolve(SnapshotFormat.targetsFile(typeIndex, inverse)));
+        return ImmutableTopology.of(new MappedAdjacencyList(offsets, targets), relationshipCount, isMultiGraph);
+    }
+
+    private Optional<RelationshipPropertyStore> properties(
+        int typeIndex,
+        boolean inverse,
+        long relationshipCount,
+        List<RelationshipPropertySchema> propertySchemas
+    ) {
+        if (propertySchemas.isEmpty()) {
+            return Optional.empty();
+        }
+        var offsets = MappedLongColumn.map(snapshotDirectory.resolve(SnapshotFormat.offsetsFile(typeIndex, inverse)));
+        var propertyStoreBuilder = RelationshipPropertyStore.builder();
+        for (int propertyIndex = 0; propertyIndex < propertySchemas.size(); propertyIndex++) {
+            var propertySchema = propertySchemas.get(propertyIndex);
+            var values = MappedLongColumn.map(snapshotDirectory.resolve(
+                SnapshotFormat.relationshipPropertyFile(typeIndex, propertyIndex, inverse)
+            ));
+            var properties = ImmutableProperties.of(
+                new MappedAdjacencyList(offsets, values),
+                relationshipCount,
+                propertySchema.defaultValue().doubleValue()
+            );
+            propertyStoreBuilder.putRelationshipProperty(
+                propertySchema.key(),
+                ImmutableRelationshipProperty.of(properties, propertySchema)
+            );
+        }
+        return Optional.of(propertyStoreBuilder.build());
+    }
+}
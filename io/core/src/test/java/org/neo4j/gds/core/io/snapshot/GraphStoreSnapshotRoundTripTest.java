@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.DatabaseInfo;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+import org.neo4j.gds.nodeproperties.FloatArrayTestPropertyValues;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+class GraphStoreSnapshotRoundTripTest {
+
+    private static final String GRAPH =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 4.2, prop3: [0.3D, 0.2D], prop4: [1L, 2L, 3L] })" +
+        ", (b:A:B { prop1: 1, prop2: 4.3, prop4: [4L] })" +
+        ", (c:A:C { prop1: 2, prop2: 4.4, prop3: [-0.04D] })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (a)-[:REL1 { prop1: 2, prop2: 44 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 3, prop2: 45 }]->(a)" +
+        ", (b)-[:REL2 { prop3: 4 }]->(c)" +
+        ", (c)-[:REL2 { prop3: 5 }]->(d)" +
+        ", (d)-[:REL2 { prop3: 6 }]->(a)";
+
+    private static final DatabaseInfo DATABASE_INFO = DatabaseInfo.of(
+        DatabaseId.of("snapshot"),
+        DatabaseInfo.DatabaseLocation.LOCAL
+    );
+
+    @TempDir
+    Path snapshotDirectory;
+
+    @Test
+    void shouldRoundTripGraphStore() {
+        var graphStore = GdlFactory.of(GRAPH).build();
+
+        var loaded = roundTrip(graphStore);
+
+        assertThat(loaded.nodeCount()).isEqualTo(graphStore.nodeCount());
+        assertThat(loaded.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+        assertThat(loaded.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertThat(loaded.nodePropertyKeys()).isEqualTo(graphStore.nodePropertyKeys());
+        assertThat(loaded.schema().relationshipSchema()).isEqualTo(graphStore.schema().relationshipSchema());
+        assertGraphEquals(graphStore.getUnion(), loaded.getUnion());
+        for (var type : graphStore.relationshipTypes()) {
+            assertThat(loaded.getGraph(type).isMultiGraph()).isEqualTo(graphStore.getGraph(type).isMultiGraph());
+        }
+    }
+
+    @Test
+    void shouldRoundTripUndirectedGraphWithoutLabels() {
+        var graphStore = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph("(a { p: 1 })-[:T { w: 1.0 }]->(b { p: 2 }), (b)-[:T { w: 2.0 }]->(c { p: 3 })")
+                .graphName("test")
+                .orientation(Orientation.UNDIRECTED)
+                .build()
+        ).build().build();
+
+        var loaded = roundTrip(graphStore);
+
+        assertThat(loaded.schema().nodeSchema().containsOnlyAllNodesLabel()).isTrue();
+        assertThat(loaded.schema().isUndirected()).isTrue();
+        assertGraphEquals(graphStore.getUnion(), loaded.getUnion());
+    }
+
+    @Test
+    void shouldRoundTripInverseIndex() {
+        var graphStore = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph("(a)-[:T { w: 1.0 }]->(b), (a)-[:T { w: 2.0 }]->(c), (c)-[:T { w: 3.0 }]->(b)")
+                .graphName("test")
+                .indexInverse(true)
+                .build()
+        ).build().build();
+
+        var loaded = roundTrip(graphStore);
+
+        var type = RelationshipType.of("T");
+        assertThat(loaded.inverseIndexedRelationshipTypes()).containsExactly(type);
+        var expected = graphStore.getGraph(type, Optional.of("w"));
+        var actual = loaded.getGraph(type, Optional.of("w"));
+        expected.forEachNode(nodeId -> {
+            assertThat(actual.degreeInverse(nodeId)).isEqualTo(expected.degreeInverse(nodeId));
+            var expectedSum = new double[1];
+            var actualSum = new double[1];
+            expected.forEachInverseRelationship(nodeId, 0.0, (s, t, w) -> {
+                expectedSum[0] += t * w;
+                return true;
+            });
+            actual.forEachInverseRelationship(nodeId, 0.0, (s, t, w) -> {
+                actualSum[0] += t * w;
+                return true;
+            });
+            assertThat(actualSum[0]).isEqualTo(expectedSum[0]);
+            return true;
+        });
+    }
+
+    @Test
+    void shouldPackTwoFloatsIntoEveryLong() throws IOException {
+        var graphStore = GdlFactory.of("(a)-[:T]->(b), (c), (d)").build();
+        var embeddings = new float[][]{{1.5F, -2.25F, 3.0F}, null, {}, {Float.NaN, Float.MIN_VALUE}};
+        graphStore.addNodeProperty(
+            graphStore.nodeLabels(),
+            "embedding",
+            new FloatArrayTestPropertyValues(nodeId -> embeddings[(int) nodeId])
+        );
+
+        var loaded = roundTrip(graphStore);
+
+        var values = loaded.nodeProperty("embedding").values();
+        for (int nodeId = 0; nodeId < embeddings.length; nodeId++) {
+            assertThat(values.floatArrayValue(nodeId)).as("node %d", nodeId).isEqualTo(embeddings[nodeId]);
+        }
+        // a length prefix per node, followed by two values per long
+        assertThat(Files.size(snapshotDirectory.resolve(SnapshotFormat.nodePropertyFile(0))))
+            .isEqualTo((3 + 1 + 1 + 2) * Long.BYTES);
+    }
+
+    @Test
+    void shouldRejectDirectoryWithoutSnapshot() throws IOException {
+        Files.write(snapshotDirectory.resolve(SnapshotFormat.META_DATA_FILE), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatThrownBy(() -> SnapshotToGraphStoreImporter.create(snapshotDirectory, DATABASE_INFO, 1).run())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("does not contain a graph snapshot");
+    }
+
+    private GraphStore roundTrip(GraphStore graphStore) {
+        GraphStoreToSnapshotExporter.create(graphStore, snapshotDirectory, 4).run();
+        return SnapshotToGraphStoreImporter.create(snapshotDirectory, DATABASE_INFO, 4).run();
+    }
+}
@@ -41,7 +41,15 @@ import java.lang.reflect.Modifier;
 import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.lang.Integer.numberOfTrailingZeros;
 
@@ -320,6 +328,79 @@ public final class MemoryUsage {
         return size == -1 ? OptionalLong.empty() : OptionalLong.of(size);
     }
 
+    /**
+     * Returns the number of bytes that the given object graph holds outside the Java heap,
+     * i.e. the sum of {@link OffHeapMemory#sizeOfOffHeap()} over all reachable {@link OffHeapMemory} instances.
+     * <p>
+     * JDK types are not inspected through reflection, only the elements of maps, collections,
+     * optionals and atomic references are followed.
+     */
+    public static long sizeOfOffHeap(Object thing) {
+        long size = 0L;
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        var stack = new ArrayDeque<Object>();
+        if (thing != null) {
+            stack.push(thing);
+        }
+        while (!stack.isEmpty()) {
+            var current = stack.pop();
+            if (!visited.add(current)) {
+                continue;
+            }
+            if (current instanceof OffHeapMemory) {
+                size += ((OffHeapMemory) current).sizeOfOffHeap();
+                continue;
+            }
+            var clazz = current.getClass();
+            if (clazz.isArray()) {
+                if (!clazz.getComponentType().isPrimitive()) {
+                    for (Object element : (Object[]) current) {
+                        pushIfPresent(stack, element);
+                    }
+                }
+            } else if (current instanceof Map) {
+                ((Map<?, ?>) current).values().forEach(value -> pushIfPresent(stack, value));
+            } else if (current instanceof Collection) {
+                ((Collection<?>) current).forEach(element -> pushIfPresent(stack, element));
+            } else if (current instanceof Optional) {
+                ((Optional<?>) current).ifPresent(stack::push);
+            } else if (current instanceof AtomicReference) {
+                pushIfPresent(stack, ((AtomicReference<?>) current).get());
+            } else if (!isJdkClass(clazz)) {
+                pushReferencedObjects(stack, current, clazz);
+            }
+        }
+        return size;
+    }
+
+    private static void pushReferencedObjects(ArrayDeque<Object> stack, Object object, Class<?> clazz) {
+        for (; clazz != null && !isJdkClass(clazz); clazz = clazz.getSuperclass()) {
+            final Field[] fields = AccessController.doPrivileged((PrivilegedAction<Field[]>) clazz::getDeclaredFields);
+            for (Field f : fields) {
+                if (Modifier.isStatic(f.getModifiers()) || f.getType().isPrimitive()) {
+                    continue;
+                }
+                try {
+                    f.setAccessible(true);
+                    pushIfPresent(stack, f.get(object));
+                } catch (IllegalAccessException | RuntimeException ignored) {
+                    // inaccessible fields cannot hold any of our off-heap structures
+                }
+            }
+        }
+    }
+
+    private static void pushIfPresent(ArrayDeque<Object> stack, Object object) {
+        if (object != null) {
+            stack.push(object);
+        }
+    }
+
+    private static boolean isJdkClass(Class<?> clazz) {
+        var name = clazz.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
     /**
      * Aligns an object size to be the next multiple of object alignment bytes.
      */
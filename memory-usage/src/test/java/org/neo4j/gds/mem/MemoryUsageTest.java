@@ -21,6 +21,11 @@ package org.neo4j.gds.mem;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 
 class MemoryUsageTest {
@@ -30,6 +35,26 @@ class MemoryUsageTest {
         assertThatCode(() -> MemoryUsage.sizeOf(new JOLMightFail())).doesNotThrowAnyException();
     }
 
+    @Test
+    void shouldSumReachableOffHeapMemory() {
+        OffHeapMemory shared = () -> 42L;
+        var holder = new OffHeapHolder(shared, new Object[]{shared, Optional.of((OffHeapMemory) () -> 8L)});
+        var graph = Map.of("a", holder, "b", List.of(holder, (OffHeapMemory) () -> 1L));
+
+        assertThat(MemoryUsage.sizeOfOffHeap(graph)).isEqualTo(42L + 8L + 1L);
+        assertThat(MemoryUsage.sizeOfOffHeap(null)).isEqualTo(0L);
+    }
+
+    private static final class OffHeapHolder {
+        private final OffHeapMemory memory;
+        private final Object[] others;
+
+        private OffHeapHolder(OffHeapMemory memory, Object[] others) {
+            this.memory = memory;
+            this.others = others;
+        }
+    }
+
     // The nested recursive ThreadLocal causes JOL to be unable to access some attributes of the class on the ZULU JVM
     private static final class JOLMightFail {
         private final ThreadLocal<JOLMightFail> threadLocal;
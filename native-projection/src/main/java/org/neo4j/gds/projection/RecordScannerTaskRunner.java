@@ -45,9 +45,13 @@ final class RecordScannerTaskRunner {
         }
 
         long start = System.nanoTime();
-        ParallelUtil.run(tasks, executorService);
+        try {
+            ParallelUtil.run(tasks, executorService);
 
-        ParallelUtil.run(recordScannerTaskFactory.adjacencyListBuilderTasks(), executorService);
+            ParallelUtil.run(recordScannerTaskFactory.adjacencyListBuilderTasks(), executorService);
+        } finally {
+            recordScannerTaskFactory.deleteSpills();
+        }
         long elapsed = System.nanoTime() - start;
 
         long importedRecords = 0L;
@@ -80,5 +84,7 @@ final class RecordScannerTaskRunner {
 
         // TODO: only necessary for relationships, can we move it somewhere else?
         Collection<AdjacencyBuffer.AdjacencyListBuilderTask> adjacencyListBuilderTasks();
+
+        default void deleteSpills() {}
     }
 }
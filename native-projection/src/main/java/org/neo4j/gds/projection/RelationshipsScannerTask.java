@@ -105,6 +105,11 @@ public final class RelationshipsScannerTask extends StatementAction implements R
                 .flatMap(factory -> factory.adjacencyListBuilderTasks(Optional.empty()).stream())
                 .collect(Collectors.toList());
         }
+
+        @Override
+        public void deleteSpills() {
+            singleTypeRelationshipImporters.forEach(SingleTypeRelationshipImporter::deleteSpills);
+        }
     }
 
     private final TerminationFlag terminationFlag;
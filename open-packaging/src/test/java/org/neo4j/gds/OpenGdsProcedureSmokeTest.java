@@ -401,6 +401,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.graph.project.cypher.estimate",
         "gds.graph.project.estimate",
         "gds.graph.nodeProperties.stream",
+        "gds.graph.nodeProperties.stream.batched",
         "gds.graph.nodeProperty.stream",
         "gds.graph.relationshipProperties.stream",
         "gds.graph.relationshipProperties.write",
@@ -453,6 +454,11 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.shortestPath.astar.write",
         "gds.shortestPath.astar.write.estimate",
 
+        "gds.shortestPath.contractionHierarchy.build",
+        "gds.shortestPath.contractionHierarchy.build.estimate",
+        "gds.shortestPath.contractionHierarchy.stream",
+        "gds.shortestPath.contractionHierarchy.stream.estimate",
+
         "gds.shortestPath.dijkstra.stream",
         "gds.shortestPath.dijkstra.stream.estimate",
         "gds.shortestPath.dijkstra.mutate",
@@ -471,6 +477,10 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
 
         "gds.wcc.mutate",
         "gds.wcc.mutate.estimate",
+        "gds.wcc.online.addRelationships",
+        "gds.wcc.online.init",
+        "gds.wcc.online.init.estimate",
+        "gds.wcc.online.stream",
         "gds.wcc.stats",
         "gds.wcc.stats.estimate",
         "gds.wcc.stream",
@@ -576,7 +586,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 420;
+        int expectedCount = 429;
         assertEquals(
             expectedCount,
             returnedRows,
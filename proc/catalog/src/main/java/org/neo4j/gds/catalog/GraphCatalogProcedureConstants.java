@@ -29,6 +29,7 @@ final class GraphCatalogProcedureConstants {
     static final String PROJECT_DESCRIPTION = "Creates a named graph in the catalog for use by algorithms.";
     static final String STREAM_GRAPH_PROPERTY_DESCRIPTION = "Streams the given graph property.";
     static final String STREAM_NODE_PROPERTIES_DESCRIPTION = "Streams the given node properties.";
+    static final String STREAM_NODE_PROPERTIES_BATCHED_DESCRIPTION = "Streams the given node properties in batches of node ids and property value arrays.";
     static final String STREAM_NODE_PROPERTY_DESCRIPTION = "Streams the given node property.";
     static final String STREAM_RELATIONSHIP_PROPERTIES_DESCRIPTION = "Streams the given relationship properties.";
     static final String STREAM_RELATIONSHIP_PROPERTY_DESCRIPTION = "Streams the given relationship property.";
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.catalog;
 
+import org.neo4j.gds.applications.graphstorecatalog.GraphStreamNodePropertiesBatchResult;
 import org.neo4j.gds.applications.graphstorecatalog.GraphStreamNodePropertiesResult;
 import org.neo4j.gds.applications.graphstorecatalog.GraphStreamNodePropertyResult;
 import org.neo4j.gds.procedures.GraphDataScience;
@@ -31,6 +32,7 @@ import org.neo4j.procedure.Procedure;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import static org.neo4j.gds.catalog.GraphCatalogProcedureConstants.STREAM_NODE_PROPERTIES_BATCHED_DESCRIPTION;
 import static org.neo4j.gds.catalog.GraphCatalogProcedureConstants.STREAM_NODE_PROPERTIES_DESCRIPTION;
 import static org.neo4j.gds.catalog.GraphCatalogProcedureConstants.STREAM_NODE_PROPERTY_DESCRIPTION;
 import static org.neo4j.procedure.Mode.READ;
@@ -56,6 +58,23 @@ public class GraphStreamNodePropertiesProc {
         );
     }
 
+    @SuppressWarnings("unused")
+    @Procedure(name = "gds.graph.nodeProperties.stream.batched", mode = READ)
+    @Description(STREAM_NODE_PROPERTIES_BATCHED_DESCRIPTION)
+    public Stream<GraphStreamNodePropertiesBatchResult> streamNodePropertiesBatched(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "nodeProperties") Object nodeProperties,
+        @Name(value = "nodeLabels", defaultValue = "['*']") Object nodeLabels,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return facade.catalog().streamNodePropertiesBatched(
+            graphName,
+            nodeProperties,
+            nodeLabels,
+            configuration
+        );
+    }
+
     @SuppressWarnings("unused")
     @Procedure(name = "gds.graph.streamNodeProperties", mode = READ, deprecatedBy = "gds.graph.nodeProperties.stream")
     @Description(STREAM_NODE_PROPERTIES_DESCRIPTION)
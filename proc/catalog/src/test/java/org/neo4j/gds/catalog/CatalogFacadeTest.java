@@ -319,6 +319,16 @@ class CatalogFacadeTest {
             return ZonedDateTime.now();
         }
 
+        @Override
+        public long mutationCount() {
+            return 0;
+        }
+
+        @Override
+        public long topologyChangeCount() {
+            return 0;
+        }
+
         @Override
         public Capabilities capabilities() {
             throw new UnsupportedOperationException("TODO");
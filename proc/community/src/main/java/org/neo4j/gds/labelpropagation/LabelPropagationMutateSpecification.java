@@ -98,6 +98,7 @@ public class LabelPropagationMutateSpecification implements AlgorithmSpec<LabelP
                     builder
                         .didConverge(result.didConverge())
                         .ranIterations(result.ranIterations())
+                        .activeNodeCounts(result.activeNodeCounts())
                         .withCommunityFunction((nodeId) -> result.labels().get(nodeId));
 
                 }
@@ -62,6 +62,7 @@ public class LabelPropagationStatsSpecification implements AlgorithmSpec<LabelPr
                         builder
                             .didConverge(result.didConverge())
                             .ranIterations(result.ranIterations())
+                            .activeNodeCounts(result.activeNodeCounts())
                             .withCommunityFunction((nodeId) -> result.labels().get(nodeId));
 
                     }
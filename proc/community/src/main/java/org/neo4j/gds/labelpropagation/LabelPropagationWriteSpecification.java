@@ -98,6 +98,7 @@ public class LabelPropagationWriteSpecification implements AlgorithmSpec<LabelPr
                     builder
                         .didConverge(result.didConverge())
                         .ranIterations(result.ranIterations())
+                        .activeNodeCounts(result.activeNodeCounts())
                         .withCommunityFunction((nodeId) -> result.labels().get(nodeId));
 
                 }
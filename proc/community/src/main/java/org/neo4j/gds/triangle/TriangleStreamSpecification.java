@@ -30,6 +30,7 @@ import java.util.stream.Stream;
 import static org.neo4j.gds.LoggingUtil.runWithExceptionLogging;
 import static org.neo4j.gds.executor.ExecutionMode.STREAM;
 import static org.neo4j.gds.triangle.TriangleProc.DESCRIPTION;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @GdsCallable(
     name = "gds.triangles",
@@ -51,7 +52,17 @@ public class TriangleStreamSpecification implements AlgorithmSpec<TriangleStream
 
     @Override
     public NewConfigFunction<TriangleCountBaseConfig> newConfigFunction() {
-        return (__, userInput) -> TriangleCountBaseConfig.of(userInput);
+        return (__, userInput) -> {
+            var config = TriangleCountBaseConfig.of(userInput);
+            // triangles are listed exactly, sampling only applies to counting them
+            if (config.samplingRatio() < 1.0) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The 'samplingRatio' parameter is not supported when streaming triangles, got %s.",
+                    config.samplingRatio()
+                ));
+            }
+            return config;
+        };
     }
 
     @Override
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.ExecutionMode;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.executor.NewConfigFunction;
+
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.wcc.WccOnlineProc.INIT_DESCRIPTION;
+
+@GdsCallable(name = "gds.wcc.online.init", description = INIT_DESCRIPTION, executionMode = ExecutionMode.STATS)
+public class WccOnlineInitSpecification implements AlgorithmSpec<Wcc, DisjointSetStruct, WccStatsConfig, Stream<WccOnlineInitResult>, WccAlgorithmFactory<WccStatsConfig>> {
+
+    private final @Nullable String graphName;
+
+    public WccOnlineInitSpecification() {
+        this(null);
+    }
+
+    WccOnlineInitSpecification(@Nullable String graphName) {
+        this.graphName = graphName;
+    }
+
+    @Override
+    public String name() {
+        return "WccOnlineInit";
+    }
+
+    @Override
+    public WccAlgorithmFactory<WccStatsConfig> algorithmFactory(ExecutionContext executionContext) {
+        return new WccAlgorithmFactory<>();
+    }
+
+    @Override
+    public NewConfigFunction<WccStatsConfig> newConfigFunction() {
+        return (__, userInput) -> WccStatsConfig.of(userInput);
+    }
+
+    @Override
+    public ComputationResultConsumer<Wcc, DisjointSetStruct, WccStatsConfig, Stream<WccOnlineInitResult>> computationResultConsumer() {
+        return (computationResult, executionContext) -> {
+            var graph = computationResult.graph();
+            var components = computationResult
+                .result()
+                .orElseGet(() -> new HugeAtomicDisjointSetStruct(graph.nodeCount(), 1));
+            if (graphName != null) {
+                OnlineWccCatalog.set(
+                    executionContext.username(),
+                    executionContext.databaseId(),
+                    graphName,
+                    new OnlineWcc(graph, components)
+                );
+            }
+            return Stream.of(new WccOnlineInitResult(
+                computationResult.preProcessingMillis(),
+                computationResult.computeMillis(),
+                0,
+                computationResult.config().toMap(),
+                graph.nodeCount()
+            ));
+        };
+    }
+}
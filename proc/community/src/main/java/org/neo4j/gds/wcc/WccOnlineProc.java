@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.config.NodeIdParser;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.executor.MemoryEstimationExecutor;
+import org.neo4j.gds.executor.ProcedureExecutor;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class WccOnlineProc extends BaseProc {
+
+    static final String INIT_DESCRIPTION = "Computes the connected components of a graph and keeps them with the graph, so that relationships can be added to them afterwards.";
+    static final String ADD_RELATIONSHIPS_DESCRIPTION = "Adds relationships to the connected components kept with a graph, merging the components of their end nodes.";
+    static final String STREAM_DESCRIPTION = "Returns the component of the given nodes from the connected components kept with a graph.";
+
+    @Procedure(name = "gds.wcc.online.init", mode = READ)
+    @Description(INIT_DESCRIPTION)
+    public Stream<WccOnlineInitResult> init(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return new ProcedureExecutor<>(
+            new WccOnlineInitSpecification(graphName),
+            executionContext()
+        ).compute(graphName, configuration);
+    }
+
+    @Procedure(name = "gds.wcc.online.init.estimate", mode = READ)
+    @Description(ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> initEstimate(
+        @Name(value = "graphNameOrConfiguration") Object graphNameOrConfiguration,
+        @Name(value = "algoConfiguration") Map<String, Object> algoConfiguration
+    ) {
+        return new MemoryEstimationExecutor<>(
+            new WccOnlineInitSpecification(),
+            executionContext(),
+            transactionContext()
+        ).computeEstimate(graphNameOrConfiguration, algoConfiguration);
+    }
+
+    @Procedure(name = "gds.wcc.online.addRelationships", mode = READ)
+    @Description(ADD_RELATIONSHIPS_DESCRIPTION)
+    public Stream<WccOnlineAddRelationshipsResult> addRelationships(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "sourceNodes") Object sourceNodes,
+        @Name(value = "targetNodes") Object targetNodes,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = WccOnlineAddRelationshipsConfig.of(cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        var onlineWcc = OnlineWccCatalog.get(username(), executionContext().databaseId(), graphName);
+        var sourceNodeIds = NodeIdParser.parseToListOfNodeIds(sourceNodes, "sourceNodes")
+            .stream()
+            .mapToLong(Long::longValue)
+            .toArray();
+        var targetNodeIds = NodeIdParser.parseToListOfNodeIds(targetNodes, "targetNodes")
+            .stream()
+            .mapToLong(Long::longValue)
+            .toArray();
+
+        var timer = ProgressTimer.start();
+        onlineWcc.addRelationships(sourceNodeIds, targetNodeIds, config.concurrency());
+        timer.stop();
+
+        return Stream.of(new WccOnlineAddRelationshipsResult(
+            sourceNodeIds.length,
+            onlineWcc.addedRelationshipCount(),
+            timer.getDuration()
+        ));
+    }
+
+    @Procedure(name = "gds.wcc.online.stream", mode = READ)
+    @Description(STREAM_DESCRIPTION)
+    public Stream<WccStreamSpecification.StreamResult> stream(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "nodes") Object nodes
+    ) {
+        var onlineWcc = OnlineWccCatalog.get(username(), executionContext().databaseId(), graphName);
+        return NodeIdParser.parseToListOfNodeIds(nodes, "nodes")
+            .stream()
+            .map(nodeId -> new WccStreamSpecification.StreamResult(nodeId, onlineWcc.componentId(nodeId)));
+    }
+}
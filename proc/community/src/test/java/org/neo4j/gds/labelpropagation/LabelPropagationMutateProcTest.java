@@ -254,6 +254,8 @@ public class LabelPropagationMutateProcTest extends BaseProcTest {
 
                 assertThat(row.getBoolean("didConverge")).isTrue();
 
+                assertThat(row.get("activeNodeCounts")).isEqualTo(List.of(12L, 12L));
+
                 assertThat(row.get("communityDistribution"))
                     .isNotNull()
                     .isInstanceOf(Map.class)
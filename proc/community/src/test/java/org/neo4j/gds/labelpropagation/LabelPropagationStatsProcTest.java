@@ -92,6 +92,7 @@ class LabelPropagationStatsProcTest extends BaseProcTest {
         assertCypherResult(query, List.of(Map.of(
             "didConverge", true,
             "ranIterations", 2L,
+            "activeNodeCounts", List.of(12L, 12L),
             "communityCount", 10L,
             "communityDistribution",
             containsAllEntriesOf(Map.of(
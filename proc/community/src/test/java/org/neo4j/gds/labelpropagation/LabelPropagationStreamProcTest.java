@@ -136,9 +136,9 @@ class LabelPropagationStreamProcTest extends BaseProcTest {
                     "relationshipCount",
                     10L,
                     "bytesMin",
-                    1640L,
+                    2808L,
                     "bytesMax",
-                    2152L
+                    4344L
                 )
             )
         );
@@ -99,7 +99,7 @@ class LabelPropagationWriteProcTest extends BaseProcTest {
     void testWrite() {
         var query = "CALL gds.labelPropagation.write('myGraph', {writeProperty: 'myFancyCommunity'})" +
                     " YIELD communityCount, preProcessingMillis, computeMillis, writeMillis, " +
-                    " postProcessingMillis, communityDistribution, didConverge";
+                    " postProcessingMillis, communityDistribution, didConverge, activeNodeCounts";
 
         var rowCount = runQueryWithRowConsumer(query, row -> {
             assertThat(row.getNumber("communityCount"))
@@ -124,6 +124,8 @@ class LabelPropagationWriteProcTest extends BaseProcTest {
 
             assertThat(row.getBoolean("didConverge")).isTrue();
 
+            assertThat(row.get("activeNodeCounts")).isEqualTo(List.of(12L, 12L));
+
             assertThat(row.get("communityDistribution"))
                 .isInstanceOf(Map.class)
                 .asInstanceOf(MAP)
@@ -377,8 +379,8 @@ class LabelPropagationWriteProcTest extends BaseProcTest {
         assertCypherResult(query, List.of(Map.of(
             "nodeCount", 12L,
             "relationshipCount", 10L,
-            "bytesMin", 1640L,
-            "bytesMax", 2152L
+            "bytesMin", 2808L,
+            "bytesMax", 4344L
         )));
     }
 
@@ -76,4 +76,12 @@ class TriangleProcTest extends BaseProcTest {
                 Map.of("triangleSum", Stream.of("g", "h", "i").mapToLong(idFunction::of).sum())
             ));
     }
+
+    @Test
+    void shouldRejectSamplingRatio() {
+        assertError(
+            "CALL gds.triangles('graph', {samplingRatio: 0.1})",
+            "The 'samplingRatio' parameter is not supported when streaming triangles, got 0.1."
+        );
+    }
 }
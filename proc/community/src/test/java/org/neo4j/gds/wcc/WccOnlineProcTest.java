@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.wcc;
+
+import org.intellij.lang.annotations.Language;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+import org.neo4j.gds.nodeproperties.LongTestPropertyValues;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WccOnlineProcTest extends BaseProcTest {
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Neo4jGraph
+    @Language("Cypher")
+    static final String DB_CYPHER = "CREATE" +
+        "  (a:Node {name: 'a'})" +
+        ", (b:Node {name: 'b'})" +
+        ", (c:Node {name: 'c'})" +
+        ", (d:Node {name: 'd'})" +
+        ", (e:Node {name: 'e'})" +
+        ", (a)-[:TYPE]->(b)" +
+        ", (c)-[:TYPE]->(d)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            WccOnlineProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery(GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .graphProject()
+            .loadEverything(Orientation.NATURAL)
+            .yields());
+    }
+
+    @AfterEach
+    void removeAllLoadedGraphs() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldMergeComponentsOfAddedRelationships() {
+        runQueryWithRowConsumer(
+            "CALL gds.wcc.online.init('graph') YIELD nodeCount",
+            row -> assertThat(row.getNumber("nodeCount").longValue()).isEqualTo(5L)
+        );
+
+        var components = components();
+        assertThat(components.get("a")).isEqualTo(components.get("b")).isNotEqualTo(components.get("c"));
+        assertThat(components.get("c")).isEqualTo(components.get("d"));
+
+        runQueryWithRowConsumer(
+            "MATCH (source {name: 'b'}), (target {name: 'c'}) " +
+            "CALL gds.wcc.online.addRelationships('graph', [source], [target], {concurrency: 1}) " +
+            "YIELD relationshipsAdded, totalRelationshipsAdded " +
+            "RETURN relationshipsAdded, totalRelationshipsAdded",
+            row -> {
+                assertThat(row.getNumber("relationshipsAdded").longValue()).isEqualTo(1L);
+                assertThat(row.getNumber("totalRelationshipsAdded").longValue()).isEqualTo(1L);
+            }
+        );
+
+        components = components();
+        assertThat(components.get("a"))
+            .isEqualTo(components.get("b"))
+            .isEqualTo(components.get("c"))
+            .isEqualTo(components.get("d"))
+            .isNotEqualTo(components.get("e"));
+    }
+
+    @Test
+    void shouldParseNodeIds() {
+        runQuery("CALL gds.wcc.online.init('graph')");
+
+        runQueryWithRowConsumer(
+            "CALL gds.wcc.online.addRelationships('graph', $source, [$target]) YIELD totalRelationshipsAdded",
+            Map.of("source", idFunction.of("a"), "target", idFunction.of("e")),
+            row -> assertThat(row.getNumber("totalRelationshipsAdded").longValue()).isEqualTo(1L)
+        );
+
+        var componentIds = new HashMap<Long, Long>();
+        runQueryWithRowConsumer(
+            "CALL gds.wcc.online.stream('graph', [$a, $e]) YIELD nodeId, componentId",
+            Map.of("a", idFunction.of("a"), "e", idFunction.of("e")),
+            row -> componentIds.put(row.getNumber("nodeId").longValue(), row.getNumber("componentId").longValue())
+        );
+        assertThat(componentIds).containsOnlyKeys(idFunction.of("a"), idFunction.of("e"));
+        assertThat(componentIds.get(idFunction.of("a"))).isEqualTo(componentIds.get(idFunction.of("e")));
+
+        assertError(
+            "CALL gds.wcc.online.addRelationships('graph', 'a', 'b')",
+            "Failed to parse `sourceNodes` as a List of node IDs."
+        );
+        assertError(
+            "CALL gds.wcc.online.addRelationships('graph', [0, 1], [1])",
+            "Expected as many source nodes as target nodes, but got 2 source nodes and 1 target nodes."
+        );
+        assertError(
+            "CALL gds.wcc.online.stream('graph', [42000])",
+            "Node with id 42000 does not exist in the graph the components were computed on."
+        );
+    }
+
+    @Test
+    void shouldRequireInitFirst() {
+        assertError(
+            "CALL gds.wcc.online.addRelationships('graph', [0], [1])",
+            "No components are kept for graph `graph`. Run `gds.wcc.online.init` on the graph first."
+        );
+        assertError(
+            "CALL gds.wcc.online.stream('graph', [0])",
+            "No components are kept for graph `graph`. Run `gds.wcc.online.init` on the graph first."
+        );
+    }
+
+    @Test
+    void shouldFailForMissingGraph() {
+        assertError(
+            "CALL gds.wcc.online.stream('missing', [0])",
+            "Graph with name `missing` does not exist"
+        );
+    }
+
+    @Test
+    void shouldRejectUnknownConfigurationKeys() {
+        runQuery("CALL gds.wcc.online.init('graph')");
+
+        assertError(
+            "CALL gds.wcc.online.addRelationships('graph', [0], [1], {concurency: 1})",
+            "Unexpected configuration key: concurency"
+        );
+    }
+
+    @Test
+    void shouldKeepComponentsWithTheGraphUntilItChanges() {
+        var databaseId = DatabaseId.of(db.databaseName());
+        assertThat(onlineWcc(databaseId)).isEmpty();
+
+        runQuery("CALL gds.wcc.online.init('graph')");
+        assertThat(onlineWcc(databaseId)).hasValueSatisfying(onlineWcc -> assertThat(onlineWcc.nodeCount()).isEqualTo(5L));
+
+        GraphStoreCatalog
+            .get(getUsername(), databaseId, DEFAULT_GRAPH_NAME)
+            .graphStore()
+            .addNodeLabel(NodeLabel.of("Changed"));
+        assertThat(onlineWcc(databaseId)).isEmpty();
+    }
+
+    @Test
+    void shouldKeepAddedRelationshipsWhenNodePropertiesChange() {
+        runQuery("CALL gds.wcc.online.init('graph')");
+        runQuery(
+            "MATCH (source {name: 'b'}), (target {name: 'c'}) " +
+            "CALL gds.wcc.online.addRelationships('graph', [source], [target]) " +
+            "YIELD totalRelationshipsAdded " +
+            "RETURN totalRelationshipsAdded"
+        );
+
+        // a node property is written by mutate procedures and removed by dropping it
+        var graphStore = GraphStoreCatalog
+            .get(getUsername(), DatabaseId.of(db.databaseName()), DEFAULT_GRAPH_NAME)
+            .graphStore();
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "score", new LongTestPropertyValues(nodeId -> nodeId));
+        graphStore.removeNodeProperty("score");
+
+        var components = components();
+        assertThat(components.get("a"))
+            .isEqualTo(components.get("b"))
+            .isEqualTo(components.get("c"))
+            .isEqualTo(components.get("d"))
+            .isNotEqualTo(components.get("e"));
+    }
+
+    private Optional<OnlineWcc> onlineWcc(DatabaseId databaseId) {
+        return GraphStoreCatalog.getExtension(
+            getUsername(),
+            databaseId,
+            DEFAULT_GRAPH_NAME,
+            OnlineWccCatalog.EXTENSION_KEY,
+            OnlineWcc.class
+        );
+    }
+
+    private Map<String, Long> components() {
+        var components = new HashMap<String, Long>();
+        runQueryWithRowConsumer(
+            "MATCH (n:Node) WITH collect(n) AS nodes " +
+            "CALL gds.wcc.online.stream('graph', nodes) YIELD nodeId, componentId " +
+            "MATCH (n) WHERE id(n) = nodeId " +
+            "RETURN n.name AS name, componentId",
+            row -> components.put(row.getString("name"), row.getNumber("componentId").longValue())
+        );
+        return components;
+    }
+}
@@ -19,10 +19,10 @@
  */
 package org.neo4j.gds.embeddings.fastrp;
 
+import org.neo4j.gds.algorithms.embeddings.EmbeddingNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.EmptyFloatArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
-import org.neo4j.gds.collections.ha.HugeObjectArray;
 import org.neo4j.gds.executor.ComputationResult;
 
 final class FastRPCompanion {
@@ -40,24 +40,4 @@ final class FastRPCompanion {
     static NodePropertyValues nodeProperties(FastRP.FastRPResult result) {
         return new EmbeddingNodePropertyValues(result.embeddings());
     }
-
-    private static class EmbeddingNodePropertyValues implements FloatArrayNodePropertyValues {
-        private final HugeObjectArray<float[]> embeddings;
-        private final long nodeCount;
-
-        EmbeddingNodePropertyValues(HugeObjectArray<float[]> embeddings) {
-            this.embeddings = embeddings;
-            nodeCount = embeddings.size();
-        }
-
-        @Override
-        public float[] floatArrayValue(long nodeId) {
-            return embeddings.get(nodeId);
-        }
-
-        @Override
-        public long nodeCount() {
-            return nodeCount;
-        }
-    }
 }
@@ -81,6 +81,13 @@ public final class FeatureToggleProc {
         GdsFeatureToggles.PAGES_PER_THREAD.set((int) pagesPerThread);
     }
 
+    @Internal
+    @Procedure("gds.features.adjacencySpillBudget")
+    @Description("Set how many bytes the import of a relationship type may buffer on heap before spilling to disk. A negative value disables spilling.")
+    public void adjacencySpillBudget(@Name(value = "adjacencySpillBudget") long adjacencySpillBudget) {
+        GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.set(adjacencySpillBudget);
+    }
+
     @Internal
     @Procedure("gds.features.useUncompressedAdjacencyList")
     @Description("Toggle whether the adjacency list should be stored uncompressed during graph creation.")
@@ -197,6 +204,14 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureLongValue(GdsFeatureToggles.PAGES_PER_THREAD_DEFAULT_SETTING));
     }
 
+    @Internal
+    @Procedure("gds.features.adjacencySpillBudget.reset")
+    @Description("Set the adjacency spill budget to the default. That value is returned.")
+    public Stream<FeatureLongValue> resetAdjacencySpillBudget() {
+        GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.set(GdsFeatureToggles.ADJACENCY_SPILL_BUDGET_DEFAULT_SETTING);
+        return Stream.of(new FeatureLongValue(GdsFeatureToggles.ADJACENCY_SPILL_BUDGET_DEFAULT_SETTING));
+    }
+
     @Internal
     @Procedure("gds.features.enableAdjacencyCompressionMemoryTracking")
     @Description("Enables memory tracking during the construction of an adjacency list.")
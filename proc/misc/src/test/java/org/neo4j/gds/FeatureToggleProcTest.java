@@ -295,6 +295,25 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertEquals(defaultValue, GdsFeatureToggles.PAGES_PER_THREAD.get());
     }
 
+    @Test
+    void toggleAdjacencySpillBudget() {
+        var adjacencySpillBudget = GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.get();
+        runQuery("CALL gds.features.adjacencySpillBudget($value)", Map.of("value", 1024L));
+        assertEquals(1024L, GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.get());
+        runQuery("CALL gds.features.adjacencySpillBudget($value)", Map.of("value", adjacencySpillBudget));
+        assertEquals(adjacencySpillBudget, GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.get());
+    }
+
+    @Test
+    void resetAdjacencySpillBudget() {
+        GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.set(1024L);
+        assertCypherResult(
+            "CALL gds.features.adjacencySpillBudget.reset()",
+            List.of(Map.of("value", GdsFeatureToggles.ADJACENCY_SPILL_BUDGET_DEFAULT_SETTING))
+        );
+        assertEquals(GdsFeatureToggles.ADJACENCY_SPILL_BUDGET_DEFAULT_SETTING, GdsFeatureToggles.ADJACENCY_SPILL_BUDGET.get());
+    }
+
     @Test
     void toggleEnableAdjacencyCompressionMemoryTracking() {
         var enableAdjacencyCompressionMemoryTracking = ENABLE_ADJACENCY_COMPRESSION_MEMORY_TRACKING.isEnabled();
@@ -25,16 +25,21 @@ import org.neo4j.gds.allshortestpaths.AllShortestPathsConfig;
 import org.neo4j.gds.allshortestpaths.AllShortestPathsStreamResult;
 import org.neo4j.gds.allshortestpaths.MSBFSASPAlgorithm;
 import org.neo4j.gds.allshortestpaths.MSBFSAllShortestPaths;
+import org.neo4j.gds.allshortestpaths.MultiSourceDistanceMatrix;
 import org.neo4j.gds.allshortestpaths.WeightedAllShortestPaths;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.DefaultPool;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.exceptions.MemoryEstimationNotImplementedException;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
 
+import java.util.List;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.executor.ExecutionMode.STREAM;
@@ -66,6 +71,15 @@ public class AllShortestPathsStreamSpec implements AlgorithmSpec<MSBFSASPAlgorit
                 AllShortestPathsConfig configuration,
                 ProgressTracker progressTracker
             ) {
+                if (computesDistanceMatrix(configuration)) {
+                    return new MultiSourceDistanceMatrix(
+                        graph,
+                        mappedNodes(graph, configuration.sourceNodes()),
+                        mappedNodes(graph, configuration.targetNodes()),
+                        configuration.concurrency(),
+                        DefaultPool.INSTANCE
+                    );
+                }
                 if (configuration.hasRelationshipWeightProperty()) {
                     return new WeightedAllShortestPaths(
                         graph,
@@ -80,9 +94,32 @@ public class AllShortestPathsStreamSpec implements AlgorithmSpec<MSBFSASPAlgorit
                     );
                 }
             }
+
+            // memory is validated only for the distance matrix, the other algorithms have no estimation yet
+            @Override
+            public MemoryEstimation memoryEstimation(AllShortestPathsConfig configuration) {
+                if (computesDistanceMatrix(configuration)) {
+                    return MultiSourceDistanceMatrix.memoryEstimation(
+                        configuration.sourceNodes().size(),
+                        configuration.targetNodes().size()
+                    );
+                }
+                throw new MemoryEstimationNotImplementedException();
+            }
         };
     }
 
+    private static boolean computesDistanceMatrix(AllShortestPathsConfig configuration) {
+        return !configuration.sourceNodes().isEmpty() || configuration.hasTargetNodes();
+    }
+
+    private static long[] mappedNodes(Graph graph, List<Long> originalNodes) {
+        if (originalNodes.isEmpty()) {
+            return LongStream.range(0, graph.nodeCount()).toArray();
+        }
+        return originalNodes.stream().mapToLong(graph::toMappedNodeId).toArray();
+    }
+
     @Override
     public NewConfigFunction<AllShortestPathsConfig> newConfigFunction() {
         return AllShortestPathsConfig::of;
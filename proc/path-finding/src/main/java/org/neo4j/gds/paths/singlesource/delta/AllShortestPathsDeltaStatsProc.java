@@ -24,7 +24,6 @@ import org.neo4j.gds.executor.MemoryEstimationExecutor;
 import org.neo4j.gds.executor.ProcedureExecutor;
 import org.neo4j.gds.paths.delta.DeltaStepping;
 import org.neo4j.gds.results.MemoryEstimateResult;
-import org.neo4j.gds.results.StandardStatsResult;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
@@ -38,7 +37,7 @@ public class AllShortestPathsDeltaStatsProc extends BaseProc {
 
     @Procedure(name = "gds.allShortestPaths.delta.stats", mode = READ)
     @Description(DeltaStepping.DESCRIPTION)
-    public Stream<StandardStatsResult> stats(
+    public Stream<AllShortestPathsDeltaStatsResult> stats(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
@@ -28,14 +28,16 @@ import org.neo4j.gds.paths.delta.DeltaStepping;
 import org.neo4j.gds.paths.delta.DeltaSteppingFactory;
 import org.neo4j.gds.paths.delta.config.AllShortestPathsDeltaStatsConfig;
 import org.neo4j.gds.paths.dijkstra.PathFindingResult;
-import org.neo4j.gds.results.StandardStatsResult;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.executor.ExecutionMode.STATS;
 
 @GdsCallable(name = "gds.allShortestPaths.delta.stats", description = DeltaStepping.DESCRIPTION, executionMode = STATS)
-public class AllShortestPathsDeltaStatsSpec implements AlgorithmSpec<DeltaStepping, PathFindingResult, AllShortestPathsDeltaStatsConfig, Stream<StandardStatsResult>, DeltaSteppingFactory<AllShortestPathsDeltaStatsConfig>> {
+public class AllShortestPathsDeltaStatsSpec implements AlgorithmSpec<DeltaStepping, PathFindingResult, AllShortestPathsDeltaStatsConfig, Stream<AllShortestPathsDeltaStatsResult>, DeltaSteppingFactory<AllShortestPathsDeltaStatsConfig>> {
 
     @Override
     public String name() {
@@ -53,14 +55,23 @@ public class AllShortestPathsDeltaStatsSpec implements AlgorithmSpec<DeltaSteppi
     }
 
     @Override
-    public ComputationResultConsumer<DeltaStepping, PathFindingResult, AllShortestPathsDeltaStatsConfig, Stream<StandardStatsResult>> computationResultConsumer() {
-        return (computationResult, executionContext) ->
-            Stream.of(new StandardStatsResult(
+    public ComputationResultConsumer<DeltaStepping, PathFindingResult, AllShortestPathsDeltaStatsConfig, Stream<AllShortestPathsDeltaStatsResult>> computationResultConsumer() {
+        return (computationResult, executionContext) -> {
+            var algorithm = computationResult.algorithm();
+            double delta = algorithm == null ? computationResult.config().delta() : algorithm.delta();
+            List<Long> phaseFrontierSizes = algorithm == null
+                ? List.of()
+                : Arrays.stream(algorithm.phaseFrontierSizes()).boxed().collect(Collectors.toList());
+
+            return Stream.of(new AllShortestPathsDeltaStatsResult(
                 computationResult.preProcessingMillis(),
                 computationResult.computeMillis(),
                 0,
-                computationResult.config().toMap()
+                computationResult.config().toMap(),
+                delta,
+                phaseFrontierSizes
             ));
+        };
     }
 
 @Override
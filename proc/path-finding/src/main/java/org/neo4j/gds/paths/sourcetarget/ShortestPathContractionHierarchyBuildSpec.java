@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.sourcetarget;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.executor.GdsCallable;
+import org.neo4j.gds.executor.NewConfigFunction;
+import org.neo4j.gds.paths.contraction.ContractionHierarchy;
+import org.neo4j.gds.paths.contraction.ContractionHierarchyAlgorithmFactory;
+import org.neo4j.gds.paths.contraction.ContractionHierarchyBuilder;
+import org.neo4j.gds.paths.contraction.ContractionHierarchyStatsConfig;
+
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.executor.ExecutionMode.STATS;
+import static org.neo4j.gds.paths.sourcetarget.ShortestPathContractionHierarchyProc.BUILD_DESCRIPTION;
+
+@GdsCallable(name = "gds.shortestPath.contractionHierarchy.build", description = BUILD_DESCRIPTION, executionMode = STATS)
+public class ShortestPathContractionHierarchyBuildSpec implements AlgorithmSpec<ContractionHierarchyBuilder, ContractionHierarchy, ContractionHierarchyStatsConfig, Stream<ShortestPathContractionHierarchyBuildResult>, ContractionHierarchyAlgorithmFactory<ContractionHierarchyStatsConfig>> {
+
+    private final @Nullable String graphName;
+
+    public ShortestPathContractionHierarchyBuildSpec() {
+        this(null);
+    }
+
+    ShortestPathContractionHierarchyBuildSpec(@Nullable String graphName) {
+        this.graphName = graphName;
+    }
+
+    @Override
+    public String name() {
+        return "ContractionHierarchyBuild";
+    }
+
+    @Override
+    public ContractionHierarchyAlgorithmFactory<ContractionHierarchyStatsConfig> algorithmFactory(ExecutionContext executionContext) {
+        return new ContractionHierarchyAlgorithmFactory<>(ShortestPathContractionHierarchyProc.provider(
+            executionContext,
+            graphName
+        ));
+    }
+
+    @Override
+    public NewConfigFunction<ContractionHierarchyStatsConfig> newConfigFunction() {
+        return (username, configuration) -> ContractionHierarchyStatsConfig.of(configuration);
+    }
+
+    @Override
+    public ComputationResultConsumer<ContractionHierarchyBuilder, ContractionHierarchy, ContractionHierarchyStatsConfig, Stream<ShortestPathContractionHierarchyBuildResult>> computationResultConsumer() {
+        return (computationResult, executionContext) -> {
+            var hierarchy = computationResult.result();
+            return Stream.of(new ShortestPathContractionHierarchyBuildResult(
+                computationResult.preProcessingMillis(),
+                computationResult.computeMillis(),
+                0,
+                computationResult.config().toMap(),
+                hierarchy.map(ContractionHierarchy::nodeCount).orElse(0L),
+                hierarchy.map(ContractionHierarchy::relationshipCount).orElse(0L),
+                hierarchy.map(ContractionHierarchy::shortcutCount).orElse(0L)
+            ));
+        };
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.sourcetarget;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.paths.contraction.ContractionHierarchyCatalog;
+import org.neo4j.gds.paths.contraction.ContractionHierarchyProvider;
+
+final class ShortestPathContractionHierarchyProc {
+    static final String BUILD_DESCRIPTION = "Builds a contraction hierarchy over a graph to answer repeated shortest path queries on it.";
+    static final String STREAM_DESCRIPTION = "Computes the shortest (weighted) path between a pair of nodes using the contraction hierarchy of the graph.";
+
+    private ShortestPathContractionHierarchyProc() {}
+
+    // Hierarchies are kept in the graph catalog when we know which graph the procedure runs on.
+    static ContractionHierarchyProvider provider(ExecutionContext executionContext, @Nullable String graphName) {
+        if (graphName == null) {
+            return ContractionHierarchyProvider.BUILD;
+        }
+        return ContractionHierarchyCatalog.provider(
+            executionContext.username(),
+            executionContext.databaseId(),
+            graphName
+        );
+    }
+}
@@ -43,7 +43,7 @@ public class ShortestPathDijkstraMutateProc extends BaseProc {
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
         return new ProcedureExecutor<>(
-            new ShortestPathDijkstraMutateSpec(),
+            new ShortestPathDijkstraMutateSpec(graphName),
             executionContext()
         ).compute(graphName, configuration);
     }
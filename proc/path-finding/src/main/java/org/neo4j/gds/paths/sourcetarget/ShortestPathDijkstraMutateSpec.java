@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.paths.sourcetarget;
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
@@ -26,7 +28,6 @@ import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
 import org.neo4j.gds.paths.MutateResult;
 import org.neo4j.gds.paths.ShortestPathMutateResultConsumer;
-import org.neo4j.gds.paths.dijkstra.Dijkstra;
 import org.neo4j.gds.paths.dijkstra.DijkstraFactory;
 import org.neo4j.gds.paths.dijkstra.PathFindingResult;
 import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraMutateConfig;
@@ -37,7 +38,17 @@ import static org.neo4j.gds.executor.ExecutionMode.MUTATE_RELATIONSHIP;
 import static org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraProc.DIJKSTRA_DESCRIPTION;
 
 @GdsCallable(name = "gds.shortestPath.dijkstra.mutate", description = DIJKSTRA_DESCRIPTION, executionMode = MUTATE_RELATIONSHIP)
-public class ShortestPathDijkstraMutateSpec implements AlgorithmSpec<Dijkstra, PathFindingResult, ShortestPathDijkstraMutateConfig, Stream<MutateResult>, DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraMutateConfig>> {
+public class ShortestPathDijkstraMutateSpec implements AlgorithmSpec<Algorithm<PathFindingResult>, PathFindingResult, ShortestPathDijkstraMutateConfig, Stream<MutateResult>, DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraMutateConfig>> {
+
+    private final @Nullable String graphName;
+
+    public ShortestPathDijkstraMutateSpec() {
+        this(null);
+    }
+
+    ShortestPathDijkstraMutateSpec(@Nullable String graphName) {
+        this.graphName = graphName;
+    }
 
     @Override
     public String name() {
@@ -48,7 +59,7 @@ public class ShortestPathDijkstraMutateSpec implements AlgorithmSpec<Dijkstra, P
     public DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraMutateConfig> algorithmFactory(
         ExecutionContext executionContext
     ) {
-        return new DijkstraFactory.SourceTargetDijkstraFactory<>();
+        return ShortestPathDijkstraProc.algorithmFactory(executionContext, graphName);
     }
 
     @Override
@@ -57,7 +68,7 @@ public class ShortestPathDijkstraMutateSpec implements AlgorithmSpec<Dijkstra, P
     }
 
     @Override
-    public ComputationResultConsumer<Dijkstra, PathFindingResult, ShortestPathDijkstraMutateConfig, Stream<MutateResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<PathFindingResult>, PathFindingResult, ShortestPathDijkstraMutateConfig, Stream<MutateResult>> computationResultConsumer() {
         return new ShortestPathMutateResultConsumer<>();
     }
 
@@ -19,8 +19,29 @@
  */
 package org.neo4j.gds.paths.sourcetarget;
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.paths.dijkstra.DijkstraFactory;
+import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraBaseConfig;
+import org.neo4j.gds.paths.landmarks.LandmarkIndexCatalog;
+
 final class ShortestPathDijkstraProc {
     static final String DIJKSTRA_DESCRIPTION = "The Dijkstra shortest path algorithm computes the shortest (weighted) path between a pair of nodes.";
 
     private ShortestPathDijkstraProc() {}
+
+    // Landmark indexes are kept in the graph catalog when we know which graph the procedure runs on.
+    static <CONFIG extends ShortestPathDijkstraBaseConfig> DijkstraFactory.SourceTargetDijkstraFactory<CONFIG> algorithmFactory(
+        ExecutionContext executionContext,
+        @Nullable String graphName
+    ) {
+        if (graphName == null) {
+            return new DijkstraFactory.SourceTargetDijkstraFactory<>();
+        }
+        return new DijkstraFactory.SourceTargetDijkstraFactory<>(LandmarkIndexCatalog.provider(
+            executionContext.username(),
+            executionContext.databaseId(),
+            graphName
+        ));
+    }
 }
@@ -43,7 +43,7 @@ public class ShortestPathDijkstraStreamProc extends BaseProc {
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
         return new ProcedureExecutor<>(
-            new ShortestPathDijkstraStreamSpec(),
+            new ShortestPathDijkstraStreamSpec(graphName),
             executionContext()
         ).compute(graphName, configuration);
     }
@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.paths.sourcetarget;
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
@@ -26,7 +28,6 @@ import org.neo4j.gds.executor.GdsCallable;
 import org.neo4j.gds.executor.NewConfigFunction;
 import org.neo4j.gds.paths.ShortestPathStreamResultConsumer;
 import org.neo4j.gds.paths.StreamResult;
-import org.neo4j.gds.paths.dijkstra.Dijkstra;
 import org.neo4j.gds.paths.dijkstra.DijkstraFactory;
 import org.neo4j.gds.paths.dijkstra.PathFindingResult;
 import org.neo4j.gds.paths.dijkstra.config.ShortestPathDijkstraStreamConfig;
@@ -37,7 +38,17 @@ import static org.neo4j.gds.executor.ExecutionMode.STREAM;
 import static org.neo4j.gds.paths.sourcetarget.ShortestPathDijkstraProc.DIJKSTRA_DESCRIPTION;
 
 @GdsCallable(name = "gds.shortestPath.dijkstra.stream", description = DIJKSTRA_DESCRIPTION, executionMode = STREAM)
-public class ShortestPathDijkstraStreamSpec implements AlgorithmSpec<Dijkstra, PathFindingResult, ShortestPathDijkstraStreamConfig, Stream<StreamResult>, DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraStreamConfig>> {
+public class ShortestPathDijkstraStreamSpec implements AlgorithmSpec<Algorithm<PathFindingResult>, PathFindingResult, ShortestPathDijkstraStreamConfig, Stream<StreamResult>, DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraStreamConfig>> {
+
+    private final @Nullable String graphName;
+
+    public ShortestPathDijkstraStreamSpec() {
+        this(null);
+    }
+
+    ShortestPathDijkstraStreamSpec(@Nullable String graphName) {
+        this.graphName = graphName;
+    }
 
     @Override
     public String name() {
@@ -48,7 +59,7 @@ public class ShortestPathDijkstraStreamSpec implements AlgorithmSpec<Dijkstra, P
     public DijkstraFactory.SourceTargetDijkstraFactory<ShortestPathDijkstraStreamConfig> algorithmFactory(
         ExecutionContext executionContext
     ) {
-        return new DijkstraFactory.SourceTargetDijkstraFactory<>();
+        return ShortestPathDijkstraProc.algorithmFactory(executionContext, graphName);
     }
 
     @Override
@@ -57,7 +68,7 @@ public class ShortestPathDijkstraStreamSpec implements AlgorithmSpec<Dijkstra, P
     }
 
     @Override
-    public ComputationResultConsumer<Dijkstra, PathFindingResult, ShortestPathDijkstraStreamConfig, Stream<StreamResult>> computationResultConsumer() {
+    public ComputationResultConsumer<Algorithm<PathFindingResult>, PathFindingResult, ShortestPathDijkstraStreamConfig, Stream<StreamResult>> computationResultConsumer() {
         return new ShortestPathStreamResultConsumer<>();
     }
 
@@ -50,7 +50,7 @@ public class ShortestPathDijkstraWriteProc extends BaseProc {
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
         return new ProcedureExecutor<>(
-            new ShortestPathDijkstraWriteSpec(),
+            new ShortestPathDijkstraWriteSpec(graphName),
             executionContext()
         ).compute(graphName, configuration);
     }
@@ -19,10 +19,25 @@
  */
 package org.neo4j.gds.paths.singlesource.deltastepping;
 
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.paths.singlesource.AllShortestPathsStatsProcTest;
 import org.neo4j.gds.paths.singlesource.delta.AllShortestPathsDeltaStatsProc;
 
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+
 class AllShortestPathsDeltaStatsProcTest extends AllShortestPathsStatsProcTest {
+
+    @Inject
+    private IdFunction nodeIds;
+
     @Override
     public Class<?> getProcedureClazz() {
         return AllShortestPathsDeltaStatsProc.class;
@@ -32,4 +47,37 @@ class AllShortestPathsDeltaStatsProcTest extends AllShortestPathsStatsProcTest {
     public String getProcedureName() {
         return "gds.allShortestPaths.delta";
     }
+
+    @Test
+    void shouldReportConfiguredDelta() {
+        var query = GdsCypher.call("graph")
+            .algo(getProcedureName())
+            .statsMode()
+            .addParameter("sourceNode", nodeIds.of("a"))
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("delta", 3.0)
+            .yields("delta", "phaseFrontierSizes");
+
+        assertCypherResult(query, List.of(Map.of(
+            "delta", equalTo(3.0),
+            "phaseFrontierSizes", hasItem(1L)
+        )));
+    }
+
+    @Test
+    void shouldReportAdaptiveDelta() {
+        var query = GdsCypher.call("graph")
+            .algo(getProcedureName())
+            .statsMode()
+            .addParameter("sourceNode", nodeIds.of("a"))
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("adaptiveDelta", true)
+            .yields("delta", "phaseFrontierSizes");
+
+        // the average weight (39 / 7) divided by the average degree (7 / 6)
+        assertCypherResult(query, List.of(Map.of(
+            "delta", closeTo(39.0 * 6 / 49, 1e-9),
+            "phaseFrontierSizes", hasItem(1L)
+        )));
+    }
 }
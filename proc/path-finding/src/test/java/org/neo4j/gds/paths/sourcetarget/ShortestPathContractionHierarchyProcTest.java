@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.paths.sourcetarget;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShortestPathContractionHierarchyProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER = "CREATE" +
+                                            "  (:Offset)" +
+                                            ", (a:Label)" +
+                                            ", (b:Label)" +
+                                            ", (c:Label)" +
+                                            ", (d:Label)" +
+                                            ", (e:Label)" +
+                                            ", (f:Label)" +
+                                            ", (a)-[:TYPE {cost: 4}]->(b)" +
+                                            ", (a)-[:TYPE {cost: 2}]->(c)" +
+                                            ", (b)-[:TYPE {cost: 5}]->(c)" +
+                                            ", (b)-[:TYPE {cost: 10}]->(d)" +
+                                            ", (c)-[:TYPE {cost: 3}]->(e)" +
+                                            ", (d)-[:TYPE {cost: 11}]->(f)" +
+                                            ", (e)-[:TYPE {cost: 4}]->(d)" +
+                                            ", (f)-[:TYPE {cost: 1}]->(a)";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            ShortestPathContractionHierarchyBuildProc.class,
+            ShortestPathContractionHierarchyStreamProc.class,
+            ShortestPathDijkstraStreamProc.class,
+            GraphProjectProc.class
+        );
+
+        runQuery(GdsCypher.call("graph")
+            .graphProject()
+            .withNodeLabel("Label")
+            .withAnyRelationshipType()
+            .withRelationshipProperty("cost")
+            .yields());
+    }
+
+    @Test
+    void testBuild() {
+        var query = "CALL gds.shortestPath.contractionHierarchy.build('graph', {relationshipWeightProperty: 'cost'})" +
+                    " YIELD nodeCount, relationshipCount, shortcutCount";
+
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("nodeCount").longValue()).isEqualTo(6L);
+            assertThat(row.getNumber("relationshipCount").longValue()).isEqualTo(8L);
+            assertThat(row.getNumber("shortcutCount").longValue()).isGreaterThanOrEqualTo(0L);
+        });
+    }
+
+    @Test
+    void shouldStreamSamePathsAsDijkstra() {
+        runQuery("CALL gds.shortestPath.contractionHierarchy.build('graph', {relationshipWeightProperty: 'cost'})");
+
+        var nodes = List.of("a", "b", "c", "d", "e", "f");
+        for (var source : nodes) {
+            for (var target : nodes) {
+                var sourceId = idFunction.of(source);
+                var targetId = idFunction.of(target);
+                var expected = paths("gds.shortestPath.dijkstra", sourceId, targetId);
+                var actual = paths("gds.shortestPath.contractionHierarchy", sourceId, targetId);
+
+                assertThat(actual)
+                    .as("path from (%s) to (%s)", source, target)
+                    .isEqualTo(expected);
+            }
+        }
+    }
+
+    private List<Map<String, Object>> paths(String algo, long sourceNode, long targetNode) {
+        var query = GdsCypher.call("graph")
+            .algo(algo)
+            .streamMode()
+            .addParameter("sourceNode", sourceNode)
+            .addParameter("targetNode", targetNode)
+            .addParameter("relationshipWeightProperty", "cost")
+            .yields("totalCost", "nodeIds", "costs");
+
+        return runQuery(query, result -> result.stream()
+            .map(row -> Map.of(
+                "totalCost", row.get("totalCost"),
+                "nodeIds", row.get("nodeIds"),
+                "costs", row.get("costs")
+            ))
+            .toList());
+    }
+}
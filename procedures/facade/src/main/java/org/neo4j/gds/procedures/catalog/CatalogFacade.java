@@ -26,6 +26,7 @@ import org.neo4j.gds.applications.graphstorecatalog.CatalogBusinessFacade;
 import org.neo4j.gds.applications.graphstorecatalog.GraphGenerationStats;
 import org.neo4j.gds.applications.graphstorecatalog.GraphMemoryUsage;
 import org.neo4j.gds.applications.graphstorecatalog.GraphProjectMemoryUsageService;
+import org.neo4j.gds.applications.graphstorecatalog.GraphStreamNodePropertiesBatchResult;
 import org.neo4j.gds.applications.graphstorecatalog.GraphStreamNodePropertiesResult;
 import org.neo4j.gds.applications.graphstorecatalog.GraphStreamNodePropertyOrPropertiesResultProducer;
 import org.neo4j.gds.applications.graphstorecatalog.GraphStreamNodePropertyResult;
@@ -206,7 +207,8 @@ public class CatalogFacade {
 
         // we convert here from domain type to Neo4j display type
         var computeGraphSize = procedureReturnColumns.contains("memoryUsage")
-            || procedureReturnColumns.contains("sizeInBytes");
+            || procedureReturnColumns.contains("sizeInBytes")
+            || procedureReturnColumns.contains("offHeapSizeInBytes");
         return results.stream().map(p -> GraphInfoWithHistogram.of(
             p.getLeft().config(),
             p.getLeft().graphStore(),
@@ -429,6 +431,28 @@ public class CatalogFacade {
         );
     }
 
+    public Stream<GraphStreamNodePropertiesBatchResult> streamNodePropertiesBatched(
+        String graphName,
+        Object nodeProperties,
+        Object nodeLabels,
+        Map<String, Object> configuration
+    ) {
+        var resultStream = businessFacade.streamNodePropertiesBatched(
+            user,
+            databaseId,
+            taskRegistryFactory,
+            userLogRegistryFactory,
+            graphName,
+            nodeProperties,
+            nodeLabels,
+            configuration
+        );
+
+        streamCloser.accept(resultStream);
+
+        return resultStream;
+    }
+
     public Stream<GraphStreamNodePropertyResult> streamNodeProperty(
         String graphName,
         String nodeProperty,
@@ -35,6 +35,7 @@ public class GraphInfo {
     public final String databaseLocation;
     public final String memoryUsage;
     public final long sizeInBytes;
+    public final long offHeapSizeInBytes;
     public final long nodeCount;
     public final long relationshipCount;
     public final Map<String, Object> configuration;
@@ -53,6 +54,7 @@ public class GraphInfo {
         Map<String, Object> configuration,
         String memoryUsage,
         long sizeInBytes,
+        long offHeapSizeInBytes,
         long nodeCount,
         long relationshipCount,
         ZonedDateTime creationTime,
@@ -65,6 +67,7 @@ public class GraphInfo {
         this.databaseLocation = databaseLocation;
         this.memoryUsage = memoryUsage;
         this.sizeInBytes = sizeInBytes;
+        this.offHeapSizeInBytes = offHeapSizeInBytes;
         this.nodeCount = nodeCount;
         this.relationshipCount = relationshipCount;
         this.density = DegreeDistribution.density(nodeCount, relationshipCount);
@@ -89,7 +92,8 @@ public class GraphInfo {
             graphProjectConfig,
             graphStore,
             memoryUsage,
-            sizeInBytes
+            sizeInBytes,
+            MemoryUsage.sizeOfOffHeap(graphStore)
         );
     }
 
@@ -101,6 +105,7 @@ public class GraphInfo {
             graphProjectConfig,
             graphStore,
             "",
+            -1L,
             -1L
         );
     }
@@ -109,7 +114,8 @@ public class GraphInfo {
         GraphProjectConfig graphProjectConfig,
         GraphStore graphStore,
         String memoryUsage,
-        long sizeInBytes
+        long sizeInBytes,
+        long offHeapSizeInBytes
     ) {
         var configurationMap = graphProjectConfig.asProcedureResultConfigurationField();
 
@@ -120,6 +126,7 @@ public class GraphInfo {
             configurationMap,
             memoryUsage,
             sizeInBytes,
+            offHeapSizeInBytes,
             graphStore.nodeCount(),
             graphStore.relationshipCount(),
             graphProjectConfig.creationTime(),
@@ -40,6 +40,7 @@ public class GraphInfoWithHistogram extends GraphInfo {
             graphInfo.configuration,
             graphInfo.memoryUsage,
             graphInfo.sizeInBytes,
+            graphInfo.offHeapSizeInBytes,
             graphInfo.nodeCount,
             graphInfo.relationshipCount,
             graphInfo.creationTime,
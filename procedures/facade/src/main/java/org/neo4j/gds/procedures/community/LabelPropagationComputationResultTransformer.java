@@ -76,6 +76,7 @@ final class LabelPropagationComputationResultTransformer {
         return new LabelPropagationMutateResult(
             computationResult.algorithmSpecificFields().ranIterations(),
             computationResult.algorithmSpecificFields().didConverge(),
+            computationResult.algorithmSpecificFields().activeNodeCounts(),
             computationResult.algorithmSpecificFields().communityCount(),
             computationResult.algorithmSpecificFields().communityDistribution(),
             computationResult.preProcessingMillis(),
@@ -94,6 +95,7 @@ final class LabelPropagationComputationResultTransformer {
         return new LabelPropagationStatsResult(
             computationResult.algorithmSpecificFields().ranIterations(),
             computationResult.algorithmSpecificFields().didConverge(),
+            computationResult.algorithmSpecificFields().activeNodeCounts(),
             computationResult.algorithmSpecificFields().communityCount(),
             computationResult.algorithmSpecificFields().communityDistribution(),
             computationResult.preProcessingMillis(),
@@ -107,6 +109,7 @@ final class LabelPropagationComputationResultTransformer {
         return new LabelPropagationWriteResult(
             computationResult.algorithmSpecificFields().ranIterations(),
             computationResult.algorithmSpecificFields().didConverge(),
+            computationResult.algorithmSpecificFields().activeNodeCounts(),
             computationResult.algorithmSpecificFields().communityCount(),
             computationResult.algorithmSpecificFields().communityDistribution(),
             computationResult.preProcessingMillis(),
@@ -21,6 +21,7 @@ package org.neo4j.gds.procedures.community.labelpropagation;
 
 import org.neo4j.gds.api.ProcedureReturnColumns;
 
+import java.util.List;
 import java.util.Map;
 
 public final class LabelPropagationMutateResult extends LabelPropagationStatsResult {
@@ -31,6 +32,7 @@ public final class LabelPropagationMutateResult extends LabelPropagationStatsRes
     public LabelPropagationMutateResult(
         long ranIterations,
         boolean didConverge,
+        List<Long> activeNodeCounts,
         long communityCount,
         Map<String, Object> communityDistribution,
         long preProcessingMillis,
@@ -43,6 +45,7 @@ public final class LabelPropagationMutateResult extends LabelPropagationStatsRes
         super(
             ranIterations,
             didConverge,
+            activeNodeCounts,
             communityCount,
             communityDistribution,
             preProcessingMillis,
@@ -69,6 +72,7 @@ public final class LabelPropagationMutateResult extends LabelPropagationStatsRes
             return new LabelPropagationMutateResult(
                 ranIterations,
                 didConverge,
+                activeNodeCounts,
                 maybeCommunityCount.orElse(0L),
                 communityHistogramOrNull(),
                 preProcessingMillis,
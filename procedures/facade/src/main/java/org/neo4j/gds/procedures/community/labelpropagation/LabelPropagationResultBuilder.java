@@ -22,11 +22,17 @@ package org.neo4j.gds.procedures.community.labelpropagation;
 import org.neo4j.gds.api.ProcedureReturnColumns;
 import org.neo4j.gds.result.AbstractCommunityResultBuilder;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 public abstract class LabelPropagationResultBuilder<PROC_RESULT> extends AbstractCommunityResultBuilder<PROC_RESULT> {
     protected long ranIterations;
 
     protected boolean didConverge;
 
+    protected List<Long> activeNodeCounts = List.of();
+
     public LabelPropagationResultBuilder(ProcedureReturnColumns returnColumns, int concurrency) {
         super(returnColumns, concurrency);
     }
@@ -40,4 +46,9 @@ public abstract class LabelPropagationResultBuilder<PROC_RESULT> extends Abstrac
         this.didConverge = didConverge;
         return this;
     }
+
+    public LabelPropagationResultBuilder<PROC_RESULT> activeNodeCounts(long[] activeNodeCounts) {
+        this.activeNodeCounts = Arrays.stream(activeNodeCounts).boxed().collect(Collectors.toList());
+        return this;
+    }
 }
@@ -22,18 +22,21 @@ package org.neo4j.gds.procedures.community.labelpropagation;
 import org.neo4j.gds.api.ProcedureReturnColumns;
 import org.neo4j.gds.results.StandardStatsResult;
 
+import java.util.List;
 import java.util.Map;
 
 public class LabelPropagationStatsResult extends StandardStatsResult {
 
     public final long ranIterations;
     public final boolean didConverge;
+    public final List<Long> activeNodeCounts;
     public final long communityCount;
     public final Map<String, Object> communityDistribution;
 
     public LabelPropagationStatsResult(
         long ranIterations,
         boolean didConverge,
+        List<Long> activeNodeCounts,
         long communityCount,
         Map<String, Object> communityDistribution,
         long preProcessingMillis,
@@ -44,6 +47,7 @@ public class LabelPropagationStatsResult extends StandardStatsResult {
         super(preProcessingMillis, computeMillis, postProcessingMillis, configuration);
         this.ranIterations = ranIterations;
         this.didConverge = didConverge;
+        this.activeNodeCounts = activeNodeCounts;
         this.communityCount = communityCount;
         this.communityDistribution = communityDistribution;
     }
@@ -59,6 +63,7 @@ public class LabelPropagationStatsResult extends StandardStatsResult {
             return new LabelPropagationStatsResult(
                 ranIterations,
                 didConverge,
+                activeNodeCounts,
                 maybeCommunityCount.orElse(0L),
                 communityHistogramOrNull(),
                 preProcessingMillis,
@@ -21,6 +21,7 @@ package org.neo4j.gds.procedures.community.labelpropagation;
 
 import org.neo4j.gds.api.ProcedureReturnColumns;
 
+import java.util.List;
 import java.util.Map;
 
 public class LabelPropagationWriteResult extends LabelPropagationStatsResult {
@@ -31,6 +32,7 @@ public class LabelPropagationWriteResult extends LabelPropagationStatsResult {
     public LabelPropagationWriteResult(
         long ranIterations,
         boolean didConverge,
+        List<Long> activeNodeCounts,
         long communityCount,
         Map<String, Object> communityDistribution,
         long preProcessingMillis,
@@ -43,6 +45,7 @@ public class LabelPropagationWriteResult extends LabelPropagationStatsResult {
         super(
             ranIterations,
             didConverge,
+            activeNodeCounts,
             communityCount,
             communityDistribution,
             preProcessingMillis,
@@ -70,6 +73,7 @@ public class LabelPropagationWriteResult extends LabelPropagationStatsResult {
             return new LabelPropagationWriteResult(
                 ranIterations,
                 didConverge,
+                activeNodeCounts,
                 maybeCommunityCount.orElse(0L),
                 communityHistogramOrNull(),
                 preProcessingMillis,
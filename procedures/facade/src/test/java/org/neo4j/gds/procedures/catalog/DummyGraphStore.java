@@ -192,6 +192,16 @@ class DummyGraphStore implements GraphStore {
         return modificationTime;
     }
 
+    @Override
+    public long mutationCount() {
+        return 0;
+    }
+
+    @Override
+    public long topologyChangeCount() {
+        return 0;
+    }
+
     @Override
     public Capabilities capabilities() {
         throw new UnsupportedOperationException("TODO");
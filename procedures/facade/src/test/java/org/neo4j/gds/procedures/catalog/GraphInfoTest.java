@@ -59,6 +59,7 @@ final class GraphInfoTest {
     ) {
         assertThat(create(producer, GraphInfo::withoutMemoryUsage))
             .returns(-1L, gi -> gi.sizeInBytes)
+            .returns(-1L, gi -> gi.offHeapSizeInBytes)
             .returns("", gi -> gi.memoryUsage);
 
         var graphInfo = create(producer, GraphInfo::withMemoryUsage);
@@ -70,6 +71,10 @@ final class GraphInfoTest {
         assertThat(graphInfo)
             .extracting(gi -> gi.memoryUsage, as(InstanceOfAssertFactories.STRING))
             .isNotBlank();
+
+        assertThat(graphInfo)
+            .extracting(gi -> gi.offHeapSizeInBytes, as(InstanceOfAssertFactories.LONG))
+            .isZero();
     }
 
     static Stream<Arguments> producers() {
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.delta;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.ValueClass;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A batch of changes to apply to an existing graph store.
+ * All node ids are original node ids, i.e. the ids used in the database.
+ * <p>
+ * Removing a relationship removes all parallel relationships between the
+ * given nodes of that type. For undirected relationship types both
+ * directions are added or removed.
+ */
+@ValueClass
+public interface GraphStoreDelta {
+
+    List<NodeAddition> addedNodes();
+
+    List<Long> removedNodes();
+
+    List<RelationshipChange> addedRelationships();
+
+    List<RelationshipChange> removedRelationships();
+
+    static ImmutableGraphStoreDelta.Builder builder() {
+        return ImmutableGraphStoreDelta.builder();
+    }
+
+    @ValueClass
+    interface NodeAddition {
+        long originalId();
+
+        List<NodeLabel> labels();
+
+        /**
+         * Values for existing node properties, supported are {@code long}, {@code double},
+         * {@code long[]}, {@code double[]} and {@code float[]}.
+         * Missing properties are set to the default value of the property.
+         */
+        Map<String, Object> properties();
+
+        static NodeAddition of(long originalId, List<NodeLabel> labels, Map<String, Object> properties) {
+            return ImmutableNodeAddition.of(originalId, labels, properties);
+        }
+    }
+
+    @ValueClass
+    interface RelationshipChange {
+        RelationshipType relationshipType();
+
+        long sourceNodeId();
+
+        long targetNodeId();
+
+        /**
+         * Values for existing relationship properties, only used for added relationships.
+         * Missing properties are set to the default value of the property.
+         */
+        Map<String, Double> properties();
+
+        static RelationshipChange of(RelationshipType relationshipType, long sourceNodeId, long targetNodeId) {
+            return ImmutableRelationshipChange.of(relationshipType, sourceNodeId, targetNodeId, Map.of());
+        }
+
+        static RelationshipChange of(
+            RelationshipType relationshipType,
+            long sourceNodeId,
+            long targetNodeId,
+            Map<String, Double> properties
+        ) {
+            return ImmutableRelationshipChange.of(relationshipType, sourceNodeId, targetNodeId, properties);
+        }
+    }
+}
@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.delta;
+
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CompositeRelationshipIterator;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.properties.graph.GraphPropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.beta.filter.NodesFilter;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.ImmutableNodes;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.NodeLabelTokens;
+import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.values.storable.Values;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Applies a {@link GraphStoreDelta} to a graph store without projecting it again.
+ * <p>
+ * The input graph store is not modified, which allows running algorithms on it
+ * while the delta is being applied. The returned graph store shares the topology
+ * and properties of all relationship types that are not affected by the delta.
+ * Node additions or removals change the dense node id space, which requires
+ * rebuilding every relationship type.
+ */
+public final class GraphStoreDeltaApplier {
+
+    private GraphStoreDeltaApplier() {}
+
+    /**
+     * Applies the delta to the catalogued graph and replaces the catalog entry with the result.
+     */
+    public static synchronized GraphStore applyAndReplace(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        GraphStoreDelta delta,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var graphStoreWithConfig = GraphStoreCatalog.get(username, databaseId, graphName);
+        var updatedGraphStore = apply(graphStoreWithConfig.graphStore(), delta, concurrency, executorService);
+        GraphStoreCatalog.overwrite(graphStoreWithConfig.config(), updatedGraphStore);
+        return updatedGraphStore;
+    }
+
+    public static GraphStore apply(
+        GraphStore graphStore,
+        GraphStoreDelta delta,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var inputNodes = graphStore.nodes();
+
+        var removedNodes = new LongHashSet();
+        delta.removedNodes().forEach(originalId -> {
+            if (inputNodes.safeToMappedNodeId(originalId) != IdMap.NOT_FOUND) {
+                removedNodes.add(originalId);
+            }
+        });
+
+        validateAddedNodes(graphStore, delta, removedNodes);
+
+        boolean nodesChanged = !delta.addedNodes().isEmpty() || !removedNodes.isEmpty();
+
+        IdMap outputNodes;
+        NodePropertyStore nodeProperties;
+        if (nodesChanged) {
+            outputNodes = buildIdMap(graphStore, delta, removedNodes, concurrency, executorService);
+            nodeProperties = buildNodeProperties(graphStore, delta, outputNodes, concurrency);
+        } else {
+            outputNodes = inputNodes;
+            var nodePropertiesBuilder = NodePropertyStore.builder();
+            graphStore
+                .nodePropertyKeys()
+                .forEach(key -> nodePropertiesBuilder.putProperty(key, graphStore.nodeProperty(key)));
+            nodeProperties = nodePropertiesBuilder.build();
+        }
+
+        var addedByType = groupByType(graphStore, delta.addedRelationships());
+        var removedByType = groupByType(graphStore, delta.removedRelationships());
+        validateAddedRelationships(graphStore, addedByType, outputNodes);
+
+        var relationships = new HashMap<RelationshipType, SingleTypeRelationships>();
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            var added = addedByType.getOrDefault(relationshipType, List.of());
+            var removed = removedByType.getOrDefault(relationshipType, List.of());
+
+            Optional<SingleTypeRelationships> unchanged = nodesChanged || !added.isEmpty() || !removed.isEmpty()
+                ? Optional.empty()
+                : storedRelationships(graphStore, relationshipType);
+
+            relationships.put(
+                relationshipType,
+                unchanged.orElseGet(() -> rebuildRelationshipType(
+                    graphStore,
+                    relationshipType,
+                    outputNodes,
+                    added,
+                    removed,
+                    concurrency,
+                    executorService
+                ))
+            );
+        }
+
+        var graphProperties = GraphPropertyStore.builder();
+        graphStore
+            .graphPropertyKeys()
+            .forEach(key -> graphProperties.putIfAbsent(key, graphStore.graphProperty(key)));
+
+        var schema = MutableGraphSchema.from(graphStore.schema());
+
+        return new GraphStoreBuilder()
+            .databaseInfo(graphStore.databaseInfo())
+            .capabilities(graphStore.capabilities())
+            .schema(schema)
+            .nodes(ImmutableNodes.of(schema.nodeSchema(), outputNodes, nodeProperties))
+            .relationshipImportResult(RelationshipImportResult.of(relationships))
+            .graphProperties(graphProperties.build())
+            .concurrency(concurrency)
+            .build();
+    }
+
+    private static void validateAddedNodes(GraphStore graphStore, GraphStoreDelta delta, LongHashSet removedNodes) {
+        var inputNodes = graphStore.nodes();
+        var availableLabels = graphStore.nodeLabels();
+        var hasLabelInformation = hasLabelInformation(graphStore);
+        var addedIds = new LongHashSet();
+
+        for (var node : delta.addedNodes()) {
+            var originalId = node.originalId();
+            var exists = inputNodes.safeToMappedNodeId(originalId) != IdMap.NOT_FOUND && !removedNodes.contains(
+                originalId);
+            if (exists || !addedIds.add(originalId)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot add node with id %d, the node already exists.",
+                    originalId
+                ));
+            }
+            for (var label : node.labels()) {
+                if (!availableLabels.contains(label) && hasLabelInformation) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Cannot add node with id %d, the label `%s` does not exist in the graph. Available labels: %s",
+                        originalId,
+                        label.name(),
+                        availableLabels.stream().map(NodeLabel::name).sorted().collect(Collectors.toList())
+                    ));
+                }
+            }
+            for (var propertyKey : node.properties().keySet()) {
+                if (!graphStore.hasNodeProperty(propertyKey)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Cannot add node with id %d, the property `%s` does not exist in the graph. Available properties: %s",
+                        originalId,
+                        propertyKey,
+                        graphStore.nodePropertyKeys().stream().sorted().collect(Collectors.toList())
+                    ));
+                }
+            }
+        }
+    }
+
+    private static Map<RelationshipType, List<GraphStoreDelta.RelationshipChange>> groupByType(
+        GraphStore graphStore,
+        List<GraphStoreDelta.RelationshipChange> changes
+    ) {
+        var changesByType = new HashMap<RelationshipType, List<GraphStoreDelta.RelationshipChange>>();
+        for (var change : changes) {
+            var relationshipType = change.relationshipType();
+            if (!graphStore.hasRelationshipType(relationshipType)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Relationship type `%s` does not exist in the graph. Available types: %s",
+                    relationshipType.name,
+                    graphStore.relationshipTypes().stream().map(t -> t.name).sorted().collect(Collectors.toList())
+                ));
+            }
+            changesByType.computeIfAbsent(relationshipType, __ -> new ArrayList<>()).add(change);
+        }
+        return changesByType;
+    }
+
+    private static void validateAddedRelationships(
+        GraphStore graphStore,
+        Map<RelationshipType, List<GraphStoreDelta.RelationshipChange>> addedByType,
+        IdMap outputNodes
+    ) {
+        addedByType.forEach((relationshipType, changes) -> {
+            var propertyKeys = graphStore.relationshipPropertyKeys(relationshipType);
+            for (var change : changes) {
+                for (var nodeId : List.of(change.sourceNodeId(), change.targetNodeId())) {
+                    if (outputNodes.safeToMappedNodeId(nodeId) == IdMap.NOT_FOUND) {
+                        throw new IllegalArgumentException(formatWithLocale(
+                            "Cannot add relationship (%d)-[:%s]->(%d), node %d does not exist in the graph.",
+                            change.sourceNodeId(),
+                            relationshipType.name,
+                            change.targetNodeId(),
+                            nodeId
+                        ));
+                    }
+                }
+                for (var propertyKey : change.properties().keySet()) {
+                    if (!propertyKeys.contains(propertyKey)) {
+                        throw new IllegalArgumentException(formatWithLocale(
+                            "Relationship property `%s` does not exist for type `%s`. Available properties: %s",
+                            propertyKey,
+                            relationshipType.name,
+                            propertyKeys.stream().sorted().collect(Collectors.toList())
+                        ));
+                    }
+                }
+            }
+        });
+    }
+
+    // a graph projected without labels only contains the `__ALL__` label
+    private static boolean hasLabelInformation(GraphStore graphStore) {
+        var availableLabels = graphStore.nodeLabels();
+        return !(availableLabels.size() == 1 && availableLabels.contains(NodeLabel.ALL_NODES));
+    }
+
+    private static IdMap buildIdMap(
+        GraphStore graphStore,
+        GraphStoreDelta delta,
+        LongHashSet removedNodes,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var inputNodes = graphStore.nodes();
+        var maxOriginalId = inputNodes.highestOriginalId();
+        for (var node : delta.addedNodes()) {
+            maxOriginalId = Math.max(maxOriginalId, node.originalId());
+        }
+
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .concurrency(concurrency)
+            .maxOriginalId(maxOriginalId)
+            .hasLabelInformation(hasLabelInformation(graphStore))
+            .build();
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            inputNodes.nodeCount(),
+            partition -> (Runnable) () -> partition.consume(node -> {
+                var originalId = inputNodes.toOriginalNodeId(node);
+                if (!removedNodes.contains(originalId)) {
+                    nodesBuilder.addNode(originalId, NodeLabelTokens.of(inputNodes.nodeLabels(node)));
+                }
+            }),
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        for (var node : delta.addedNodes()) {
+            nodesBuilder.addNode(node.originalId(), NodeLabelTokens.of(node.labels()));
+        }
+
+        return nodesBuilder.build().idMap();
+    }
+
+    private static NodePropertyStore buildNodeProperties(
+        GraphStore graphStore,
+        GraphStoreDelta delta,
+        IdMap outputNodes,
+        int concurrency
+    ) {
+        var inputNodes = graphStore.nodes();
+        var outputNodeCount = outputNodes.nodeCount();
+        var builder = NodePropertyStore.builder();
+
+        for (var propertyKey : graphStore.nodePropertyKeys()) {
+            var nodeProperty = graphStore.nodeProperty(propertyKey);
+            var propertiesBuilder = NodesFilter.getPropertiesBuilder(
+                inputNodes,
+                nodeProperty.values(),
+                concurrency
+            );
+
+            ParallelUtil.parallelForEachNode(
+                outputNodeCount,
+                concurrency,
+                TerminationFlag.RUNNING_TRUE,
+                outputNode -> {
+                    var inputNode = inputNodes.safeToMappedNodeId(outputNodes.toOriginalNodeId(outputNode));
+                    if (inputNode != IdMap.NOT_FOUND) {
+                        propertiesBuilder.accept(inputNode, outputNode);
+                    }
+                }
+            );
+
+            for (var node : delta.addedNodes()) {
+                var value = node.properties().get(propertyKey);
+                if (value != null) {
+                    propertiesBuilder.setValue(node.originalId(), Values.of(value));
+                }
+            }
+
+            builder.putProperty(
+                propertyKey,
+                NodeProperty.of(
+                    propertyKey,
+                    nodeProperty.propertyState(),
+                    propertiesBuilder.build(outputNodeCount, outputNodes)
+                )
+            );
+        }
+
+        return builder.build();
+    }
+
+    private static Optional<SingleTypeRelationships> storedRelationships(
+        GraphStore graphStore,
+        RelationshipType relationshipType
+    ) {
+        if (graphStore instanceof CSRGraphStore) {
+            return ((CSRGraphStore) graphStore).relationships(relationshipType);
+        }
+        return Optional.empty();
+    }
+
+    private static SingleTypeRelationships rebuildRelationshipType(
+        GraphStore graphStore,
+        RelationshipType relationshipType,
+        IdMap outputNodes,
+        List<GraphStoreDelta.RelationshipChange> added,
+        List<GraphStoreDelta.RelationshipChange> removed,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var inputNodes = graphStore.nodes();
+        var undirected = graphStore.schema().relationshipSchema().isUndirected(relationshipType);
+        var propertyKeys = new ArrayList<>(graphStore.relationshipPropertyKeys(relationshipType));
+        var defaultValues = new double[propertyKeys.size()];
+
+        var propertyConfigs = new ArrayList<GraphFactory.PropertyConfig>();
+        for (int i = 0; i < propertyKeys.size(); i++) {
+            var defaultValue = graphStore.relationshipPropertyValues(relationshipType, propertyKeys.get(i)).defaultValue();
+            defaultValues[i] = defaultValue.doubleValue();
+            propertyConfigs.add(GraphFactory.PropertyConfig.of(propertyKeys.get(i), Aggregation.NONE, defaultValue));
+        }
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(outputNodes)
+            .relationshipType(relationshipType)
+            .concurrency(concurrency)
+            .addAllPropertyConfigs(propertyConfigs)
+            .indexInverse(graphStore.inverseIndexedRelationshipTypes().contains(relationshipType))
+            .executorService(executorService)
+            .build();
+
+        var removedPairs = new LongObjectHashMap<LongHashSet>();
+        for (var change : removed) {
+            addPair(removedPairs, change.sourceNodeId(), change.targetNodeId());
+            if (undirected) {
+                addPair(removedPairs, change.targetNodeId(), change.sourceNodeId());
+            }
+        }
+
+        var compositeIterator = graphStore.getCompositeRelationshipIterator(relationshipType, propertyKeys);
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            inputNodes.nodeCount(),
+            partition -> new CopyTask(
+                partition,
+                compositeIterator.concurrentCopy(),
+                inputNodes,
+                outputNodes,
+                removedPairs,
+                relationshipsBuilder
+            ),
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        for (var change : added) {
+            var properties = defaultValues.clone();
+            for (int i = 0; i < propertyKeys.size(); i++) {
+                var value = change.properties().get(propertyKeys.get(i));
+                if (value != null) {
+                    properties[i] = value;
+                }
+            }
+            add(relationshipsBuilder, change.sourceNodeId(), change.targetNodeId(), properties);
+            if (undirected) {
+                add(relationshipsBuilder, change.targetNodeId(), change.sourceNodeId(), properties);
+            }
+        }
+
+        return relationshipsBuilder.build();
+    }
+
+    private static void addPair(LongObjectHashMap<LongHashSet> pairs, long source, long target) {
+        var targets = pairs.get(source);
+        if (targets == null) {
+            targets = new LongHashSet();
+            pairs.put(source, targets);
+        }
+        targets.add(target);
+    }
+
+    private static void add(RelationshipsBuilder relationshipsBuilder, long source, long target, double[] properties) {
+        if (properties.length == 0) {
+            relationshipsBuilder.add(source, target);
+        } else if (properties.length == 1) {
+            relationshipsBuilder.add(source, target, properties[0]);
+        } else {
+            relationshipsBuilder.add(source, target, properties);
+        }
+    }
+
+    private static final class CopyTask implements Runnable {
+        private final Partition partition;
+        private final CompositeRelationshipIterator relationshipIterator;
+        private final IdMap inputNodes;
+        private final IdMap outputNodes;
+        private final LongObjectHashMap<LongHashSet> removedPairs;
+        private final RelationshipsBuilder relationshipsBuilder;
+
+        private CopyTask(
+            Partition partition,
+            CompositeRelationshipIterator relationshipIterator,
+            IdMap inputNodes,
+            IdMap outputNodes,
+            LongObjectHashMap<LongHashSet> removedPairs,
+            RelationshipsBuilder relationshipsBuilder
+        ) {
+            this.partition = partition;
+            this.relationshipIterator = relationshipIterator;
+            this.inputNodes = inputNodes;
+            this.outputNodes = outputNodes;
+            this.removedPairs = removedPairs;
+            this.relationshipsBuilder = relationshipsBuilder;
+        }
+
+        @Override
+        public void run() {
+            partition.consume(inputSource -> {
+                var originalSource = inputNodes.toOriginalNodeId(inputSource);
+                if (outputNodes.safeToMappedNodeId(originalSource) == IdMap.NOT_FOUND) {
+                    return;
+                }
+                var removedTargets = removedPairs.get(originalSource);
+
+                relationshipIterator.forEachRelationship(inputSource, (source, target, properties) -> {
+                    var originalTarget = inputNodes.toOriginalNodeId(target);
+                    if (outputNodes.safeToMappedNodeId(originalTarget) != IdMap.NOT_FOUND
+                        && (removedTargets == null || !removedTargets.contains(originalTarget))) {
+                        add(relationshipsBuilder, originalSource, originalTarget, properties);
+                    }
+                    return true;
+                });
+            });
+        }
+    }
+}
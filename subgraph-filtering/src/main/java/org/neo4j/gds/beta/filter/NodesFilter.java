@@ -44,6 +44,7 @@ import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.termination.TerminationFlag;
+import org.neo4j.values.storable.Value;
 
 import java.util.Iterator;
 import java.util.Map;
@@ -323,6 +324,10 @@ public final class NodesFilter {
 
         public abstract void accept(long inputNode, long filteredNode);
 
+        public void setValue(long originalNodeId, Value value) {
+            propertyBuilder.setValue(originalNodeId, value);
+        }
+
         public NodePropertyValues build(long size, IdMap idMap) {
             return propertyBuilder.build(size, idMap, idMap.highestOriginalId());
         }
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.delta;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.ExecutorServiceUtil;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+@GdlExtension
+class GraphStoreDeltaApplierTest {
+
+    @GdlGraph(idOffset = 42)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A {p: 1L})" +
+        ", (b:A {p: 2L})" +
+        ", (c:B {p: 3L})" +
+        ", (a)-[:REL {w: 1.0}]->(b)" +
+        ", (b)-[:REL {w: 2.0}]->(c)" +
+        ", (a)-[:OTHER]->(c)";
+
+    @GdlGraph(graphNamePrefix = "unlabelled", idOffset = 42)
+    private static final String UNLABELLED_DB_CYPHER =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (a)-[:REL]->(b)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Inject
+    private GraphStore unlabelledGraphStore;
+
+    @Inject
+    private IdFunction unlabelledIdFunction;
+
+    @Test
+    void shouldAddRelationships() {
+        var delta = GraphStoreDelta.builder()
+            .addAddedRelationship(GraphStoreDelta.RelationshipChange.of(
+                RelationshipType.of("REL"),
+                idFunction.of("c"),
+                idFunction.of("a"),
+                Map.of("w", 3.0)
+            ))
+            .build();
+
+        var result = apply(delta);
+
+        assertGraphEquals(
+            fromGdl("(a:A {p: 1L}), (b:A {p: 2L}), (c:B {p: 3L})" +
+                    ", (a)-[{w: 1.0}]->(b), (b)-[{w: 2.0}]->(c), (c)-[{w: 3.0}]->(a)"),
+            result.getGraph(RelationshipType.of("REL"), Optional.of("w"))
+        );
+        assertThat(graphStore.relationshipCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRemoveRelationships() {
+        var delta = GraphStoreDelta.builder()
+            .addRemovedRelationship(GraphStoreDelta.RelationshipChange.of(
+                RelationshipType.of("REL"),
+                idFunction.of("a"),
+                idFunction.of("b")
+            ))
+            .build();
+
+        var result = apply(delta);
+
+        assertGraphEquals(
+            fromGdl("(a:A {p: 1L}), (b:A {p: 2L}), (c:B {p: 3L}), (b)-[{w: 2.0}]->(c)"),
+            result.getGraph(RelationshipType.of("REL"), Optional.of("w"))
+        );
+    }
+
+    @Test
+    void shouldAddAndRemoveNodes() {
+        var delta = GraphStoreDelta.builder()
+            .addAddedNode(GraphStoreDelta.NodeAddition.of(1337, List.of(NodeLabel.of("B")), Map.of("p", 4L)))
+            .addRemovedNode(idFunction.of("b"))
+            .addAddedRelationship(GraphStoreDelta.RelationshipChange.of(
+                RelationshipType.of("REL"),
+                idFunction.of("a"),
+                1337,
+                Map.of("w", 4.0)
+            ))
+            .build();
+
+        var result = apply(delta);
+
+        assertThat(result.nodeCount()).isEqualTo(3);
+        assertGraphEquals(
+            fromGdl("(a:A {p: 1L}), (c:B {p: 3L}), (d:B {p: 4L}), (a)-[{w: 4.0}]->(d)"),
+            result.getGraph(RelationshipType.of("REL"), Optional.of("w"))
+        );
+        assertGraphEquals(
+            fromGdl("(a:A {p: 1L}), (c:B {p: 3L}), (d:B {p: 4L}), (a)-->(c)"),
+            result.getGraph(RelationshipType.of("OTHER"))
+        );
+    }
+
+    @Test
+    void shouldAddNodesToGraphWithoutLabels() {
+        var delta = GraphStoreDelta.builder()
+            .addAddedNode(GraphStoreDelta.NodeAddition.of(1337, List.of(), Map.of()))
+            .addAddedRelationship(GraphStoreDelta.RelationshipChange.of(
+                RelationshipType.of("REL"),
+                unlabelledIdFunction.of("b"),
+                1337
+            ))
+            .build();
+
+        var result = GraphStoreDeltaApplier.apply(
+            unlabelledGraphStore,
+            delta,
+            4,
+            ExecutorServiceUtil.DEFAULT_SINGLE_THREAD_POOL
+        );
+
+        assertThat(result.nodeLabels()).containsExactly(NodeLabel.ALL_NODES);
+        assertThat(result.schema().nodeSchema().availableLabels()).containsExactly(NodeLabel.ALL_NODES);
+        assertGraphEquals(fromGdl("(a), (b), (c), (a)-->(b), (b)-->(c)"), result.getUnion());
+    }
+
+    @Test
+    void shouldShareUntouchedRelationshipTypes() {
+        var delta = GraphStoreDelta.builder()
+            .addRemovedRelationship(GraphStoreDelta.RelationshipChange.of(
+                RelationshipType.of("REL"),
+                idFunction.of("a"),
+                idFunction.of("b")
+            ))
+            .build();
+
+        var result = apply(delta);
+
+        assertThat(result.nodes()).isSameAs(graphStore.nodes());
+        var other = RelationshipType.of("OTHER");
+        assertThat(((CSRGraphStore) result).relationships(other))
+            .isPresent()
+            .get()
+            .isSameAs(((CSRGraphStore) graphStore).relationships(other).orElseThrow());
+    }
+
+    @Test
+    void shouldRejectExistingNodes() {
+        var delta = GraphStoreDelta.builder()
+            .addAddedNode(GraphStoreDelta.NodeAddition.of(idFunction.of("a"), List.of(), Map.of()))
+            .build();
+
+        assertThatThrownBy(() -> apply(delta))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("the node already exists");
+    }
+
+    @Test
+    void shouldRejectRelationshipsToMissingNodes() {
+        var delta = GraphStoreDelta.builder()
+            .addRemovedNode(idFunction.of("c"))
+            .addAddedRelationship(GraphStoreDelta.RelationshipChange.of(
+                RelationshipType.of("OTHER"),
+                idFunction.of("a"),
+                idFunction.of("c")
+            ))
+            .build();
+
+        assertThatThrownBy(() -> apply(delta))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not exist in the graph");
+    }
+
+    private GraphStore apply(GraphStoreDelta delta) {
+        return GraphStoreDeltaApplier.apply(graphStore, delta, 4, ExecutorServiceUtil.DEFAULT_SINGLE_THREAD_POOL);
+    }
+}